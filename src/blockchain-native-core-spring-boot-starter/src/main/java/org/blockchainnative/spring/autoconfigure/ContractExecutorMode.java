@@ -0,0 +1,60 @@
+package org.blockchainnative.spring.autoconfigure;
+
+import org.blockchainnative.util.ExecutorUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Specifies the executor running the blocking calls of the contract wrappers created by the starters. <br>
+ * An {@code Executor} bean named {@link #CONTRACT_EXECUTOR_BEAN_NAME} takes precedence over the configured mode.
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public enum ContractExecutorMode {
+    /**
+     * Runs the calls on the common {@code ForkJoinPool}
+     */
+    COMMON_POOL,
+    /**
+     * Runs each call on its own virtual thread, falls back to {@link #COMMON_POOL} if the runtime does not support virtual threads
+     */
+    VIRTUAL_THREADS;
+
+    public static final String CONTRACT_EXECUTOR_BEAN_NAME = "contractExecutor";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContractExecutorMode.class);
+
+    /**
+     * Creates the executor for this mode.
+     *
+     * @return executor running the blocking calls of contract wrappers
+     */
+    public Executor createExecutor() {
+        if (this == VIRTUAL_THREADS) {
+            if (ExecutorUtil.isVirtualThreadSupported()) {
+                LOGGER.info("Running contract invocations on virtual threads");
+                return ExecutorUtil.newVirtualThreadPerTaskExecutor();
+            }
+            LOGGER.warn("Virtual threads are not supported by the current runtime (Java {}), running contract invocations on the common pool instead", System.getProperty("java.version"));
+        }
+        return ExecutorUtil.defaultExecutor();
+    }
+
+    /**
+     * Returns the given executor bean if present, otherwise creates the executor for the given mode.
+     *
+     * @param executor executor bean, may be null
+     * @param mode     configured mode, may be null
+     * @return executor running the blocking calls of contract wrappers
+     */
+    public static Executor resolveExecutor(Executor executor, ContractExecutorMode mode) {
+        if (executor != null) {
+            LOGGER.info("Running contract invocations on executor bean '{}'", CONTRACT_EXECUTOR_BEAN_NAME);
+            return executor;
+        }
+        return (mode == null ? COMMON_POOL : mode).createExecutor();
+    }
+}
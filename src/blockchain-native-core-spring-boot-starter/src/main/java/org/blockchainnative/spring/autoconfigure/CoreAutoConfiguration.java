@@ -1,6 +1,8 @@
 package org.blockchainnative.spring.autoconfigure;
 
 import org.blockchainnative.ContractWrapperGenerator;
+import org.blockchainnative.InvocationScheduler;
+import org.blockchainnative.ReadOnlyCallCache;
 import org.blockchainnative.convert.TypeConverter;
 import org.blockchainnative.convert.TypeConverters;
 import org.blockchainnative.registry.ContractRegistry;
@@ -8,6 +10,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,6 +24,7 @@ import static org.blockchainnative.spring.autoconfigure.ContractFactory.CONTRACT
  * @since 1.0
  */
 @Configuration
+@EnableConfigurationProperties({InvocationSchedulerProperties.class, ReadOnlyCallCacheProperties.class})
 public class CoreAutoConfiguration {
     private static final Logger LOGGER = LoggerFactory.getLogger(CoreAutoConfiguration.class);
 
@@ -55,4 +60,32 @@ public class CoreAutoConfiguration {
         }
 
     }
+
+    /**
+     * Registers an {@link InvocationScheduler} shared by all contract wrappers if enabled via {@code org.blockchainnative.scheduler.enabled}.
+     *
+     * @param properties limits and queue sizes of the scheduler's lanes
+     * @return {@link InvocationScheduler}
+     */
+    @Bean
+    @ConditionalOnMissingBean(InvocationScheduler.class)
+    @ConditionalOnProperty(prefix = InvocationSchedulerProperties.SCHEDULER_PREFIX_FULL, name = "enabled", havingValue = "true")
+    public InvocationScheduler invocationScheduler(@Autowired InvocationSchedulerProperties properties) {
+        LOGGER.info("Registering invocation scheduler");
+        return new InvocationScheduler(properties.getMaxConcurrentCalls(), properties.getMaxQueuedCalls());
+    }
+
+    /**
+     * Registers a {@link ReadOnlyCallCache} shared by all contract wrappers if enabled via {@code org.blockchainnative.read-only-cache.enabled}.
+     *
+     * @param properties bounds of the cache
+     * @return {@link ReadOnlyCallCache}
+     */
+    @Bean
+    @ConditionalOnMissingBean(ReadOnlyCallCache.class)
+    @ConditionalOnProperty(prefix = ReadOnlyCallCacheProperties.CACHE_PREFIX_FULL, name = "enabled", havingValue = "true")
+    public ReadOnlyCallCache readOnlyCallCache(@Autowired ReadOnlyCallCacheProperties properties) {
+        LOGGER.info("Registering readonly call cache");
+        return new ReadOnlyCallCache(properties.getMaxEntries(), properties.getMaxBytes());
+    }
 }
@@ -0,0 +1,92 @@
+package org.blockchainnative.spring.autoconfigure;
+
+import org.blockchainnative.InvocationLane;
+import org.blockchainnative.InvocationScheduler;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configures the {@link InvocationScheduler} shared by all contract wrappers,
+ * lanes without a configured limit use {@link InvocationLane#getDefaultMaxConcurrentCalls()}.
+ * Each lane runs its calls on a thread pool sized to its limit and queues at most {@code max-queued-calls} further calls.
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+@ConfigurationProperties(prefix = InvocationSchedulerProperties.SCHEDULER_PREFIX_FULL)
+public class InvocationSchedulerProperties {
+    public static final String SCHEDULER_PREFIX = "scheduler";
+    public static final String SCHEDULER_PREFIX_FULL = Constants.CONFIGURATION_PREFIX + "." + SCHEDULER_PREFIX;
+
+    private boolean enabled;
+    private Integer readOnly;
+    private Integer stateChanging;
+    private Integer deployment;
+    private Integer event;
+    private int maxQueuedCalls = InvocationScheduler.DEFAULT_MAX_QUEUED_CALLS;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Integer getReadOnly() {
+        return readOnly;
+    }
+
+    public void setReadOnly(Integer readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    public Integer getStateChanging() {
+        return stateChanging;
+    }
+
+    public void setStateChanging(Integer stateChanging) {
+        this.stateChanging = stateChanging;
+    }
+
+    public Integer getDeployment() {
+        return deployment;
+    }
+
+    public void setDeployment(Integer deployment) {
+        this.deployment = deployment;
+    }
+
+    public Integer getEvent() {
+        return event;
+    }
+
+    public void setEvent(Integer event) {
+        this.event = event;
+    }
+
+    public int getMaxQueuedCalls() {
+        return maxQueuedCalls;
+    }
+
+    public void setMaxQueuedCalls(int maxQueuedCalls) {
+        this.maxQueuedCalls = maxQueuedCalls;
+    }
+
+    public Map<InvocationLane, Integer> getMaxConcurrentCalls() {
+        var limits = new EnumMap<InvocationLane, Integer>(InvocationLane.class);
+        putIfPresent(limits, InvocationLane.READ_ONLY, readOnly);
+        putIfPresent(limits, InvocationLane.STATE_CHANGING, stateChanging);
+        putIfPresent(limits, InvocationLane.DEPLOYMENT, deployment);
+        putIfPresent(limits, InvocationLane.EVENT, event);
+        return limits;
+    }
+
+    private static void putIfPresent(Map<InvocationLane, Integer> limits, InvocationLane lane, Integer limit) {
+        if (limit != null) {
+            limits.put(lane, limit);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.blockchainnative.spring.autoconfigure;
+
+import org.blockchainnative.ReadOnlyCallCache;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configures the {@link ReadOnlyCallCache} shared by all contract wrappers.
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+@ConfigurationProperties(prefix = ReadOnlyCallCacheProperties.CACHE_PREFIX_FULL)
+public class ReadOnlyCallCacheProperties {
+    public static final String CACHE_PREFIX = "read-only-cache";
+    public static final String CACHE_PREFIX_FULL = Constants.CONFIGURATION_PREFIX + "." + CACHE_PREFIX;
+
+    private boolean enabled;
+    private int maxEntries = ReadOnlyCallCache.DEFAULT_MAX_ENTRIES;
+    private long maxBytes = ReadOnlyCallCache.DEFAULT_MAX_BYTES;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+}
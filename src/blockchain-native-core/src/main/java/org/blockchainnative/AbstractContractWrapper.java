@@ -1,20 +1,28 @@
 package org.blockchainnative;
 
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
 import net.bytebuddy.implementation.bind.annotation.AllArguments;
 import net.bytebuddy.implementation.bind.annotation.Origin;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import org.apache.commons.lang3.reflect.TypeUtils;
 import org.blockchainnative.exceptions.ContractCallException;
 import org.blockchainnative.metadata.*;
+import org.blockchainnative.util.AsyncReturnType;
+import org.blockchainnative.util.ExecutorUtil;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
-import java.util.stream.Collectors;
 
 /**
  * Base class for smart contract wrappers. <br>
@@ -36,8 +44,22 @@ public abstract class AbstractContractWrapper<TContractInfo extends ContractInfo
         TEventInfo extends EventInfo<TEventFieldInfo, TEventParameterInfo>,
         TEventFieldInfo extends EventFieldInfo,
         TEventParameterInfo extends EventParameterInfo> {
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
     protected final TContractInfo contractInfo;
 
+    private final Map<Method, MethodInvocationPlan<TMethodInfo, TParameterInfo>> methodInvocationPlans;
+    private final Map<Method, EventInvocationPlan<TEventInfo>> eventInvocationPlans;
+    private final List<MethodInvocationPlan<TMethodInfo, TParameterInfo>> methodDispatchTable;
+    private final List<EventInvocationPlan<TEventInfo>> eventDispatchTable;
+    private final List<Method> dispatchMethods;
+    private volatile Map<String, SpecialMethodDelegate<TMethodInfo, TParameterInfo>> specialMethods;
+    private volatile Executor executor = ExecutorUtil.defaultExecutor();
+    private volatile InvocationScheduler invocationScheduler;
+    private volatile ReadOnlyCallCache readOnlyCallCache;
+    private volatile String readOnlyCallCacheChain;
+    private final Executor[] laneExecutors;
+
     /**
      * Creates a new instance of the contract wrapper
      *
@@ -45,6 +67,46 @@ public abstract class AbstractContractWrapper<TContractInfo extends ContractInfo
      */
     public AbstractContractWrapper(TContractInfo contractInfo) {
         this.contractInfo = contractInfo;
+        this.methodInvocationPlans = new HashMap<>();
+        this.eventInvocationPlans = new HashMap<>();
+
+        if (contractInfo != null) {
+            for (var methodInfo : contractInfo.getMethodInfos().values()) {
+                methodInvocationPlans.put(methodInfo.getMethod(), MethodInvocationPlan.of(methodInfo));
+            }
+            for (var eventInfo : contractInfo.getEventInfos().values()) {
+                eventInvocationPlans.put(eventInfo.getMethod(), EventInvocationPlan.of(eventInfo));
+            }
+        }
+
+        // slots are assigned in a stable order, wrappers of the same contract interface use the same slots
+        var methods = new ArrayList<>(methodInvocationPlans.keySet());
+        methods.sort(Comparator.comparing(Method::toString));
+        var events = new ArrayList<>(eventInvocationPlans.keySet());
+        events.sort(Comparator.comparing(Method::toString));
+
+        this.methodDispatchTable = new ArrayList<>(methods.size());
+        methods.forEach(method -> methodDispatchTable.add(methodInvocationPlans.get(method)));
+        this.eventDispatchTable = new ArrayList<>(events.size());
+        events.forEach(method -> eventDispatchTable.add(eventInvocationPlans.get(method)));
+
+        var allMethods = new ArrayList<Method>(methods.size() + events.size());
+        allMethods.addAll(methods);
+        allMethods.addAll(events);
+        this.dispatchMethods = Collections.unmodifiableList(allMethods);
+
+        var lanes = InvocationLane.values();
+        this.laneExecutors = new Executor[lanes.length];
+        for (var lane : lanes) {
+            laneExecutors[lane.ordinal()] = call -> {
+                var scheduler = invocationScheduler;
+                if (scheduler == null) {
+                    executor.execute(call);
+                } else {
+                    scheduler.execute(lane, this, call);
+                }
+            };
+        }
     }
 
     /**
@@ -56,6 +118,160 @@ public abstract class AbstractContractWrapper<TContractInfo extends ContractInfo
         return contractInfo;
     }
 
+    /**
+     * Returns the executor running the blocking calls of the wrapper, see {@link #setExecutor(Executor)}
+     *
+     * @return executor running the blocking calls of the wrapper
+     * @since 1.1
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Specifies the executor running the blocking calls of the wrapper, e.g. sending transactions and waiting for their receipts. <br>
+     * Defaults to the common {@code ForkJoinPool}. Since the calls spend most of their time waiting for the network,
+     * applications issuing many concurrent calls should provide a larger pool or {@link ExecutorUtil#newVirtualThreadPerTaskExecutor()}.
+     *
+     * @param executor executor running the blocking calls of the wrapper
+     * @since 1.1
+     */
+    public void setExecutor(Executor executor) {
+        if (executor == null) throw new IllegalArgumentException("executor must not be null");
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the scheduler assigning the calls of the wrapper to lanes, see {@link #setInvocationScheduler(InvocationScheduler)}
+     *
+     * @return scheduler of the wrapper or null if calls are passed to the executor directly
+     * @since 1.1
+     */
+    public InvocationScheduler getInvocationScheduler() {
+        return invocationScheduler;
+    }
+
+    /**
+     * Specifies the scheduler assigning the calls of the wrapper to lanes, e.g. in order to prevent slow transactions from
+     * delaying read-only calls. The calls are run on the executors of the scheduler's lanes instead of the executor of the wrapper. <br>
+     * Wrappers sharing a scheduler share the limits of its lanes. By default, no scheduler is used.
+     *
+     * @param invocationScheduler scheduler of the wrapper, may be null
+     * @see InvocationScheduler
+     * @since 1.1
+     */
+    public void setInvocationScheduler(InvocationScheduler invocationScheduler) {
+        this.invocationScheduler = invocationScheduler;
+    }
+
+    /**
+     * Returns the cache holding the results of readonly calls, see {@link #setReadOnlyCallCache(ReadOnlyCallCache)}
+     *
+     * @return cache of the wrapper or null if results are not cached
+     * @since 1.1
+     */
+    public ReadOnlyCallCache getReadOnlyCallCache() {
+        return readOnlyCallCache;
+    }
+
+    /**
+     * Specifies the cache holding the results of readonly calls of methods marked as cacheable,
+     * see {@link org.blockchainnative.metadata.MethodInfo#isCacheable()}. <br>
+     * The cache needs to be invalidated whenever the head of the blockchain advances, which is taken care of by the
+     * wrapper generators supporting caching. By default, no cache is used.
+     *
+     * @param readOnlyCallCache cache of the wrapper, may be null
+     * @see ReadOnlyCallCache
+     * @since 1.1
+     */
+    public void setReadOnlyCallCache(ReadOnlyCallCache readOnlyCallCache) {
+        setReadOnlyCallCache(readOnlyCallCache, null);
+    }
+
+    /**
+     * Specifies the cache holding the results of readonly calls of methods marked as cacheable along with the identifier
+     * of the chain the wrapper is connected to, see {@link #setReadOnlyCallCache(ReadOnlyCallCache)}. <br>
+     * The chain identifier separates the results of wrappers connected to different blockchains sharing a single cache.
+     *
+     * @param readOnlyCallCache cache of the wrapper, may be null
+     * @param chain             identifier of the chain the wrapper is connected to, e.g. the hash of its genesis block, may be null
+     * @see ReadOnlyCallCache
+     * @since 1.1
+     */
+    public void setReadOnlyCallCache(ReadOnlyCallCache readOnlyCallCache, String chain) {
+        this.readOnlyCallCacheChain = chain;
+        this.readOnlyCallCache = readOnlyCallCache;
+    }
+
+    /**
+     * Returns the identifier of the chain used as part of the keys of the {@link ReadOnlyCallCache},
+     * see {@link #setReadOnlyCallCache(ReadOnlyCallCache, String)}
+     *
+     * @return identifier of the chain the wrapper is connected to or null if not specified
+     * @since 1.1
+     */
+    public String getReadOnlyCallCacheChain() {
+        return readOnlyCallCacheChain;
+    }
+
+    /**
+     * Invalidates the cached results of readonly calls after a transaction of the wrapper completed,
+     * so that subsequent readonly calls reflect the transaction's effects without waiting for the next block to be reported.
+     *
+     * @since 1.1
+     */
+    protected void invalidateReadOnlyCallCache() {
+        var cache = readOnlyCallCache;
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns an executor running the given kind of work of this wrapper. <br>
+     * The work is passed to the invocation scheduler if one has been set, otherwise it is passed to the executor of the wrapper directly.
+     *
+     * @param lane kind of work to be run
+     * @return executor running the given kind of work
+     * @see #setInvocationScheduler(InvocationScheduler)
+     * @since 1.1
+     */
+    protected Executor getExecutor(InvocationLane lane) {
+        return laneExecutors[lane.ordinal()];
+    }
+
+    /**
+     * Moves the processing of the given event observable to the {@link InvocationLane#EVENT} lane if an invocation scheduler has been set.
+     * Otherwise, the observable is returned as is.
+     *
+     * @param observable observable of raw events
+     * @param <T>        type of the raw events
+     * @return observable emitting the raw events on the event lane
+     * @since 1.1
+     */
+    protected <T> Observable<T> observeOnEventLane(Observable<T> observable) {
+        if (invocationScheduler == null) {
+            return observable;
+        }
+        return observable.observeOn(Schedulers.from(getExecutor(InvocationLane.EVENT)));
+    }
+
+    /**
+     * Moves the processing of the given event flowable to the {@link InvocationLane#EVENT} lane if an invocation scheduler has been set.
+     * Otherwise, the flowable is returned as is. Unlike {@link #observeOnEventLane(Observable)}, the hand-off honours backpressure.
+     *
+     * @param flowable flowable of raw events
+     * @param <T>      type of the raw events
+     * @return flowable emitting the raw events on the event lane
+     * @since 1.1
+     */
+    protected <T> Flowable<T> observeOnEventLane(Flowable<T> flowable) {
+        if (invocationScheduler == null) {
+            return flowable;
+        }
+        return flowable.observeOn(Schedulers.from(getExecutor(InvocationLane.EVENT)));
+    }
+
     /**
      * Extracts a special argument from a contract method.
      *
@@ -63,7 +279,9 @@ public abstract class AbstractContractWrapper<TContractInfo extends ContractInfo
      * @param name       name of the special argument to be extracted.
      * @param arguments  arguments passed to the contract method.
      * @return value of the special argument or null if no matching special arguemnt has been registered in the method info
+     * @deprecated compares the names of all parameters on every call, use {@link MethodInvocationPlan#getSpecialArgument(SpecialArgument, Object[])} instead
      */
+    @Deprecated
     protected Object extractSpecialArgument(TMethodInfo methodInfo, String name, Object[] arguments) {
         for (var i = 0; i < arguments.length; i++) {
             var parameterInfo = methodInfo.getParameterInfos().get(i);
@@ -81,7 +299,9 @@ public abstract class AbstractContractWrapper<TContractInfo extends ContractInfo
      * @param name      name of the special argument to be extracted.
      * @param arguments arguments passed to the event method.
      * @return value of the special argument or null if no matching special arguemnt has been registered in the event info
+     * @deprecated compares the names of all parameters on every call, use {@link EventInvocationPlan#getSpecialArgument(SpecialArgument, Object[])} instead
      */
+    @Deprecated
     protected Object extractSpecialArgument(TEventInfo eventInfo, String name, Object[] arguments) {
         for (var i = 0; i < arguments.length; i++) {
             var parameterInfo = eventInfo.getEventParameterInfos().get(i);
@@ -98,15 +318,11 @@ public abstract class AbstractContractWrapper<TContractInfo extends ContractInfo
      * @param methodInfo {@code MethodInfo} describing the contract method
      * @param arguments  arguments passed to contract method
      * @return array containing only the arguments that need to be passed to the corresponding smart contract method
+     * @deprecated use {@link MethodInvocationPlan#getContractArguments(Object[])} instead
      */
+    @Deprecated
     protected Object[] extractContractMethodParameters(TMethodInfo methodInfo, Object[] arguments) {
-        var relevantArguments = new ArrayList<>();
-        for (var i = 0; i < arguments.length; i++) {
-            if (!methodInfo.getParameterInfos().get(i).isSpecialArgument()) {
-                relevantArguments.add(arguments[i]);
-            }
-        }
-        return relevantArguments.toArray();
+        return getInvocationPlan(methodInfo).getContractArguments(arguments);
     }
 
     /**
@@ -114,11 +330,11 @@ public abstract class AbstractContractWrapper<TContractInfo extends ContractInfo
      *
      * @param methodInfo {@code MethodInfo} describing the contract method
      * @return array containing only the parameter info objects that correspond to the arguments that need to be passed to the smart contract method
+     * @deprecated use {@link MethodInvocationPlan#getContractParameterInfos()} instead
      */
+    @Deprecated
     protected List<TParameterInfo> extractContractMethodParameterInfos(TMethodInfo methodInfo) {
-        return methodInfo.getParameterInfos().stream()
-                .filter(p -> !p.isSpecialArgument())
-                .collect(Collectors.toList());
+        return getInvocationPlan(methodInfo).getContractParameterInfos();
     }
 
     /**
@@ -126,10 +342,32 @@ public abstract class AbstractContractWrapper<TContractInfo extends ContractInfo
      *
      * @return Mapping of special method names to {@code SpecialMethodDelegate}
      */
-    protected abstract Map<String, SpecialMethodDelegate<TMethodInfo>> getSpecialMethods();
+    protected abstract Map<String, SpecialMethodDelegate<TMethodInfo, TParameterInfo>> getSpecialMethods();
+
+    /**
+     * Returns the invocation plan of the given contract interface method.
+     *
+     * @param method contract interface method
+     * @return invocation plan of the method or null if no {@code MethodInfo} has been registered for the method
+     */
+    protected MethodInvocationPlan<TMethodInfo, TParameterInfo> getMethodInvocationPlan(Method method) {
+        return methodInvocationPlans.get(method);
+    }
+
+    /**
+     * Returns the invocation plan of the given contract interface event method.
+     *
+     * @param method contract interface event method
+     * @return invocation plan of the event method or null if no {@code EventInfo} has been registered for the method
+     */
+    protected EventInvocationPlan<TEventInfo> getEventInvocationPlan(Method method) {
+        return eventInvocationPlans.get(method);
+    }
 
     /**
-     * Interceptor to be called when a method of the smart contract interface {@code TContractInfo} is invoked.
+     * Interceptor to be called when a method of the smart contract interface {@code TContractInfo} is invoked. <br>
+     * Generated wrappers use {@link AbstractContractWrapper#dispatch(int, Object[])} for registered methods and events,
+     * this interceptor handles the remaining ones, e.g. {@link SmartContract#GET_CONTRACT_INFO_METHOD_NAME}.
      *
      * @param method    smart contract interface method which has been invoked
      * @param arguments arguments of the smart contract interface method
@@ -146,62 +384,113 @@ public abstract class AbstractContractWrapper<TContractInfo extends ContractInfo
             }
         }
 
-        var methodInfo = contractInfo.getMethodInfo(method);
-        if (methodInfo == null) {
-            var eventInfo = contractInfo.getEventInfo(method);
-            if (eventInfo == null) {
+        var methodInvocationPlan = methodInvocationPlans.get(method);
+        if (methodInvocationPlan == null) {
+            var eventInvocationPlan = eventInvocationPlans.get(method);
+            if (eventInvocationPlan == null) {
                 throw new IllegalStateException(String.format("No method or event information registered for method '%s' in contract info of contract '%s' (%s)", method.getName(), contractInfo.getIdentifier(), contractInfo.getClass()));
             } else {
-                return createEventObservable(eventInfo, arguments);
+                return handleEvent(eventInvocationPlan, arguments);
             }
         } else {
-            return invoke(methodInfo, arguments);
+            return invoke(methodInvocationPlan, arguments);
+        }
+    }
+
+    /**
+     * Returns the contract interface methods handled by {@link AbstractContractWrapper#dispatch(int, Object[])}.
+     * The position of a method in the returned list is its slot index.
+     *
+     * @return contract interface methods in slot order
+     */
+    public List<Method> getDispatchMethods() {
+        return dispatchMethods;
+    }
+
+    /**
+     * Entry point for generated contract wrappers, calling the smart contract method or creating the event observable
+     * registered at the given slot index.
+     *
+     * @param methodIndex slot index of the contract interface method as defined by {@link AbstractContractWrapper#getDispatchMethods()}
+     * @param arguments   arguments of the smart contract interface method
+     * @return result of the smart contract method converted to the correct declared return type
+     */
+    public Object dispatch(int methodIndex, Object[] arguments) {
+        var methodCount = methodDispatchTable.size();
+        if (methodIndex < methodCount) {
+            return invoke(methodDispatchTable.get(methodIndex), arguments);
+        } else {
+            return handleEvent(eventDispatchTable.get(methodIndex - methodCount), arguments);
+        }
+    }
+
+    /**
+     * Entry point for generated contract wrappers for methods without parameters,
+     * avoids allocating an empty argument array per invocation.
+     *
+     * @param methodIndex slot index of the contract interface method as defined by {@link AbstractContractWrapper#getDispatchMethods()}
+     * @return result of the smart contract method converted to the correct declared return type
+     * @see AbstractContractWrapper#dispatch(int, Object[])
+     */
+    public Object dispatch(int methodIndex) {
+        return dispatch(methodIndex, NO_ARGUMENTS);
+    }
+
+    private Object handleEvent(EventInvocationPlan<TEventInfo> invocationPlan, Object[] arguments) {
+        if (invocationPlan.usesEventConsumer()) {
+            return subscribeEventConsumer(invocationPlan, arguments);
+        } else if (invocationPlan.usesFlowable()) {
+            return createEventFlowable(invocationPlan, arguments);
+        } else {
+            return createEventObservable(invocationPlan, arguments);
         }
     }
 
     /**
      * Utility method for calling smart contract methods and special methods.
      *
-     * @param methodInfo {@code MethodInfo} describing the corresponding smart contract method.
-     * @param arguments  arguments of the smart contract interface method
+     * @param invocationPlan {@code MethodInvocationPlan} describing the corresponding smart contract method.
+     * @param arguments      arguments of the smart contract interface method
      * @return actual smart contract method result converted to the expected type
      * @see org.blockchainnative.AbstractContractWrapper#intercept(Method, Object[])
-     * @see org.blockchainnative.AbstractContractWrapper#invokeMethod(MethodInfo, Object[])
-     * @see org.blockchainnative.AbstractContractWrapper#invokeReadOnlyMethod(MethodInfo, Object[])
-     * @see org.blockchainnative.AbstractContractWrapper#getMethodReturnValue(MethodInfo, Future)
+     * @see org.blockchainnative.AbstractContractWrapper#invokeMethod(MethodInvocationPlan, Object[])
+     * @see org.blockchainnative.AbstractContractWrapper#invokeReadOnlyMethod(MethodInvocationPlan, Object[])
+     * @see org.blockchainnative.AbstractContractWrapper#getMethodReturnValue(MethodInvocationPlan, Future)
      */
-    protected Object invoke(TMethodInfo methodInfo, Object[] arguments) {
+    protected Object invoke(MethodInvocationPlan<TMethodInfo, TParameterInfo> invocationPlan, Object[] arguments) {
         Future<?> future;
-        if (methodInfo.isSpecialMethod()) {
-            var specialMethods = getSpecialMethods();
-            var methodName = methodInfo.getContractMethodName();
-            if (specialMethods.containsKey(methodName)) {
-                future = specialMethods.get(methodName).invoke(methodInfo, arguments);
+        if (invocationPlan.isSpecialMethod()) {
+            var methodName = invocationPlan.getContractMethodName();
+            var specialMethod = getSpecialMethodDelegates().get(methodName);
+            if (specialMethod != null) {
+                future = specialMethod.invoke(invocationPlan, arguments);
             } else {
-                throw new IllegalStateException(String.format("Unexpected special method '%s' found!", methodInfo.getContractMethodName()));
+                throw new IllegalStateException(String.format("Unexpected special method '%s' found!", methodName));
             }
 
         } else {
-            if (methodInfo.isReadOnly()) {
-                future = invokeReadOnlyMethod(methodInfo, arguments);
+            if (invocationPlan.isReadOnly()) {
+                future = invokeReadOnlyMethod(invocationPlan, arguments);
             } else {
-                future = invokeMethod(methodInfo, arguments);
+                future = invokeMethod(invocationPlan, arguments);
             }
         }
 
-        return getMethodReturnValue(methodInfo, future);
+        return getMethodReturnValue(invocationPlan, future);
     }
 
     /**
-     * Excutes the given {@link java.util.concurrent.Future} containing the expected method result or directly returns it depending on the smart contrac method's return type..
+     * Excutes the given {@link java.util.concurrent.Future} containing the expected method result or directly returns it depending on the smart contrac method's return type.. <br>
+     * Asynchronous return types other than {@code Future}, e.g. {@code CompletionStage} or {@code Single}, are adapted
+     * to the future without blocking, see {@link AsyncReturnType}.
      *
-     * @param methodInfo methodInfo {@code MethodInfo} describing the corresponding smart contract method.
-     * @param future     {@code Future} containing the smart contract method result
+     * @param invocationPlan {@code MethodInvocationPlan} describing the corresponding smart contract method.
+     * @param future         {@code Future} containing the smart contract method result
      * @return actual smart contract method result converted to the expected type
      */
-    protected Object getMethodReturnValue(TMethodInfo methodInfo, Future<?> future) {
-        if (methodInfo.isAsync()) {
-            return future;
+    protected Object getMethodReturnValue(MethodInvocationPlan<TMethodInfo, TParameterInfo> invocationPlan, Future<?> future) {
+        if (invocationPlan.isAsync()) {
+            return invocationPlan.getAsyncReturnType().orElse(AsyncReturnType.FUTURE).adapt(future);
         } else {
             Object result;
             try {
@@ -209,7 +498,7 @@ public abstract class AbstractContractWrapper<TContractInfo extends ContractInfo
             } catch (InterruptedException | ExecutionException e) {
                 throw new ContractCallException(e);
             }
-            if (methodInfo.isVoidReturnType()) {
+            if (invocationPlan.isVoidReturnType()) {
                 return Void.TYPE;
             } else {
                 return result;
@@ -217,14 +506,104 @@ public abstract class AbstractContractWrapper<TContractInfo extends ContractInfo
         }
     }
 
+    /**
+     * Utility method for calling smart contract methods and special methods.
+     *
+     * @param methodInfo {@code MethodInfo} describing the corresponding smart contract method.
+     * @param arguments  arguments of the smart contract interface method
+     * @return actual smart contract method result converted to the expected type
+     * @deprecated use {@link #invoke(MethodInvocationPlan, Object[])} instead
+     */
+    @Deprecated
+    protected Object invoke(TMethodInfo methodInfo, Object[] arguments) {
+        return invoke(getInvocationPlan(methodInfo), arguments);
+    }
+
+    /**
+     * Excutes the given {@link java.util.concurrent.Future} containing the expected method result or directly returns it depending on the smart contrac method's return type..
+     *
+     * @param methodInfo methodInfo {@code MethodInfo} describing the corresponding smart contract method.
+     * @param future     {@code Future} containing the smart contract method result
+     * @return actual smart contract method result converted to the expected type
+     * @deprecated use {@link #getMethodReturnValue(MethodInvocationPlan, Future)} instead
+     */
+    @Deprecated
+    protected Object getMethodReturnValue(TMethodInfo methodInfo, Future<?> future) {
+        return getMethodReturnValue(getInvocationPlan(methodInfo), future);
+    }
+
+    private MethodInvocationPlan<TMethodInfo, TParameterInfo> getInvocationPlan(TMethodInfo methodInfo) {
+        var invocationPlan = methodInvocationPlans.get(methodInfo.getMethod());
+        return invocationPlan != null && invocationPlan.getMethodInfo() == methodInfo ? invocationPlan : MethodInvocationPlan.of(methodInfo);
+    }
+
+    private Map<String, SpecialMethodDelegate<TMethodInfo, TParameterInfo>> getSpecialMethodDelegates() {
+        var delegates = specialMethods;
+        if (delegates == null) {
+            // the mapping is static for a given wrapper, hence it is only requested once
+            delegates = getSpecialMethods();
+            specialMethods = delegates;
+        }
+        return delegates;
+    }
+
+    /**
+     * Calling the actual smart contract method and converts its result to the expected type. <br>
+     * <br>
+     * Implementations are supposed to override this method. For compatibility with wrappers written against version 1.0,
+     * the default implementation delegates to {@link #invokeMethod(MethodInfo, Object[])}.
+     *
+     * @param invocationPlan {@code MethodInvocationPlan} describing the corresponding smart contract method.
+     * @param arguments      arguments of the smart contract interface method
+     * @return actual smart contract method result converted to the expected type and wrapped as {@link java.util.concurrent.Future}
+     * @since 1.1
+     */
+    protected Future<Object> invokeMethod(MethodInvocationPlan<TMethodInfo, TParameterInfo> invocationPlan, Object[] arguments) {
+        return invokeMethod(invocationPlan.getMethodInfo(), arguments);
+    }
+
+    /**
+     * Calling the actual smart contract method without modifying the blockchain's state and converts its result to the expected type. <br>
+     * <br>
+     * Implementations are supposed to override this method. For compatibility with wrappers written against version 1.0,
+     * the default implementation delegates to {@link #invokeReadOnlyMethod(MethodInfo, Object[])}.
+     *
+     * @param invocationPlan {@code MethodInvocationPlan} describing the corresponding smart contract method.
+     * @param arguments      arguments of the smart contract interface method
+     * @return actual smart contract method result converted to the expected type and wrapped as {@link java.util.concurrent.Future}
+     * @since 1.1
+     */
+    protected Future<Object> invokeReadOnlyMethod(MethodInvocationPlan<TMethodInfo, TParameterInfo> invocationPlan, Object[] arguments) {
+        return invokeReadOnlyMethod(invocationPlan.getMethodInfo(), arguments);
+    }
+
+    /**
+     * Creates an {@link io.reactivex.Observable} containing the events emitted by the smart contract. <br>
+     * <br>
+     * Implementations are supposed to override this method. For compatibility with wrappers written against version 1.0,
+     * the default implementation delegates to {@link #createEventObservable(EventInfo, Object[])}.
+     *
+     * @param invocationPlan {@code EventInvocationPlan} describing the corresponding smart contract event.
+     * @param arguments      arguments of the smart contract interface method
+     * @return observable containing the events emitted by the smart contract converted to the expected type
+     * @since 1.1
+     */
+    protected Observable<Object> createEventObservable(EventInvocationPlan<TEventInfo> invocationPlan, Object[] arguments) {
+        return createEventObservable(invocationPlan.getEventInfo(), arguments);
+    }
+
     /**
      * Calling the actual smart contract method and converts its result to the expected type.
      *
      * @param methodInfo {@code MethodInfo} describing the corresponding smart contract method.
      * @param arguments  arguments of the smart contract interface method
      * @return actual smart contract method result converted to the expected type and wrapped as {@link java.util.concurrent.Future}
+     * @deprecated override {@link #invokeMethod(MethodInvocationPlan, Object[])} instead
      */
-    protected abstract Future<Object> invokeMethod(TMethodInfo methodInfo, Object[] arguments);
+    @Deprecated
+    protected Future<Object> invokeMethod(TMethodInfo methodInfo, Object[] arguments) {
+        throw new UnsupportedOperationException(String.format("%s does not implement invokeMethod", getClass().getName()));
+    }
 
     /**
      * Calling the actual smart contract method without modifying the blockchain's state and converts its result to the expected type.
@@ -232,8 +611,12 @@ public abstract class AbstractContractWrapper<TContractInfo extends ContractInfo
      * @param methodInfo {@code MethodInfo} describing the corresponding smart contract method.
      * @param arguments  arguments of the smart contract interface method
      * @return actual smart contract method result converted to the expected type and wrapped as {@link java.util.concurrent.Future}
+     * @deprecated override {@link #invokeReadOnlyMethod(MethodInvocationPlan, Object[])} instead
      */
-    protected abstract Future<Object> invokeReadOnlyMethod(TMethodInfo methodInfo, Object[] arguments);
+    @Deprecated
+    protected Future<Object> invokeReadOnlyMethod(TMethodInfo methodInfo, Object[] arguments) {
+        throw new UnsupportedOperationException(String.format("%s does not implement invokeReadOnlyMethod", getClass().getName()));
+    }
 
     /**
      * Creates an {@link io.reactivex.Observable} containing the events emitted by the smart contract
@@ -241,6 +624,44 @@ public abstract class AbstractContractWrapper<TContractInfo extends ContractInfo
      * @param eventInfo {@code EventInfo} describing the corresponding smart contract event.
      * @param arguments arguments of the smart contract interface method
      * @return observable containing the events emitted by the smart contract converted to the expected type
+     * @deprecated override {@link #createEventObservable(EventInvocationPlan, Object[])} instead
      */
-    protected abstract Observable<Object> createEventObservable(TEventInfo eventInfo, Object[] arguments);
+    @Deprecated
+    protected Observable<Object> createEventObservable(TEventInfo eventInfo, Object[] arguments) {
+        throw new UnsupportedOperationException(String.format("%s does not implement createEventObservable", getClass().getName()));
+    }
+
+    /**
+     * Creates a {@link io.reactivex.Flowable} containing the events emitted by the smart contract, buffered according to
+     * {@link EventInvocationPlan#getEventBackpressure(Object[])}. <br>
+     * <br>
+     * The default implementation applies the backpressure settings to {@link AbstractContractWrapper#createEventObservable(EventInvocationPlan, Object[])}.
+     * Implementations may override this method in order to buffer the raw events and only convert the events passed to the subscriber.
+     *
+     * @param invocationPlan {@code EventInvocationPlan} describing the corresponding smart contract event.
+     * @param arguments      arguments of the smart contract interface method
+     * @return flowable containing the events emitted by the smart contract converted to the expected type
+     * @see org.blockchainnative.metadata.EventBackpressure
+     * @since 1.1
+     */
+    protected Flowable<Object> createEventFlowable(EventInvocationPlan<TEventInfo> invocationPlan, Object[] arguments) {
+        return invocationPlan.getEventBackpressure(arguments).apply(createEventObservable(invocationPlan, arguments));
+    }
+
+    /**
+     * Subscribes the consumer passed to an event consumer method to the events emitted by the smart contract. <br>
+     * <br>
+     * The default implementation subscribes the consumer to {@link AbstractContractWrapper#createEventObservable(EventInvocationPlan, Object[])},
+     * i.e. a new event object is created for each event. Implementations may override this method in order to decode
+     * all events into the event object returned by {@link EventInvocationPlan#getEventHolder(Object[])}.
+     *
+     * @param invocationPlan {@code EventInvocationPlan} describing the corresponding smart contract event.
+     * @param arguments      arguments of the smart contract interface method
+     * @return subscription of the consumer
+     * @see org.blockchainnative.util.ReflectionUtil#isEventConsumerMethod(Method)
+     * @since 1.1
+     */
+    protected Disposable subscribeEventConsumer(EventInvocationPlan<TEventInfo> invocationPlan, Object[] arguments) {
+        return createEventObservable(invocationPlan, arguments).subscribe(invocationPlan.getEventConsumer(arguments));
+    }
 }
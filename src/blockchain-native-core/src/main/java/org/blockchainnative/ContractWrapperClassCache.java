@@ -0,0 +1,95 @@
+package org.blockchainnative;
+
+import org.blockchainnative.exceptions.ContractWrapperCreationException;
+import org.blockchainnative.util.WrapperGeneratorUtil;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the classes generated for smart contract wrappers. <br>
+ * <br>
+ * A wrapper class only depends on the contract interface, the type of the contract info and the methods registered with
+ * the contract info. Wrappers sharing these properties use the same generated class, each instance holds its own
+ * {@link AbstractContractWrapper} and thus its own contract info and API state.
+ *
+ * @author Matthias Veit
+ * @see WrapperGeneratorUtil
+ * @see ContractWrapperGenerator
+ * @since 1.1
+ */
+public final class ContractWrapperClassCache {
+
+    private final ConcurrentMap<Key, Constructor<?>> constructors = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance of the wrapper class matching the given contract interface and wrapper,
+     * generating the class if it is not cached yet.
+     *
+     * @param contractClass   smart contract interface
+     * @param wrapper         contract wrapper to which all calls are forwarded
+     * @param className       name of the wrapper class in case it needs to be generated
+     * @param classLoader     class loader used to load the wrapper class in case it needs to be generated
+     * @param <TContractType> type of the smart contract interface
+     * @return implementation of the given smart contract interface
+     * @throws ContractWrapperCreationException in case the wrapper class cannot be generated or instantiated
+     */
+    public <TContractType> TContractType newInstance(Class<TContractType> contractClass, AbstractContractWrapper<?, ?, ?, ?, ?, ?> wrapper, String className, ClassLoader classLoader) {
+        var key = new Key(contractClass, wrapper);
+        var constructor = constructors.computeIfAbsent(key, k -> {
+            var wrapperClass = WrapperGeneratorUtil.createWrapperClass(contractClass, wrapper, className, classLoader);
+            try {
+                return wrapperClass.getConstructor(AbstractContractWrapper.class);
+            } catch (NoSuchMethodException e) {
+                throw new ContractWrapperCreationException(String.format("Generated wrapper class '%s' does not declare the expected constructor", wrapperClass.getName()), e);
+            }
+        });
+
+        try {
+            return contractClass.cast(constructor.newInstance(wrapper));
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new ContractWrapperCreationException(String.format("Failed to instantiate wrapper class '%s'", constructor.getDeclaringClass().getName()), e);
+        }
+    }
+
+    /**
+     * Returns the number of cached wrapper classes.
+     *
+     * @return number of cached wrapper classes
+     */
+    public int size() {
+        return constructors.size();
+    }
+
+    private static final class Key {
+        private final Class<?> contractClass;
+        private final Class<?> contractInfoClass;
+        private final List<Method> dispatchMethods;
+
+        private Key(Class<?> contractClass, AbstractContractWrapper<?, ?, ?, ?, ?, ?> wrapper) {
+            this.contractClass = contractClass;
+            this.contractInfoClass = wrapper.getContractInfo().getClass();
+            this.dispatchMethods = wrapper.getDispatchMethods();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            var key = (Key) o;
+            return contractClass.equals(key.contractClass)
+                    && contractInfoClass.equals(key.contractInfoClass)
+                    && dispatchMethods.equals(key.dispatchMethods);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contractClass, contractInfoClass, dispatchMethods);
+        }
+    }
+}
@@ -26,13 +26,15 @@ public interface ContractWrapperGenerator {
     <TContractInfo extends ContractInfo<TContractType, ?, ?>, TContractType> TContractType generate(TContractInfo contractInfo);
 
     /**
-     * Returns the full name a of the smart contract wrapper class represented by a the given contract info.
+     * Returns the full name a of the smart contract wrapper class represented by a the given contract info. <br>
+     * The name is derived from the contract interface rather than the contract identifier,
+     * as wrapper classes are shared by all contracts implementing the same interface.
      *
      * @param contractInfo contract info representing the smart contract
      * @return package name + class name of the generated wrapper class
      */
     default String getWrapperName(ContractInfo contractInfo) {
-        var simplifiedIdentifier = contractInfo.getIdentifier().replaceAll("[^a-zA-Z0-9_\\-]", "");
-        return String.format("%s.wrapper.%sWrapper_%s", this.getClass().getPackageName(), contractInfo.getClass().getSimpleName(), simplifiedIdentifier);
+        var simplifiedContractName = contractInfo.getContractClass().getSimpleName().replaceAll("[^a-zA-Z0-9_\\-]", "");
+        return String.format("%s.wrapper.%sWrapper_%s", this.getClass().getPackageName(), contractInfo.getClass().getSimpleName(), simplifiedContractName);
     }
 }
@@ -0,0 +1,153 @@
+package org.blockchainnative;
+
+import io.reactivex.functions.Consumer;
+import org.blockchainnative.metadata.EventBackpressure;
+import org.blockchainnative.metadata.EventInfo;
+import org.blockchainnative.util.ReflectionUtil;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Immutable invocation plan of a smart contract event method.
+ *
+ * @param <TEventInfo> Concrete type of the {@link EventInfo} described by the plan
+ * @author Matthias Veit
+ * @see AbstractContractWrapper
+ * @since 1.1
+ */
+public final class EventInvocationPlan<TEventInfo extends EventInfo<?, ?>> extends InvocationPlan {
+    private final TEventInfo eventInfo;
+    private final boolean eventWrapper;
+    private final int eventConsumerIndex;
+    private final int eventHolderIndex;
+    private final boolean flowable;
+    private final int backpressureIndex;
+
+    private EventInvocationPlan(TEventInfo eventInfo, HashMap<String, Integer> specialArgumentIndices) {
+        super(eventInfo.getMethod(), specialArgumentIndices);
+        this.eventInfo = eventInfo;
+
+        var method = eventInfo.getMethod();
+        this.eventWrapper = ReflectionUtil.usesEventWrapper(method);
+        if (ReflectionUtil.isEventConsumerMethod(method)) {
+            this.eventConsumerIndex = ReflectionUtil.getEventConsumerParameterIndex(method);
+            this.eventHolderIndex = Arrays.asList(method.getParameterTypes()).indexOf(eventInfo.getEventType());
+        } else {
+            this.eventConsumerIndex = -1;
+            this.eventHolderIndex = -1;
+        }
+        this.flowable = ReflectionUtil.isEventFlowableMethod(method);
+        this.backpressureIndex = ReflectionUtil.getEventBackpressureParameterIndex(method);
+    }
+
+    /**
+     * Creates the invocation plan for the given event info.
+     *
+     * @param eventInfo    event info describing the smart contract event
+     * @param <TEventInfo> Concrete type of the {@link EventInfo}
+     * @return invocation plan of the event
+     */
+    public static <TEventInfo extends EventInfo<?, ?>> EventInvocationPlan<TEventInfo> of(TEventInfo eventInfo) {
+        if (eventInfo == null) throw new IllegalArgumentException("eventInfo must not be null");
+
+        var eventParameterInfos = eventInfo.getEventParameterInfos();
+        var specialArgumentIndices = new HashMap<String, Integer>();
+        for (var i = 0; i < eventParameterInfos.size(); i++) {
+            var specialArgumentName = eventParameterInfos.get(i).getSpecialArgumentName();
+            if (specialArgumentName != null) {
+                specialArgumentIndices.putIfAbsent(specialArgumentName, i);
+            }
+        }
+
+        return new EventInvocationPlan<>(eventInfo, specialArgumentIndices);
+    }
+
+    /**
+     * Returns the event info described by this plan.
+     *
+     * @return event info described by this plan
+     */
+    public TEventInfo getEventInfo() {
+        return eventInfo;
+    }
+
+    /**
+     * Returns name of the smart contract event.
+     *
+     * @return name of the smart contract event.
+     */
+    public String getEventName() {
+        return eventInfo.getEventName();
+    }
+
+    /**
+     * Returns whether or not the events are wrapped in {@link org.blockchainnative.metadata.Event}.
+     *
+     * @return flag indicating whether or not the events are wrapped in {@link org.blockchainnative.metadata.Event}.
+     */
+    public boolean usesEventWrapper() {
+        return eventWrapper;
+    }
+
+    /**
+     * Returns whether or not the events are passed to a {@link Consumer} instead of being returned as {@link io.reactivex.Observable}.
+     *
+     * @return flag indicating whether or not the event method is an event consumer method.
+     * @see ReflectionUtil#isEventConsumerMethod(java.lang.reflect.Method)
+     */
+    public boolean usesEventConsumer() {
+        return eventConsumerIndex >= 0;
+    }
+
+    /**
+     * Returns the consumer passed to an event consumer method.
+     *
+     * @param arguments arguments of the event method
+     * @return consumer receiving the events
+     * @throws IllegalStateException in case the event method is not an event consumer method
+     */
+    @SuppressWarnings("unchecked")
+    public Consumer<Object> getEventConsumer(Object[] arguments) {
+        if (eventConsumerIndex < 0) {
+            throw new IllegalStateException(String.format("Event method '%s' does not accept an event consumer", getMethod().getName()));
+        }
+        var consumer = (Consumer<Object>) arguments[eventConsumerIndex];
+        if (consumer == null) {
+            throw new IllegalArgumentException("Event consumer must not be null");
+        }
+        return consumer;
+    }
+
+    /**
+     * Returns the event object passed to an event consumer method which is supposed to be reused for all events. <br>
+     * The holder is declared as a parameter whose type equals the event type.
+     *
+     * @param arguments arguments of the event method
+     * @return event object to be reused or null if the event method does not declare such a parameter or null has been passed
+     */
+    public Object getEventHolder(Object[] arguments) {
+        return eventHolderIndex >= 0 ? arguments[eventHolderIndex] : null;
+    }
+
+    /**
+     * Returns whether or not the events are returned as {@link io.reactivex.Flowable} instead of {@link io.reactivex.Observable}.
+     *
+     * @return flag indicating whether or not the event method returns {@code Flowable}
+     */
+    public boolean usesFlowable() {
+        return flowable;
+    }
+
+    /**
+     * Returns the backpressure settings passed to the event method.
+     *
+     * @param arguments arguments of the event method
+     * @return backpressure settings passed to the event method or {@link EventBackpressure#defaultBackpressure()}
+     *         if the method does not declare such a parameter or null has been passed
+     */
+    public EventBackpressure getEventBackpressure(Object[] arguments) {
+        var backpressure = backpressureIndex >= 0 ? (EventBackpressure) arguments[backpressureIndex] : null;
+        return backpressure != null ? backpressure : EventBackpressure.defaultBackpressure();
+    }
+}
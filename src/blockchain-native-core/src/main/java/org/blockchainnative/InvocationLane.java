@@ -0,0 +1,41 @@
+package org.blockchainnative;
+
+/**
+ * Categories of work scheduled by contract wrappers, see {@link InvocationScheduler}.
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public enum InvocationLane {
+    /**
+     * Calls of smart contract methods which do not modify the blockchain's state
+     */
+    READ_ONLY(64),
+    /**
+     * Calls of smart contract methods submitting a transaction, including the wait for the transaction to be confirmed
+     */
+    STATE_CHANGING(16),
+    /**
+     * Deployments of smart contracts, e.g. {@code deploy}, {@code install} or {@code instantiate} special methods
+     */
+    DEPLOYMENT(4),
+    /**
+     * Decoding of the events emitted by smart contracts
+     */
+    EVENT(4);
+
+    private final int defaultMaxConcurrentCalls;
+
+    InvocationLane(int defaultMaxConcurrentCalls) {
+        this.defaultMaxConcurrentCalls = defaultMaxConcurrentCalls;
+    }
+
+    /**
+     * Returns the number of concurrent calls permitted in this lane unless configured otherwise.
+     *
+     * @return default number of concurrent calls in this lane
+     */
+    public int getDefaultMaxConcurrentCalls() {
+        return defaultMaxConcurrentCalls;
+    }
+}
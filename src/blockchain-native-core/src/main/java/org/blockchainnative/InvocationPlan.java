@@ -0,0 +1,85 @@
+package org.blockchainnative;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable, precomputed description of how a method of a smart contract interface is dispatched. <br>
+ * <br>
+ * Invocation plans are built once per {@link org.blockchainnative.metadata.MethodInfo} or {@link org.blockchainnative.metadata.EventInfo}
+ * when a contract wrapper is created, so that invoking a wrapper method does not need to inspect the metadata again.
+ *
+ * @author Matthias Veit
+ * @see MethodInvocationPlan
+ * @see EventInvocationPlan
+ * @see AbstractContractWrapper
+ * @since 1.1
+ */
+public abstract class InvocationPlan {
+    private static final int NO_INDEX = -1;
+
+    private final Method method;
+    // position of each special argument in the argument array, indexed by the slot of its handle
+    private final int[] specialArgumentIndices;
+
+    /**
+     * Creates a new {@code InvocationPlan}
+     *
+     * @param method                 method of the contract interface
+     * @param specialArgumentIndices mapping of special argument names to their position in the argument array
+     */
+    protected InvocationPlan(Method method, Map<String, Integer> specialArgumentIndices) {
+        this.method = method;
+
+        var handles = new HashMap<SpecialArgument, Integer>();
+        var slots = 0;
+        for (var entry : specialArgumentIndices.entrySet()) {
+            var handle = SpecialArgument.of(entry.getKey());
+            // names differing only in case refer to the same special argument, the first declared one wins
+            handles.merge(handle, entry.getValue(), Math::min);
+            slots = Math.max(slots, handle.getSlot() + 1);
+        }
+
+        var indices = new int[slots];
+        Arrays.fill(indices, NO_INDEX);
+        handles.forEach((handle, index) -> indices[handle.getSlot()] = index);
+        this.specialArgumentIndices = indices;
+    }
+
+    /**
+     * Returns method of the corresponding contract interface.
+     *
+     * @return method of the corresponding contract interface.
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns the position of the given special argument.
+     *
+     * @param specialArgument handle of the special argument
+     * @return position of the special argument in the argument array or {@code -1} if no such special argument has been declared
+     */
+    public int getSpecialArgumentIndex(SpecialArgument specialArgument) {
+        var slot = specialArgument.getSlot();
+        return slot < specialArgumentIndices.length ? specialArgumentIndices[slot] : NO_INDEX;
+    }
+
+    /**
+     * Extracts the given special argument.
+     *
+     * @param specialArgument handle of the special argument
+     * @param arguments       arguments passed to the contract interface method
+     * @return value of the special argument or null if no matching special argument has been declared
+     */
+    public Object getSpecialArgument(SpecialArgument specialArgument, Object[] arguments) {
+        var index = getSpecialArgumentIndex(specialArgument);
+        if (index == NO_INDEX || index >= arguments.length) {
+            return null;
+        }
+        return arguments[index];
+    }
+}
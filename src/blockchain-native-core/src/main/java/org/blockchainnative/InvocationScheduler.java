@@ -0,0 +1,273 @@
+package org.blockchainnative;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Schedules the work of contract wrappers in separate lanes, see {@link InvocationLane}. <br>
+ * <br>
+ * Each lane permits a bounded number of concurrent calls, calls exceeding this number are queued until a running call of
+ * the same lane completes. Hence, a burst of slow transactions cannot occupy the threads needed for read-only calls.
+ * Queued calls are taken from the contracts in turn, so that a single contract cannot starve the other contracts
+ * sharing the lane. The number of queued calls per lane is bounded as well, further calls are rejected with a
+ * {@link RejectedExecutionException}. <br>
+ * <br>
+ * Each lane runs its calls on its own executor. Unless specified otherwise, the scheduler creates a pool of daemon
+ * threads per lane, sized to the lane's limit, which is released by {@link #close()}.
+ *
+ * @author Matthias Veit
+ * @see AbstractContractWrapper#setInvocationScheduler(InvocationScheduler)
+ * @since 1.1
+ */
+public final class InvocationScheduler implements AutoCloseable {
+
+    /**
+     * Number of calls which can be queued per lane unless configured otherwise
+     */
+    public static final int DEFAULT_MAX_QUEUED_CALLS = 1000;
+
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+    private final Map<InvocationLane, Lane> lanes;
+    private final boolean ownsExecutors;
+
+    /**
+     * Creates a new {@code InvocationScheduler} using the default limits of the lanes, see {@link InvocationLane#getDefaultMaxConcurrentCalls()}
+     */
+    public InvocationScheduler() {
+        this(Map.of());
+    }
+
+    /**
+     * Creates a new {@code InvocationScheduler}.
+     *
+     * @param maxConcurrentCalls number of concurrent calls permitted per lane, lanes not contained use their default limit
+     */
+    public InvocationScheduler(Map<InvocationLane, Integer> maxConcurrentCalls) {
+        this(maxConcurrentCalls, DEFAULT_MAX_QUEUED_CALLS);
+    }
+
+    /**
+     * Creates a new {@code InvocationScheduler} running the calls of each lane on a thread pool sized to the lane's limit.
+     *
+     * @param maxConcurrentCalls number of concurrent calls permitted per lane, lanes not contained use their default limit
+     * @param maxQueuedCalls     number of calls which can be queued per lane
+     */
+    public InvocationScheduler(Map<InvocationLane, Integer> maxConcurrentCalls, int maxQueuedCalls) {
+        this(maxConcurrentCalls, maxQueuedCalls, null, true);
+    }
+
+    /**
+     * Creates a new {@code InvocationScheduler} running the calls of each lane on the given executors. <br>
+     * The executors need to be able to run the limit of their lane concurrently. They are not shut down by {@link #close()}.
+     *
+     * @param maxConcurrentCalls number of concurrent calls permitted per lane, lanes not contained use their default limit
+     * @param maxQueuedCalls     number of calls which can be queued per lane
+     * @param laneExecutors      provides the executor of each lane
+     */
+    public InvocationScheduler(Map<InvocationLane, Integer> maxConcurrentCalls, int maxQueuedCalls, Function<InvocationLane, Executor> laneExecutors) {
+        this(maxConcurrentCalls, maxQueuedCalls, laneExecutors, false);
+    }
+
+    private InvocationScheduler(Map<InvocationLane, Integer> maxConcurrentCalls, int maxQueuedCalls, Function<InvocationLane, Executor> laneExecutors, boolean ownsExecutors) {
+        if (maxConcurrentCalls == null) throw new IllegalArgumentException("maxConcurrentCalls must not be null");
+        if (maxQueuedCalls < 0) throw new IllegalArgumentException("maxQueuedCalls must not be negative");
+        if (!ownsExecutors && laneExecutors == null) throw new IllegalArgumentException("laneExecutors must not be null");
+
+        this.ownsExecutors = ownsExecutors;
+        this.lanes = new EnumMap<>(InvocationLane.class);
+        for (var lane : InvocationLane.values()) {
+            var limit = maxConcurrentCalls.getOrDefault(lane, lane.getDefaultMaxConcurrentCalls());
+            if (limit == null || limit < 1) {
+                throw new IllegalArgumentException(String.format("Lane %s needs to permit at least one concurrent call", lane));
+            }
+            var executor = ownsExecutors ? createLaneExecutor(lane, limit) : laneExecutors.apply(lane);
+            if (executor == null) {
+                throw new IllegalArgumentException(String.format("No executor provided for lane %s", lane));
+            }
+            lanes.put(lane, new Lane(lane, limit, maxQueuedCalls, executor));
+        }
+    }
+
+    /**
+     * Returns the number of concurrent calls permitted in the given lane.
+     *
+     * @param lane lane of the calls
+     * @return number of concurrent calls permitted in the lane
+     */
+    public int getMaxConcurrentCalls(InvocationLane lane) {
+        return lanes.get(lane).maxConcurrentCalls;
+    }
+
+    /**
+     * Returns the number of calls currently running in the given lane.
+     *
+     * @param lane lane of the calls
+     * @return number of running calls
+     */
+    public int getActiveCalls(InvocationLane lane) {
+        var state = lanes.get(lane);
+        synchronized (state) {
+            return state.activeCalls;
+        }
+    }
+
+    /**
+     * Returns the number of calls waiting for a free slot in the given lane.
+     *
+     * @param lane lane of the calls
+     * @return number of queued calls
+     */
+    public int getQueuedCalls(InvocationLane lane) {
+        var state = lanes.get(lane);
+        synchronized (state) {
+            return state.queuedCalls;
+        }
+    }
+
+    /**
+     * Returns the number of calls which can be queued in each lane.
+     *
+     * @return maximum number of queued calls per lane
+     */
+    public int getMaxQueuedCalls() {
+        return lanes.get(InvocationLane.READ_ONLY).maxQueuedCalls;
+    }
+
+    /**
+     * Runs the given call on the executor of the given lane as soon as the lane permits it.
+     *
+     * @param lane     lane of the call
+     * @param contract contract issuing the call, queued calls of different contracts are run in turn
+     * @param call     call to be run
+     * @throws RejectedExecutionException in case the queue of the lane is full or the scheduler has been closed
+     */
+    public void execute(InvocationLane lane, Object contract, Runnable call) {
+        if (lane == null) throw new IllegalArgumentException("lane must not be null");
+        if (contract == null) throw new IllegalArgumentException("contract must not be null");
+        if (call == null) throw new IllegalArgumentException("call must not be null");
+
+        lanes.get(lane).submit(contract, call);
+    }
+
+    /**
+     * Shuts down the thread pools created by the scheduler, calls which are already running or queued are completed.
+     */
+    @Override
+    public void close() {
+        if (!ownsExecutors) {
+            return;
+        }
+        for (var lane : lanes.values()) {
+            ((ExecutorService) lane.executor).shutdown();
+        }
+    }
+
+    private static ExecutorService createLaneExecutor(InvocationLane lane, int limit) {
+        var threadNumber = new AtomicInteger();
+        // the lane never submits more calls than its limit, hence the queue of the pool stays short
+        var executor = new ThreadPoolExecutor(limit, limit, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            var thread = new Thread(runnable, String.format("invocation-scheduler-%s-%d", lane.name().toLowerCase(), threadNumber.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final class Lane {
+        private final InvocationLane lane;
+        private final int maxConcurrentCalls;
+        private final int maxQueuedCalls;
+        private final Executor executor;
+        private final Map<Object, ArrayDeque<Runnable>> queuedCallsByContract = new IdentityHashMap<>();
+        private final ArrayDeque<Object> waitingContracts = new ArrayDeque<>();
+        private int activeCalls;
+        private int queuedCalls;
+
+        private Lane(InvocationLane lane, int maxConcurrentCalls, int maxQueuedCalls, Executor executor) {
+            this.lane = lane;
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.maxQueuedCalls = maxQueuedCalls;
+            this.executor = executor;
+        }
+
+        private void submit(Object contract, Runnable call) {
+            synchronized (this) {
+                if (activeCalls >= maxConcurrentCalls) {
+                    if (queuedCalls >= maxQueuedCalls) {
+                        throw new RejectedExecutionException(String.format("Lane %s is saturated, %d calls are running and %d calls are queued", lane, activeCalls, queuedCalls));
+                    }
+                    var queue = queuedCallsByContract.get(contract);
+                    if (queue == null) {
+                        queue = new ArrayDeque<>();
+                        queuedCallsByContract.put(contract, queue);
+                        waitingContracts.add(contract);
+                    }
+                    queue.add(call);
+                    queuedCalls++;
+                    return;
+                }
+                activeCalls++;
+            }
+            try {
+                executor.execute(() -> run(call));
+            } catch (RejectedExecutionException e) {
+                complete();
+                throw e;
+            }
+        }
+
+        private void run(Runnable call) {
+            try {
+                call.run();
+            } finally {
+                complete();
+            }
+        }
+
+        private void complete() {
+            Runnable next;
+            synchronized (this) {
+                next = pollNextCall();
+                if (next == null) {
+                    activeCalls--;
+                    return;
+                }
+            }
+            // the slot of the completed call is passed on to the next one
+            try {
+                executor.execute(() -> run(next));
+            } catch (RejectedExecutionException e) {
+                // the caller has no way of noticing the rejection anymore, hence the call is run right away
+                run(next);
+            }
+        }
+
+        private Runnable pollNextCall() {
+            var contract = waitingContracts.poll();
+            if (contract == null) {
+                return null;
+            }
+            var queue = queuedCallsByContract.get(contract);
+            var call = queue.poll();
+            if (queue.isEmpty()) {
+                queuedCallsByContract.remove(contract);
+            } else {
+                waitingContracts.add(contract);
+            }
+            queuedCalls--;
+            return call;
+        }
+    }
+}
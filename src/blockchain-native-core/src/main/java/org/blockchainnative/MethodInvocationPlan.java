@@ -0,0 +1,185 @@
+package org.blockchainnative;
+
+import org.blockchainnative.metadata.MethodInfo;
+import org.blockchainnative.metadata.ParameterInfo;
+import org.blockchainnative.util.AsyncReturnType;
+import org.blockchainnative.util.ReflectionUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable invocation plan of a smart contract method. <br>
+ * <br>
+ * Holds the positions of special arguments and of the arguments to be passed to the smart contract as well as
+ * the {@code ParameterInfo} objects (and thus the type converters) describing the latter.
+ *
+ * @param <TMethodInfo>    Concrete type of the {@link MethodInfo} described by the plan
+ * @param <TParameterInfo> Concrete type of the {@link ParameterInfo} used by {@code TMethodInfo}
+ * @author Matthias Veit
+ * @see AbstractContractWrapper
+ * @since 1.1
+ */
+public final class MethodInvocationPlan<TMethodInfo extends MethodInfo<TParameterInfo>, TParameterInfo extends ParameterInfo> extends InvocationPlan {
+    private final TMethodInfo methodInfo;
+    private final int[] contractArgumentIndices;
+    private final List<TParameterInfo> contractParameterInfos;
+    private final boolean resultWrapper;
+    private final boolean pendingResultWrapper;
+    private final Optional<AsyncReturnType> asyncReturnType;
+
+    private MethodInvocationPlan(TMethodInfo methodInfo, HashMap<String, Integer> specialArgumentIndices, int[] contractArgumentIndices, List<TParameterInfo> contractParameterInfos) {
+        super(methodInfo.getMethod(), specialArgumentIndices);
+        this.methodInfo = methodInfo;
+        this.contractArgumentIndices = contractArgumentIndices;
+        this.contractParameterInfos = Collections.unmodifiableList(contractParameterInfos);
+        this.resultWrapper = ReflectionUtil.usesResultWrapper(methodInfo.getMethod());
+        this.pendingResultWrapper = ReflectionUtil.usesPendingResultWrapper(methodInfo.getMethod());
+        this.asyncReturnType = ReflectionUtil.getAsyncReturnType(methodInfo.getMethod());
+    }
+
+    /**
+     * Creates the invocation plan for the given method info.
+     *
+     * @param methodInfo       method info describing the smart contract method
+     * @param <TMethodInfo>    Concrete type of the {@link MethodInfo}
+     * @param <TParameterInfo> Concrete type of the {@link ParameterInfo} used by {@code TMethodInfo}
+     * @return invocation plan of the method
+     */
+    public static <TMethodInfo extends MethodInfo<TParameterInfo>, TParameterInfo extends ParameterInfo> MethodInvocationPlan<TMethodInfo, TParameterInfo> of(TMethodInfo methodInfo) {
+        if (methodInfo == null) throw new IllegalArgumentException("methodInfo must not be null");
+
+        var parameterInfos = methodInfo.getParameterInfos();
+        var specialArgumentIndices = new HashMap<String, Integer>();
+        var contractParameterInfos = new ArrayList<TParameterInfo>();
+        var contractArgumentIndices = new int[parameterInfos.size()];
+        var contractArgumentCount = 0;
+
+        for (var i = 0; i < parameterInfos.size(); i++) {
+            var parameterInfo = parameterInfos.get(i);
+            if (parameterInfo.isSpecialArgument()) {
+                specialArgumentIndices.putIfAbsent(parameterInfo.getSpecialArgumentName(), i);
+            } else {
+                contractParameterInfos.add(parameterInfo);
+                contractArgumentIndices[contractArgumentCount++] = i;
+            }
+        }
+
+        var indices = new int[contractArgumentCount];
+        System.arraycopy(contractArgumentIndices, 0, indices, 0, contractArgumentCount);
+
+        return new MethodInvocationPlan<>(methodInfo, specialArgumentIndices, indices, contractParameterInfos);
+    }
+
+    /**
+     * Returns the method info described by this plan.
+     *
+     * @return method info described by this plan
+     */
+    public TMethodInfo getMethodInfo() {
+        return methodInfo;
+    }
+
+    /**
+     * Extracts the arguments that need to be passed to the corresponding smart contract method, i.e. the arguments which are not marked as special arguments.
+     *
+     * @param arguments arguments passed to the contract interface method
+     * @return array containing only the arguments that need to be passed to the corresponding smart contract method
+     */
+    public Object[] getContractArguments(Object[] arguments) {
+        if (contractArgumentIndices.length == arguments.length) {
+            return arguments;
+        }
+
+        var contractArguments = new Object[contractArgumentIndices.length];
+        for (var i = 0; i < contractArgumentIndices.length; i++) {
+            contractArguments[i] = arguments[contractArgumentIndices[i]];
+        }
+        return contractArguments;
+    }
+
+    /**
+     * Returns the parameter info objects that correspond to the arguments that need to be passed to the smart contract method.
+     *
+     * @return unmodifiable list of the parameter info objects describing the smart contract method's arguments
+     */
+    public List<TParameterInfo> getContractParameterInfos() {
+        return contractParameterInfos;
+    }
+
+    /**
+     * Returns name of the targeted smart contract method.
+     *
+     * @return name of the targeted smart contract method.
+     */
+    public String getContractMethodName() {
+        return methodInfo.getContractMethodName();
+    }
+
+    /**
+     * Returns whether or not the method is marked as readonly.
+     *
+     * @return flag indicating whether or not the method is marked as readonly
+     */
+    public boolean isReadOnly() {
+        return methodInfo.isReadOnly();
+    }
+
+    /**
+     * Returns whether or not the method is marked as special method.
+     *
+     * @return flag indicating whether or not the method is marked as special method.
+     */
+    public boolean isSpecialMethod() {
+        return methodInfo.isSpecialMethod();
+    }
+
+    /**
+     * Returns whether or not the method returns an asynchronous type, e.g. {@link java.util.concurrent.Future}.
+     *
+     * @return flag indicating whether or not the method is async.
+     */
+    public boolean isAsync() {
+        return methodInfo.isAsync();
+    }
+
+    /**
+     * Returns the asynchronous return type of the method.
+     *
+     * @return asynchronous return type of the method or an empty optional if the method is not async
+     */
+    public Optional<AsyncReturnType> getAsyncReturnType() {
+        return asyncReturnType;
+    }
+
+    /**
+     * Returns whether or not the method's return type is void.
+     *
+     * @return flag indicating whether or not the method's return type is void.
+     */
+    public boolean isVoidReturnType() {
+        return methodInfo.isVoidReturnType();
+    }
+
+    /**
+     * Returns whether or not the method's result is wrapped in {@link org.blockchainnative.metadata.Result}.
+     *
+     * @return flag indicating whether or not the method's result is wrapped in {@link org.blockchainnative.metadata.Result}.
+     */
+    public boolean usesResultWrapper() {
+        return resultWrapper;
+    }
+
+    /**
+     * Returns whether or not the method's result is wrapped in {@link org.blockchainnative.metadata.PendingResult},
+     * i.e. whether the method returns as soon as its transaction has been submitted.
+     *
+     * @return flag indicating whether or not the method's result is wrapped in {@link org.blockchainnative.metadata.PendingResult}.
+     */
+    public boolean usesPendingResultWrapper() {
+        return pendingResultWrapper;
+    }
+}
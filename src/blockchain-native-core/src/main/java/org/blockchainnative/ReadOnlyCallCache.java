@@ -0,0 +1,269 @@
+package org.blockchainnative;
+
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/**
+ * Caches the raw results of readonly smart contract calls until the head of the blockchain advances. <br>
+ * <br>
+ * Results are keyed by the chain, the address of the contract, the address of the caller and the encoded call,
+ * i.e. the function selector and the encoded arguments. The chain is part of the key since a single cache may be shared
+ * by wrappers connected to different blockchains. The cache is bounded by the number of entries as well as
+ * the estimated size of the entries in bytes, the least recently used entries are evicted first. <br>
+ * <br>
+ * The providers invalidate the cache through {@link #invalidateAll()} whenever a new block arrives
+ * and whenever a transaction submitted through one of their wrappers completes.
+ * Results of calls which started before an invalidation are not cached, see {@link #getGeneration()}.
+ * Only methods marked as cacheable use the cache, see {@link org.blockchainnative.annotations.ContractMethod#isCacheable()}.
+ *
+ * @author Matthias Veit
+ * @see org.blockchainnative.metadata.MethodInfo#isCacheable()
+ * @since 1.1
+ */
+public final class ReadOnlyCallCache {
+
+    /**
+     * Maximum number of entries used by {@link #ReadOnlyCallCache()}
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    /**
+     * Maximum size of all entries in bytes used by {@link #ReadOnlyCallCache()}
+     */
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+
+    // rough size of the map entry, the key and the value objects
+    private static final long ENTRY_OVERHEAD = 128;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long generation;
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    /**
+     * Creates a new {@code ReadOnlyCallCache} holding at most {@link #DEFAULT_MAX_ENTRIES} entries
+     * or {@link #DEFAULT_MAX_BYTES} bytes.
+     */
+    public ReadOnlyCallCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a new {@code ReadOnlyCallCache}.
+     *
+     * @param maxEntries maximum number of cached results
+     * @param maxBytes   maximum estimated size of all cached results in bytes
+     */
+    public ReadOnlyCallCache(int maxEntries, long maxBytes) {
+        if (maxEntries < 1) throw new IllegalArgumentException("maxEntries must be positive");
+        if (maxBytes < 1) throw new IllegalArgumentException("maxBytes must be positive");
+
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached result of the given call.
+     *
+     * @param chain           identifier of the chain the call is executed on, may be null
+     * @param contractAddress address of the called contract
+     * @param fromAddress     address of the caller, may be null
+     * @param encodedCall     encoded function selector and arguments
+     * @return cached result or null if the call's result is not cached
+     */
+    public synchronized Object get(String chain, String contractAddress, String fromAddress, String encodedCall) {
+        var entry = entries.get(new Key(chain, contractAddress, fromAddress, encodedCall));
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.result;
+    }
+
+    /**
+     * Returns the current generation of the cache. <br>
+     * The generation changes whenever the cache is invalidated. Callers obtain the generation before executing a call
+     * and pass it to {@link #put(String, String, String, String, Object, long, long)}, so that results which may have been
+     * computed before the latest block are discarded.
+     *
+     * @return current generation of the cache
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Caches the result of the given call unless the cache has been invalidated since the given generation.
+     *
+     * @param chain           identifier of the chain the call has been executed on, may be null
+     * @param contractAddress address of the called contract
+     * @param fromAddress     address of the caller, may be null
+     * @param encodedCall     encoded function selector and arguments
+     * @param result          result of the call
+     * @param resultSize      estimated size of the result in bytes
+     * @param generation      generation of the cache obtained before the call was executed
+     * @return true if the result has been cached
+     */
+    public synchronized boolean put(String chain, String contractAddress, String fromAddress, String encodedCall, Object result, long resultSize, long generation) {
+        if (contractAddress == null) throw new IllegalArgumentException("contractAddress must not be null");
+        if (encodedCall == null) throw new IllegalArgumentException("encodedCall must not be null");
+        if (result == null) throw new IllegalArgumentException("result must not be null");
+
+        if (generation != this.generation) {
+            return false;
+        }
+
+        var size = ENTRY_OVERHEAD + resultSize
+                + 2L * (contractAddress.length() + encodedCall.length() + (fromAddress != null ? fromAddress.length() : 0) + (chain != null ? chain.length() : 0));
+        if (size > maxBytes) {
+            return false;
+        }
+
+        var previous = entries.put(new Key(chain, contractAddress, fromAddress, encodedCall), new Entry(result, size));
+        if (previous != null) {
+            bytes -= previous.size;
+        }
+        bytes += size;
+
+        var iterator = entries.values().iterator();
+        while (entries.size() > maxEntries || bytes > maxBytes) {
+            bytes -= iterator.next().size;
+            iterator.remove();
+            evictions++;
+        }
+        return true;
+    }
+
+    /**
+     * Removes all cached results, usually because a new block arrived or a transaction completed.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations++;
+        entries.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Returns the maximum number of cached results.
+     *
+     * @return maximum number of cached results
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Returns the maximum estimated size of all cached results in bytes.
+     *
+     * @return maximum size in bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Returns the number of currently cached results.
+     *
+     * @return number of cached results
+     */
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the estimated size of all currently cached results in bytes.
+     *
+     * @return size in bytes
+     */
+    public synchronized long getSizeInBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the number of calls answered from the cache.
+     *
+     * @return number of cache hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of calls not answered from the cache.
+     *
+     * @return number of cache misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of results evicted because the cache was full.
+     *
+     * @return number of evicted results
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of times the cache has been invalidated.
+     *
+     * @return number of invalidations
+     */
+    public synchronized long getInvalidations() {
+        return invalidations;
+    }
+
+    private static final class Key {
+        private final String chain;
+        private final String contractAddress;
+        private final String fromAddress;
+        private final String encodedCall;
+        private final int hashCode;
+
+        private Key(String chain, String contractAddress, String fromAddress, String encodedCall) {
+            this.chain = chain;
+            this.contractAddress = contractAddress;
+            this.fromAddress = fromAddress;
+            this.encodedCall = encodedCall;
+            this.hashCode = Objects.hash(chain, contractAddress, fromAddress, encodedCall);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+
+            if (!(o instanceof Key)) return false;
+
+            var that = (Key) o;
+            return hashCode == that.hashCode
+                    && Objects.equals(encodedCall, that.encodedCall)
+                    && Objects.equals(contractAddress, that.contractAddress)
+                    && Objects.equals(fromAddress, that.fromAddress)
+                    && Objects.equals(chain, that.chain);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Entry {
+        private final Object result;
+        private final long size;
+
+        private Entry(Object result, long size) {
+            this.result = result;
+            this.size = size;
+        }
+    }
+}
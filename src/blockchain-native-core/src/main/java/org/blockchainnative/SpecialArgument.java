@@ -0,0 +1,61 @@
+package org.blockchainnative;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Handle of a special argument name, see {@link org.blockchainnative.metadata.ParameterInfo#getSpecialArgumentName()}. <br>
+ * <br>
+ * Names are compared case insensitively, i.e. {@code SpecialArgument.of("gasLimit")} and {@code SpecialArgument.of("GASLIMIT")}
+ * return the same handle. Each handle is assigned a unique slot when it is first requested, which allows
+ * {@link InvocationPlan} to look up the position of a special argument without comparing names on every invocation.
+ * Contract wrappers are therefore supposed to keep the handles of the special arguments they support in constants.
+ *
+ * @author Matthias Veit
+ * @see InvocationPlan#getSpecialArgument(SpecialArgument, Object[])
+ * @since 1.1
+ */
+public final class SpecialArgument {
+    private static final Map<String, SpecialArgument> SPECIAL_ARGUMENTS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_SLOT = new AtomicInteger();
+
+    private final String name;
+    private final int slot;
+
+    private SpecialArgument(String name, int slot) {
+        this.name = name;
+        this.slot = slot;
+    }
+
+    /**
+     * Returns the handle of the special argument with the given name.
+     *
+     * @param name name of the special argument, the comparison of names is case insensitive
+     * @return handle of the special argument
+     */
+    public static SpecialArgument of(String name) {
+        if (name == null) throw new IllegalArgumentException("name must not be null");
+
+        return SPECIAL_ARGUMENTS.computeIfAbsent(name.toLowerCase(Locale.ROOT), key -> new SpecialArgument(name, NEXT_SLOT.getAndIncrement()));
+    }
+
+    /**
+     * Returns the name of the special argument as passed when the handle was first requested.
+     *
+     * @return name of the special argument
+     */
+    public String getName() {
+        return name;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
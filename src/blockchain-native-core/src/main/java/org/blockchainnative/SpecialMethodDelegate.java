@@ -1,13 +1,15 @@
 package org.blockchainnative;
 
 import org.blockchainnative.metadata.MethodInfo;
+import org.blockchainnative.metadata.ParameterInfo;
 
 import java.util.concurrent.Future;
 
 /**
  * Represents the method to be executed when a specific special method is invoked.
  *
- * @param <TMethodInfo> type of {@code MethodInfo} expected by the delegate
+ * @param <TMethodInfo>    type of {@code MethodInfo} expected by the delegate
+ * @param <TParameterInfo> type of {@code ParameterInfo} used by {@code TMethodInfo}
  * @author Matthias Veit
  * @see org.blockchainnative.annotations.ContractMethod
  * @see org.blockchainnative.ContractWrapperGenerator
@@ -15,7 +17,7 @@ import java.util.concurrent.Future;
  * @since 1.0
  */
 @FunctionalInterface
-public interface SpecialMethodDelegate<TMethodInfo extends MethodInfo> {
+public interface SpecialMethodDelegate<TMethodInfo extends MethodInfo<TParameterInfo>, TParameterInfo extends ParameterInfo> {
 
-    Future<?> invoke(TMethodInfo methodInfo, Object[] args);
+    Future<?> invoke(MethodInvocationPlan<TMethodInfo, TParameterInfo> invocationPlan, Object[] args);
 }
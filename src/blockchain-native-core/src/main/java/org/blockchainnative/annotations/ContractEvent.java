@@ -12,9 +12,9 @@ import java.lang.annotation.Target;
  * In order to function correctly, a method annotated with {@code ContractEvent} must obey to the following rules:
  *
  * <ul>
- *      <li>The event method needs to return {@link io.reactivex.Observable}</li>
+ *      <li>The event method needs to return {@link io.reactivex.Observable} or {@link io.reactivex.Flowable}, or {@link io.reactivex.disposables.Disposable} in case of event consumer methods (see below)</li>
  *      <li>An non-generic event type needs to be specified which contains a field for each value in the corresponding event.</li>
- *      <li>The {@code Observable}'s generic parameter is either directly the event type or the event type wrapped in {@link org.blockchainnative.metadata.Event} </li>
+ *      <li>The {@code Observable}'s or {@code Flowable}'s generic parameter is either directly the event type or the event type wrapped in {@link org.blockchainnative.metadata.Event} </li>
  *      <li>Event methods can accept parameters, however all of them are considered to be special arguments that need to be interpreted by the underlying provider (see {@link EventParameter})</li>
  * </ul>
  * <br>
@@ -41,6 +41,34 @@ import java.lang.annotation.Target;
  * }
  * }
  * </pre>
+ * <br>
+ * Event methods returning {@code Flowable} buffer the received events until the subscriber requests them.
+ * The buffer size and the behaviour in case the buffer is full can be chosen per subscription by declaring a parameter
+ * of type {@link org.blockchainnative.metadata.EventBackpressure}:
+ *
+ * <pre>
+ * {@code
+ * public interface EventSample {
+ *
+ *      Flowable<Event<HelloEvent>> onHelloEvent(EventBackpressure backpressure);
+ * }
+ * }
+ * </pre>
+ * <br>
+ * Instead of returning an {@code Observable}, an event method can pass the events to a {@link io.reactivex.functions.Consumer}
+ * declared as parameter of the method. Such event consumer methods return the {@link io.reactivex.disposables.Disposable}
+ * representing the subscription and can additionally accept an instance of the event type which is then reused for all events.
+ * Providers supporting it decode each event directly into this instance, hence, the consumer must not keep a reference to
+ * the event object after it returned:
+ *
+ * <pre>
+ * {@code
+ * public interface EventSample {
+ *
+ *      Disposable onHelloEvent(HelloEvent holder, Consumer<HelloEvent> consumer);
+ * }
+ * }
+ * </pre>
  *
  * @author Matthias Veit
  * @see org.blockchainnative.ContractWrapperGenerator
@@ -17,6 +17,8 @@ import java.lang.annotation.Target;
  *      <li>Any type if an appropriate type converter is registered</li>
  *      <li>Any of the above wrapped in type {@link org.blockchainnative.metadata.Result}</li>
  *      <li>Any of the abover wrapped int {@link java.util.concurrent.Future} or {@link java.util.concurrent.CompletableFuture}</li>
+ *      <li>Any of the above wrapped in {@link java.util.concurrent.CompletionStage}, {@link io.reactivex.Single}, {@link io.reactivex.Maybe}
+ *      or Reactor's {@code Mono}, or {@link io.reactivex.Completable} for methods without result, see {@link org.blockchainnative.util.AsyncReturnType}</li>
  * </ul>
  *
  * @author Matthias Veit
@@ -45,6 +47,28 @@ public @interface ContractMethod {
      */
     boolean isReadOnly() default false;
 
+    /**
+     * Declares whether or not the results of readonly calls of the method may be cached until the head of the blockchain advances. <br>
+     * Only has an effect on readonly methods and if the provider supports caching, see {@link org.blockchainnative.ReadOnlyCallCache}.
+     *
+     * @return {@code boolean} indicating whether the results of this method may be cached or not
+     * @since 1.1
+     */
+    boolean isCacheable() default false;
+
+    /**
+     * Declares whether or not the result of the method is simulated when the method is invoked in a transaction. <br>
+     * The actual output of a transaction is not available to the caller. If set to {@code true}, the result is obtained by
+     * calling the method without submitting a transaction, against the block preceding the transaction.
+     * The call runs concurrently with the submission of the transaction, hence it does not prevent the submission if the call fails. <br>
+     * By default, no additional call is made and non-void methods return {@code null}, or a result without data,
+     * which is not supported for primitive return types. Only has an effect on non-readonly, non-void methods.
+     *
+     * @return {@code boolean} indicating whether the result is simulated for this method or not
+     * @since 1.1
+     */
+    boolean simulateResult() default false;
+
     /**
      * Marks the method to have a special meaning to the underlying provider. <br>
      * How this method is interpreted is up to provider.
@@ -1,6 +1,8 @@
 package org.blockchainnative.builder;
 
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
 import org.blockchainnative.annotations.ContractEvent;
 import org.blockchainnative.metadata.EventInfo;
 import org.blockchainnative.util.ReflectionUtil;
@@ -255,8 +257,9 @@ public abstract class EventInfoBuilder<TSelf extends EventInfoBuilder<TSelf, TEv
             throw new IllegalStateException("build() must not be called more than once!");
         }
 
-        if (!Observable.class.equals(eventMethod.getReturnType())) {
-            throw new IllegalStateException(String.format("Unexpected return type of event method '%s(...)', events need to return '%s' with the generic type optionally wrapped in Event<>.", eventMethod.getName(), Observable.class.getName()));
+        if (!Observable.class.equals(eventMethod.getReturnType()) && !ReflectionUtil.isEventFlowableMethod(eventMethod) && !ReflectionUtil.isEventConsumerMethod(eventMethod)) {
+            throw new IllegalStateException(String.format("Unexpected return type of event method '%s(...)', events need to return '%s' or '%s' with the generic type optionally wrapped in Event<>, or '%s' in case of event consumer methods.",
+                    eventMethod.getName(), Observable.class.getName(), Flowable.class.getName(), Disposable.class.getName()));
         }
 
         this.eventInfo = buildInternal();
@@ -39,6 +39,8 @@ public abstract class MethodInfoBuilder<TSelf extends MethodInfoBuilder<TSelf, T
     protected String contractMethodName;
     protected boolean isReadOnly;
     protected boolean isSpecialMethod;
+    protected boolean isCacheable;
+    protected boolean simulateResult;
     protected Class<? extends TypeConverter<?, ?>> resultTypeConverterClass;
     protected TMethodInfo methodInfo;
 
@@ -71,6 +73,8 @@ public abstract class MethodInfoBuilder<TSelf extends MethodInfoBuilder<TSelf, T
         if (methodAnnotation != null) {
             this.isReadOnly = methodAnnotation.isReadOnly();
             this.isSpecialMethod = methodAnnotation.isSpecialMethod();
+            this.isCacheable = methodAnnotation.isCacheable();
+            this.simulateResult = methodAnnotation.simulateResult();
 
             var converterClass = methodAnnotation.useTypeConverter();
             if (converterClass != null && converterClass != NoOpTypeConverter.class) {
@@ -111,6 +115,34 @@ public abstract class MethodInfoBuilder<TSelf extends MethodInfoBuilder<TSelf, T
         return self();
     }
 
+    /**
+     * Controls whether or not the results of readonly calls of the smart contract method targeted by this {@code MethodInfo}
+     * may be cached until the head of the blockchain advances, see {@link org.blockchainnative.ReadOnlyCallCache}. <br>
+     * Initial value is taken from {@link ContractMethod#isCacheable()}
+     *
+     * @param isCacheable flag indicating whether or not the results of readonly calls may be cached
+     * @return {@code MethodInfoBuilder}
+     * @since 1.1
+     */
+    public TSelf cacheable(boolean isCacheable) {
+        this.isCacheable = isCacheable;
+        return self();
+    }
+
+    /**
+     * Controls whether or not the result of the smart contract method targeted by this {@code MethodInfo}
+     * is simulated when the method is invoked in a transaction. <br>
+     * Initial value is taken from {@link ContractMethod#simulateResult()}
+     *
+     * @param simulateResult flag indicating whether or not the result is simulated
+     * @return {@code MethodInfoBuilder}
+     * @since 1.1
+     */
+    public TSelf simulateResult(boolean simulateResult) {
+        this.simulateResult = simulateResult;
+        return self();
+    }
+
     /**
      * Sets the {@code TypeConverter} to be used to convert the smart contracts result to the method's declared return
      * type. <br> Initial value is taken from {@link ContractMethod#useTypeConverter()}
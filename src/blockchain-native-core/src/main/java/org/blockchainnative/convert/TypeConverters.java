@@ -9,13 +9,19 @@ import java.lang.reflect.TypeVariable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 /**
  * Represents a colleciton of {@link TypeConverter} with additional lookup logic. <br>
  * <br>
- * Due to Java's implementation of generic types, each {@code TypeConverter} in the collection needs to bind the type parameters {@code TTo} and {@code TFrom} to a concrete type in order for the lookup functions to work properly.
+ * Due to Java's implementation of generic types, each {@code TypeConverter} in the collection needs to bind the type parameters {@code TTo} and {@code TFrom} to a concrete type in order for the lookup functions to work properly. <br>
+ * <br>
+ * Lookups by type are memoized per pair of types, including lookups that did not find a converter. The memoized results are discarded whenever the collection is modified.
  *
  * @author Matthias Veit
  * @since 1.0
@@ -24,6 +30,10 @@ public class TypeConverters extends HashSet<TypeConverter<?, ?>> {
 
     private static final TypeVariable<?> fromTypeVariable;
     private static final TypeVariable<?> toTypeVariable;
+    private static final ConcurrentMap<Class<?>, ConverterTypes> converterTypes = new ConcurrentHashMap<>();
+
+    // may be null while the HashSet constructor adds the initial elements
+    private transient volatile ResolutionCache resolutionCache = new ResolutionCache();
 
     static {
         var typeConverterTypeArguments = TypeConverter.class.getTypeParameters();
@@ -69,18 +79,15 @@ public class TypeConverters extends HashSet<TypeConverter<?, ?>> {
      */
     @SuppressWarnings("unchecked")
     public <TFrom, TTo> Optional<TypeConverter<TFrom, TTo>> getTypeConverter(Type fromType, Type toType) {
-        return this.stream()
-                .filter(typeConverter ->
-                        TypeUtils.isAssignable(fromType, getFromType(typeConverter))
-                                && TypeUtils.isAssignable(toType, getToType(typeConverter)))
-                .map(typeConverter -> (TypeConverter<TFrom, TTo>) typeConverter)
-                .findFirst();
+        var converter = getResolutionCache().converters.computeIfAbsent(new TypePair(fromType, toType), this::findTypeConverter);
+        return converter.map(typeConverter -> (TypeConverter<TFrom, TTo>) typeConverter);
     }
 
     /**
      * Returns an instance of the given {@code TypeConverter} class. <br>
      * <br>
      * If no instance of the given type is registered, a new instace will be created using class' default constructor.
+     * Either way, the instance is remembered and returned by subsequent calls until the collection is modified.
      *
      * @param converterType class of the converter to be found.
      * @return an instance of the given {@code TypeConverter} class
@@ -89,14 +96,7 @@ public class TypeConverters extends HashSet<TypeConverter<?, ?>> {
     public TypeConverter<?, ?> getTypeConverter(Class<? extends TypeConverter<?, ?>> converterType) {
         if (converterType == null) throw new IllegalArgumentException("converterType must not be null!");
 
-        try {
-            return this.stream()
-                    .filter(typeConverter -> typeConverter.getClass().equals(converterType))
-                    .findFirst()
-                    .orElse(converterType.getConstructor().newInstance());
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new TypeConvertException(String.format("No instance of type converter '%s' has been found and creation via default constructor failed. Register the an instance of this type converter or add a default constructor to the class.", converterType.getName()), e);
-        }
+        return getResolutionCache().convertersByClass.computeIfAbsent(converterType, this::findOrCreateTypeConverter);
     }
 
     /**
@@ -108,16 +108,61 @@ public class TypeConverters extends HashSet<TypeConverter<?, ?>> {
      * @param <TTo>    type parameter representing {@code toType}
      * @return {@code Function} to convert from {@code fromType} to {@code toType}.
      */
+    @SuppressWarnings("unchecked")
     public <TFrom, TTo> Optional<Function<TFrom, TTo>> getConversionFunction(Type fromType, Type toType) {
-        Optional<TypeConverter<TFrom, TTo>> converter = this.getTypeConverter(fromType, toType);
-        if (converter.isPresent()) {
-            return Optional.of(converter.get()::to);
+        var conversionFunction = getResolutionCache().conversionFunctions.computeIfAbsent(new TypePair(fromType, toType), this::findConversionFunction);
+        return conversionFunction.map(function -> (Function<TFrom, TTo>) function);
+    }
+
+    @Override
+    public boolean add(TypeConverter<?, ?> typeConverter) {
+        if (typeConverter != null) {
+            // resolve the converter's type arguments once when it gets registered
+            getConverterTypes(typeConverter);
         }
-        Optional<TypeConverter<TTo, TFrom>> reversedConverter = this.getTypeConverter(toType, fromType);
-        if (reversedConverter.isPresent()) {
-            return Optional.of(reversedConverter.get()::from);
+        var added = super.add(typeConverter);
+        if (added) {
+            invalidateResolutionCache();
         }
-        return Optional.empty();
+        return added;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        var removed = super.remove(o);
+        if (removed) {
+            invalidateResolutionCache();
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        invalidateResolutionCache();
+    }
+
+    @Override
+    public Iterator<TypeConverter<?, ?>> iterator() {
+        var iterator = super.iterator();
+        // removals through the iterator (e.g. removeAll, retainAll and removeIf) need to invalidate the cache as well
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public TypeConverter<?, ?> next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                invalidateResolutionCache();
+            }
+        };
     }
 
     /**
@@ -209,14 +254,111 @@ public class TypeConverters extends HashSet<TypeConverter<?, ?>> {
         }
     }
 
+    private Optional<TypeConverter<?, ?>> findTypeConverter(TypePair types) {
+        for (var typeConverter : this) {
+            var converterTypes = getConverterTypes(typeConverter);
+            if (TypeUtils.isAssignable(types.fromType, converterTypes.fromType)
+                    && TypeUtils.isAssignable(types.toType, converterTypes.toType)) {
+                return Optional.of(typeConverter);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private TypeConverter<?, ?> findOrCreateTypeConverter(Class<?> converterType) {
+        for (var typeConverter : this) {
+            if (typeConverter.getClass() == converterType) {
+                return typeConverter;
+            }
+        }
+
+        try {
+            return (TypeConverter<?, ?>) converterType.getConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new TypeConvertException(String.format("No instance of type converter '%s' has been found and creation via default constructor failed. Register the an instance of this type converter or add a default constructor to the class.", converterType.getName()), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Function<?, ?>> findConversionFunction(TypePair types) {
+        Optional<TypeConverter<Object, Object>> converter = this.getTypeConverter(types.fromType, types.toType);
+        if (converter.isPresent()) {
+            return Optional.of(converter.get()::to);
+        }
+        Optional<TypeConverter<Object, Object>> reversedConverter = this.getTypeConverter(types.toType, types.fromType);
+        if (reversedConverter.isPresent()) {
+            return Optional.of(reversedConverter.get()::from);
+        }
+        return Optional.empty();
+    }
+
+    private ResolutionCache getResolutionCache() {
+        var cache = resolutionCache;
+        if (cache == null) {
+            cache = new ResolutionCache();
+            resolutionCache = cache;
+        }
+        return cache;
+    }
+
+    private void invalidateResolutionCache() {
+        // replace instead of clearing the cache, so that lookups running concurrently cannot repopulate it with stale results
+        resolutionCache = new ResolutionCache();
+    }
+
     private static Type getFromType(TypeConverter<?, ?> typeConverter) {
-        return TypeUtils.getTypeArguments(typeConverter.getClass(), TypeConverter.class)
-                .get(fromTypeVariable);
+        return getConverterTypes(typeConverter).fromType;
     }
 
     private static Type getToType(TypeConverter<?, ?> typeConverter) {
-        return TypeUtils.getTypeArguments(typeConverter.getClass(), TypeConverter.class)
-                .get(toTypeVariable);
+        return getConverterTypes(typeConverter).toType;
+    }
+
+    private static ConverterTypes getConverterTypes(TypeConverter<?, ?> typeConverter) {
+        return converterTypes.computeIfAbsent(typeConverter.getClass(), converterClass -> {
+            var typeArguments = TypeUtils.getTypeArguments(converterClass, TypeConverter.class);
+            return new ConverterTypes(typeArguments.get(fromTypeVariable), typeArguments.get(toTypeVariable));
+        });
+    }
+
+    private static final class ConverterTypes {
+        private final Type fromType;
+        private final Type toType;
+
+        private ConverterTypes(Type fromType, Type toType) {
+            this.fromType = fromType;
+            this.toType = toType;
+        }
+    }
+
+    private static final class TypePair {
+        private final Type fromType;
+        private final Type toType;
+
+        private TypePair(Type fromType, Type toType) {
+            this.fromType = fromType;
+            this.toType = toType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            var typePair = (TypePair) o;
+            return Objects.equals(fromType, typePair.fromType)
+                    && Objects.equals(toType, typePair.toType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fromType, toType);
+        }
+    }
+
+    private static final class ResolutionCache {
+        private final ConcurrentMap<TypePair, Optional<TypeConverter<?, ?>>> converters = new ConcurrentHashMap<>();
+        private final ConcurrentMap<TypePair, Optional<Function<?, ?>>> conversionFunctions = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Class<?>, TypeConverter<?, ?>> convertersByClass = new ConcurrentHashMap<>();
     }
 
 }
@@ -0,0 +1,261 @@
+package org.blockchainnative.metadata;
+
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Backpressure settings of an event subscription using {@link Flowable}. <br>
+ * <br>
+ * Events received from the blockchain are kept in a bounded buffer until the subscriber requests them.
+ * The strategy determines what happens when the buffer is full, see {@link Strategy}. <br>
+ * <br>
+ * Event methods returning {@code Flowable} can declare a parameter of type {@code EventBackpressure} in order to choose
+ * the settings per subscription, otherwise {@link #defaultBackpressure()} is used:
+ *
+ * <pre>
+ * {@code
+ * public interface EventSample {
+ *
+ *      Flowable<HelloEvent> onHelloEvent(EventBackpressure backpressure);
+ * }
+ *
+ * var metrics = new EventBufferMetrics();
+ * contract.onHelloEvent(EventBackpressure.latest(64).withMetrics(metrics)).subscribe(...);
+ * }
+ * </pre>
+ *
+ * @author Matthias Veit
+ * @see org.blockchainnative.annotations.ContractEvent
+ * @since 1.1
+ */
+public final class EventBackpressure {
+
+    /**
+     * Number of events buffered by {@link #defaultBackpressure()}
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    /**
+     * Behaviour of an event subscription when its buffer is full.
+     */
+    public enum Strategy {
+        /**
+         * Signals a {@link io.reactivex.exceptions.MissingBackpressureException} to the subscriber and cancels the subscription
+         */
+        BUFFER,
+        /**
+         * Drops the newly received event
+         */
+        DROP,
+        /**
+         * Drops the oldest buffered event, i.e. keeps the latest events
+         */
+        LATEST,
+        /**
+         * Blocks the thread receiving the events, e.g. the thread polling the blockchain node, until the subscriber consumed an event
+         */
+        BLOCK
+    }
+
+    private final Strategy strategy;
+    private final int bufferSize;
+    private final EventBufferMetrics metrics;
+
+    private EventBackpressure(Strategy strategy, int bufferSize, EventBufferMetrics metrics) {
+        if (strategy == null) throw new IllegalArgumentException("strategy must not be null");
+        if (bufferSize < 1) throw new IllegalArgumentException("bufferSize must be positive");
+
+        this.strategy = strategy;
+        this.bufferSize = bufferSize;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the settings used for event methods not declaring an {@code EventBackpressure} parameter,
+     * i.e. a buffer of {@link #DEFAULT_BUFFER_SIZE} events using {@link Strategy#BUFFER}.
+     *
+     * @return default backpressure settings
+     */
+    public static EventBackpressure defaultBackpressure() {
+        return buffer(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates settings failing the subscription once more than {@code bufferSize} events are waiting for the subscriber.
+     *
+     * @param bufferSize maximum number of buffered events
+     * @return backpressure settings
+     */
+    public static EventBackpressure buffer(int bufferSize) {
+        return new EventBackpressure(Strategy.BUFFER, bufferSize, null);
+    }
+
+    /**
+     * Creates settings dropping new events while {@code bufferSize} events are waiting for the subscriber.
+     *
+     * @param bufferSize maximum number of buffered events
+     * @return backpressure settings
+     */
+    public static EventBackpressure drop(int bufferSize) {
+        return new EventBackpressure(Strategy.DROP, bufferSize, null);
+    }
+
+    /**
+     * Creates settings keeping the latest {@code bufferSize} events waiting for the subscriber.
+     *
+     * @param bufferSize maximum number of buffered events
+     * @return backpressure settings
+     */
+    public static EventBackpressure latest(int bufferSize) {
+        return new EventBackpressure(Strategy.LATEST, bufferSize, null);
+    }
+
+    /**
+     * Creates settings blocking the thread receiving the events while {@code bufferSize} events are waiting for the subscriber.
+     *
+     * @param bufferSize maximum number of buffered events
+     * @return backpressure settings
+     */
+    public static EventBackpressure block(int bufferSize) {
+        return new EventBackpressure(Strategy.BLOCK, bufferSize, null);
+    }
+
+    /**
+     * Returns a copy of these settings updating the given metrics.
+     *
+     * @param metrics metrics to be updated by the subscription, may be null
+     * @return backpressure settings updating the given metrics
+     */
+    public EventBackpressure withMetrics(EventBufferMetrics metrics) {
+        return new EventBackpressure(strategy, bufferSize, metrics);
+    }
+
+    /**
+     * Returns the behaviour of the subscription when its buffer is full.
+     *
+     * @return backpressure strategy
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Returns the maximum number of buffered events.
+     *
+     * @return maximum number of buffered events
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Returns the metrics updated by the subscription.
+     *
+     * @return metrics updated by the subscription or null if no metrics have been set
+     */
+    public EventBufferMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Converts the given event observable to a {@code Flowable} applying these settings.
+     *
+     * @param events observable of the events received from the blockchain
+     * @param <T>    type of the events
+     * @return flowable buffering the events according to these settings
+     */
+    public <T> Flowable<T> apply(Observable<T> events) {
+        if (events == null) throw new IllegalArgumentException("events must not be null");
+
+        var eventMetrics = metrics != null ? metrics : new EventBufferMetrics();
+        if (strategy == Strategy.BLOCK) {
+            return applyBlocking(events, eventMetrics);
+        }
+
+        // the buffer occupancy is sampled once the event has been buffered or dropped
+        var receivedEvents = events.doOnNext(event -> eventMetrics.eventReceived())
+                .doAfterNext(event -> eventMetrics.sampleBufferedEvents());
+
+        Flowable<T> bufferedEvents;
+        switch (strategy) {
+            case DROP:
+                // rebatchRequests() keeps at most bufferSize events requested from the dropping operator
+                bufferedEvents = receivedEvents.toFlowable(BackpressureStrategy.MISSING)
+                        .onBackpressureDrop(event -> eventMetrics.eventDropped())
+                        .rebatchRequests(bufferSize);
+                break;
+            case LATEST:
+                bufferedEvents = receivedEvents.toFlowable(BackpressureStrategy.MISSING)
+                        .onBackpressureBuffer(bufferSize, eventMetrics::eventDropped, BackpressureOverflowStrategy.DROP_OLDEST);
+                break;
+            default:
+                bufferedEvents = receivedEvents.toFlowable(BackpressureStrategy.MISSING)
+                        .onBackpressureBuffer(bufferSize, eventMetrics::eventDropped, BackpressureOverflowStrategy.ERROR);
+                break;
+        }
+        return bufferedEvents.doOnNext(event -> eventMetrics.eventDelivered());
+    }
+
+    private <T> Flowable<T> applyBlocking(Observable<T> events, EventBufferMetrics eventMetrics) {
+        return Flowable.defer(() -> {
+            // each permit represents a free slot in the buffer, the buffer of create() never exceeds the permits
+            var permits = new Semaphore(bufferSize);
+            return Flowable.<T>create(emitter -> {
+                Disposable subscription = events.subscribe(event -> {
+                    eventMetrics.eventReceived();
+                    permits.acquire();
+                    emitter.onNext(event);
+                    eventMetrics.sampleBufferedEvents();
+                }, emitter::tryOnError, emitter::onComplete);
+                emitter.setCancellable(() -> {
+                    subscription.dispose();
+                    // unblock the receiving thread in case it is waiting for a free slot
+                    permits.release(bufferSize);
+                });
+            }, BackpressureStrategy.BUFFER).doOnNext(event -> {
+                permits.release();
+                eventMetrics.eventDelivered();
+            });
+        });
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (!(o instanceof EventBackpressure)) return false;
+
+        EventBackpressure that = (EventBackpressure) o;
+
+        return new EqualsBuilder()
+                .append(bufferSize, that.bufferSize)
+                .append(strategy, that.strategy)
+                .append(metrics, that.metrics)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37)
+                .append(strategy)
+                .append(bufferSize)
+                .append(metrics)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("strategy", strategy)
+                .append("bufferSize", bufferSize)
+                .toString();
+    }
+}
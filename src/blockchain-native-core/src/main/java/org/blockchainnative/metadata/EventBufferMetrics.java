@@ -0,0 +1,90 @@
+package org.blockchainnative.metadata;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the events passing the buffer of a {@code Flowable} event subscription, see {@link EventBackpressure#withMetrics(EventBufferMetrics)}. <br>
+ * The counters are updated concurrently by the thread receiving the events and the thread consuming them.
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public class EventBufferMetrics {
+    private final AtomicLong receivedEvents = new AtomicLong();
+    private final AtomicLong deliveredEvents = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong maxBufferedEvents = new AtomicLong();
+
+    /**
+     * Returns the number of events received from the blockchain.
+     *
+     * @return number of received events
+     */
+    public long getReceivedEvents() {
+        return receivedEvents.get();
+    }
+
+    /**
+     * Returns the number of events passed on to the subscriber.
+     *
+     * @return number of delivered events
+     */
+    public long getDeliveredEvents() {
+        return deliveredEvents.get();
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return number of dropped events
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Returns the number of events currently waiting in the buffer.
+     *
+     * @return number of buffered events
+     */
+    public long getBufferedEvents() {
+        return Math.max(0, receivedEvents.get() - deliveredEvents.get() - droppedEvents.get());
+    }
+
+    /**
+     * Returns the highest number of events waiting in the buffer at the same time.
+     *
+     * @return highest number of buffered events
+     */
+    public long getMaxBufferedEvents() {
+        return maxBufferedEvents.get();
+    }
+
+    void eventReceived() {
+        receivedEvents.incrementAndGet();
+    }
+
+    void sampleBufferedEvents() {
+        maxBufferedEvents.accumulateAndGet(getBufferedEvents(), Math::max);
+    }
+
+    void eventDelivered() {
+        deliveredEvents.incrementAndGet();
+    }
+
+    void eventDropped() {
+        droppedEvents.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("receivedEvents", receivedEvents)
+                .append("deliveredEvents", deliveredEvents)
+                .append("droppedEvents", droppedEvents)
+                .append("maxBufferedEvents", maxBufferedEvents)
+                .toString();
+    }
+}
@@ -1,14 +1,17 @@
 package org.blockchainnative.metadata;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.blockchainnative.util.EventObjectFactory;
 import org.blockchainnative.util.ReflectionUtil;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Holds additional information about a smart contract event. <br>
@@ -30,6 +33,7 @@ public class EventInfo<TEventFieldInfo extends EventFieldInfo, TEventParameterIn
     protected final Class<?> eventType;
     protected final List<TEventParameterInfo> eventParameterInfos;
     protected final List<TEventFieldInfo> eventFieldInfos;
+    private volatile EventObjectFactory eventObjectFactory;
 
 
     /**
@@ -101,6 +105,27 @@ public class EventInfo<TEventFieldInfo extends EventFieldInfo, TEventParameterIn
         return eventFieldInfos;
     }
 
+    /**
+     * Returns the factory used to create instances of the event type and to set the fields registered with this event. <br>
+     * The factory is created on first use and reused afterwards, its setters are addressed by the index of the corresponding
+     * {@code EventFieldInfo} in {@link #getEventFieldInfos()}.
+     *
+     * @return factory for instances of the event type
+     * @throws NoSuchMethodException  in case the event type does not provide a default constructor
+     * @throws IllegalAccessException in case the default constructor or one of the fields of the event type cannot be accessed
+     * @since 1.1
+     */
+    @JsonIgnore
+    public EventObjectFactory getEventObjectFactory() throws NoSuchMethodException, IllegalAccessException {
+        var factory = eventObjectFactory;
+        if (factory == null) {
+            var fields = eventFieldInfos.stream().map(EventFieldInfo::getField).collect(Collectors.toList());
+            factory = EventObjectFactory.of(eventType, fields);
+            eventObjectFactory = factory;
+        }
+        return factory;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
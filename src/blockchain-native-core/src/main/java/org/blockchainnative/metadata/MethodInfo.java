@@ -30,6 +30,8 @@ public class MethodInfo<TParameterInfo extends ParameterInfo> {
     private final String contractMethodName;
     private final boolean readOnly;
     private final boolean specialMethod;
+    private final boolean cacheable;
+    private final boolean simulateResult;
     private final boolean async;
     private final boolean voidReturnType;
     private final Optional<Class<? extends TypeConverter<?, ?>>> resultTypeConverterClass;
@@ -60,10 +62,45 @@ public class MethodInfo<TParameterInfo extends ParameterInfo> {
      * @param resultTypeConverterClass type converter used to convert the smart contract method result value to the declared type of the wrapper method
      */
     public MethodInfo(Method method, String contractMethodName, boolean readOnly, boolean specialMethod, List<TParameterInfo> parameters, Class<? extends TypeConverter<?, ?>> resultTypeConverterClass) {
+        this(method, contractMethodName, readOnly, specialMethod, parameters, resultTypeConverterClass, false);
+    }
+
+    /**
+     * Constructs a new {@code MethodInfo}
+     *
+     * @param method                   method on the contract interface representing the smart contract method.
+     * @param contractMethodName       name of the corresponding smart contract method.
+     * @param readOnly                 specifies whether the method is marked as readonly
+     * @param specialMethod            specifies whether the method is marked as special method
+     * @param parameters               {@code ParameterInfo} objects
+     * @param resultTypeConverterClass type converter used to convert the smart contract method result value to the declared type of the wrapper method
+     * @param cacheable                specifies whether the results of readonly calls may be cached until the next block
+     * @since 1.1
+     */
+    public MethodInfo(Method method, String contractMethodName, boolean readOnly, boolean specialMethod, List<TParameterInfo> parameters, Class<? extends TypeConverter<?, ?>> resultTypeConverterClass, boolean cacheable) {
+        this(method, contractMethodName, readOnly, specialMethod, parameters, resultTypeConverterClass, cacheable, false);
+    }
+
+    /**
+     * Constructs a new {@code MethodInfo}
+     *
+     * @param method                   method on the contract interface representing the smart contract method.
+     * @param contractMethodName       name of the corresponding smart contract method.
+     * @param readOnly                 specifies whether the method is marked as readonly
+     * @param specialMethod            specifies whether the method is marked as special method
+     * @param parameters               {@code ParameterInfo} objects
+     * @param resultTypeConverterClass type converter used to convert the smart contract method result value to the declared type of the wrapper method
+     * @param cacheable                specifies whether the results of readonly calls may be cached until the next block
+     * @param simulateResult           specifies whether the method result is simulated when invoked in a transaction
+     * @since 1.1
+     */
+    public MethodInfo(Method method, String contractMethodName, boolean readOnly, boolean specialMethod, List<TParameterInfo> parameters, Class<? extends TypeConverter<?, ?>> resultTypeConverterClass, boolean cacheable, boolean simulateResult) {
         this.method = method;
         this.contractMethodName = contractMethodName != null ? contractMethodName : method.getName();
         this.readOnly = readOnly;
         this.specialMethod = specialMethod;
+        this.cacheable = cacheable;
+        this.simulateResult = simulateResult;
         this.async = ReflectionUtil.isAsyncReturnType(method);
         this.voidReturnType = ReflectionUtil.isVoidMethod(method);
         this.resultTypeConverterClass = Optional.ofNullable(resultTypeConverterClass);
@@ -121,8 +158,30 @@ public class MethodInfo<TParameterInfo extends ParameterInfo> {
     }
 
     /**
-     * Returns whether or not the method is marked as async, i.e. declaring {@link java.util.concurrent.Future}
-     * or {@link java.util.concurrent.CompletableFuture} as return type.
+     * Returns whether or not the results of readonly calls of the method may be cached until the head of the blockchain advances,
+     * see {@link org.blockchainnative.ReadOnlyCallCache}.
+     *
+     * @return flag indicating whether or not the method is marked as cacheable
+     * @since 1.1
+     */
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    /**
+     * Returns whether or not the method result is simulated when the method is invoked in a transaction,
+     * see {@link org.blockchainnative.annotations.ContractMethod#simulateResult()}.
+     *
+     * @return flag indicating whether or not the result is simulated
+     * @since 1.1
+     */
+    public boolean isSimulateResult() {
+        return simulateResult;
+    }
+
+    /**
+     * Returns whether or not the method is marked as async, i.e. declaring an asynchronous return type such as {@link java.util.concurrent.Future}
+     * or {@link java.util.concurrent.CompletableFuture}, see {@link org.blockchainnative.util.AsyncReturnType}.
      *
      * @return flag indicating whether or not the method is marked as async.
      */
@@ -159,6 +218,8 @@ public class MethodInfo<TParameterInfo extends ParameterInfo> {
         return new EqualsBuilder()
                 .append(readOnly, that.readOnly)
                 .append(specialMethod, that.specialMethod)
+                .append(cacheable, that.cacheable)
+                .append(simulateResult, that.simulateResult)
                 .append(async, that.async)
                 .append(voidReturnType, that.voidReturnType)
                 .append(method, that.method)
@@ -175,6 +236,8 @@ public class MethodInfo<TParameterInfo extends ParameterInfo> {
                 .append(contractMethodName)
                 .append(readOnly)
                 .append(specialMethod)
+                .append(cacheable)
+                .append(simulateResult)
                 .append(async)
                 .append(voidReturnType)
                 .append(resultTypeConverterClass)
@@ -189,6 +252,8 @@ public class MethodInfo<TParameterInfo extends ParameterInfo> {
                 .append("contractMethodName", contractMethodName)
                 .append("readOnly", readOnly)
                 .append("specialMethod", specialMethod)
+                .append("cacheable", cacheable)
+                .append("simulateResult", simulateResult)
                 .append("async", async)
                 .append("voidReturnType", voidReturnType)
                 .append("resultTypeConverterClass", resultTypeConverterClass)
@@ -0,0 +1,94 @@
+package org.blockchainnative.metadata;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Wrapper type for smart contract methods which returns as soon as the transaction has been submitted. <br>
+ * <br>
+ * A {@code PendingResult} carries the hash of the submitted transaction and the method result simulated
+ * before the transaction was submitted. Since the transaction has not been included in a block yet,
+ * {@link #getBlockHash()} returns {@code null} and the simulated result may differ from the actual one,
+ * e.g. in case other transactions modifying the contract's state are included first. <br>
+ * The {@link Result} describing the transaction once it has been included in a block is available through {@link #getConfirmation()}.
+ *
+ * @author Matthias Veit
+ * @see org.blockchainnative.ContractWrapperGenerator
+ * @since 1.1
+ */
+public class PendingResult<T> extends Result<T> {
+    protected final CompletableFuture<Result<T>> confirmation;
+
+    /**
+     * Construct a new {@code PendingResult}
+     *
+     * @param data            simulated result data
+     * @param transactionHash hash of the submitted transaction in which the method is called
+     * @param confirmation    future completed with the result of the transaction once it has been included in a block
+     */
+    public PendingResult(T data, String transactionHash, CompletableFuture<Result<T>> confirmation) {
+        super(data, null, transactionHash);
+
+        if (confirmation == null) throw new IllegalArgumentException("confirmation must not be null");
+
+        this.confirmation = confirmation;
+    }
+
+    /**
+     * Creates a {@code PendingResult} for a result which is already final, e.g. the result of a readonly method
+     * or of a transaction which has already been included in a block.
+     *
+     * @param result final result
+     * @param <T>    type of the result data
+     * @return {@code PendingResult} whose confirmation is completed with the given result
+     */
+    public static <T> PendingResult<T> completed(Result<T> result) {
+        if (result == null) throw new IllegalArgumentException("result must not be null");
+
+        return new PendingResult<>(result.getData(), result.getTransactionHash(), CompletableFuture.completedFuture(result));
+    }
+
+    /**
+     * Returns a future which is completed with the result of the transaction once it has been included in a block. <br>
+     * The future completes exceptionally in case the transaction failed or has not been included in a timely manner.
+     *
+     * @return future completed with the confirmed result
+     */
+    public CompletableFuture<Result<T>> getConfirmation() {
+        return confirmation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (!(o instanceof PendingResult)) return false;
+
+        PendingResult<?> result = (PendingResult<?>) o;
+
+        return new EqualsBuilder()
+                .appendSuper(super.equals(o))
+                .append(confirmation, result.confirmation)
+                .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37)
+                .appendSuper(super.hashCode())
+                .append(confirmation)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("transactionHash", transactionHash)
+                .append("data", data)
+                .append("confirmation", confirmation)
+                .toString();
+    }
+}
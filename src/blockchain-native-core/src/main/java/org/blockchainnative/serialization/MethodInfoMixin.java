@@ -1,6 +1,7 @@
 package org.blockchainnative.serialization;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 /**
  * @since 1.0
@@ -13,4 +14,11 @@ public abstract class MethodInfoMixin {
 
     @JsonIgnore
     public abstract boolean isVoidReturnType();
+
+    // omitted unless set in order to keep the serialized form of existing contract infos
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public abstract boolean isCacheable();
+
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public abstract boolean isSimulateResult();
 }
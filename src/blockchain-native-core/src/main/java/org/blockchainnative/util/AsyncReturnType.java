@@ -0,0 +1,182 @@
+package org.blockchainnative.util;
+
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.blockchainnative.exceptions.ContractCallException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Asynchronous return types supported by contract methods. <br>
+ * <br>
+ * Contract wrappers produce the result of a contract method as {@link CompletableFuture}, which is adapted to the
+ * declared return type without blocking any thread. The smart contract method is called when the contract interface
+ * method is invoked, subscribers of the returned {@code Single}, {@code Maybe}, {@code Completable} or {@code Mono}
+ * receive the result of this call. <br>
+ * <br>
+ * Reactor's {@code Mono} is supported if Reactor is on the classpath.
+ *
+ * @author Matthias Veit
+ * @see ReflectionUtil#getAsyncReturnType(java.lang.reflect.Method)
+ * @since 1.1
+ */
+public enum AsyncReturnType {
+    FUTURE(Future.class.getName()) {
+        @Override
+        public Object adapt(Future<?> future) {
+            return future;
+        }
+    },
+    COMPLETABLE_FUTURE(CompletableFuture.class.getName()) {
+        @Override
+        public Object adapt(Future<?> future) {
+            return toCompletableFuture(future);
+        }
+    },
+    COMPLETION_STAGE(CompletionStage.class.getName()) {
+        @Override
+        public Object adapt(Future<?> future) {
+            return toCompletableFuture(future);
+        }
+    },
+    SINGLE(Single.class.getName()) {
+        @Override
+        public Object adapt(Future<?> future) {
+            var stage = toCompletableFuture(future);
+            return Single.create(emitter -> stage.whenComplete((result, error) -> {
+                if (error != null) {
+                    emitter.onError(unwrap(error));
+                } else if (result == null) {
+                    emitter.onError(new ContractCallException("Contract method returned no value, use Maybe or Completable instead of Single"));
+                } else {
+                    emitter.onSuccess(result);
+                }
+            }));
+        }
+    },
+    MAYBE(Maybe.class.getName()) {
+        @Override
+        public Object adapt(Future<?> future) {
+            var stage = toCompletableFuture(future);
+            return Maybe.create(emitter -> stage.whenComplete((result, error) -> {
+                if (error != null) {
+                    emitter.onError(unwrap(error));
+                } else if (result == null) {
+                    emitter.onComplete();
+                } else {
+                    emitter.onSuccess(result);
+                }
+            }));
+        }
+    },
+    COMPLETABLE(Completable.class.getName()) {
+        @Override
+        public Object adapt(Future<?> future) {
+            var stage = toCompletableFuture(future);
+            return Completable.create(emitter -> stage.whenComplete((result, error) -> {
+                if (error != null) {
+                    emitter.onError(unwrap(error));
+                } else {
+                    emitter.onComplete();
+                }
+            }));
+        }
+    },
+    MONO("reactor.core.publisher.Mono") {
+        @Override
+        public Object adapt(Future<?> future) {
+            try {
+                return MonoFactory.FROM_FUTURE.invokeExact(toCompletableFuture(future));
+            } catch (Throwable e) {
+                throw new ContractCallException("Failed to create Mono: " + e.getMessage(), e);
+            }
+        }
+    };
+
+    private final String className;
+
+    AsyncReturnType(String className) {
+        this.className = className;
+    }
+
+    /**
+     * Returns the asynchronous return type matching the given raw return type of a contract method.
+     *
+     * @param returnType raw return type of a contract method
+     * @return matching asynchronous return type or an empty optional if the given type is not asynchronous
+     */
+    public static Optional<AsyncReturnType> of(Class<?> returnType) {
+        if (returnType == null) throw new IllegalArgumentException("returnType must not be null");
+
+        for (var asyncReturnType : values()) {
+            if (asyncReturnType.className.equals(returnType.getName())) {
+                return Optional.of(asyncReturnType);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns whether the asynchronous type carries a value, i.e. declares a type argument representing the actual
+     * return type of the contract method.
+     *
+     * @return true for all types except {@link #COMPLETABLE}
+     */
+    public boolean hasValue() {
+        return this != COMPLETABLE;
+    }
+
+    /**
+     * Adapts the given future containing the result of a contract method to this asynchronous return type. <br>
+     * Futures which do not implement {@link CompletionStage} are awaited on the common pool.
+     *
+     * @param future future containing the result of a contract method
+     * @return object of this asynchronous return type producing the result of the given future
+     */
+    public abstract Object adapt(Future<?> future);
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<Object> toCompletableFuture(Future<?> future) {
+        if (future instanceof CompletionStage) {
+            return ((CompletionStage<Object>) future).toCompletableFuture();
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    private static final class MonoFactory {
+        private static final MethodHandle FROM_FUTURE = findFromFuture();
+
+        private static MethodHandle findFromFuture() {
+            try {
+                var monoClass = Class.forName(MONO.className, false, AsyncReturnType.class.getClassLoader());
+                return MethodHandles.publicLookup()
+                        .findStatic(monoClass, "fromFuture", MethodType.methodType(monoClass, CompletableFuture.class))
+                        .asType(MethodType.methodType(Object.class, CompletableFuture.class));
+            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalStateException("Reactor is required for contract methods returning Mono", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package org.blockchainnative.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects calls submitted within a short time window and executes them as a single batch. <br>
+ * <br>
+ * The first call submitted to an empty batch starts the batch window, once it elapsed the collected calls are passed
+ * to the {@link BatchExecution}. A batch is executed early as soon as it contains the maximum number of calls.
+ * Batches are executed on daemon threads owned by the batcher, which are released by {@link #close()}. <br>
+ * <br>
+ * The batch execution completes each call individually, calls it did not complete fail with an {@link IllegalStateException}.
+ * The same applies to calls which are still pending when the batcher is closed and to calls submitted afterwards.
+ *
+ * @param <C> type of the calls
+ * @param <R> type of the call results
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public final class CallBatcher<C, R> implements AutoCloseable {
+
+    private final long batchWindowMillis;
+    private final int maxBatchSize;
+    private final BatchExecution<C, R> batchExecution;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService executor;
+    private final Object lock = new Object();
+
+    private List<BatchedCall<C, R>> pendingCalls = new ArrayList<>();
+    private ScheduledFuture<?> scheduledBatch;
+    private boolean closed;
+
+    /**
+     * Creates a new {@code CallBatcher}.
+     *
+     * @param name              name of the batcher used for naming its threads
+     * @param batchWindowMillis time in milliseconds calls are collected before the batch is executed
+     * @param maxBatchSize      maximum number of calls per batch
+     * @param batchExecution    executes the collected calls
+     */
+    public CallBatcher(String name, long batchWindowMillis, int maxBatchSize, BatchExecution<C, R> batchExecution) {
+        if (StringUtil.isNullOrEmpty(name)) throw new IllegalArgumentException("name must not be null or empty");
+        if (batchWindowMillis < 0) throw new IllegalArgumentException("batchWindowMillis must not be negative");
+        if (maxBatchSize < 1) throw new IllegalArgumentException("maxBatchSize must be positive");
+        if (batchExecution == null) throw new IllegalArgumentException("batchExecution must not be null");
+
+        this.batchWindowMillis = batchWindowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.batchExecution = batchExecution;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory(name + "-scheduler"));
+        this.executor = Executors.newCachedThreadPool(daemonThreadFactory(name + "-executor"));
+    }
+
+    /**
+     * Adds the given call to the current batch.
+     *
+     * @param call call to be executed
+     * @return future completed with the result of the call once its batch has been executed,
+     * failed with an {@link IllegalStateException} in case the batcher has been closed
+     */
+    public CompletableFuture<R> submit(C call) {
+        if (call == null) throw new IllegalArgumentException("call must not be null");
+
+        var batchedCall = new BatchedCall<C, R>(call);
+        List<BatchedCall<C, R>> fullBatch = null;
+
+        synchronized (lock) {
+            if (closed) {
+                batchedCall.completeExceptionally(new IllegalStateException("CallBatcher has been closed"));
+                return batchedCall.future;
+            }
+            pendingCalls.add(batchedCall);
+            if (pendingCalls.size() >= maxBatchSize) {
+                fullBatch = takePendingCalls();
+            } else if (pendingCalls.size() == 1) {
+                scheduledBatch = scheduler.schedule(this::executePendingCalls, batchWindowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (fullBatch != null) {
+            execute(fullBatch);
+        }
+        return batchedCall.future;
+    }
+
+    /**
+     * Returns the time in milliseconds calls are collected before the batch is executed.
+     *
+     * @return batch window in milliseconds
+     */
+    public long getBatchWindowMillis() {
+        return batchWindowMillis;
+    }
+
+    /**
+     * Returns the maximum number of calls per batch.
+     *
+     * @return maximum number of calls per batch
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Stops the threads of the batcher. Batches which are already executing are completed,
+     * calls which have not been passed to a batch execution yet fail with an {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        List<BatchedCall<C, R>> remainingCalls;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remainingCalls = takePendingCalls();
+        }
+
+        scheduler.shutdownNow();
+        executor.shutdown();
+
+        fail(remainingCalls, new IllegalStateException("CallBatcher has been closed"));
+    }
+
+    private void executePendingCalls() {
+        List<BatchedCall<C, R>> batch;
+        synchronized (lock) {
+            batch = takePendingCalls();
+        }
+        if (!batch.isEmpty()) {
+            execute(batch);
+        }
+    }
+
+    private List<BatchedCall<C, R>> takePendingCalls() {
+        if (scheduledBatch != null) {
+            scheduledBatch.cancel(false);
+            scheduledBatch = null;
+        }
+        var batch = pendingCalls;
+        pendingCalls = new ArrayList<>();
+        return batch;
+    }
+
+    private void execute(List<BatchedCall<C, R>> batch) {
+        try {
+            executor.execute(() -> {
+                try {
+                    batchExecution.execute(Collections.unmodifiableList(batch));
+                } catch (RuntimeException | Error e) {
+                    fail(batch, e);
+                    throw e;
+                }
+                fail(batch, new IllegalStateException("Call has not been completed by its batch"));
+            });
+        } catch (RejectedExecutionException e) {
+            // the batcher has been closed after the batch was taken
+            fail(batch, new IllegalStateException("CallBatcher has been closed", e));
+        }
+    }
+
+    private void fail(List<BatchedCall<C, R>> calls, Throwable exception) {
+        for (var call : calls) {
+            call.completeExceptionally(exception);
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        var threadNumber = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Executes a batch of calls.
+     *
+     * @param <C> type of the calls
+     * @param <R> type of the call results
+     */
+    @FunctionalInterface
+    public interface BatchExecution<C, R> {
+        /**
+         * Executes the given calls and completes each of them.
+         *
+         * @param batch calls to be executed
+         */
+        void execute(List<BatchedCall<C, R>> batch);
+    }
+
+    /**
+     * Call collected by a {@link CallBatcher}.
+     *
+     * @param <C> type of the call
+     * @param <R> type of the call result
+     */
+    public static final class BatchedCall<C, R> {
+        private final C call;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+
+        private BatchedCall(C call) {
+            this.call = call;
+        }
+
+        /**
+         * Returns the call to be executed.
+         *
+         * @return call to be executed
+         */
+        public C getCall() {
+            return call;
+        }
+
+        /**
+         * Completes the call with the given result.
+         *
+         * @param result result of the call
+         */
+        public void complete(R result) {
+            future.complete(result);
+        }
+
+        /**
+         * Completes the call with the given exception.
+         *
+         * @param exception exception raised by the call
+         */
+        public void completeExceptionally(Throwable exception) {
+            future.completeExceptionally(exception);
+        }
+    }
+}
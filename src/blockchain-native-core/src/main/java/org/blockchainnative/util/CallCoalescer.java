@@ -0,0 +1,102 @@
+package org.blockchainnative.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets concurrent identical calls share a single execution. <br>
+ * <br>
+ * The first thread calling {@link #execute(Object, Call)} for a key executes the call, threads requesting the same key
+ * while the call is in flight wait for it and receive the same result or exception. Once the call completed, the next
+ * request for the key executes the call again, i.e. results are not cached. <br>
+ * <br>
+ * Only calls without side effects should be coalesced, e.g. readonly smart contract calls.
+ *
+ * @param <K> type of the keys identifying identical calls
+ * @param <V> type of the call results
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public final class CallCoalescer<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlightCalls = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCalls = new AtomicLong();
+
+    /**
+     * Executes the given call unless an identical call is already in flight, in which case its result is returned.
+     *
+     * @param key  key identifying identical calls
+     * @param call call to be executed
+     * @param <E>  type of the checked exception thrown by the call
+     * @return result of the call
+     * @throws E in case the call failed
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Exception> V execute(K key, Call<V, E> call) throws E {
+        if (key == null) throw new IllegalArgumentException("key must not be null");
+        if (call == null) throw new IllegalArgumentException("call must not be null");
+
+        var future = new CompletableFuture<V>();
+        var inFlightCall = inFlightCalls.putIfAbsent(key, future);
+        if (inFlightCall != null) {
+            coalescedCalls.incrementAndGet();
+            try {
+                return inFlightCall.join();
+            } catch (CompletionException e) {
+                // calls with the same key are issued by the same code, hence throw the same exception types
+                var cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw (E) cause;
+            }
+        }
+
+        try {
+            var result = call.execute();
+            inFlightCalls.remove(key, future);
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            inFlightCalls.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of calls currently in flight.
+     *
+     * @return number of calls in flight
+     */
+    public int getInFlightCalls() {
+        return inFlightCalls.size();
+    }
+
+    /**
+     * Returns the number of calls which received the result of an identical call in flight instead of being executed.
+     *
+     * @return number of coalesced calls
+     */
+    public long getCoalescedCalls() {
+        return coalescedCalls.get();
+    }
+
+    /**
+     * Call which can be coalesced by {@link CallCoalescer}.
+     *
+     * @param <V> type of the call result
+     * @param <E> type of the checked exception thrown by the call
+     */
+    @FunctionalInterface
+    public interface Call<V, E extends Exception> {
+        /**
+         * Executes the call.
+         *
+         * @return result of the call
+         * @throws E in case the call failed
+         */
+        V execute() throws E;
+    }
+}
@@ -0,0 +1,184 @@
+package org.blockchainnative.util;
+
+import org.apache.commons.beanutils.PropertyUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Creates instances of an event type and sets their fields. <br>
+ * <br>
+ * The constructor and the setters of the event type are resolved once when the factory is created, so creating an event object
+ * does not involve any reflective lookups. Fields are set using their public setter if one is available, otherwise the field
+ * is written directly, regardless of its visibility. <br>
+ * <br>
+ * Fields of type {@code long}, {@code int}, {@code short}, {@code byte} and {@code boolean} can additionally be set without
+ * boxing their values through {@link #setLongField(Object, int, long)} and {@link #setBooleanField(Object, int, boolean)}.
+ *
+ * @author Matthias Veit
+ * @see org.blockchainnative.metadata.EventInfo#getEventObjectFactory()
+ * @since 1.1
+ */
+public final class EventObjectFactory {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType LONG_SETTER_TYPE = MethodType.methodType(void.class, Object.class, long.class);
+    private static final MethodType BOOLEAN_SETTER_TYPE = MethodType.methodType(void.class, Object.class, boolean.class);
+
+    private final Class<?> eventType;
+    private final MethodHandle constructor;
+    private final MethodHandle[] setters;
+    private final MethodHandle[] longSetters;
+    private final MethodHandle[] booleanSetters;
+
+    private EventObjectFactory(Class<?> eventType, MethodHandle constructor, MethodHandle[] setters, MethodHandle[] longSetters, MethodHandle[] booleanSetters) {
+        this.eventType = eventType;
+        this.constructor = constructor;
+        this.setters = setters;
+        this.longSetters = longSetters;
+        this.booleanSetters = booleanSetters;
+    }
+
+    /**
+     * Creates a new {@code EventObjectFactory} for the given event type.
+     *
+     * @param eventType type of the event objects to be created, needs to provide an accessible default constructor
+     * @param fields    fields of the event type to be set, setters are addressed by the index of the field in this list
+     * @return factory for objects of the given event type
+     * @throws NoSuchMethodException  in case the event type does not provide a default constructor
+     * @throws IllegalAccessException in case the default constructor or one of the fields cannot be accessed
+     */
+    public static EventObjectFactory of(Class<?> eventType, List<Field> fields) throws NoSuchMethodException, IllegalAccessException {
+        if (eventType == null) throw new IllegalArgumentException("eventType must not be null");
+        if (fields == null) throw new IllegalArgumentException("fields must not be null");
+        if (Modifier.isAbstract(eventType.getModifiers())) {
+            throw new IllegalAccessException(String.format("Cannot instantiate abstract type '%s'", eventType.getName()));
+        }
+
+        var lookup = MethodHandles.lookup();
+        var constructor = lookup.unreflectConstructor(eventType.getDeclaredConstructor()).asType(CONSTRUCTOR_TYPE);
+
+        var propertyDescriptors = PropertyUtils.getPropertyDescriptors(eventType);
+        var setters = new MethodHandle[fields.size()];
+        var longSetters = new MethodHandle[fields.size()];
+        var booleanSetters = new MethodHandle[fields.size()];
+        for (var i = 0; i < setters.length; i++) {
+            var setter = createSetter(lookup, propertyDescriptors, fields.get(i));
+            var valueType = setter.type().parameterType(1);
+
+            setters[i] = setter.asType(SETTER_TYPE);
+            if (valueType == long.class || valueType == int.class || valueType == short.class || valueType == byte.class) {
+                // narrowing is done without any checks, callers need to make sure the value fits into the field
+                longSetters[i] = MethodHandles.explicitCastArguments(setter, LONG_SETTER_TYPE);
+            } else if (valueType == boolean.class) {
+                booleanSetters[i] = setter.asType(BOOLEAN_SETTER_TYPE);
+            }
+        }
+        return new EventObjectFactory(eventType, constructor, setters, longSetters, booleanSetters);
+    }
+
+    /**
+     * Returns the type of the event objects created by this factory.
+     *
+     * @return type of the event objects created by this factory
+     */
+    public Class<?> getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Creates a new instance of the event type using its default constructor.
+     *
+     * @return new instance of the event type
+     * @throws InvocationTargetException in case the constructor threw an exception
+     */
+    public Object newInstance() throws InvocationTargetException {
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Sets the field at the given index of the given event object.
+     *
+     * @param instance   event object created by this factory
+     * @param fieldIndex index of the field as passed to {@link #of(Class, List)}
+     * @param value      value to be set
+     * @throws InvocationTargetException in case the setter threw an exception or the value does not match the type of the field
+     */
+    public void setField(Object instance, int fieldIndex, Object value) throws InvocationTargetException {
+        try {
+            setters[fieldIndex].invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Sets the integer field at the given index of the given event object without boxing the value. <br>
+     * The value needs to fit into the type of the field, e.g. into an {@code int} in case the field is declared as {@code int}.
+     * Fields which are not of a primitive integer type are set using {@link #setField(Object, int, Object)}.
+     *
+     * @param instance   event object created by this factory
+     * @param fieldIndex index of the field as passed to {@link #of(Class, List)}
+     * @param value      value to be set
+     * @throws InvocationTargetException in case the setter threw an exception or the value does not match the type of the field
+     */
+    public void setLongField(Object instance, int fieldIndex, long value) throws InvocationTargetException {
+        var setter = longSetters[fieldIndex];
+        if (setter == null) {
+            setField(instance, fieldIndex, value);
+            return;
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Sets the boolean field at the given index of the given event object without boxing the value. <br>
+     * Fields which are not of type {@code boolean} are set using {@link #setField(Object, int, Object)}.
+     *
+     * @param instance   event object created by this factory
+     * @param fieldIndex index of the field as passed to {@link #of(Class, List)}
+     * @param value      value to be set
+     * @throws InvocationTargetException in case the setter threw an exception or the value does not match the type of the field
+     */
+    public void setBooleanField(Object instance, int fieldIndex, boolean value) throws InvocationTargetException {
+        var setter = booleanSetters[fieldIndex];
+        if (setter == null) {
+            setField(instance, fieldIndex, value);
+            return;
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private static MethodHandle createSetter(MethodHandles.Lookup lookup, PropertyDescriptor[] propertyDescriptors, Field field) throws IllegalAccessException {
+        for (var propertyDescriptor : propertyDescriptors) {
+            if (propertyDescriptor.getName().equals(field.getName())) {
+                var writeMethod = PropertyUtils.getWriteMethod(propertyDescriptor);
+                if (writeMethod != null) {
+                    return lookup.unreflect(writeMethod);
+                }
+                break;
+            }
+        }
+        field.setAccessible(true);
+        return lookup.unreflectSetter(field);
+    }
+}
@@ -0,0 +1,72 @@
+package org.blockchainnative.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Provides the executors contract wrappers can use to run their blocking calls, see {@link org.blockchainnative.AbstractContractWrapper#setExecutor(Executor)}. <br>
+ * <br>
+ * Virtual threads are only available on runtimes providing {@code Executors.newVirtualThreadPerTaskExecutor()}.
+ * Since the framework is compiled against an older Java version, the factory method is looked up once at runtime.
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public final class ExecutorUtil {
+
+    private static final MethodHandle VIRTUAL_THREAD_EXECUTOR_FACTORY = findVirtualThreadExecutorFactory();
+
+    private ExecutorUtil() {
+    }
+
+    /**
+     * Returns the executor used by contract wrappers unless configured otherwise, i.e. the common {@link ForkJoinPool}.
+     *
+     * @return default executor for contract invocations
+     */
+    public static Executor defaultExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Returns whether the current runtime supports virtual threads.
+     *
+     * @return true if {@link #newVirtualThreadPerTaskExecutor()} can be used
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_EXECUTOR_FACTORY != null;
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     *
+     * @return executor running each task on its own virtual thread
+     * @throws UnsupportedOperationException in case the current runtime does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR_FACTORY == null) {
+            throw new UnsupportedOperationException(String.format("Virtual threads are not supported by the current runtime (Java %s)", System.getProperty("java.version")));
+        }
+        try {
+            return (ExecutorService) VIRTUAL_THREAD_EXECUTOR_FACTORY.invokeExact();
+        } catch (Throwable e) {
+            throw new UnsupportedOperationException("Failed to create virtual thread executor: " + e.getMessage(), e);
+        }
+    }
+
+    private static MethodHandle findVirtualThreadExecutorFactory() {
+        try {
+            var factory = MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            // the method exists as preview API on some runtimes and fails unless preview features are enabled
+            ((ExecutorService) factory.invokeExact()).shutdown();
+            return factory;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+}
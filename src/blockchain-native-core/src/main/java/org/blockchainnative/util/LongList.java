@@ -0,0 +1,96 @@
+package org.blockchainnative.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of {@code long} values backed by a primitive array. <br>
+ * <br>
+ * Can be declared as return type of smart contract methods returning integer arrays in order to avoid creating a
+ * boxed object for each element. Elements are only boxed when accessed through the {@code List} interface,
+ * use {@link #getLong(int)} or {@link #toLongArray()} to access them without boxing.
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public final class LongList extends AbstractList<Long> implements RandomAccess {
+
+    private final long[] values;
+
+    private LongList(long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Creates a new {@code LongList} containing the given values.
+     *
+     * @param values values of the list, the array is copied
+     * @return list containing the given values
+     */
+    public static LongList of(long... values) {
+        if (values == null) throw new IllegalArgumentException("values must not be null");
+
+        return new LongList(values.clone());
+    }
+
+    /**
+     * Creates a new {@code LongList} backed by the given array. <br>
+     * The array must not be modified afterwards.
+     *
+     * @param values values of the list
+     * @return list backed by the given array
+     */
+    public static LongList wrap(long[] values) {
+        if (values == null) throw new IllegalArgumentException("values must not be null");
+
+        return new LongList(values);
+    }
+
+    /**
+     * Returns the value at the given position without boxing it.
+     *
+     * @param index index of the value
+     * @return value at the given position
+     */
+    public long getLong(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns a copy of the values of this list.
+     *
+     * @return values of this list
+     */
+    public long[] toLongArray() {
+        return values.clone();
+    }
+
+    @Override
+    public Long get(int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof LongList) {
+            return Arrays.equals(values, ((LongList) o).values);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        // equal to the hash code of any other list containing the same values
+        var hashCode = 1;
+        for (var value : values) {
+            hashCode = 31 * hashCode + Long.hashCode(value);
+        }
+        return hashCode;
+    }
+}
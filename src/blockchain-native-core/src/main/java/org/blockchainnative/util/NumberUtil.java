@@ -0,0 +1,109 @@
+package org.blockchainnative.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Provides static utility methods for working with {@code Number}. <br>
+ * <br>
+ * The class is not intended to be instantiated as it only provides static methods.
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public final class NumberUtil {
+
+    /**
+     * The class is not intended to be instantiated as it only provides static methods.
+     */
+    private NumberUtil() {
+    }
+
+    /**
+     * Converts the given number to a {@code BigInteger} without losing precision of integral values. <br>
+     * <br>
+     * Fractional digits of decimal and floating point numbers are discarded.
+     *
+     * @param number number to be converted
+     * @return {@code BigInteger} representing the integral part of the given number
+     */
+    public static BigInteger toBigInteger(Number number) {
+        if (number == null) throw new IllegalArgumentException("number must not be null");
+
+        if (number instanceof BigInteger) {
+            return (BigInteger) number;
+        } else if (number instanceof BigDecimal) {
+            return ((BigDecimal) number).toBigInteger();
+        } else if (number instanceof Double || number instanceof Float) {
+            return BigDecimal.valueOf(number.doubleValue()).toBigInteger();
+        }
+        return BigInteger.valueOf(number.longValue());
+    }
+
+    /**
+     * Converts the given integral number to a {@code long}.
+     *
+     * @param number number to be converted
+     * @return value of the given number
+     * @throws ArithmeticException in case the number has fractional digits or does not fit into a {@code long}
+     */
+    public static long toLongExact(Number number) {
+        if (number == null) throw new IllegalArgumentException("number must not be null");
+
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return number.longValue();
+        } else if (number instanceof BigInteger) {
+            return ((BigInteger) number).longValueExact();
+        } else if (number instanceof BigDecimal) {
+            return ((BigDecimal) number).longValueExact();
+        } else if (number instanceof Double || number instanceof Float) {
+            var value = number.doubleValue();
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                throw new ArithmeticException("Value is not a finite number");
+            }
+            return BigDecimal.valueOf(value).longValueExact();
+        }
+        return number.longValue();
+    }
+
+    /**
+     * Converts the given integral number to an {@code int}.
+     *
+     * @param number number to be converted
+     * @return value of the given number
+     * @throws ArithmeticException in case the number has fractional digits or does not fit into an {@code int}
+     */
+    public static int toIntExact(Number number) {
+        return Math.toIntExact(toLongExact(number));
+    }
+
+    /**
+     * Converts the given integral number to a {@code short}.
+     *
+     * @param number number to be converted
+     * @return value of the given number
+     * @throws ArithmeticException in case the number has fractional digits or does not fit into a {@code short}
+     */
+    public static short toShortExact(Number number) {
+        var value = toLongExact(number);
+        if (value != (short) value) {
+            throw new ArithmeticException("short overflow");
+        }
+        return (short) value;
+    }
+
+    /**
+     * Converts the given integral number to a {@code byte}.
+     *
+     * @param number number to be converted
+     * @return value of the given number
+     * @throws ArithmeticException in case the number has fractional digits or does not fit into a {@code byte}
+     */
+    public static byte toByteExact(Number number) {
+        var value = toLongExact(number);
+        if (value != (byte) value) {
+            throw new ArithmeticException("byte overflow");
+        }
+        return (byte) value;
+    }
+}
@@ -1,15 +1,21 @@
 package org.blockchainnative.util;
 
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Consumer;
 import org.apache.commons.lang3.ClassUtils;
 import org.blockchainnative.annotations.ContractEvent;
 import org.blockchainnative.annotations.ContractMethod;
 import org.blockchainnative.metadata.Event;
+import org.blockchainnative.metadata.EventBackpressure;
+import org.blockchainnative.metadata.PendingResult;
 import org.blockchainnative.metadata.Result;
 
 import java.lang.reflect.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
+import java.util.Arrays;
+import java.util.Optional;
 
 /**
  * Provides static utility methods for extracting information from smart contract interfaces via reflection.
@@ -38,28 +44,30 @@ public final class ReflectionUtil {
     }
 
     /**
-     * Checks whether the given contract method's return type is wrapped in {@link java.util.concurrent.Future} or {@link java.util.concurrent.CompletableFuture}.
+     * Checks whether the given contract method's return type is asynchronous, e.g. {@link java.util.concurrent.Future},
+     * {@link java.util.concurrent.CompletableFuture} or {@link io.reactivex.Single}, see {@link AsyncReturnType}.
      *
      * @param method contract method
-     * @return {@code true} if the return type of the given method is wrapped in {@link java.util.concurrent.Future} or {@link java.util.concurrent.CompletableFuture} {@code false} otherwise.
+     * @return {@code true} if the return type of the given method is asynchronous, {@code false} otherwise.
      */
     public static boolean isAsyncReturnType(Method method) {
-        var returnType = method.getGenericReturnType();
-        if (returnType instanceof ParameterizedType) {
-            var genericReturnType = (ParameterizedType) returnType;
-            if (genericReturnType.getRawType() instanceof Class) {
-                return isFuture(genericReturnType);
-            } else {
-                return false;
-            }
-        } else {
-            return false;
-        }
+        return getAsyncReturnType(method).isPresent();
     }
 
     /**
-     * Returns a type representing the contract method's return type after unwrapping {@link java.util.concurrent.Future}
-     * or {@link java.util.concurrent.CompletableFuture}, and {@link org.blockchainnative.metadata.Result}.
+     * Returns the asynchronous return type of the given contract method.
+     *
+     * @param method contract method
+     * @return asynchronous return type of the method or an empty optional if the method returns its result synchronously
+     * @since 1.1
+     */
+    public static Optional<AsyncReturnType> getAsyncReturnType(Method method) {
+        return AsyncReturnType.of(method.getReturnType());
+    }
+
+    /**
+     * Returns a type representing the contract method's return type after unwrapping asynchronous types such as {@link java.util.concurrent.Future}
+     * or {@link io.reactivex.Single}, and {@link org.blockchainnative.metadata.Result} or {@link org.blockchainnative.metadata.PendingResult}.
      * <p>
      * This type is considered the actual return type of a method annotated with {@link org.blockchainnative.annotations.ContractMethod}
      *
@@ -68,12 +76,16 @@ public final class ReflectionUtil {
      */
     public static Type getActualReturnType(Method method) {
         var type = method.getGenericReturnType();
-        // If the return type is Future<?> or CompletableFuture<?>, genericReturnType is a ParameterizedType
-        if (type instanceof ParameterizedType && isFuture((ParameterizedType) type)) {
+        // Completable does not carry a value, it is treated like Future<Void>
+        if (type == Completable.class) {
+            return Void.class;
+        }
+        // If the return type is Future<?>, CompletableFuture<?>, Single<?> etc., genericReturnType is a ParameterizedType
+        if (type instanceof ParameterizedType && isAsync((ParameterizedType) type)) {
             type = ((ParameterizedType) type).getActualTypeArguments()[0];
         }
 
-        // strip Result<T> if present
+        // strip Result<T> or PendingResult<T> if present
         if (type instanceof ParameterizedType && isResult((ParameterizedType) type)) {
             type = ((ParameterizedType) type).getActualTypeArguments()[0];
         }
@@ -82,7 +94,8 @@ public final class ReflectionUtil {
     }
 
     /**
-     * Checks whether the given contract method's actual return type is wrapped in {@link org.blockchainnative.metadata.Result}.
+     * Checks whether the given contract method's actual return type is wrapped in {@link org.blockchainnative.metadata.Result}
+     * or {@link org.blockchainnative.metadata.PendingResult}.
      *
      * @param method contract method
      * @return {@code true} if the return type of the given method is wrapped in {@link org.blockchainnative.metadata.Result}, {@code false} otherwise.
@@ -91,8 +104,8 @@ public final class ReflectionUtil {
     public static boolean usesResultWrapper(Method method) {
         var type = method.getGenericReturnType();
 
-        // strip Future<T> if present
-        if (type instanceof ParameterizedType && isFuture((ParameterizedType) type)) {
+        // strip Future<T>, Single<T> etc. if present
+        if (type instanceof ParameterizedType && isAsync((ParameterizedType) type)) {
             type = ((ParameterizedType) type).getActualTypeArguments()[0];
         }
 
@@ -101,7 +114,28 @@ public final class ReflectionUtil {
     }
 
     /**
-     * Extracts the actual event type of a smart contract event method by unwrapping {@link Observable} and {@link Event}.
+     * Checks whether the given contract method's actual return type is wrapped in {@link org.blockchainnative.metadata.PendingResult},
+     * i.e. whether the method returns as soon as its transaction has been submitted.
+     *
+     * @param method contract method
+     * @return {@code true} if the return type of the given method is wrapped in {@link org.blockchainnative.metadata.PendingResult}, {@code false} otherwise.
+     * @see org.blockchainnative.util.ReflectionUtil#usesResultWrapper(Method)
+     * @since 1.1
+     */
+    public static boolean usesPendingResultWrapper(Method method) {
+        var type = method.getGenericReturnType();
+
+        // strip Future<T>, Single<T> etc. if present
+        if (type instanceof ParameterizedType && isAsync((ParameterizedType) type)) {
+            type = ((ParameterizedType) type).getActualTypeArguments()[0];
+        }
+
+        return type instanceof ParameterizedType && PendingResult.class.equals(((ParameterizedType) type).getRawType());
+    }
+
+    /**
+     * Extracts the actual event type of a smart contract event method by unwrapping {@link Observable} or {@link Flowable}, and {@link Event}.
+     * In case of event consumer methods, the type argument of the method's {@link Consumer} parameter is returned.
      *
      * @param method contract event method
      * @return Class representing the actual event type.
@@ -109,8 +143,13 @@ public final class ReflectionUtil {
     public static Class<?> getEventType(Method method) {
         var type = method.getGenericReturnType();
 
-        // strip Observable<T> if present
-        if (type instanceof ParameterizedType && isObservable((ParameterizedType) type)) {
+        // event consumer methods declare the event type as type argument of their Consumer<T> parameter
+        if (isEventConsumerMethod(method)) {
+            type = ((ParameterizedType) method.getGenericParameterTypes()[getEventConsumerParameterIndex(method)]).getActualTypeArguments()[0];
+        }
+
+        // strip Observable<T> or Flowable<T> if present
+        if (type instanceof ParameterizedType && isEventStream((ParameterizedType) type)) {
             type = ((ParameterizedType) type).getActualTypeArguments()[0];
         }
 
@@ -135,8 +174,8 @@ public final class ReflectionUtil {
     public static boolean usesEventWrapper(Method method) {
         var type = method.getGenericReturnType();
 
-        // strip Observable<T> if present
-        if (type instanceof ParameterizedType && isObservable((ParameterizedType) type)) {
+        // strip Observable<T> or Flowable<T> if present
+        if (type instanceof ParameterizedType && isEventStream((ParameterizedType) type)) {
             type = ((ParameterizedType) type).getActualTypeArguments()[0];
         }
 
@@ -144,6 +183,58 @@ public final class ReflectionUtil {
         return type instanceof ParameterizedType && isEvent((ParameterizedType) type);
     }
 
+    /**
+     * Checks if the given event method passes the events to a {@link Consumer} instead of returning an {@link Observable},
+     * i.e. whether it returns {@link Disposable} and accepts a parameter of type {@code Consumer<T>} with {@code T} being the event type.
+     *
+     * @param method {@code Method} to check. Must not be null.
+     * @return {@code true} if the given event method is an event consumer method, {@code false} otherwise.
+     * @since 1.1
+     */
+    public static boolean isEventConsumerMethod(Method method) {
+        return Disposable.class.equals(method.getReturnType()) && getEventConsumerParameterIndex(method) >= 0;
+    }
+
+    /**
+     * Checks if the given event method returns the events as {@link Flowable} supporting backpressure.
+     *
+     * @param method {@code Method} to check. Must not be null.
+     * @return {@code true} if the given event method returns {@code Flowable}, {@code false} otherwise.
+     * @see org.blockchainnative.metadata.EventBackpressure
+     * @since 1.1
+     */
+    public static boolean isEventFlowableMethod(Method method) {
+        return Flowable.class.equals(method.getReturnType());
+    }
+
+    /**
+     * Returns the index of the first parameter of the given event method which is declared as {@link EventBackpressure}.
+     *
+     * @param method {@code Method} to check. Must not be null.
+     * @return the parameter index or -1 if the method does not declare such a parameter.
+     * @since 1.1
+     */
+    public static int getEventBackpressureParameterIndex(Method method) {
+        return Arrays.asList(method.getParameterTypes()).indexOf(EventBackpressure.class);
+    }
+
+    /**
+     * Returns the index of the first parameter of the given event method which is declared as {@code Consumer<T>}.
+     *
+     * @param method {@code Method} to check. Must not be null.
+     * @return the parameter index or -1 if the method does not declare such a parameter.
+     * @since 1.1
+     */
+    public static int getEventConsumerParameterIndex(Method method) {
+        var parameterTypes = method.getGenericParameterTypes();
+        for (var i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i] instanceof ParameterizedType && Consumer.class.equals(((ParameterizedType) parameterTypes[i]).getRawType())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Returns the index of the given parameter as it occurs in the parameter list of the given executable.
      *
@@ -163,16 +254,16 @@ public final class ReflectionUtil {
         return index;
     }
 
-    private static boolean isFuture(ParameterizedType type) {
-        return Future.class.equals(type.getRawType()) || CompletableFuture.class.equals(type.getRawType());
+    private static boolean isAsync(ParameterizedType type) {
+        return type.getRawType() instanceof Class && AsyncReturnType.of((Class<?>) type.getRawType()).isPresent();
     }
 
-    private static boolean isObservable(ParameterizedType type) {
-        return Observable.class.equals(type.getRawType());
+    private static boolean isEventStream(ParameterizedType type) {
+        return Observable.class.equals(type.getRawType()) || Flowable.class.equals(type.getRawType());
     }
 
     private static boolean isResult(ParameterizedType type) {
-        return Result.class.equals(type.getRawType());
+        return Result.class.equals(type.getRawType()) || PendingResult.class.equals(type.getRawType());
     }
 
     private static boolean isEvent(ParameterizedType type) {
@@ -0,0 +1,150 @@
+package org.blockchainnative.util;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.ExceptionMethod;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.blockchainnative.AbstractContractWrapper;
+import org.blockchainnative.SmartContract;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Provides static utility methods for generating smart contract wrapper classes with Byte Buddy.
+ * <br>
+ * The class is not intended to be instantiated as it only provides static methods.
+ *
+ * @author Matthias Veit
+ * @see AbstractContractWrapper
+ * @since 1.1
+ */
+public final class WrapperGeneratorUtil {
+
+    /**
+     * Name of the field holding the {@link AbstractContractWrapper} in generated wrapper classes
+     */
+    public static final String WRAPPER_FIELD_NAME = "wrapper";
+
+    private static final String INTERCEPT_METHOD_NAME = "intercept";
+    private static final Method DISPATCH_METHOD;
+    private static final Method DISPATCH_WITHOUT_ARGUMENTS_METHOD;
+    private static final Constructor<?> OBJECT_CONSTRUCTOR;
+
+    static {
+        try {
+            DISPATCH_METHOD = AbstractContractWrapper.class.getMethod("dispatch", Integer.TYPE, Object[].class);
+            DISPATCH_WITHOUT_ARGUMENTS_METHOD = AbstractContractWrapper.class.getMethod("dispatch", Integer.TYPE);
+            OBJECT_CONSTRUCTOR = Object.class.getConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private WrapperGeneratorUtil() {
+    }
+
+    /**
+     * Generates a class implementing the given smart contract interface. <br>
+     * <br>
+     * The generated class declares a single public constructor accepting the {@link AbstractContractWrapper} to which all calls are forwarded.
+     * Hence, the class only depends on the contract interface and the methods returned by {@link AbstractContractWrapper#getDispatchMethods()}
+     * and can be shared by all wrappers of the same shape.
+     *
+     * @param contractClass   smart contract interface
+     * @param wrapper         contract wrapper describing the methods to be implemented
+     * @param className       name of the generated class
+     * @param classLoader     class loader used to load the generated class
+     * @param <TContractType> type of the smart contract interface
+     * @return generated wrapper class
+     */
+    public static <TContractType> Class<? extends TContractType> createWrapperClass(Class<TContractType> contractClass, AbstractContractWrapper<?, ?, ?, ?, ?, ?> wrapper, String className, ClassLoader classLoader) {
+        var dispatchMethods = wrapper.getDispatchMethods();
+        var interceptedMethodsMatcher = getInterceptedMethodsMatcher(contractClass, dispatchMethods);
+
+        var builder = new ByteBuddy()
+                .subclass(contractClass, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+                .name(className)
+                .defineField(WRAPPER_FIELD_NAME, AbstractContractWrapper.class, Visibility.PRIVATE)
+                .defineConstructor(Visibility.PUBLIC)
+                .withParameters(AbstractContractWrapper.class)
+                .intercept(MethodCall.invoke(OBJECT_CONSTRUCTOR)
+                        .andThen(FieldAccessor.ofField(WRAPPER_FIELD_NAME).setsArgumentAt(0)))
+                .method(interceptedMethodsMatcher)
+                .intercept(MethodDelegation.withDefaultConfiguration()
+                        .filter(ElementMatchers.named(INTERCEPT_METHOD_NAME))
+                        .toField(WRAPPER_FIELD_NAME))
+                .method(getRemainingMethodsMatcher(contractClass, interceptedMethodsMatcher))
+                .intercept(ExceptionMethod.throwing(UnsupportedOperationException.class));
+
+        return interceptDispatchMethods(builder, dispatchMethods)
+                .make()
+                .load(classLoader)
+                .getLoaded();
+    }
+
+    /**
+     * Implements every given method with a stub that directly calls {@link AbstractContractWrapper#dispatch(int, Object[])}
+     * on the wrapper stored in {@link WrapperGeneratorUtil#WRAPPER_FIELD_NAME}, passing the method's slot index as constant.
+     * Methods without parameters call {@link AbstractContractWrapper#dispatch(int)} instead, so that no argument array is allocated.
+     * <p>
+     * The arguments of other methods are passed as {@code Object[]}, boxing primitive values, since invocation plans and
+     * argument converters consume them as objects.
+     * </p>
+     * <p>
+     * As the interceptors are registered last, they take precedence over matchers registered earlier on the builder.
+     * </p>
+     *
+     * @param builder         builder of the wrapper class
+     * @param dispatchMethods contract interface methods in slot order
+     * @param <T>             type of the generated class
+     * @return builder with the dispatch stubs registered
+     */
+    public static <T> DynamicType.Builder<T> interceptDispatchMethods(DynamicType.Builder<T> builder, List<Method> dispatchMethods) {
+        for (var i = 0; i < dispatchMethods.size(); i++) {
+            var method = dispatchMethods.get(i);
+            var dispatchCall = method.getParameterCount() == 0
+                    ? MethodCall.invoke(DISPATCH_WITHOUT_ARGUMENTS_METHOD).onField(WRAPPER_FIELD_NAME).with(i)
+                    : MethodCall.invoke(DISPATCH_METHOD).onField(WRAPPER_FIELD_NAME).with(i).withArgumentArray();
+            builder = builder
+                    .method(ElementMatchers.is(method))
+                    .intercept(dispatchCall.withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC));
+        }
+        return builder;
+    }
+
+    // methods sharing the name of a registered method (e.g. unregistered overloads) as well as 'getContractInfo'
+    // are handled by AbstractContractWrapper#intercept
+    private static ElementMatcher.Junction<MethodDescription> getInterceptedMethodsMatcher(Class<?> contractClass, List<Method> dispatchMethods) {
+        ElementMatcher.Junction<MethodDescription> methodsByNameMatcher = ElementMatchers.none();
+        for (var method : dispatchMethods) {
+            methodsByNameMatcher = methodsByNameMatcher.or(ElementMatchers.named(method.getName()));
+        }
+
+        if (Arrays.stream(contractClass.getMethods())
+                .anyMatch(method -> SmartContract.GET_CONTRACT_INFO_METHOD_NAME.equals(method.getName()))) {
+            methodsByNameMatcher = methodsByNameMatcher.or(ElementMatchers.named(SmartContract.GET_CONTRACT_INFO_METHOD_NAME));
+        }
+
+        return methodsByNameMatcher;
+    }
+
+    private static ElementMatcher.Junction<MethodDescription> getRemainingMethodsMatcher(Class<?> contractClass, ElementMatcher.Junction<MethodDescription> interceptedMethodsMatcher) {
+        ElementMatcher.Junction<MethodDescription> allInterfaceMethods = ElementMatchers.none();
+        for (var method : contractClass.getDeclaredMethods()) {
+            allInterfaceMethods = allInterfaceMethods.or(ElementMatchers.is(method));
+        }
+
+        return allInterfaceMethods.and(ElementMatchers.not(interceptedMethodsMatcher));
+    }
+}
@@ -0,0 +1,104 @@
+package org.blockchainnative.test;
+
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.blockchainnative.exceptions.ContractCallException;
+import org.blockchainnative.metadata.PendingResult;
+import org.blockchainnative.metadata.Result;
+import org.blockchainnative.util.AsyncReturnType;
+import org.blockchainnative.util.ReflectionUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Matthias Veit
+ */
+public class AsyncReturnTypeTests {
+
+    @Test
+    public void detectsAsyncReturnTypes() throws NoSuchMethodException {
+        Assert.assertEquals(AsyncReturnType.FUTURE, ReflectionUtil.getAsyncReturnType(ReactiveContract.class.getMethod("future")).orElseThrow());
+        Assert.assertEquals(AsyncReturnType.COMPLETION_STAGE, ReflectionUtil.getAsyncReturnType(ReactiveContract.class.getMethod("stage")).orElseThrow());
+        Assert.assertEquals(AsyncReturnType.SINGLE, ReflectionUtil.getAsyncReturnType(ReactiveContract.class.getMethod("single")).orElseThrow());
+        Assert.assertEquals(AsyncReturnType.MAYBE, ReflectionUtil.getAsyncReturnType(ReactiveContract.class.getMethod("maybe")).orElseThrow());
+        Assert.assertEquals(AsyncReturnType.COMPLETABLE, ReflectionUtil.getAsyncReturnType(ReactiveContract.class.getMethod("completable")).orElseThrow());
+        Assert.assertFalse(ReflectionUtil.isAsyncReturnType(ReactiveContract.class.getMethod("sync")));
+    }
+
+    @Test
+    public void unwrapsActualReturnType() throws NoSuchMethodException {
+        Assert.assertEquals(String.class, ReflectionUtil.getActualReturnType(ReactiveContract.class.getMethod("single")));
+        Assert.assertEquals(BigInteger.class, ReflectionUtil.getActualReturnType(ReactiveContract.class.getMethod("maybe")));
+        Assert.assertEquals(Void.class, ReflectionUtil.getActualReturnType(ReactiveContract.class.getMethod("completable")));
+        Assert.assertTrue(ReflectionUtil.usesResultWrapper(ReactiveContract.class.getMethod("stage")));
+    }
+
+    @Test
+    public void unwrapsPendingResult() throws NoSuchMethodException {
+        Assert.assertEquals(String.class, ReflectionUtil.getActualReturnType(ReactiveContract.class.getMethod("pending")));
+        Assert.assertTrue(ReflectionUtil.usesResultWrapper(ReactiveContract.class.getMethod("pending")));
+        Assert.assertTrue(ReflectionUtil.usesPendingResultWrapper(ReactiveContract.class.getMethod("pending")));
+        Assert.assertFalse(ReflectionUtil.usesPendingResultWrapper(ReactiveContract.class.getMethod("stage")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void adaptsWithoutBlocking() {
+        var future = new CompletableFuture<Object>();
+
+        var single = (Single<Object>) AsyncReturnType.SINGLE.adapt(future);
+        var maybe = (Maybe<Object>) AsyncReturnType.MAYBE.adapt(future);
+        var completable = (Completable) AsyncReturnType.COMPLETABLE.adapt(future);
+        var singleObserver = single.test();
+
+        singleObserver.assertNotComplete();
+        future.complete("Hello World");
+
+        singleObserver.assertResult("Hello World");
+        maybe.test().assertResult("Hello World");
+        completable.test().assertComplete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void completesMaybeWithoutValue() {
+        var maybe = (Maybe<Object>) AsyncReturnType.MAYBE.adapt(CompletableFuture.completedFuture(null));
+
+        maybe.test().assertResult();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void propagatesContractCallExceptions() {
+        var future = CompletableFuture.supplyAsync(() -> {
+            throw new ContractCallException("failed");
+        });
+
+        var single = (Single<Object>) AsyncReturnType.SINGLE.adapt(future);
+
+        single.test().awaitDone(5, TimeUnit.SECONDS).assertError(ContractCallException.class);
+    }
+
+    public interface ReactiveContract {
+        Future<String> future();
+
+        CompletionStage<Result<String>> stage();
+
+        Single<PendingResult<String>> pending();
+
+        Single<String> single();
+
+        Maybe<BigInteger> maybe();
+
+        Completable completable();
+
+        String sync();
+    }
+}
@@ -0,0 +1,118 @@
+package org.blockchainnative.test;
+
+import org.blockchainnative.util.CallCoalescer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Matthias Veit
+ */
+public class CallCoalescerTests {
+
+    @Test
+    public void sharesInFlightCall() throws Exception {
+        var coalescer = new CallCoalescer<String, String>();
+        var executions = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(8);
+
+        try {
+            var results = new ArrayList<CompletableFuture<String>>();
+            for (var i = 0; i < 8; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return coalescer.execute("0xa777d0dc", () -> {
+                            executions.incrementAndGet();
+                            release.await();
+                            return "Hello World";
+                        });
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, executor));
+            }
+
+            var deadline = System.currentTimeMillis() + 5000;
+            while (coalescer.getCoalescedCalls() < 7 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            for (var result : results) {
+                Assert.assertEquals("Hello World", result.get(5, TimeUnit.SECONDS));
+            }
+            Assert.assertEquals(1, executions.get());
+            Assert.assertEquals(7, coalescer.getCoalescedCalls());
+            Assert.assertEquals(0, coalescer.getInFlightCalls());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void executesCompletedCallsAgain() throws IOException {
+        var coalescer = new CallCoalescer<String, Integer>();
+        var executions = new AtomicInteger();
+
+        coalescer.execute("0x01", executions::incrementAndGet);
+        var result = coalescer.<IOException>execute("0x01", executions::incrementAndGet);
+
+        Assert.assertEquals(2, (int) result);
+        Assert.assertEquals(0, coalescer.getCoalescedCalls());
+    }
+
+    @Test
+    public void propagatesExceptionToWaitingCalls() throws Exception {
+        var coalescer = new CallCoalescer<String, String>();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            var leader = CompletableFuture.runAsync(() -> {
+                try {
+                    coalescer.execute("0x01", () -> {
+                        started.countDown();
+                        release.await();
+                        throw new IOException("connection refused");
+                    });
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor);
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            var follower = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return coalescer.<IOException>execute("0x01", () -> "unexpected");
+                } catch (IOException e) {
+                    return e.getMessage();
+                }
+            }, executor);
+            var deadline = System.currentTimeMillis() + 5000;
+            while (coalescer.getCoalescedCalls() < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            Assert.assertEquals("connection refused", follower.get(5, TimeUnit.SECONDS));
+            try {
+                leader.get(5, TimeUnit.SECONDS);
+                Assert.fail("Expected the leading call to fail");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause().getCause() instanceof IOException);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.blockchainnative.test;
+
+import io.reactivex.Flowable;
+import io.reactivex.exceptions.MissingBackpressureException;
+import io.reactivex.subjects.PublishSubject;
+import org.blockchainnative.metadata.Event;
+import org.blockchainnative.metadata.EventBackpressure;
+import org.blockchainnative.metadata.EventBufferMetrics;
+import org.blockchainnative.util.ReflectionUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Matthias Veit
+ */
+public class EventBackpressureTests {
+
+    @Test
+    public void keepsLatestEvents() {
+        var events = PublishSubject.<Integer>create();
+        var metrics = new EventBufferMetrics();
+        var subscriber = EventBackpressure.latest(2).withMetrics(metrics).apply(events).test(0);
+
+        for (var i = 1; i <= 5; i++) {
+            events.onNext(i);
+        }
+        Assert.assertEquals(2, metrics.getBufferedEvents());
+
+        subscriber.request(5);
+
+        subscriber.assertValues(4, 5);
+        Assert.assertEquals(5, metrics.getReceivedEvents());
+        Assert.assertEquals(2, metrics.getDeliveredEvents());
+        Assert.assertEquals(3, metrics.getDroppedEvents());
+        Assert.assertEquals(2, metrics.getMaxBufferedEvents());
+    }
+
+    @Test
+    public void dropsNewEvents() {
+        var events = PublishSubject.<Integer>create();
+        var metrics = new EventBufferMetrics();
+        var subscriber = EventBackpressure.drop(2).withMetrics(metrics).apply(events).test(0);
+
+        for (var i = 1; i <= 5; i++) {
+            events.onNext(i);
+        }
+        subscriber.request(5);
+
+        subscriber.assertValues(1, 2);
+        Assert.assertEquals(3, metrics.getDroppedEvents());
+        Assert.assertEquals(0, metrics.getBufferedEvents());
+    }
+
+    @Test
+    public void failsOnBufferOverflow() {
+        var events = PublishSubject.<Integer>create();
+        var subscriber = EventBackpressure.buffer(2).apply(events).test(0);
+
+        events.onNext(1);
+        events.onNext(2);
+        subscriber.assertNoErrors();
+        events.onNext(3);
+
+        subscriber.assertError(MissingBackpressureException.class);
+        Assert.assertFalse(events.hasObservers());
+    }
+
+    @Test
+    public void blocksReceivingThread() throws InterruptedException {
+        var events = PublishSubject.<Integer>create();
+        var subscriber = EventBackpressure.block(1).apply(events).test(0);
+
+        var receiver = new Thread(() -> {
+            for (var i = 1; i <= 3; i++) {
+                events.onNext(i);
+            }
+        });
+        receiver.start();
+
+        var deadline = System.currentTimeMillis() + 5000;
+        while (receiver.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(Thread.State.WAITING, receiver.getState());
+        subscriber.assertNoValues();
+
+        subscriber.request(3);
+        receiver.join(5000);
+
+        subscriber.awaitCount(3).assertValues(1, 2, 3);
+        Assert.assertFalse(receiver.isAlive());
+    }
+
+    @Test
+    public void detectsFlowableEventMethods() throws NoSuchMethodException {
+        var method = FlowableEvents.class.getMethod("onEvent", EventBackpressure.class);
+
+        Assert.assertTrue(ReflectionUtil.isEventFlowableMethod(method));
+        Assert.assertTrue(ReflectionUtil.usesEventWrapper(method));
+        Assert.assertEquals(String.class, ReflectionUtil.getEventType(method));
+        Assert.assertEquals(0, ReflectionUtil.getEventBackpressureParameterIndex(method));
+        Assert.assertEquals(EventBackpressure.defaultBackpressure(), EventBackpressure.buffer(EventBackpressure.DEFAULT_BUFFER_SIZE));
+    }
+
+    public interface FlowableEvents {
+        Flowable<Event<String>> onEvent(EventBackpressure backpressure);
+    }
+}
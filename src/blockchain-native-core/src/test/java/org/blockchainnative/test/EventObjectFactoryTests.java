@@ -0,0 +1,58 @@
+package org.blockchainnative.test;
+
+import org.blockchainnative.util.EventObjectFactory;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Matthias Veit
+ */
+public class EventObjectFactoryTests {
+
+    @Test
+    public void setsFieldsUsingSettersOrDirectly() throws Exception {
+        var factory = EventObjectFactory.of(TestEvent.class, List.of(
+                TestEvent.class.getDeclaredField("amount"),
+                TestEvent.class.getDeclaredField("sender")));
+
+        var event = (TestEvent) factory.newInstance();
+        factory.setField(event, 0, 42L);
+        factory.setField(event, 1, "0x01");
+
+        assertEquals(42L, event.amount);
+        assertTrue(event.amountSetterCalled);
+        assertEquals("0x01", event.sender);
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void rejectsTypesWithoutDefaultConstructor() throws Exception {
+        EventObjectFactory.of(Integer.class, List.of());
+    }
+
+    @Test(expected = InvocationTargetException.class)
+    public void rejectsValuesNotMatchingFieldType() throws Exception {
+        var factory = EventObjectFactory.of(TestEvent.class, List.of(TestEvent.class.getDeclaredField("sender")));
+
+        factory.setField(factory.newInstance(), 0, 1L);
+    }
+
+    public static class TestEvent {
+        private long amount;
+        private String sender;
+        private boolean amountSetterCalled;
+
+        public long getAmount() {
+            return amount;
+        }
+
+        public void setAmount(long amount) {
+            this.amount = amount;
+            this.amountSetterCalled = true;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.blockchainnative.test;
+
+import org.blockchainnative.util.ExecutorUtil;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * @author Matthias Veit
+ */
+public class ExecutorUtilTests {
+
+    @Test
+    public void defaultsToCommonPool() {
+        assertEquals(ForkJoinPool.commonPool(), ExecutorUtil.defaultExecutor());
+    }
+
+    @Test
+    public void runsTasksOnVirtualThreads() throws Exception {
+        assumeTrue(ExecutorUtil.isVirtualThreadSupported());
+
+        var executor = ExecutorUtil.newVirtualThreadPerTaskExecutor();
+        try {
+            var thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get();
+            assertEquals(true, Thread.class.getMethod("isVirtual").invoke(thread));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void rejectsVirtualThreadsIfUnsupported() {
+        assumeFalse(ExecutorUtil.isVirtualThreadSupported());
+
+        assertNotNull(ExecutorUtil.newVirtualThreadPerTaskExecutor());
+    }
+}
@@ -0,0 +1,59 @@
+package org.blockchainnative.test;
+
+import org.blockchainnative.MethodInvocationPlan;
+import org.blockchainnative.SpecialArgument;
+import org.blockchainnative.metadata.MethodInfo;
+import org.blockchainnative.metadata.ParameterInfo;
+import org.blockchainnative.test.contracts.AdditionContract;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * @author Matthias Veit
+ */
+public class InvocationPlanTests {
+
+    @Test
+    public void separatesSpecialAndContractArguments() throws NoSuchMethodException {
+        var method = AdditionContract.class.getDeclaredMethod("add", int.class, int.class);
+        var parameters = method.getParameters();
+        var contractParameter = new ParameterInfo(parameters[0], 0);
+        var specialParameter = new ParameterInfo(parameters[1], 1, null, null, "gasLimit");
+        var methodInfo = new MethodInfo<>(method, "add", false, false, List.of(contractParameter, specialParameter));
+
+        var plan = MethodInvocationPlan.of(methodInfo);
+        var arguments = new Object[]{1, 2};
+
+        Assert.assertArrayEquals(new Object[]{1}, plan.getContractArguments(arguments));
+        Assert.assertEquals(List.of(contractParameter), plan.getContractParameterInfos());
+        Assert.assertEquals(2, plan.getSpecialArgument(SpecialArgument.of("GASLIMIT"), arguments));
+        Assert.assertNull(plan.getSpecialArgument(SpecialArgument.of("gasPrice"), arguments));
+        Assert.assertFalse(plan.usesResultWrapper());
+    }
+
+    @Test
+    public void ignoresSpecialArgumentsRegisteredAfterThePlanWasBuilt() throws NoSuchMethodException {
+        var method = AdditionContract.class.getDeclaredMethod("add", int.class, int.class);
+        var parameters = method.getParameters();
+        var methodInfo = new MethodInfo<>(method, "add", false, false, List.of(new ParameterInfo(parameters[0], 0), new ParameterInfo(parameters[1], 1, null, null, "value")));
+
+        var plan = MethodInvocationPlan.of(methodInfo);
+
+        Assert.assertEquals(1, plan.getSpecialArgumentIndex(SpecialArgument.of("Value")));
+        Assert.assertEquals(-1, plan.getSpecialArgumentIndex(SpecialArgument.of("notDeclaredBeforeThePlanWasBuilt")));
+    }
+
+    @Test
+    public void reusesArgumentsWithoutSpecialArguments() throws NoSuchMethodException {
+        var method = AdditionContract.class.getDeclaredMethod("add", int.class, int.class);
+        var parameters = method.getParameters();
+        var methodInfo = new MethodInfo<>(method, "add", false, false, List.of(new ParameterInfo(parameters[0], 0), new ParameterInfo(parameters[1], 1)));
+
+        var plan = MethodInvocationPlan.of(methodInfo);
+        var arguments = new Object[]{1, 2};
+
+        Assert.assertSame(arguments, plan.getContractArguments(arguments));
+    }
+}
@@ -0,0 +1,111 @@
+package org.blockchainnative.test;
+
+import org.blockchainnative.InvocationLane;
+import org.blockchainnative.InvocationScheduler;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Matthias Veit
+ */
+public class InvocationSchedulerTests {
+
+    @Test
+    public void limitsConcurrentCallsPerLane() {
+        var executor = new ArrayDeque<Runnable>();
+        var scheduler = new InvocationScheduler(Map.of(InvocationLane.STATE_CHANGING, 2), InvocationScheduler.DEFAULT_MAX_QUEUED_CALLS, lane -> executor::add);
+        var contract = new Object();
+
+        for (var i = 0; i < 3; i++) {
+            scheduler.execute(InvocationLane.STATE_CHANGING, contract, () -> { });
+        }
+        scheduler.execute(InvocationLane.READ_ONLY, contract, () -> { });
+
+        assertEquals(2, scheduler.getActiveCalls(InvocationLane.STATE_CHANGING));
+        assertEquals(1, scheduler.getQueuedCalls(InvocationLane.STATE_CHANGING));
+        assertEquals(1, scheduler.getActiveCalls(InvocationLane.READ_ONLY));
+        assertEquals(3, executor.size());
+
+        while (!executor.isEmpty()) {
+            executor.poll().run();
+        }
+
+        assertEquals(0, scheduler.getActiveCalls(InvocationLane.STATE_CHANGING));
+        assertEquals(0, scheduler.getQueuedCalls(InvocationLane.STATE_CHANGING));
+        assertEquals(0, scheduler.getActiveCalls(InvocationLane.READ_ONLY));
+    }
+
+    @Test
+    public void runsQueuedCallsOfContractsInTurn() {
+        var executor = new ArrayDeque<Runnable>();
+        var scheduler = new InvocationScheduler(Map.of(InvocationLane.READ_ONLY, 1), InvocationScheduler.DEFAULT_MAX_QUEUED_CALLS, lane -> executor::add);
+        var calls = new ArrayList<String>();
+        var contractA = new Object();
+        var contractB = new Object();
+
+        for (var call : List.of("A1", "A2", "A3")) {
+            scheduler.execute(InvocationLane.READ_ONLY, contractA, () -> calls.add(call));
+        }
+        scheduler.execute(InvocationLane.READ_ONLY, contractB, () -> calls.add("B1"));
+
+        while (!executor.isEmpty()) {
+            executor.poll().run();
+        }
+
+        assertEquals(List.of("A1", "A2", "B1", "A3"), calls);
+    }
+
+    @Test
+    public void rejectsCallsExceedingQueueLimit() {
+        var executor = new ArrayDeque<Runnable>();
+        var scheduler = new InvocationScheduler(Map.of(InvocationLane.DEPLOYMENT, 1), 1, lane -> executor::add);
+        var contract = new Object();
+
+        scheduler.execute(InvocationLane.DEPLOYMENT, contract, () -> { });
+        scheduler.execute(InvocationLane.DEPLOYMENT, contract, () -> { });
+        try {
+            scheduler.execute(InvocationLane.DEPLOYMENT, contract, () -> { });
+            fail("Expected the call to be rejected");
+        } catch (RejectedExecutionException e) {
+            assertEquals(1, scheduler.getQueuedCalls(InvocationLane.DEPLOYMENT));
+        }
+    }
+
+    @Test
+    public void runsCallsOnThreadsOfTheirLane() throws Exception {
+        var scheduler = new InvocationScheduler();
+        try {
+            var threadName = new CompletableFuture<String>();
+            scheduler.execute(InvocationLane.EVENT, new Object(), () -> threadName.complete(Thread.currentThread().getName()));
+
+            assertTrue(threadName.get(5, TimeUnit.SECONDS).startsWith("invocation-scheduler-event-"));
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    public void usesDefaultLimits() {
+        var scheduler = new InvocationScheduler();
+
+        for (var lane : InvocationLane.values()) {
+            assertEquals(lane.getDefaultMaxConcurrentCalls(), scheduler.getMaxConcurrentCalls(lane));
+        }
+        assertEquals(InvocationScheduler.DEFAULT_MAX_QUEUED_CALLS, scheduler.getMaxQueuedCalls());
+        scheduler.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsLanesWithoutCapacity() {
+        new InvocationScheduler(Map.of(InvocationLane.EVENT, 0));
+    }
+}
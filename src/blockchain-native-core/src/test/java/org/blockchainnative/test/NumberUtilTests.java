@@ -0,0 +1,39 @@
+package org.blockchainnative.test;
+
+import org.blockchainnative.util.NumberUtil;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Matthias Veit
+ */
+public class NumberUtilTests {
+
+    @Test
+    public void convertsIntegralNumbersExactly() {
+        assertEquals(Long.MIN_VALUE, NumberUtil.toLongExact(BigInteger.valueOf(Long.MIN_VALUE)));
+        assertEquals(3L, NumberUtil.toLongExact(new BigDecimal("3.0")));
+        assertEquals(-1, NumberUtil.toIntExact(-1L));
+        assertEquals((short) 300, NumberUtil.toShortExact(300));
+        assertEquals((byte) -128, NumberUtil.toByteExact(-128));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void rejectsValuesExceedingLong() {
+        NumberUtil.toLongExact(BigInteger.ONE.shiftLeft(63));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void rejectsValuesExceedingByte() {
+        NumberUtil.toByteExact(128);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void rejectsFractionalValues() {
+        NumberUtil.toIntExact(1.5);
+    }
+}
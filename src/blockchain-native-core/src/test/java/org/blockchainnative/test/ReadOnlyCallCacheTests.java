@@ -0,0 +1,86 @@
+package org.blockchainnative.test;
+
+import org.blockchainnative.ReadOnlyCallCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Matthias Veit
+ */
+public class ReadOnlyCallCacheTests {
+    private static final String CHAIN = "0xd4e56740f876aef8c010b86a40d5f56745a118d0906a34e69aec8c0db1cb8fa3";
+    private static final String OTHER_CHAIN = "0x41941023680923e0fe4d74a34bdac8141f2540e3ae90623718e47d66d1ca4a2d";
+    private static final String CONTRACT = "0x8f0483125fcb9aaaefa9209d8e9d7b9c8b9fb90f";
+    private static final String SENDER = "0x627306090abab3a6e1400e9345bc60c78a8bef57";
+
+    @Test
+    public void countsHitsAndMisses() {
+        var cache = new ReadOnlyCallCache();
+
+        Assert.assertNull(cache.get(CHAIN, CONTRACT, SENDER, "0xa777d0dc"));
+        Assert.assertTrue(cache.put(CHAIN, CONTRACT, SENDER, "0xa777d0dc", "result", 12, cache.getGeneration()));
+
+        Assert.assertEquals("result", cache.get(CHAIN, CONTRACT, SENDER, "0xa777d0dc"));
+        Assert.assertNull(cache.get(CHAIN, CONTRACT, null, "0xa777d0dc"));
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedEntries() {
+        var cache = new ReadOnlyCallCache(2, Long.MAX_VALUE);
+        var generation = cache.getGeneration();
+
+        cache.put(CHAIN, CONTRACT, SENDER, "0x01", 1, 0, generation);
+        cache.put(CHAIN, CONTRACT, SENDER, "0x02", 2, 0, generation);
+        cache.get(CHAIN, CONTRACT, SENDER, "0x01");
+        cache.put(CHAIN, CONTRACT, SENDER, "0x03", 3, 0, generation);
+
+        Assert.assertEquals(2, cache.getSize());
+        Assert.assertEquals(1, cache.getEvictions());
+        Assert.assertNull(cache.get(CHAIN, CONTRACT, SENDER, "0x02"));
+        Assert.assertEquals(1, cache.get(CHAIN, CONTRACT, SENDER, "0x01"));
+        Assert.assertEquals(3, cache.get(CHAIN, CONTRACT, SENDER, "0x03"));
+    }
+
+    @Test
+    public void boundsEstimatedSize() {
+        var cache = new ReadOnlyCallCache(100, 1024);
+        var generation = cache.getGeneration();
+
+        Assert.assertFalse(cache.put(CHAIN, CONTRACT, SENDER, "0x01", "too large", 2048, generation));
+        for (var i = 0; i < 10; i++) {
+            cache.put(CHAIN, CONTRACT, SENDER, "0x0" + i, i, 100, generation);
+        }
+
+        Assert.assertTrue(cache.getSizeInBytes() <= 1024);
+        Assert.assertTrue(cache.getEvictions() > 0);
+        Assert.assertEquals(9, cache.get(CHAIN, CONTRACT, SENDER, "0x09"));
+    }
+
+    @Test
+    public void discardsResultsOfPreviousBlocks() {
+        var cache = new ReadOnlyCallCache();
+        var generation = cache.getGeneration();
+        cache.put(CHAIN, CONTRACT, SENDER, "0x01", 1, 0, generation);
+
+        cache.invalidateAll();
+
+        Assert.assertNull(cache.get(CHAIN, CONTRACT, SENDER, "0x01"));
+        Assert.assertFalse(cache.put(CHAIN, CONTRACT, SENDER, "0x02", 2, 0, generation));
+        Assert.assertTrue(cache.put(CHAIN, CONTRACT, SENDER, "0x02", 2, 0, cache.getGeneration()));
+        Assert.assertEquals(1, cache.getSize());
+        Assert.assertEquals(1, cache.getInvalidations());
+    }
+
+    @Test
+    public void separatesResultsOfDifferentChains() {
+        var cache = new ReadOnlyCallCache();
+        cache.put(CHAIN, CONTRACT, SENDER, "0x01", 1, 0, cache.getGeneration());
+
+        Assert.assertNull(cache.get(OTHER_CHAIN, CONTRACT, SENDER, "0x01"));
+        Assert.assertTrue(cache.put(OTHER_CHAIN, CONTRACT, SENDER, "0x01", 2, 0, cache.getGeneration()));
+        Assert.assertEquals(1, cache.get(CHAIN, CONTRACT, SENDER, "0x01"));
+        Assert.assertEquals(2, cache.get(OTHER_CHAIN, CONTRACT, SENDER, "0x01"));
+    }
+}
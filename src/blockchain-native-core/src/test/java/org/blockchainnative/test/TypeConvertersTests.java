@@ -0,0 +1,74 @@
+package org.blockchainnative.test;
+
+import org.blockchainnative.convert.TypeConverter;
+import org.blockchainnative.convert.TypeConverters;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.UUID;
+
+/**
+ * @author Matthias Veit
+ */
+public class TypeConvertersTests {
+
+    @Test
+    public void resolvesConverterInBothDirections() {
+        var typeConverters = new TypeConverters(new UUIDStringConverter());
+        var uuid = UUID.randomUUID();
+
+        var toString = typeConverters.<UUID, String>getConversionFunction(UUID.class, String.class);
+        var fromString = typeConverters.<String, UUID>getConversionFunction(String.class, UUID.class);
+
+        Assert.assertTrue(toString.isPresent());
+        Assert.assertTrue(fromString.isPresent());
+        Assert.assertEquals(uuid.toString(), toString.get().apply(uuid));
+        Assert.assertEquals(uuid, fromString.get().apply(uuid.toString()));
+        Assert.assertSame(toString.get(), typeConverters.getConversionFunction(UUID.class, String.class).get());
+    }
+
+    @Test
+    public void invalidatesResolutionsWhenModified() {
+        var typeConverters = new TypeConverters();
+        var converter = new UUIDStringConverter();
+
+        Assert.assertFalse(typeConverters.getTypeConverter(UUID.class, String.class).isPresent());
+
+        typeConverters.add(converter);
+        Assert.assertSame(converter, typeConverters.getTypeConverter(UUID.class, String.class).get());
+
+        typeConverters.removeIf(typeConverter -> typeConverter == converter);
+        Assert.assertFalse(typeConverters.getTypeConverter(UUID.class, String.class).isPresent());
+        Assert.assertFalse(typeConverters.getConversionFunction(String.class, UUID.class).isPresent());
+
+        typeConverters.add(converter);
+        Assert.assertTrue(typeConverters.getConversionFunction(String.class, UUID.class).isPresent());
+
+        typeConverters.clear();
+        Assert.assertFalse(typeConverters.getConversionFunction(String.class, UUID.class).isPresent());
+    }
+
+    @Test
+    public void reusesConverterInstancesPerClass() {
+        var typeConverters = new TypeConverters();
+
+        var created = typeConverters.getTypeConverter(UUIDStringConverter.class);
+        Assert.assertSame(created, typeConverters.getTypeConverter(UUIDStringConverter.class));
+
+        var registered = new UUIDStringConverter();
+        typeConverters.add(registered);
+        Assert.assertSame(registered, typeConverters.getTypeConverter(UUIDStringConverter.class));
+    }
+
+    public static class UUIDStringConverter implements TypeConverter<UUID, String> {
+        @Override
+        public String to(UUID uuid) {
+            return uuid.toString();
+        }
+
+        @Override
+        public UUID from(String s) {
+            return UUID.fromString(s);
+        }
+    }
+}
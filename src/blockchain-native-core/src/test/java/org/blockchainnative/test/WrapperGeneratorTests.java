@@ -0,0 +1,210 @@
+package org.blockchainnative.test;
+
+import io.reactivex.Observable;
+import org.blockchainnative.AbstractContractWrapper;
+import org.blockchainnative.ContractWrapperClassCache;
+import org.blockchainnative.EventInvocationPlan;
+import org.blockchainnative.MethodInvocationPlan;
+import org.blockchainnative.SpecialMethodDelegate;
+import org.blockchainnative.metadata.*;
+import org.blockchainnative.test.contracts.AdditionContract;
+import org.blockchainnative.test.contracts.HelloContract;
+import org.blockchainnative.test.contracts.ReflectionTestContractContract;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * @author Matthias Veit
+ */
+public class WrapperGeneratorTests {
+
+    @Test
+    public void dispatchesPrimitiveAndVoidMethods() throws Exception {
+        var contractInfo = createContractInfo(AdditionContract.class);
+        var wrapper = new AdditionWrapper(contractInfo);
+
+        var contract = generate(AdditionContract.class, wrapper);
+
+        Assert.assertEquals(5, contract.add(2, 3));
+        contract.addButIgnoreResult(4, 5);
+        Assert.assertEquals(2, wrapper.invocations.size());
+        Assert.assertEquals("addButIgnoreResult", wrapper.invocations.get(1).getMethod().getName());
+    }
+
+    @Test
+    public void dispatchesAsyncMethods() throws Exception {
+        var contractInfo = createContractInfo(HelloContract.class);
+        var wrapper = new HelloWrapper(contractInfo);
+
+        var contract = generate(HelloContract.class, wrapper);
+
+        Assert.assertEquals("Hello Test!", contract.hello("Test"));
+        Assert.assertEquals("Hello Async!", contract.helloAsync("Async").get());
+        Assert.assertEquals("Hello ReadOnly!", contract.helloReadOnly("ReadOnly").get());
+    }
+
+    @Test
+    public void dispatchesMethodsWithoutParameters() throws Exception {
+        var contractInfo = createContractInfo(ReflectionTestContractContract.class);
+        var wrapper = new ArgumentCountWrapper(contractInfo);
+
+        var contract = generate(ReflectionTestContractContract.class, wrapper);
+
+        Assert.assertEquals("0 arguments", contract.getSomeString().get());
+        Assert.assertEquals("getSomeString", wrapper.invocations.get(0).getMethod().getName());
+    }
+
+    @Test
+    public void reusesWrapperClassPerContractInterface() {
+        var cache = new ContractWrapperClassCache();
+        var firstWrapper = new AdditionWrapper(createContractInfo(AdditionContract.class));
+        var secondWrapper = new AdditionWrapper(createContractInfo(AdditionContract.class));
+
+        var first = generate(cache, AdditionContract.class, firstWrapper);
+        var second = generate(cache, AdditionContract.class, secondWrapper);
+        second.add(1, 1);
+
+        Assert.assertSame(first.getClass(), second.getClass());
+        Assert.assertEquals(1, cache.size());
+        Assert.assertTrue(firstWrapper.invocations.isEmpty());
+        Assert.assertEquals(1, secondWrapper.invocations.size());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void dispatchesToWrappersImplementingMethodInfoHooks() {
+        var contractInfo = createContractInfo(AdditionContract.class);
+        var wrapper = new LegacyAdditionWrapper(contractInfo);
+
+        var contract = generate(AdditionContract.class, wrapper);
+
+        Assert.assertEquals(5, contract.add(2, 3));
+        Assert.assertEquals("add", wrapper.invocations.get(0).getMethod().getName());
+    }
+
+    private static <T> T generate(Class<T> contractClass, AbstractContractWrapper<?, ?, ?, ?, ?, ?> wrapper) {
+        return generate(new ContractWrapperClassCache(), contractClass, wrapper);
+    }
+
+    private static <T> T generate(ContractWrapperClassCache cache, Class<T> contractClass, AbstractContractWrapper<?, ?, ?, ?, ?, ?> wrapper) {
+        return cache.newInstance(contractClass, wrapper, "org.blockchainnative.test.wrapper." + contractClass.getSimpleName() + "Wrapper", WrapperGeneratorTests.class.getClassLoader());
+    }
+
+    private static <T> ContractInfo<T, MethodInfo<ParameterInfo>, EventInfo<EventFieldInfo, EventParameterInfo>> createContractInfo(Class<T> contractClass) {
+        var methodInfos = new ArrayList<MethodInfo<ParameterInfo>>();
+        for (Method method : contractClass.getDeclaredMethods()) {
+            var parameterInfos = new ArrayList<ParameterInfo>();
+            for (var i = 0; i < method.getParameterCount(); i++) {
+                parameterInfos.add(new ParameterInfo(method.getParameters()[i], i));
+            }
+            methodInfos.add(new MethodInfo<>(method, method.getName(), method.getName().endsWith("ReadOnly"), false, parameterInfos));
+        }
+        return new ContractInfo<>(contractClass.getSimpleName(), contractClass, methodInfos, Collections.emptyList());
+    }
+
+    private abstract static class TestWrapper extends AbstractContractWrapper<ContractInfo<?, MethodInfo<ParameterInfo>, EventInfo<EventFieldInfo, EventParameterInfo>>, MethodInfo<ParameterInfo>, ParameterInfo, EventInfo<EventFieldInfo, EventParameterInfo>, EventFieldInfo, EventParameterInfo> {
+        final List<MethodInfo<ParameterInfo>> invocations = new ArrayList<>();
+
+        TestWrapper(ContractInfo<?, MethodInfo<ParameterInfo>, EventInfo<EventFieldInfo, EventParameterInfo>> contractInfo) {
+            super(contractInfo);
+        }
+
+        @Override
+        protected Map<String, SpecialMethodDelegate<MethodInfo<ParameterInfo>, ParameterInfo>> getSpecialMethods() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        protected Future<Object> invokeMethod(MethodInvocationPlan<MethodInfo<ParameterInfo>, ParameterInfo> invocationPlan, Object[] arguments) {
+            invocations.add(invocationPlan.getMethodInfo());
+            return CompletableFuture.completedFuture(call(invocationPlan.getContractArguments(arguments)));
+        }
+
+        @Override
+        protected Future<Object> invokeReadOnlyMethod(MethodInvocationPlan<MethodInfo<ParameterInfo>, ParameterInfo> invocationPlan, Object[] arguments) {
+            return invokeMethod(invocationPlan, arguments);
+        }
+
+        @Override
+        protected Observable<Object> createEventObservable(EventInvocationPlan<EventInfo<EventFieldInfo, EventParameterInfo>> invocationPlan, Object[] arguments) {
+            return Observable.empty();
+        }
+
+        abstract Object call(Object[] arguments);
+    }
+
+    private static class AdditionWrapper extends TestWrapper {
+        AdditionWrapper(ContractInfo<?, MethodInfo<ParameterInfo>, EventInfo<EventFieldInfo, EventParameterInfo>> contractInfo) {
+            super(contractInfo);
+        }
+
+        @Override
+        Object call(Object[] arguments) {
+            return (Integer) arguments[0] + (Integer) arguments[1];
+        }
+    }
+
+    private static class HelloWrapper extends TestWrapper {
+        HelloWrapper(ContractInfo<?, MethodInfo<ParameterInfo>, EventInfo<EventFieldInfo, EventParameterInfo>> contractInfo) {
+            super(contractInfo);
+        }
+
+        @Override
+        Object call(Object[] arguments) {
+            return String.format("Hello %s!", arguments[0]);
+        }
+    }
+
+    private static class ArgumentCountWrapper extends TestWrapper {
+        ArgumentCountWrapper(ContractInfo<?, MethodInfo<ParameterInfo>, EventInfo<EventFieldInfo, EventParameterInfo>> contractInfo) {
+            super(contractInfo);
+        }
+
+        @Override
+        Object call(Object[] arguments) {
+            return String.format("%s arguments", arguments.length);
+        }
+    }
+
+    /**
+     * Implements the hooks taking {@code MethodInfo} and {@code EventInfo} objects as wrappers written against version 1.0 do.
+     */
+    @SuppressWarnings("deprecation")
+    private static class LegacyAdditionWrapper extends AbstractContractWrapper<ContractInfo<?, MethodInfo<ParameterInfo>, EventInfo<EventFieldInfo, EventParameterInfo>>, MethodInfo<ParameterInfo>, ParameterInfo, EventInfo<EventFieldInfo, EventParameterInfo>, EventFieldInfo, EventParameterInfo> {
+        final List<MethodInfo<ParameterInfo>> invocations = new ArrayList<>();
+
+        LegacyAdditionWrapper(ContractInfo<?, MethodInfo<ParameterInfo>, EventInfo<EventFieldInfo, EventParameterInfo>> contractInfo) {
+            super(contractInfo);
+        }
+
+        @Override
+        protected Map<String, SpecialMethodDelegate<MethodInfo<ParameterInfo>, ParameterInfo>> getSpecialMethods() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        protected Future<Object> invokeMethod(MethodInfo<ParameterInfo> methodInfo, Object[] arguments) {
+            invocations.add(methodInfo);
+            var contractArguments = extractContractMethodParameters(methodInfo, arguments);
+            return CompletableFuture.completedFuture((Integer) contractArguments[0] + (Integer) contractArguments[1]);
+        }
+
+        @Override
+        protected Future<Object> invokeReadOnlyMethod(MethodInfo<ParameterInfo> methodInfo, Object[] arguments) {
+            return invokeMethod(methodInfo, arguments);
+        }
+
+        @Override
+        protected Observable<Object> createEventObservable(EventInfo<EventFieldInfo, EventParameterInfo> eventInfo, Object[] arguments) {
+            return Observable.empty();
+        }
+    }
+}
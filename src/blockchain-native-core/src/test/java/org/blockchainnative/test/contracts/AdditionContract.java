@@ -9,7 +9,7 @@ import org.blockchainnative.annotations.SmartContract;
 @SmartContract
 public interface AdditionContract {
 
-    @ContractMethod
+    @ContractMethod(simulateResult = true)
     int add(int x, int y);
 
     @ContractMethod("add")
@@ -11,10 +11,10 @@ import java.util.concurrent.Future;
 @SmartContract
 public interface HelloContract {
 
-    @ContractMethod
+    @ContractMethod(simulateResult = true)
     String hello(String name);
 
-    @ContractMethod("hello")
+    @ContractMethod(value = "hello", simulateResult = true)
     Future<String> helloAsync(String name);
 
     @ContractMethod(value = "hello", isReadOnly = true)
@@ -12,10 +12,10 @@ import java.util.concurrent.Future;
 @SmartContract
 public interface HelloContractWithBlockInformation {
 
-    @ContractMethod
+    @ContractMethod(simulateResult = true)
     Result<String> hello(String name);
 
-    @ContractMethod("hello")
+    @ContractMethod(value = "hello", simulateResult = true)
     Future<Result<String>> helloAsync(String name);
 
     @ContractMethod(value = "hello", isReadOnly = true)
@@ -3,16 +3,25 @@ package org.blockchainnative.ethereum.spring.autoconfigure;
 import okhttp3.OkHttpClient;
 import okhttp3.logging.HttpLoggingInterceptor;
 import org.blockchainnative.ContractWrapperGenerator;
+import org.blockchainnative.InvocationScheduler;
+import org.blockchainnative.ReadOnlyCallCache;
 import org.blockchainnative.convert.TypeConverters;
+import org.blockchainnative.ethereum.BatchingHttpService;
+import org.blockchainnative.ethereum.MulticallAggregator;
 import org.blockchainnative.ethereum.EthereumContractWrapper;
 import org.blockchainnative.ethereum.EthereumContractWrapperGenerator;
+import org.blockchainnative.ethereum.LocalNonceTransactionManager;
+import org.blockchainnative.ethereum.NonceManager;
+import org.blockchainnative.spring.autoconfigure.ContractExecutorMode;
 import org.blockchainnative.spring.autoconfigure.CoreAutoConfiguration;
 import org.blockchainnative.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,16 +36,21 @@ import org.web3j.protocol.core.JsonRpc2_0Web3j;
 import org.web3j.protocol.http.HttpService;
 import org.web3j.protocol.ipc.UnixIpcService;
 import org.web3j.protocol.ipc.WindowsIpcService;
+import org.web3j.tx.ChainId;
 import org.web3j.tx.ClientTransactionManager;
 import org.web3j.tx.RawTransactionManager;
 import org.web3j.tx.TransactionManager;
+import org.web3j.utils.Async;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static org.blockchainnative.spring.autoconfigure.ContractExecutorMode.CONTRACT_EXECUTOR_BEAN_NAME;
+
 /**
  * @author Matthias Veit
  */
@@ -58,7 +72,7 @@ public class EthereumAutoConfiguration {
     @ConditionalOnMissingBean
     public Web3j web3j(){
         LOGGER.debug("Building web3j instance for endpoint address '{}", properties.getEndpointAddress());
-        return new JsonRpc2_0Web3j(buildWeb3jService());
+        return new JsonRpc2_0Web3j(buildWeb3jService(), properties.getPollingInterval(), Async.defaultExecutorService());
     }
 
     @Bean
@@ -92,14 +106,34 @@ public class EthereumAutoConfiguration {
         }
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = EthereumProperties.CONTRACT_REGISTRY_PREFIX_FULL + ".multicall", name = "address")
+    public MulticallAggregator multicallAggregator(@Autowired Web3j web3j) {
+        var multicall = properties.getMulticall();
+        LOGGER.info("Registering multicall aggregator using contract '{}'", multicall.getAddress());
+        return new MulticallAggregator(web3j, multicall.getAddress(), multicall.getWindow(), multicall.getMaxSize());
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public ContractWrapperGenerator ethereumContractWrapperGenerator(
             @Autowired Supplier<Web3j> web3jClientFactory,
             @Autowired Function<Web3j, TransactionManager> transactionManagerFactory,
-            @Autowired TypeConverters typeConverters) {
-
-        return new EthereumContractWrapperGenerator(web3jClientFactory, transactionManagerFactory, typeConverters);
+            @Autowired TypeConverters typeConverters,
+            @Autowired(required = false) @Qualifier(CONTRACT_EXECUTOR_BEAN_NAME) Executor contractExecutor,
+            @Autowired(required = false) InvocationScheduler invocationScheduler,
+            @Autowired(required = false) ReadOnlyCallCache readOnlyCallCache,
+            @Autowired(required = false) MulticallAggregator multicallAggregator) {
+
+        var generator = new EthereumContractWrapperGenerator(web3jClientFactory, transactionManagerFactory, typeConverters);
+        generator.setDirectAbiEncoding(properties.isDirectAbiEncoding());
+        generator.setExecutor(ContractExecutorMode.resolveExecutor(contractExecutor, properties.getExecutor()));
+        generator.setInvocationScheduler(invocationScheduler);
+        generator.setReadOnlyCallCache(readOnlyCallCache);
+        generator.setMulticallAggregator(multicallAggregator);
+
+        return generator;
     }
 
     private Function<Web3j, TransactionManager> getTransactionManagerFactoryFromWallet() {
@@ -151,7 +185,14 @@ public class EthereumAutoConfiguration {
             throw new IllegalStateException(message, e);
         }
 
-        if (networkId != null) {
+        if (properties.getWallet().isLocalNonces()) {
+            LOGGER.info("Managing nonces of account '{}' locally", credentials.getAddress());
+
+            // all transaction managers created by the factory share the nonces of the wallet's account
+            var nonceManager = new NonceManager(credentials.getAddress());
+            var chainId = networkId != null ? networkId : ChainId.NONE;
+            return (client) -> new LocalNonceTransactionManager(client, credentials, chainId, nonceManager);
+        } else if (networkId != null) {
             final byte finalNetworkId = networkId;
             return (client) -> new RawTransactionManager(client, credentials, finalNetworkId);
         } else {
@@ -163,9 +204,9 @@ public class EthereumAutoConfiguration {
         var endpointAddress = properties.getEndpointAddress();
 
         if (StringUtil.isNullOrEmpty(endpointAddress)) {
-            return new HttpService(buildHttpClient());
+            return buildHttpService(HttpService.DEFAULT_URL);
         } else if (endpointAddress.startsWith("http")) {
-            return new HttpService(endpointAddress, buildHttpClient(), false);
+            return buildHttpService(endpointAddress);
         } else if (System.getProperty("os.name").toLowerCase().startsWith("win")) {
             return new WindowsIpcService(endpointAddress);
         } else {
@@ -173,6 +214,15 @@ public class EthereumAutoConfiguration {
         }
     }
 
+    private HttpService buildHttpService(String endpointAddress) {
+        var batching = properties.getBatching();
+        if (batching != null && batching.isEnabled()) {
+            LOGGER.info("Batching readonly calls within {} ms, at most {} calls per batch", batching.getWindow(), batching.getMaxSize());
+            return new BatchingHttpService(endpointAddress, buildHttpClient(), batching.getWindow(), batching.getMaxSize());
+        }
+        return new HttpService(endpointAddress, buildHttpClient(), false);
+    }
+
     private OkHttpClient buildHttpClient(){
         var builder = new OkHttpClient.Builder();
 
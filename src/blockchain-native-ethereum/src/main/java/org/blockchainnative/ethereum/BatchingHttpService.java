@@ -0,0 +1,216 @@
+package org.blockchainnative.ethereum;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import okhttp3.OkHttpClient;
+import org.blockchainnative.util.CallBatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.http.HttpService;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * {@link HttpService} collecting readonly JSON-RPC calls into batches. <br>
+ * <br>
+ * {@code eth_call} requests issued within the configured batch window are sent as a single JSON-RPC batch request,
+ * a batch is sent early as soon as it contains the maximum number of calls. Each caller receives its own response,
+ * i.e. an error returned for one call does not affect the other calls of the same batch.
+ * All other requests are sent immediately. <br>
+ * <br>
+ * In case the node does not answer a batch with an array of responses, the calls of the batch are sent individually.
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public class BatchingHttpService extends HttpService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchingHttpService.class);
+
+    /**
+     * Batch window in milliseconds used by {@link #BatchingHttpService(String)}
+     */
+    public static final long DEFAULT_BATCH_WINDOW_MILLIS = 5;
+
+    /**
+     * Maximum number of calls per batch used by {@link #BatchingHttpService(String)}
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 50;
+
+    private static final Set<String> BATCHED_METHODS = Set.of("eth_call");
+
+    private final CallBatcher<TypedRequest, Response> batcher;
+
+    /**
+     * Creates a new {@code BatchingHttpService} using {@link #DEFAULT_BATCH_WINDOW_MILLIS} and {@link #DEFAULT_MAX_BATCH_SIZE}.
+     *
+     * @param url URL of the JSON-RPC endpoint
+     */
+    public BatchingHttpService(String url) {
+        this(url, DEFAULT_BATCH_WINDOW_MILLIS, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new {@code BatchingHttpService}.
+     *
+     * @param url               URL of the JSON-RPC endpoint
+     * @param batchWindowMillis time in milliseconds calls are collected before the batch is sent
+     * @param maxBatchSize      maximum number of calls per batch
+     */
+    public BatchingHttpService(String url, long batchWindowMillis, int maxBatchSize) {
+        this(url, new OkHttpClient(), batchWindowMillis, maxBatchSize);
+    }
+
+    /**
+     * Creates a new {@code BatchingHttpService}.
+     *
+     * @param url               URL of the JSON-RPC endpoint
+     * @param httpClient        HTTP client used to send requests
+     * @param batchWindowMillis time in milliseconds calls are collected before the batch is sent
+     * @param maxBatchSize      maximum number of calls per batch
+     */
+    public BatchingHttpService(String url, OkHttpClient httpClient, long batchWindowMillis, int maxBatchSize) {
+        super(url, httpClient, false);
+        this.batcher = new CallBatcher<>("json-rpc-batch", batchWindowMillis, maxBatchSize, this::sendBatch);
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        if (!isBatched(request)) {
+            return super.send(request, responseType);
+        }
+
+        try {
+            return enqueue(request, responseType).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for JSON-RPC batch response");
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        if (!isBatched(request)) {
+            return super.sendAsync(request, responseType);
+        }
+        return enqueue(request, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        batcher.close();
+        super.close();
+    }
+
+    /**
+     * Returns the time in milliseconds calls are collected before the batch is sent.
+     *
+     * @return batch window in milliseconds
+     */
+    public long getBatchWindowMillis() {
+        return batcher.getBatchWindowMillis();
+    }
+
+    /**
+     * Returns the maximum number of calls per batch.
+     *
+     * @return maximum number of calls per batch
+     */
+    public int getMaxBatchSize() {
+        return batcher.getMaxBatchSize();
+    }
+
+    private boolean isBatched(Request<?, ?> request) {
+        return BATCHED_METHODS.contains(request.getMethod());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Response> CompletableFuture<T> enqueue(Request<?, ?> request, Class<T> responseType) {
+        return (CompletableFuture<T>) batcher.submit(new TypedRequest(request, responseType));
+    }
+
+    private void sendBatch(List<CallBatcher.BatchedCall<TypedRequest, Response>> batch) {
+        if (batch.size() == 1) {
+            sendIndividually(batch);
+            return;
+        }
+
+        JsonNode responses;
+        try {
+            var requests = new ArrayList<Request<?, ?>>(batch.size());
+            for (var call : batch) {
+                requests.add(call.getCall().request);
+            }
+            var payload = objectMapper.writeValueAsString(requests);
+            try (var result = performIO(payload)) {
+                if (result == null) {
+                    throw new IOException("Empty response for JSON-RPC batch");
+                }
+                responses = objectMapper.readTree(result);
+            }
+        } catch (IOException e) {
+            for (var call : batch) {
+                call.completeExceptionally(e);
+            }
+            return;
+        }
+
+        if (responses == null || !responses.isArray()) {
+            LOGGER.warn("JSON-RPC endpoint did not answer batch request with an array, sending {} calls individually", batch.size());
+            sendIndividually(batch);
+            return;
+        }
+
+        var callsById = new HashMap<Long, CallBatcher.BatchedCall<TypedRequest, Response>>();
+        for (var call : batch) {
+            callsById.put(call.getCall().request.getId(), call);
+        }
+        for (var response : responses) {
+            var call = callsById.remove(response.path("id").asLong());
+            if (call != null) {
+                try {
+                    call.complete(objectMapper.treeToValue(response, call.getCall().responseType));
+                } catch (IOException | RuntimeException e) {
+                    call.completeExceptionally(e);
+                }
+            }
+        }
+        for (var call : callsById.values()) {
+            call.completeExceptionally(
+                    new IOException(String.format("JSON-RPC batch response does not contain a response for request '%s'", call.getCall().request.getId())));
+        }
+    }
+
+    private void sendIndividually(List<CallBatcher.BatchedCall<TypedRequest, Response>> batch) {
+        for (var call : batch) {
+            try {
+                call.complete(super.send(call.getCall().request, call.getCall().responseType));
+            } catch (IOException | RuntimeException e) {
+                // a single failing call must not fail the remaining calls of the batch
+                call.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class TypedRequest {
+        private final Request<?, ?> request;
+        private final Class<? extends Response> responseType;
+
+        private TypedRequest(Request<?, ?> request, Class<? extends Response> responseType) {
+            this.request = request;
+            this.responseType = responseType;
+        }
+    }
+}
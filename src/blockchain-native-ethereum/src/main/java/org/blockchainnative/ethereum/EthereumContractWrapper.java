@@ -1,18 +1,29 @@
 package org.blockchainnative.ethereum;
 
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
 import org.blockchainnative.AbstractContractWrapper;
+import org.blockchainnative.EventInvocationPlan;
+import org.blockchainnative.InvocationLane;
+import org.blockchainnative.MethodInvocationPlan;
+import org.blockchainnative.ReadOnlyCallCache;
+import org.blockchainnative.SpecialArgument;
 import org.blockchainnative.SpecialMethodDelegate;
 import org.blockchainnative.convert.TypeConverters;
 import org.blockchainnative.ethereum.metadata.*;
 import org.blockchainnative.exceptions.ContractCallException;
 import org.blockchainnative.exceptions.ContractDeploymentException;
 import org.blockchainnative.metadata.Event;
+import org.blockchainnative.metadata.PendingResult;
 import org.blockchainnative.metadata.Result;
+import org.blockchainnative.util.LongList;
 import org.blockchainnative.util.ReflectionUtil;
 import org.blockchainnative.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.web3j.abi.EventValues;
+import org.web3j.abi.FunctionEncoder;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.exceptions.TransactionException;
@@ -20,6 +31,7 @@ import org.web3j.tx.gas.ContractGasProvider;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,10 +49,17 @@ import java.util.stream.Collectors;
  */
 public class EthereumContractWrapper extends AbstractContractWrapper<EthereumContractInfo<?>, EthereumMethodInfo, EthereumParameterInfo, EthereumEventInfo, EthereumEventFieldInfo, EthereumEventParameterInfo> {
     private static final Logger LOGGER = LoggerFactory.getLogger(EthereumContractWrapper.class);
+    private static final SpecialArgument FROM_BLOCK = SpecialArgument.of(Constants.FROM_BLOCK_ARGUMENT);
+    private static final SpecialArgument TO_BLOCK = SpecialArgument.of(Constants.TO_BLOCK_ARGUMENT);
+    private static final SpecialArgument GAS_PRICE = SpecialArgument.of(Constants.GAS_PRICE_ARGUMENT);
+    private static final SpecialArgument GAS_LIMIT = SpecialArgument.of(Constants.GAS_LIMIT_ARGUMENT);
+    private static final SpecialArgument WEI_VALUE = SpecialArgument.of(Constants.WEI_VALUE_ARGUMENT);
 
     private final Web3ContractApi contractApi;
     private final EthereumArgumentConverter argumentConverter;
     private final ContractGasProvider contractGasProvider;
+    private volatile boolean directAbiEncoding;
+    private volatile MulticallAggregator multicallAggregator;
 
     public EthereumContractWrapper(EthereumContractInfo<?> contractInfo, Web3ContractApi contractApi, ContractGasProvider contractGasProvider, TypeConverters typeConverters) {
         super(contractInfo);
@@ -57,122 +76,244 @@ public class EthereumContractWrapper extends AbstractContractWrapper<EthereumCon
         this.argumentConverter = argumentConverter;
     }
 
+    /**
+     * Returns whether function calls are ABI encoded directly from the method arguments, see {@link #setDirectAbiEncoding(boolean)}
+     *
+     * @return true if function calls are encoded directly
+     * @since 1.1
+     */
+    public boolean isDirectAbiEncoding() {
+        return directAbiEncoding;
+    }
+
+    /**
+     * Specifies whether function calls are ABI encoded directly from the method arguments
+     * using {@link EthereumArgumentConverter#encodeFunctionCall(EthereumMethodInfo, List, Object[])}
+     * instead of converting the arguments to web3j types and encoding them with web3j's {@code FunctionEncoder}. <br>
+     * The function output is then decoded using {@link EthereumArgumentConverter#decodeMethodResult(EthereumMethodInfo, String)}. <br>
+     * Disabled by default.
+     *
+     * @param directAbiEncoding true to encode function calls directly
+     * @since 1.1
+     */
+    public void setDirectAbiEncoding(boolean directAbiEncoding) {
+        this.directAbiEncoding = directAbiEncoding;
+    }
+
+    /**
+     * Returns the aggregator readonly calls are sent through, see {@link #setMulticallAggregator(MulticallAggregator)}
+     *
+     * @return aggregator of readonly calls or null if readonly calls are sent directly
+     * @since 1.1
+     */
+    public MulticallAggregator getMulticallAggregator() {
+        return multicallAggregator;
+    }
+
+    /**
+     * Specifies an aggregator collecting the readonly calls of this and other wrappers into a single call
+     * of a Multicall contract. <br>
+     * Disabled by default, i.e. each readonly call is sent to the node directly.
+     *
+     * @param multicallAggregator aggregator of readonly calls, may be null
+     * @since 1.1
+     */
+    public void setMulticallAggregator(MulticallAggregator multicallAggregator) {
+        this.multicallAggregator = multicallAggregator;
+    }
+
     /**
      * Returns a mapping of special method names to their actions. <br>
-     * {@code EthereumContractWrapper} registers a single mapping, {@link Constants#DEPLOYMENT_METHOD} to {@link EthereumContractWrapper#deploy(EthereumMethodInfo, Object[])}
+     * {@code EthereumContractWrapper} registers a single mapping, {@link Constants#DEPLOYMENT_METHOD} to {@link EthereumContractWrapper#deploy(MethodInvocationPlan, Object[])}
      *
      * @return mapping of special method names to their actions.
      */
     @Override
-    protected Map<String, SpecialMethodDelegate<EthereumMethodInfo>> getSpecialMethods() {
+    protected Map<String, SpecialMethodDelegate<EthereumMethodInfo, EthereumParameterInfo>> getSpecialMethods() {
         return new HashMap<>() {{
-            put(Constants.DEPLOYMENT_METHOD, (methodInfo, args) -> deploy(methodInfo, args));
+            put(Constants.DEPLOYMENT_METHOD, (invocationPlan, args) -> deploy(invocationPlan, args));
         }};
     }
 
     /**
      * Creates an event observable for the given event method
      *
-     * @param eventInfo {@code EthereumEventInfo} describing the corresponding smart contract event.
-     * @param arguments arguments of the smart contract interface method
+     * @param invocationPlan {@code EventInvocationPlan} describing the corresponding smart contract event.
+     * @param arguments      arguments of the smart contract interface method
      * @return observable containing the events emitted by the smart contract converted to the expected type
      */
     @Override
-    protected Observable<Object> createEventObservable(EthereumEventInfo eventInfo, Object[] arguments) {
-        LOGGER.info("Preparing event observable '{}'", eventInfo.getEventName());
+    protected Observable<Object> createEventObservable(EventInvocationPlan<EthereumEventInfo> invocationPlan, Object[] arguments) {
+        LOGGER.info("Preparing event observable '{}'", invocationPlan.getEventInfo().getEventName());
 
-        var from = extractBlockParameterFrom(eventInfo, arguments);
-        var to = extractBlockParameterTo(eventInfo, arguments);
+        return observeOnEventLane(createRawEventObservable(invocationPlan, arguments)).map(rawEvent -> convertEvent(invocationPlan, rawEvent));
+    }
+
+    /**
+     * Creates an event flowable for the given event method. <br>
+     * <br>
+     * The raw events are buffered according to the backpressure settings passed to the event method
+     * and only converted to the expected type once requested by the subscriber.
+     *
+     * @param invocationPlan {@code EventInvocationPlan} describing the corresponding smart contract event.
+     * @param arguments      arguments of the smart contract interface method
+     * @return flowable containing the events emitted by the smart contract converted to the expected type
+     */
+    @Override
+    protected Flowable<Object> createEventFlowable(EventInvocationPlan<EthereumEventInfo> invocationPlan, Object[] arguments) {
+        var backpressure = invocationPlan.getEventBackpressure(arguments);
+        LOGGER.info("Preparing event flowable '{}' using {}", invocationPlan.getEventInfo().getEventName(), backpressure);
 
-        var observable = this.contractApi.getEventObservable(
-                eventInfo.getEventName(), argumentConverter.getInputParameterTypesReferences(eventInfo.getAbiDefinition()), from, to);
+        return observeOnEventLane(backpressure.apply(createRawEventObservable(invocationPlan, arguments))).map(rawEvent -> convertEvent(invocationPlan, rawEvent));
+    }
 
-        return observable.map(rawEvent -> {
-            var eventData = this.argumentConverter.createEventObject(eventInfo, rawEvent.getData());
+    private Observable<Event<EventValues>> createRawEventObservable(EventInvocationPlan<EthereumEventInfo> invocationPlan, Object[] arguments) {
+        var eventInfo = invocationPlan.getEventInfo();
+        var from = extractBlockParameterFrom(invocationPlan, arguments);
+        var to = extractBlockParameterTo(invocationPlan, arguments);
 
-            if (ReflectionUtil.usesEventWrapper(eventInfo.getMethod())) {
-                return new Event<>(eventData, rawEvent.getBlockHash(), rawEvent.getTransactionHash());
-            } else {
-                return eventData;
-            }
-        });
+        return this.contractApi.getEventObservable(
+                eventInfo.getEventName(), eventInfo.getInputTypeReferences(), from, to);
+    }
+
+    private Object convertEvent(EventInvocationPlan<EthereumEventInfo> invocationPlan, Event<EventValues> rawEvent) {
+        var eventData = this.argumentConverter.createEventObject(invocationPlan.getEventInfo(), rawEvent.getData());
+
+        if (invocationPlan.usesEventWrapper()) {
+            return new Event<>(eventData, rawEvent.getBlockHash(), rawEvent.getTransactionHash());
+        } else {
+            return eventData;
+        }
+    }
+
+    /**
+     * Subscribes the consumer of the given event consumer method to the corresponding smart contract event. <br>
+     * <br>
+     * All events are decoded into the same event object, i.e. the one passed to the event method or a new one created
+     * for the subscription. The logs are decoded directly into the object's fields whenever possible,
+     * see {@link org.blockchainnative.ethereum.util.AbiEventDecoder}.
+     *
+     * @param invocationPlan {@code EventInvocationPlan} describing the corresponding smart contract event.
+     * @param arguments      arguments of the smart contract interface method
+     * @return subscription of the consumer
+     */
+    @Override
+    protected Disposable subscribeEventConsumer(EventInvocationPlan<EthereumEventInfo> invocationPlan, Object[] arguments) {
+        var eventInfo = invocationPlan.getEventInfo();
+        LOGGER.info("Subscribing event consumer '{}'", eventInfo.getEventName());
+
+        var from = extractBlockParameterFrom(invocationPlan, arguments);
+        var to = extractBlockParameterTo(invocationPlan, arguments);
+        var consumer = invocationPlan.getEventConsumer(arguments);
+        var holder = invocationPlan.getEventHolder(arguments);
+        var eventObject = holder != null ? holder : this.argumentConverter.createEventObject(eventInfo);
+
+        return observeOnEventLane(this.contractApi.getLogObservable(
+                eventInfo.getEventName(), eventInfo.getInputTypeReferences(), from, to))
+                .subscribe(log -> consumer.accept(this.argumentConverter.decodeEventObject(eventInfo, log, eventObject)));
     }
 
     /**
      * Invokes the given smart contract method while submitting a transaction to the Ethereum blockchain.
      *
-     * @param methodInfo {@code EthereumMethodInfo} describing the corresponding smart contract method.
-     * @param arguments  arguments of the smart contract interface method
+     * @param invocationPlan {@code MethodInvocationPlan} describing the corresponding smart contract method.
+     * @param arguments      arguments of the smart contract interface method
      * @return actual smart contract method result converted to the expected type and wrapped as {@link java.util.concurrent.Future}
      */
     @Override
-    protected Future<Object> invokeMethod(EthereumMethodInfo methodInfo, Object[] arguments) {
+    protected Future<Object> invokeMethod(MethodInvocationPlan<EthereumMethodInfo, EthereumParameterInfo> invocationPlan, Object[] arguments) {
+        var methodInfo = invocationPlan.getMethodInfo();
         return CompletableFuture.supplyAsync(() -> {
             LOGGER.info("Preparing function call '{}()'", methodInfo.getContractMethodName());
 
-            var methodArguments = extractContractMethodParameters(methodInfo, arguments);
-            var parameterInfos = extractContractMethodParameterInfos(methodInfo);
-
-            LOGGER.debug("Converting arguments...");
-            var convertedArgs = argumentConverter.convertArguments(parameterInfos, methodArguments);
-            LOGGER.debug("Arguments: {}", convertedArgs.stream().map(x -> String.format("'%s'", x)).collect(Collectors.joining(", ")));
-
-            var outputParameterTypes = argumentConverter.getOutputParameterTypeReferences(methodInfo.getAbi());
+            var methodArguments = invocationPlan.getContractArguments(arguments);
+            var parameterInfos = invocationPlan.getContractParameterInfos();
 
-            var function = new org.web3j.abi.datatypes.Function(methodInfo.getContractMethodName(), convertedArgs, outputParameterTypes);
+            // void methods have no result to simulate, other methods opt in to the simulation
+            var pendingResult = invocationPlan.usesPendingResultWrapper();
+            var simulateResult = !methodInfo.isVoidReturnType() && methodInfo.isSimulateResult();
+            if (!simulateResult && !methodInfo.isVoidReturnType()) {
+                requireNullableResult(methodInfo);
+            }
 
-            Result<List<org.web3j.abi.datatypes.Type>> functionCallResult;
+            Result<?> functionCallResult;
             try {
-                var gasPrice = extractGasPrice(methodInfo, arguments);
-                var gasLimit = extractGasLimit(methodInfo, arguments);
-                var value = extractEtherValue(methodInfo, arguments);
-
-                functionCallResult = this.contractApi.executeFunctionCallTransaction(function, gasPrice, gasLimit, value);
-
+                var gasPrice = extractGasPrice(invocationPlan, arguments);
+                var gasLimit = extractGasLimit(invocationPlan, arguments);
+                var value = extractEtherValue(invocationPlan, arguments);
+
+                if (directAbiEncoding || simulateResult && hasPrimitiveResult(methodInfo)) {
+                    // primitive results are decoded from the raw output even if the arguments are encoded by web3j
+                    var encodedFunction = directAbiEncoding
+                            ? encodeFunctionCall(methodInfo, parameterInfos, methodArguments)
+                            : FunctionEncoder.encode(new org.web3j.abi.datatypes.Function(methodInfo.getContractMethodName(), convertArguments(parameterInfos, methodArguments), Collections.emptyList()));
+                    functionCallResult = pendingResult
+                            ? this.contractApi.submitEncodedFunctionCallTransaction(encodedFunction, gasPrice, gasLimit, value, simulateResult)
+                            : this.contractApi.executeEncodedFunctionCallTransaction(encodedFunction, gasPrice, gasLimit, value, simulateResult);
+                } else {
+                    var outputParameterTypes = methodInfo.getOutputTypeReferences();
+                    var function = new org.web3j.abi.datatypes.Function(methodInfo.getContractMethodName(), convertArguments(parameterInfos, methodArguments), outputParameterTypes);
+                    if (pendingResult) {
+                        functionCallResult = this.contractApi.submitFunctionCallTransaction(function, gasPrice, gasLimit, value, simulateResult);
+                    } else if (simulateResult || methodInfo.isVoidReturnType()) {
+                        // simulates the result unless the function has no outputs
+                        functionCallResult = this.contractApi.executeFunctionCallTransaction(function, gasPrice, gasLimit, value);
+                    } else {
+                        functionCallResult = this.contractApi.executeFunctionCallTransaction(function, gasPrice, gasLimit, value, false);
+                    }
+                }
             } catch (IOException | TransactionException e) {
                 var message = String.format("Failed to invoke function '%s' of contract '%s'!", methodInfo.getContractMethodName(), contractInfo.getContractClass().getName());
                 LOGGER.error(message, e);
                 throw new ContractCallException(message, e);
             }
 
+            if (!pendingResult) {
+                // the transaction has been included in a block, cached results may not reflect its effects
+                invalidateReadOnlyCallCache();
+            }
+
             LOGGER.debug("Converting result to target type...");
 
-            var convertedResult = argumentConverter.convertMethodResult(methodInfo, functionCallResult.getData());
+            var convertedResult = simulateResult || methodInfo.isVoidReturnType() ? convertMethodResult(methodInfo, functionCallResult) : null;
 
-            if (ReflectionUtil.usesResultWrapper(methodInfo.getMethod())) {
+            if (pendingResult) {
+                // the confirmed result carries the simulated result as well, the transaction's actual output is not available
+                var confirmation = ((PendingResult<?>) functionCallResult).getConfirmation()
+                        .whenComplete((confirmedResult, e) -> invalidateReadOnlyCallCache())
+                        .thenApply(confirmedResult -> new Result<>(convertedResult, confirmedResult.getBlockHash(), confirmedResult.getTransactionHash()));
+                return new PendingResult<>(convertedResult, functionCallResult.getTransactionHash(), confirmation);
+            } else if (invocationPlan.usesResultWrapper()) {
                 return new Result<>(convertedResult, functionCallResult.getBlockHash(), functionCallResult.getTransactionHash());
             } else {
                 return convertedResult;
             }
-        });
+        }, getExecutor(InvocationLane.STATE_CHANGING));
     }
 
     /**
      * Invokes the given smart contract method without creating a transaction on the Ethereum blockchain.
      *
-     * @param methodInfo {@code EthereumMethodInfo} describing the corresponding smart contract method.
-     * @param arguments  arguments of the smart contract interface method
+     * @param invocationPlan {@code MethodInvocationPlan} describing the corresponding smart contract method.
+     * @param arguments      arguments of the smart contract interface method
      * @return actual smart contract method result converted to the expected type and wrapped as {@link java.util.concurrent.Future}
      */
     @Override
-    protected Future<Object> invokeReadOnlyMethod(EthereumMethodInfo methodInfo, Object[] arguments) {
+    protected Future<Object> invokeReadOnlyMethod(MethodInvocationPlan<EthereumMethodInfo, EthereumParameterInfo> invocationPlan, Object[] arguments) {
+        var methodInfo = invocationPlan.getMethodInfo();
         return CompletableFuture.supplyAsync(() -> {
             LOGGER.info("Preparing readonly function call '{}()'", methodInfo.getContractMethodName());
 
-            var methodArguments = extractContractMethodParameters(methodInfo, arguments);
-            var parameterInfos = extractContractMethodParameterInfos(methodInfo);
+            var methodArguments = invocationPlan.getContractArguments(arguments);
+            var parameterInfos = invocationPlan.getContractParameterInfos();
 
-            LOGGER.debug("Converting arguments...");
-            var convertedArgs = argumentConverter.convertArguments(parameterInfos, methodArguments);
-            LOGGER.debug("Arguments: {}", convertedArgs.stream().map(x -> String.format("'%s'", x)).collect(Collectors.joining(", ")));
-
-            var outputParameterTypes = argumentConverter.getOutputParameterTypeReferences(methodInfo.getAbi());
-
-            Result<List<org.web3j.abi.datatypes.Type>> functionCallResult;
+            Result<String> functionCallResult;
             try {
-
-                functionCallResult = this.contractApi.executeFunctionCall(
-                        new org.web3j.abi.datatypes.Function(methodInfo.getContractMethodName(), convertedArgs, outputParameterTypes));
+                var encodedFunction = directAbiEncoding
+                        ? encodeFunctionCall(methodInfo, parameterInfos, methodArguments)
+                        : FunctionEncoder.encode(new org.web3j.abi.datatypes.Function(methodInfo.getContractMethodName(), convertArguments(parameterInfos, methodArguments), Collections.emptyList()));
+                // the raw output is handed to the direct result decoder regardless of how the arguments were encoded
+                functionCallResult = executeReadOnlyCall(methodInfo, encodedFunction);
             } catch (IOException e) {
                 var message = String.format("Failed to invoke readonly function '%s' of contract '%s'!", methodInfo.getContractMethodName(), contractInfo.getContractClass().getName());
                 LOGGER.error(message, e);
@@ -180,17 +321,61 @@ public class EthereumContractWrapper extends AbstractContractWrapper<EthereumCon
             }
 
             LOGGER.debug("Converting result to target type...");
-            var convertedResult = argumentConverter.convertMethodResult(methodInfo, functionCallResult.getData());
+            var convertedResult = convertMethodResult(methodInfo, functionCallResult);
 
-            if (ReflectionUtil.usesResultWrapper(methodInfo.getMethod())) {
+            if (invocationPlan.usesPendingResultWrapper()) {
+                return PendingResult.completed(new Result<>(convertedResult));
+            } else if (invocationPlan.usesResultWrapper()) {
                 return new Result<>(convertedResult);
             } else {
                 return convertedResult;
             }
-        });
+        }, getExecutor(InvocationLane.READ_ONLY));
     }
 
-    private Future<Object> deploy(EthereumMethodInfo methodInfo, Object[] arguments) {
+    /**
+     * Executes the given readonly call or returns its result from the {@link ReadOnlyCallCache} if the method is marked as cacheable.
+     *
+     * @param methodInfo      method info of the called method
+     * @param encodedFunction encoded function selector and arguments, also serving as cache key
+     * @return encoded function result
+     * @throws IOException in case of errors during the communication with the Ethereum node
+     */
+    @SuppressWarnings("unchecked")
+    private Result<String> executeReadOnlyCall(EthereumMethodInfo methodInfo, String encodedFunction) throws IOException {
+        var cache = getReadOnlyCallCache();
+        var contractAddress = contractInfo.getContractAddress();
+        if (cache == null || !methodInfo.isCacheable() || StringUtil.isNullOrEmpty(contractAddress)) {
+            return executeEncodedReadOnlyCall(encodedFunction);
+        }
+
+        var chain = getReadOnlyCallCacheChain();
+        var fromAddress = this.contractApi.getFromAddress();
+        var cachedResult = cache.get(chain, contractAddress, fromAddress, encodedFunction);
+        if (cachedResult != null) {
+            LOGGER.debug("Using cached result of readonly function call '{}()'", methodInfo.getContractMethodName());
+            return (Result<String>) cachedResult;
+        }
+
+        // results received after the next block arrived are not cached
+        var generation = cache.getGeneration();
+        var result = executeEncodedReadOnlyCall(encodedFunction);
+        var data = result.getData();
+        if (data != null) {
+            cache.put(chain, contractAddress, fromAddress, encodedFunction, result, 2L * data.length(), generation);
+        }
+        return result;
+    }
+
+    private Result<String> executeEncodedReadOnlyCall(String encodedFunction) throws IOException {
+        var aggregator = multicallAggregator;
+        if (aggregator == null) {
+            return this.contractApi.executeEncodedFunctionCall(encodedFunction);
+        }
+        return new Result<>(aggregator.call(contractInfo.getContractAddress(), encodedFunction), null, null);
+    }
+
+    private Future<Object> deploy(MethodInvocationPlan<EthereumMethodInfo, EthereumParameterInfo> invocationPlan, Object[] arguments) {
         return CompletableFuture.supplyAsync(() -> {
             LOGGER.info("Preparing to deploy contract '{}' ({})", this.contractInfo.getIdentifier(), this.contractInfo.getContractClass().getName());
 
@@ -206,12 +391,12 @@ public class EthereumContractWrapper extends AbstractContractWrapper<EthereumCon
                 throw new ContractDeploymentException(message);
             }
 
-            var deploymentArguments = extractContractMethodParameters(methodInfo, arguments);
-            var parameterInfos = extractContractMethodParameterInfos(methodInfo);
+            var deploymentArguments = invocationPlan.getContractArguments(arguments);
+            var parameterInfos = invocationPlan.getContractParameterInfos();
 
-            var gasPrice = extractGasPrice(methodInfo, arguments);
-            var gasLimit = extractGasLimit(methodInfo, arguments);
-            var value = extractEtherValue(methodInfo, arguments);
+            var gasPrice = extractGasPrice(invocationPlan, arguments);
+            var gasLimit = extractGasLimit(invocationPlan, arguments);
+            var value = extractEtherValue(invocationPlan, arguments);
 
             try {
                 var deploymentResult = this.contractApi.executeDeployTransaction(argumentConverter.convertArguments(parameterInfos, deploymentArguments), gasPrice, gasLimit, value);
@@ -219,7 +404,9 @@ public class EthereumContractWrapper extends AbstractContractWrapper<EthereumCon
 
                 this.contractInfo.setContractAddress(address);
 
-                if (ReflectionUtil.usesResultWrapper(methodInfo.getMethod())) {
+                if (invocationPlan.usesPendingResultWrapper()) {
+                    return PendingResult.completed(new Result<>(address, deploymentResult.getBlockHash(), deploymentResult.getTransactionHash()));
+                } else if (invocationPlan.usesResultWrapper()) {
                     return new Result<>(address, deploymentResult.getBlockHash(), deploymentResult.getTransactionHash());
                 } else {
                     return address;
@@ -228,40 +415,81 @@ public class EthereumContractWrapper extends AbstractContractWrapper<EthereumCon
             } catch (IOException | TransactionException e) {
                 throw new ContractDeploymentException(String.format("Failed to deploy contract '%s'", contractInfo.getContractClass().getName()), e);
             }
-        });
+        }, getExecutor(InvocationLane.DEPLOYMENT));
     }
 
 
-    private DefaultBlockParameter extractBlockParameterFrom(EthereumEventInfo eventInfo, Object[] arguments) {
-        var fromBlock = extractSpecialArgument(eventInfo, Constants.FROM_BLOCK_ARGUMENT, arguments);
+    private List<org.web3j.abi.datatypes.Type> convertArguments(List<EthereumParameterInfo> parameterInfos, Object[] methodArguments) {
+        LOGGER.debug("Converting arguments...");
+        var convertedArgs = argumentConverter.convertArguments(parameterInfos, methodArguments);
+        LOGGER.debug("Arguments: {}", convertedArgs.stream().map(x -> String.format("'%s'", x)).collect(Collectors.joining(", ")));
+        return convertedArgs;
+    }
+
+    private String encodeFunctionCall(EthereumMethodInfo methodInfo, List<EthereumParameterInfo> parameterInfos, Object[] methodArguments) {
+        LOGGER.debug("Encoding arguments...");
+        var encodedFunction = argumentConverter.encodeFunctionCall(methodInfo, parameterInfos, methodArguments);
+        LOGGER.debug("Encoded function call: {}", encodedFunction);
+        return encodedFunction;
+    }
+
+    private void requireNullableResult(EthereumMethodInfo methodInfo) {
+        var returnType = ReflectionUtil.getActualReturnType(methodInfo.getMethod());
+        if (returnType instanceof Class && ((Class<?>) returnType).isPrimitive()) {
+            throw new ContractCallException(String.format("Method '%s' of contract '%s' returns a primitive type which requires the transaction result to be simulated, see ContractMethod#simulateResult()",
+                    methodInfo.getContractMethodName(), contractInfo.getContractClass().getName()));
+        }
+    }
+
+    // the result decoder reads these types without creating a BigInteger per value
+    private static boolean hasPrimitiveResult(EthereumMethodInfo methodInfo) {
+        if (methodInfo.getResultTypeConverterClass().isPresent()) {
+            return false;
+        }
+        var returnType = ReflectionUtil.getActualReturnType(methodInfo.getMethod());
+        return returnType == long.class || returnType == long[].class || returnType == int[].class || returnType == LongList.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object convertMethodResult(EthereumMethodInfo methodInfo, Result<?> functionCallResult) {
+        var data = functionCallResult.getData();
+        if (data instanceof String) {
+            // encoded output of a readonly call or a directly encoded transaction, decoded directly where possible
+            return argumentConverter.decodeMethodResult(methodInfo, (String) data);
+        }
+        return argumentConverter.convertMethodResult(methodInfo, (List<org.web3j.abi.datatypes.Type>) data);
+    }
+
+    private DefaultBlockParameter extractBlockParameterFrom(EventInvocationPlan<EthereumEventInfo> invocationPlan, Object[] arguments) {
+        var fromBlock = invocationPlan.getSpecialArgument(FROM_BLOCK, arguments);
         if (fromBlock instanceof DefaultBlockParameter) {
             return (DefaultBlockParameter) fromBlock;
         }
         return DefaultBlockParameterName.LATEST;
     }
 
-    private DefaultBlockParameter extractBlockParameterTo(EthereumEventInfo eventInfo, Object[] arguments) {
-        var toBlock = extractSpecialArgument(eventInfo, Constants.TO_BLOCK_ARGUMENT, arguments);
+    private DefaultBlockParameter extractBlockParameterTo(EventInvocationPlan<EthereumEventInfo> invocationPlan, Object[] arguments) {
+        var toBlock = invocationPlan.getSpecialArgument(TO_BLOCK, arguments);
         if (toBlock instanceof DefaultBlockParameter) {
             return (DefaultBlockParameter) toBlock;
         }
         return DefaultBlockParameterName.LATEST;
     }
 
-    private BigInteger extractGasPrice(EthereumMethodInfo methodInfo, Object[] arguments) {
-        return extractBigInteger(methodInfo, Constants.GAS_PRICE_ARGUMENT, contractGasProvider.getGasPrice(methodInfo.getContractMethodName()), arguments);
+    private BigInteger extractGasPrice(MethodInvocationPlan<EthereumMethodInfo, EthereumParameterInfo> invocationPlan, Object[] arguments) {
+        return extractBigInteger(invocationPlan, GAS_PRICE, contractGasProvider.getGasPrice(invocationPlan.getContractMethodName()), arguments);
     }
 
-    private BigInteger extractGasLimit(EthereumMethodInfo methodInfo, Object[] arguments) {
-        return extractBigInteger(methodInfo, Constants.GAS_LIMIT_ARGUMENT, contractGasProvider.getGasLimit(methodInfo.getContractMethodName()), arguments);
+    private BigInteger extractGasLimit(MethodInvocationPlan<EthereumMethodInfo, EthereumParameterInfo> invocationPlan, Object[] arguments) {
+        return extractBigInteger(invocationPlan, GAS_LIMIT, contractGasProvider.getGasLimit(invocationPlan.getContractMethodName()), arguments);
     }
 
-    private BigInteger extractEtherValue(EthereumMethodInfo methodInfo, Object[] arguments) {
-        return extractBigInteger(methodInfo, Constants.WEI_VALUE_ARGUMENT, null, arguments);
+    private BigInteger extractEtherValue(MethodInvocationPlan<EthereumMethodInfo, EthereumParameterInfo> invocationPlan, Object[] arguments) {
+        return extractBigInteger(invocationPlan, WEI_VALUE, null, arguments);
     }
 
-    private BigInteger extractBigInteger(EthereumMethodInfo methodInfo, String parameterName, BigInteger defaultValue, Object[] arguments) {
-        var gasPrice = extractSpecialArgument(methodInfo, parameterName, arguments);
+    private BigInteger extractBigInteger(MethodInvocationPlan<EthereumMethodInfo, EthereumParameterInfo> invocationPlan, SpecialArgument specialArgument, BigInteger defaultValue, Object[] arguments) {
+        var gasPrice = invocationPlan.getSpecialArgument(specialArgument, arguments);
         if (gasPrice instanceof BigInteger) {
             return (BigInteger) gasPrice;
         } else if (gasPrice instanceof Number) {
@@ -1,29 +1,28 @@
 package org.blockchainnative.ethereum;
 
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.description.method.MethodDescription;
-import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
-import net.bytebuddy.implementation.ExceptionMethod;
-import net.bytebuddy.implementation.MethodDelegation;
-import net.bytebuddy.matcher.ElementMatcher;
-import net.bytebuddy.matcher.ElementMatchers;
+import io.reactivex.disposables.Disposable;
+import org.blockchainnative.ContractWrapperClassCache;
 import org.blockchainnative.ContractWrapperGenerator;
-import org.blockchainnative.SmartContract;
+import org.blockchainnative.InvocationScheduler;
+import org.blockchainnative.ReadOnlyCallCache;
 import org.blockchainnative.annotations.ContractMethod;
 import org.blockchainnative.convert.TypeConverters;
 import org.blockchainnative.ethereum.metadata.EthereumContractInfo;
 import org.blockchainnative.exceptions.ContractWrapperCreationException;
 import org.blockchainnative.metadata.ContractInfo;
 import org.blockchainnative.metadata.MethodInfo;
+import org.blockchainnative.util.ExecutorUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.tx.TransactionManager;
 import org.web3j.tx.gas.DefaultGasProvider;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -136,9 +135,20 @@ import java.util.function.Supplier;
  */
 public class EthereumContractWrapperGenerator implements ContractWrapperGenerator {
     private static final Logger LOGGER = LoggerFactory.getLogger(EthereumContractWrapperGenerator.class);
+    private static final long BLOCK_POLLING_RETRY_DELAY_SECONDS = 5;
     private final Supplier<Web3j> clientFactory;
     private final Function<Web3j, TransactionManager> transactionManagerFactory;
     private final TypeConverters typeConverters;
+    private final ContractWrapperClassCache wrapperClassCache = new ContractWrapperClassCache();
+    private boolean directAbiEncoding;
+    private Executor executor = ExecutorUtil.defaultExecutor();
+    private InvocationScheduler invocationScheduler;
+    private ReadOnlyCallCache readOnlyCallCache;
+    private Disposable readOnlyCallCacheInvalidation;
+    private Web3j identifiedClient;
+    private String identifiedChain;
+    private MulticallAggregator multicallAggregator;
+    private TransactionReceiptTracker transactionReceiptTracker;
 
     /** Initializes a new {@code EthereumContractWrapperGenerator}.
      * <p>
@@ -160,6 +170,188 @@ public class EthereumContractWrapperGenerator implements ContractWrapperGenerato
         this.typeConverters = typeConverters == null ? new TypeConverters() : typeConverters;
     }
 
+    /**
+     * Returns whether the generated wrappers encode function calls directly, see {@link #setDirectAbiEncoding(boolean)}
+     *
+     * @return true if function calls are encoded directly
+     * @since 1.1
+     */
+    public boolean isDirectAbiEncoding() {
+        return directAbiEncoding;
+    }
+
+    /**
+     * Specifies whether the generated wrappers ABI encode function calls directly from the method arguments
+     * instead of converting them to web3j types first, see {@link EthereumContractWrapper#setDirectAbiEncoding(boolean)}. <br>
+     * Disabled by default.
+     *
+     * @param directAbiEncoding true to encode function calls directly
+     * @since 1.1
+     */
+    public void setDirectAbiEncoding(boolean directAbiEncoding) {
+        this.directAbiEncoding = directAbiEncoding;
+    }
+
+    /**
+     * Returns the executor running the blocking calls of the generated wrappers, see {@link #setExecutor(Executor)}
+     *
+     * @return executor running the blocking calls of the generated wrappers
+     * @since 1.1
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Specifies the executor running the blocking calls of the generated wrappers, see {@link EthereumContractWrapper#setExecutor(Executor)}. <br>
+     * Defaults to the common {@code ForkJoinPool}, {@link ExecutorUtil#newVirtualThreadPerTaskExecutor()} runs each call on its own virtual thread.
+     *
+     * @param executor executor running the blocking calls of the generated wrappers
+     * @since 1.1
+     */
+    public void setExecutor(Executor executor) {
+        if (executor == null) throw new IllegalArgumentException("executor must not be null");
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the scheduler assigning the calls of the generated wrappers to lanes, see {@link #setInvocationScheduler(InvocationScheduler)}
+     *
+     * @return scheduler of the generated wrappers or null if none is used
+     * @since 1.1
+     */
+    public InvocationScheduler getInvocationScheduler() {
+        return invocationScheduler;
+    }
+
+    /**
+     * Specifies the scheduler assigning the calls of the generated wrappers to lanes, see {@link EthereumContractWrapper#setInvocationScheduler(InvocationScheduler)}. <br>
+     * All generated wrappers share the given scheduler. By default, no scheduler is used.
+     *
+     * @param invocationScheduler scheduler of the generated wrappers, may be null
+     * @since 1.1
+     */
+    public void setInvocationScheduler(InvocationScheduler invocationScheduler) {
+        this.invocationScheduler = invocationScheduler;
+    }
+
+    /**
+     * Returns the cache holding the results of readonly calls of the generated wrappers, see {@link #setReadOnlyCallCache(ReadOnlyCallCache)}
+     *
+     * @return cache of the generated wrappers or null if results are not cached
+     * @since 1.1
+     */
+    public synchronized ReadOnlyCallCache getReadOnlyCallCache() {
+        return readOnlyCallCache;
+    }
+
+    /**
+     * Specifies the cache holding the results of readonly calls of the generated wrappers, see {@link EthereumContractWrapper#setReadOnlyCallCache(ReadOnlyCallCache)}. <br>
+     * All generated wrappers share the given cache. It is invalidated whenever the node reports a new block
+     * and whenever a transaction submitted through one of the wrappers completes.
+     * The new blocks are polled using the client of the first wrapper generated with the cache,
+     * at the polling interval the client has been built with, see {@link Web3j#build(org.web3j.protocol.Web3jService, long, java.util.concurrent.ScheduledExecutorService)}. <br>
+     * Cached results are keyed by the hash of the genesis block of the wrapper's chain, wrappers whose chain cannot be identified
+     * do not use the cache. By default, no cache is used.
+     *
+     * @param readOnlyCallCache cache of the generated wrappers, may be null
+     * @since 1.1
+     */
+    public synchronized void setReadOnlyCallCache(ReadOnlyCallCache readOnlyCallCache) {
+        if (readOnlyCallCacheInvalidation != null) {
+            readOnlyCallCacheInvalidation.dispose();
+            readOnlyCallCacheInvalidation = null;
+        }
+        this.readOnlyCallCache = readOnlyCallCache;
+    }
+
+    private synchronized ReadOnlyCallCache invalidateReadOnlyCallCacheOnNewBlocks(Web3j client) {
+        var cache = readOnlyCallCache;
+        if (cache != null && readOnlyCallCacheInvalidation == null) {
+            readOnlyCallCacheInvalidation = client.ethBlockHashFlowable()
+                    .doOnError(e -> {
+                        // results cannot be trusted without knowing the head of the chain
+                        LOGGER.warn("Failed to poll new blocks, invalidating readonly call cache", e);
+                        cache.invalidateAll();
+                    })
+                    .retryWhen(errors -> errors.delay(BLOCK_POLLING_RETRY_DELAY_SECONDS, TimeUnit.SECONDS))
+                    .subscribe(blockHash -> cache.invalidateAll());
+        }
+        return cache;
+    }
+
+    private synchronized String identifyChain(Web3j client) {
+        if (client == identifiedClient) {
+            return identifiedChain;
+        }
+
+        try {
+            var response = client.ethGetBlockByNumber(DefaultBlockParameter.valueOf(BigInteger.ZERO), false).send();
+            if (response.hasError() || response.getBlock() == null) {
+                LOGGER.warn("Failed to query genesis block, results of readonly calls are not cached: {}", response.hasError() ? response.getError().getMessage() : "block not found");
+                return null;
+            }
+            identifiedClient = client;
+            identifiedChain = response.getBlock().getHash();
+            return identifiedChain;
+        } catch (IOException e) {
+            LOGGER.warn("Failed to query genesis block, results of readonly calls are not cached", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the aggregator readonly calls of the generated wrappers are sent through, see {@link #setMulticallAggregator(MulticallAggregator)}
+     *
+     * @return aggregator of readonly calls or null if readonly calls are sent directly
+     * @since 1.1
+     */
+    public MulticallAggregator getMulticallAggregator() {
+        return multicallAggregator;
+    }
+
+    /**
+     * Specifies the aggregator readonly calls of the generated wrappers are sent through, see {@link EthereumContractWrapper#setMulticallAggregator(MulticallAggregator)}. <br>
+     * All generated wrappers share the given aggregator, i.e. readonly calls to different contracts are aggregated
+     * into a single call of the Multicall contract. By default, readonly calls are sent directly.
+     *
+     * @param multicallAggregator aggregator of readonly calls, may be null
+     * @since 1.1
+     */
+    public void setMulticallAggregator(MulticallAggregator multicallAggregator) {
+        this.multicallAggregator = multicallAggregator;
+    }
+
+    /**
+     * Returns the tracker of the receipts of transactions submitted by the generated wrappers, see {@link #setTransactionReceiptTracker(TransactionReceiptTracker)}
+     *
+     * @return tracker of transaction receipts or null if no wrapper has been generated yet
+     * @since 1.1
+     */
+    public synchronized TransactionReceiptTracker getTransactionReceiptTracker() {
+        return transactionReceiptTracker;
+    }
+
+    /**
+     * Specifies the tracker of the receipts of transactions the generated wrappers submit without waiting for them to be mined,
+     * i.e. transactions of methods returning {@link org.blockchainnative.metadata.PendingResult}. <br>
+     * All generated wrappers share the given tracker. By default, a tracker is created which polls the receipts
+     * using the client of the first generated wrapper.
+     *
+     * @param transactionReceiptTracker tracker of transaction receipts, may be null
+     * @since 1.1
+     */
+    public synchronized void setTransactionReceiptTracker(TransactionReceiptTracker transactionReceiptTracker) {
+        this.transactionReceiptTracker = transactionReceiptTracker;
+    }
+
+    private synchronized TransactionReceiptTracker trackReceiptsWith(Web3j client) {
+        if (transactionReceiptTracker == null) {
+            transactionReceiptTracker = new TransactionReceiptTracker(client);
+        }
+        return transactionReceiptTracker;
+    }
+
     /**
      * Generates a new wrapper for the smart contract described by {@code contractInfo}. <br>
      * Although defined otherwise by the interface, {@code contractInfo} needs to be of type {@link EthereumContractInfo}.
@@ -188,71 +380,24 @@ public class EthereumContractWrapperGenerator implements ContractWrapperGenerato
         var client = clientFactory.get();
         var transactionManager = transactionManagerFactory.apply(client);
 
-        var base = new EthereumContractWrapper(ethereumContractInfo, new Web3ContractApiImpl(client, transactionManager, ethereumContractInfo), new DefaultGasProvider(), typeConverters);
-
-        var methodsByNameMatcher = getMethodElementMatcher(ethereumContractInfo);
-        var eventsByNameMatcher = getEventsElementMatcher(ethereumContractInfo);
-        var remainingMethodsMatcher = getRemainingMethodsElementMatcher(ethereumContractInfo);
+        var base = new EthereumContractWrapper(ethereumContractInfo, new Web3ContractApiImpl(client, transactionManager, ethereumContractInfo, trackReceiptsWith(client)), new DefaultGasProvider(), typeConverters);
+        base.setDirectAbiEncoding(directAbiEncoding);
+        base.setExecutor(executor);
+        base.setInvocationScheduler(invocationScheduler);
+        var readOnlyCallCache = invalidateReadOnlyCallCacheOnNewBlocks(client);
+        if (readOnlyCallCache != null) {
+            // the cache may be shared by wrappers connected to other chains
+            var chain = identifyChain(client);
+            base.setReadOnlyCallCache(chain != null ? readOnlyCallCache : null, chain);
+        }
+        base.setMulticallAggregator(multicallAggregator);
 
-        TContractType wrapper;
         try {
-            var interceptionMethodName = EthereumContractWrapper.class.getMethod("intercept", Method.class, Object[].class).getName();
-
-            wrapper = new ByteBuddy()
-                    .subclass(contractClass, ConstructorStrategy.Default.DEFAULT_CONSTRUCTOR)
-                    .name(getWrapperName(contractInfo))
-                    .method(methodsByNameMatcher)
-                    .intercept(MethodDelegation.to(base, EthereumContractWrapper.class, interceptionMethodName))
-                    .method(eventsByNameMatcher)
-                    .intercept(MethodDelegation.to(base, EthereumContractWrapper.class, interceptionMethodName))
-                    .method(remainingMethodsMatcher)
-                    .intercept(ExceptionMethod.throwing(UnsupportedOperationException.class))
-                    .make()
-                    .load(getClass().getClassLoader())
-                    .getLoaded()
-                    .asSubclass(contractClass)
-                    .getDeclaredConstructor().newInstance();
-
-            return wrapper;
-
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            return wrapperClassCache.newInstance(contractClass, base, getWrapperName(contractInfo), getClass().getClassLoader());
+        } catch (ContractWrapperCreationException e) {
             var message = String.format("Failed to create smart contract wrapper for contract '%s' (%s): %s", contractInfo.getIdentifier(), contractClass.getName(), e.getMessage());
             LOGGER.error(message, e);
             throw new ContractWrapperCreationException(message, e);
         }
     }
-
-    private ElementMatcher.Junction<? super MethodDescription> getMethodElementMatcher(EthereumContractInfo<?> contractInfo) {
-        ElementMatcher.Junction<? super MethodDescription> methodsByNameMatcher = ElementMatchers.none();
-        for (var methodInfo : contractInfo.getMethodInfos().values()) {
-            methodsByNameMatcher = methodsByNameMatcher.or(ElementMatchers.named(methodInfo.getMethod().getName()));
-        }
-
-        if(Arrays.stream(contractInfo.getContractClass().getMethods())
-                .anyMatch(method -> SmartContract.GET_CONTRACT_INFO_METHOD_NAME.equals(method.getName()))) {
-            methodsByNameMatcher = methodsByNameMatcher.or(ElementMatchers.named(SmartContract.GET_CONTRACT_INFO_METHOD_NAME));
-        }
-
-        return methodsByNameMatcher;
-    }
-
-    private ElementMatcher.Junction<? super MethodDescription> getEventsElementMatcher(EthereumContractInfo<?> contractInfo) {
-        ElementMatcher.Junction<? super MethodDescription> eventsByNameMatcher = ElementMatchers.none();
-        for (var eventInfo : contractInfo.getEventInfos().values()) {
-            eventsByNameMatcher = eventsByNameMatcher.or(ElementMatchers.named(eventInfo.getMethod().getName()));
-        }
-        return eventsByNameMatcher;
-    }
-
-    private ElementMatcher.Junction<? super MethodDescription> getRemainingMethodsElementMatcher(EthereumContractInfo<?> contractInfo) {
-        ElementMatcher.Junction<? super MethodDescription> allInterfaceMethods = ElementMatchers.none();
-        for (var method : contractInfo.getContractClass().getDeclaredMethods()) {
-            allInterfaceMethods = allInterfaceMethods.or(ElementMatchers.is(method));
-        }
-
-        return allInterfaceMethods.and(
-                ElementMatchers.not(
-                        getMethodElementMatcher(contractInfo)
-                                .or(getEventsElementMatcher(contractInfo))));
-    }
 }
@@ -0,0 +1,149 @@
+package org.blockchainnative.ethereum;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.crypto.Credentials;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.tx.ChainId;
+import org.web3j.tx.RawTransactionManager;
+import org.web3j.tx.TransactionManager;
+import org.web3j.tx.response.PollingTransactionReceiptProcessor;
+import org.web3j.tx.response.TransactionReceiptProcessor;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * {@link RawTransactionManager} taking the nonces of its transactions from a {@link NonceManager}
+ * instead of querying the node for each transaction. <br>
+ * <br>
+ * Transactions are signed and submitted one after another, so nonces are sent in the order they are handed out.
+ * Waiting for the receipts happens concurrently, i.e. concurrent callers and callers which do not wait for the receipt
+ * at all, e.g. contract methods returning {@link org.blockchainnative.metadata.PendingResult}, can submit many transactions per block. <br>
+ * <br>
+ * The nonce manager is resynchronized whenever a transaction is rejected or its receipt is not received in time.
+ * A transaction rejected due to a nonce which is too low, e.g. because another client sent transactions of the same account,
+ * is retried once with a resynchronized nonce.
+ *
+ * @author Matthias Veit
+ * @see NonceManager
+ * @since 1.1
+ */
+public class LocalNonceTransactionManager extends RawTransactionManager {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalNonceTransactionManager.class);
+
+    private final Web3j web3j;
+    private final NonceManager nonceManager;
+
+    /**
+     * Creates a new {@code LocalNonceTransactionManager} signing transactions without chain id.
+     *
+     * @param web3j        client used to submit transactions
+     * @param credentials  credentials of the account sending the transactions
+     * @param nonceManager nonce manager of the account, shared by all transaction managers of the account
+     */
+    public LocalNonceTransactionManager(Web3j web3j, Credentials credentials, NonceManager nonceManager) {
+        this(web3j, credentials, ChainId.NONE, nonceManager);
+    }
+
+    /**
+     * Creates a new {@code LocalNonceTransactionManager}.
+     *
+     * @param web3j        client used to submit transactions
+     * @param credentials  credentials of the account sending the transactions
+     * @param chainId      id of the chain the transactions are signed for
+     * @param nonceManager nonce manager of the account, shared by all transaction managers of the account
+     */
+    public LocalNonceTransactionManager(Web3j web3j, Credentials credentials, byte chainId, NonceManager nonceManager) {
+        this(web3j, credentials, chainId,
+                new PollingTransactionReceiptProcessor(web3j, TransactionManager.DEFAULT_POLLING_FREQUENCY, TransactionManager.DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH),
+                nonceManager);
+    }
+
+    /**
+     * Creates a new {@code LocalNonceTransactionManager}.
+     *
+     * @param web3j                       client used to submit transactions
+     * @param credentials                 credentials of the account sending the transactions
+     * @param chainId                     id of the chain the transactions are signed for
+     * @param transactionReceiptProcessor receipt processor awaiting the receipts of executed transactions
+     * @param nonceManager                nonce manager of the account, shared by all transaction managers of the account
+     */
+    public LocalNonceTransactionManager(Web3j web3j, Credentials credentials, byte chainId, TransactionReceiptProcessor transactionReceiptProcessor, NonceManager nonceManager) {
+        super(web3j, credentials, chainId, transactionReceiptProcessor);
+
+        if (nonceManager == null) throw new IllegalArgumentException("nonceManager must not be null");
+        if (!nonceManager.getAddress().equalsIgnoreCase(credentials.getAddress())) {
+            throw new IllegalArgumentException(String.format("nonceManager manages account '%s' instead of '%s'", nonceManager.getAddress(), credentials.getAddress()));
+        }
+
+        this.web3j = web3j;
+        this.nonceManager = nonceManager;
+    }
+
+    /**
+     * Returns the nonce manager providing the nonces of the transactions.
+     *
+     * @return nonce manager of the account
+     */
+    public NonceManager getNonceManager() {
+        return nonceManager;
+    }
+
+    @Override
+    protected BigInteger getNonce() throws IOException {
+        return nonceManager.acquireNonce(web3j);
+    }
+
+    @Override
+    public EthSendTransaction sendTransaction(BigInteger gasPrice, BigInteger gasLimit, String to, String data, BigInteger value) throws IOException {
+        // the nonce manager's lock keeps nonces from being handed out before the previous transaction has been submitted
+        synchronized (nonceManager) {
+            var response = submitTransaction(gasPrice, gasLimit, to, data, value);
+
+            if (response.hasError() && isNonceTooLow(response)) {
+                LOGGER.warn("Transaction of account '{}' rejected due to an outdated nonce, retrying with resynchronized nonce", nonceManager.getAddress());
+                response = submitTransaction(gasPrice, gasLimit, to, data, value);
+            }
+            return response;
+        }
+    }
+
+    @Override
+    protected TransactionReceipt executeTransaction(BigInteger gasPrice, BigInteger gasLimit, String to, String data, BigInteger value) throws IOException, TransactionException {
+        try {
+            return super.executeTransaction(gasPrice, gasLimit, to, data, value);
+        } catch (TransactionException e) {
+            // the transaction might have been dropped, its nonce would block all subsequent transactions
+            nonceManager.resynchronize();
+            throw e;
+        }
+    }
+
+    private EthSendTransaction submitTransaction(BigInteger gasPrice, BigInteger gasLimit, String to, String data, BigInteger value) throws IOException {
+        EthSendTransaction response;
+        try {
+            response = super.sendTransaction(gasPrice, gasLimit, to, data, value);
+        } catch (IOException | RuntimeException e) {
+            nonceManager.resynchronize();
+            throw e;
+        }
+
+        if (response.hasError()) {
+            nonceManager.resynchronize();
+        }
+        return response;
+    }
+
+    private static boolean isNonceTooLow(EthSendTransaction response) {
+        var message = response.getError().getMessage();
+        if (message == null) {
+            return false;
+        }
+        message = message.toLowerCase();
+        return message.contains("nonce too low") || message.contains("nonce is too low");
+    }
+}
@@ -0,0 +1,214 @@
+package org.blockchainnative.ethereum;
+
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.blockchainnative.ethereum.util.AbiFunctionEncoder;
+import org.blockchainnative.ethereum.util.AbiResultDecoder;
+import org.blockchainnative.ethereum.util.SolidityTypeDescriptor;
+import org.blockchainnative.exceptions.ContractCallException;
+import org.blockchainnative.util.CallBatcher;
+import org.blockchainnative.util.StringUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Aggregates readonly calls to arbitrary contracts into a single {@code eth_call} of a Multicall contract. <br>
+ * <br>
+ * Calls issued within the configured batch window are passed to the Multicall contract's
+ * {@code tryAggregate(bool,(address,bytes)[])} function, which is provided by Multicall2 and Multicall3 deployments.
+ * Hence, all results of a batch are computed on the same block and the node executes a single call.
+ * A call reverting within the batch only fails the corresponding caller. <br>
+ * <br>
+ * Note that the Multicall contract is the sender of the aggregated calls, i.e. functions depending on {@code msg.sender}
+ * return different results than when called directly. On Quorum, only public contracts can be called through
+ * a Multicall contract.
+ *
+ * @author Matthias Veit
+ * @see EthereumContractWrapper#setMulticallAggregator(MulticallAggregator)
+ * @since 1.1
+ */
+public final class MulticallAggregator implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MulticallAggregator.class);
+
+    /**
+     * Batch window in milliseconds used by {@link #MulticallAggregator(Web3j, String)}
+     */
+    public static final long DEFAULT_BATCH_WINDOW_MILLIS = 5;
+
+    /**
+     * Maximum number of calls per batch used by {@link #MulticallAggregator(Web3j, String)}
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private static final AbiFunctionEncoder TRY_AGGREGATE_ENCODER = new AbiFunctionEncoder("tryAggregate",
+            List.of(SolidityTypeDescriptor.of("bool"), SolidityTypeDescriptor.of("(address,bytes)[]")));
+    private static final AbiResultDecoder TRY_AGGREGATE_DECODER = AbiResultDecoder.of(
+            List.of(SolidityTypeDescriptor.of("(bool,bytes)[]")),
+            TypeUtils.parameterize(List.class, TypeUtils.parameterize(List.class, Object.class)))
+            .orElseThrow();
+
+    private final Web3j web3j;
+    private final String multicallAddress;
+    private final CallBatcher<AggregatedCall, String> batcher;
+
+    /**
+     * Creates a new {@code MulticallAggregator} using {@link #DEFAULT_BATCH_WINDOW_MILLIS} and {@link #DEFAULT_MAX_BATCH_SIZE}.
+     *
+     * @param web3j            client used to call the Multicall contract
+     * @param multicallAddress address of the Multicall contract on the network of the client
+     */
+    public MulticallAggregator(Web3j web3j, String multicallAddress) {
+        this(web3j, multicallAddress, DEFAULT_BATCH_WINDOW_MILLIS, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new {@code MulticallAggregator}.
+     *
+     * @param web3j             client used to call the Multicall contract
+     * @param multicallAddress  address of the Multicall contract on the network of the client
+     * @param batchWindowMillis time in milliseconds calls are collected before they are aggregated
+     * @param maxBatchSize      maximum number of calls per aggregated call
+     */
+    public MulticallAggregator(Web3j web3j, String multicallAddress, long batchWindowMillis, int maxBatchSize) {
+        if (web3j == null) throw new IllegalArgumentException("web3j must not be null");
+        if (StringUtil.isNullOrEmpty(multicallAddress)) throw new IllegalArgumentException("multicallAddress must not be null or empty");
+
+        this.web3j = web3j;
+        this.multicallAddress = Numeric.prependHexPrefix(multicallAddress);
+        this.batcher = new CallBatcher<>("multicall", batchWindowMillis, maxBatchSize, this::aggregate);
+    }
+
+    /**
+     * Calls the given contract as part of the next aggregated call and waits for the result.
+     *
+     * @param contractAddress address of the called contract
+     * @param encodedFunction encoded function selector and arguments
+     * @return encoded result of the call
+     * @throws IOException in case of errors during the communication with the Ethereum node
+     * @throws ContractCallException in case the call reverted
+     */
+    public String call(String contractAddress, String encodedFunction) throws IOException {
+        if (StringUtil.isNullOrEmpty(contractAddress)) throw new IllegalArgumentException("contractAddress must not be null or empty");
+        if (StringUtil.isNullOrEmpty(encodedFunction)) throw new IllegalArgumentException("encodedFunction must not be null or empty");
+
+        try {
+            return batcher.submit(new AggregatedCall(contractAddress, encodedFunction)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the result of the Multicall");
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Returns the address of the Multicall contract.
+     *
+     * @return address of the Multicall contract
+     */
+    public String getMulticallAddress() {
+        return multicallAddress;
+    }
+
+    /**
+     * Stops aggregating calls, calls which have not been sent yet fail with an {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        batcher.close();
+    }
+
+    private void aggregate(List<CallBatcher.BatchedCall<AggregatedCall, String>> batch) {
+        LOGGER.debug("Aggregating {} readonly calls using Multicall contract '{}'", batch.size(), multicallAddress);
+
+        List<CallResult> results;
+        try {
+            var calls = new ArrayList<AggregatedCall>(batch.size());
+            for (var call : batch) {
+                calls.add(call.getCall());
+            }
+
+            var response = web3j.ethCall(
+                    Transaction.createEthCallTransaction(null, multicallAddress, encodeTryAggregate(calls)), DefaultBlockParameterName.LATEST)
+                    .send();
+            if (response.hasError()) {
+                throw new ContractCallException(String.format("Multicall contract '%s' failed: %s", multicallAddress, response.getError().getMessage()));
+            }
+            results = decodeTryAggregate(response.getValue());
+            if (results.size() != batch.size()) {
+                throw new ContractCallException(String.format("Multicall contract '%s' returned %d results for %d calls", multicallAddress, results.size(), batch.size()));
+            }
+        } catch (IOException | RuntimeException e) {
+            for (var call : batch) {
+                call.completeExceptionally(e);
+            }
+            return;
+        }
+
+        for (var i = 0; i < batch.size(); i++) {
+            var call = batch.get(i);
+            var result = results.get(i);
+            if (result.success) {
+                call.complete(result.returnData);
+            } else {
+                call.completeExceptionally(new ContractCallException(
+                        String.format("Call to contract '%s' reverted within Multicall", call.getCall().contractAddress)));
+            }
+        }
+    }
+
+    private static String encodeTryAggregate(List<AggregatedCall> calls) {
+        var encodedCalls = new ArrayList<List<Object>>(calls.size());
+        for (var call : calls) {
+            encodedCalls.add(List.of(call.contractAddress, Numeric.hexStringToByteArray(call.encodedFunction)));
+        }
+        // requireSuccess is disabled, reverting calls only fail their caller
+        return TRY_AGGREGATE_ENCODER.encode(List.of(false, encodedCalls));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<CallResult> decodeTryAggregate(String encodedResult) {
+        if (Numeric.cleanHexPrefix(encodedResult != null ? encodedResult : "").isEmpty()) {
+            throw new ContractCallException("Multicall contract returned no data, verify the configured address");
+        }
+
+        var decodedResults = (List<List<Object>>) TRY_AGGREGATE_DECODER.decode(encodedResult);
+        var results = new ArrayList<CallResult>(decodedResults.size());
+        for (var decodedResult : decodedResults) {
+            results.add(new CallResult((Boolean) decodedResult.get(0), Numeric.toHexString((byte[]) decodedResult.get(1))));
+        }
+        return results;
+    }
+
+    private static final class AggregatedCall {
+        private final String contractAddress;
+        private final String encodedFunction;
+
+        private AggregatedCall(String contractAddress, String encodedFunction) {
+            this.contractAddress = contractAddress;
+            this.encodedFunction = encodedFunction;
+        }
+    }
+
+    private static final class CallResult {
+        private final boolean success;
+        private final String returnData;
+
+        private CallResult(boolean success, String returnData) {
+            this.success = success;
+            this.returnData = returnData;
+        }
+    }
+}
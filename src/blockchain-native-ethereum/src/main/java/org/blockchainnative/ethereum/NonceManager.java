@@ -0,0 +1,88 @@
+package org.blockchainnative.ethereum;
+
+import org.blockchainnative.util.StringUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Hands out the nonces of the transactions sent from a single account without querying the node for each transaction. <br>
+ * <br>
+ * The next nonce is synchronized with the account's pending transaction count once and then incremented locally,
+ * i.e. transactions can be submitted back-to-back without waiting for the previous ones to be mined.
+ * After a failed submission, the nonce manager has to be {@link #resynchronize() resynchronized}, otherwise
+ * the nonce of the failed transaction would leave a gap which blocks all subsequent transactions. <br>
+ * <br>
+ * All transaction managers signing transactions of the same account have to share a single {@code NonceManager}.
+ *
+ * @author Matthias Veit
+ * @see LocalNonceTransactionManager
+ * @since 1.1
+ */
+public final class NonceManager {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NonceManager.class);
+
+    private final String address;
+    private BigInteger nextNonce;
+
+    /**
+     * Creates a new {@code NonceManager}.
+     *
+     * @param address address of the account sending the transactions
+     */
+    public NonceManager(String address) {
+        if (StringUtil.isNullOrEmpty(address)) throw new IllegalArgumentException("address must not be null or empty");
+
+        this.address = address;
+    }
+
+    /**
+     * Returns the address of the account whose nonces are managed.
+     *
+     * @return address of the account
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Returns the nonce to be used by the next transaction and reserves it.
+     * The nonce is synchronized with the node if required.
+     *
+     * @param web3j client used to query the account's pending transaction count
+     * @return nonce of the next transaction
+     * @throws IOException in case of errors during the communication with the Ethereum node
+     */
+    public synchronized BigInteger acquireNonce(Web3j web3j) throws IOException {
+        if (web3j == null) throw new IllegalArgumentException("web3j must not be null");
+
+        if (nextNonce == null) {
+            nextNonce = queryPendingTransactionCount(web3j);
+            LOGGER.debug("Synchronized nonce of account '{}', next nonce: {}", address, nextNonce);
+        }
+
+        var nonce = nextNonce;
+        nextNonce = nextNonce.add(BigInteger.ONE);
+        return nonce;
+    }
+
+    /**
+     * Discards the locally managed nonce, the next call of {@link #acquireNonce(Web3j)} queries the node again.
+     */
+    public synchronized void resynchronize() {
+        LOGGER.debug("Resynchronizing nonce of account '{}'", address);
+        nextNonce = null;
+    }
+
+    private BigInteger queryPendingTransactionCount(Web3j web3j) throws IOException {
+        var response = web3j.ethGetTransactionCount(address, DefaultBlockParameterName.PENDING).send();
+        if (response.hasError()) {
+            throw new IOException(String.format("Failed to query transaction count of account '%s': %s", address, response.getError().getMessage()));
+        }
+        return response.getTransactionCount();
+    }
+}
@@ -0,0 +1,170 @@
+package org.blockchainnative.ethereum;
+
+import org.blockchainnative.util.StringUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.tx.TransactionManager;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the receipts of submitted transactions asynchronously. <br>
+ * <br>
+ * In contrast to a {@link org.web3j.tx.response.TransactionReceiptProcessor}, no thread is blocked per pending transaction.
+ * The receipts of all tracked transactions are polled by a single daemon thread owned by the tracker,
+ * which is released by {@link #close()}. A transaction whose receipt has not been received after the configured number
+ * of polling attempts fails with a {@link TransactionException}. Since such a transaction might have been dropped,
+ * the nonce manager passed to {@link #track(String, NonceManager)} is resynchronized in this case.
+ *
+ * @author Matthias Veit
+ * @see org.blockchainnative.ethereum.transactions.EthereumTransactionRequest#sendAsync()
+ * @since 1.1
+ */
+public final class TransactionReceiptTracker implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransactionReceiptTracker.class);
+
+    private final Web3j web3j;
+    private final long pollingIntervalMillis;
+    private final int attempts;
+    private final Map<String, TrackedTransaction> trackedTransactions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a new {@code TransactionReceiptTracker} using the polling interval and attempts of web3j's transaction managers.
+     *
+     * @param web3j client used to query the transaction receipts
+     */
+    public TransactionReceiptTracker(Web3j web3j) {
+        this(web3j, TransactionManager.DEFAULT_POLLING_FREQUENCY, TransactionManager.DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH);
+    }
+
+    /**
+     * Creates a new {@code TransactionReceiptTracker}.
+     *
+     * @param web3j                 client used to query the transaction receipts
+     * @param pollingIntervalMillis time in milliseconds between two queries of a transaction's receipt
+     * @param attempts              number of queries after which a transaction without receipt fails
+     */
+    public TransactionReceiptTracker(Web3j web3j, long pollingIntervalMillis, int attempts) {
+        if (web3j == null) throw new IllegalArgumentException("web3j must not be null");
+        if (pollingIntervalMillis < 1) throw new IllegalArgumentException("pollingIntervalMillis must be positive");
+        if (attempts < 1) throw new IllegalArgumentException("attempts must be positive");
+
+        this.web3j = web3j;
+        this.pollingIntervalMillis = pollingIntervalMillis;
+        this.attempts = attempts;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "transaction-receipt-tracker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::pollReceipts, pollingIntervalMillis, pollingIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts tracking the receipt of the given transaction.
+     *
+     * @param transactionHash hash of the submitted transaction
+     * @return future completed with the transaction's receipt once it has been mined
+     */
+    public CompletableFuture<TransactionReceipt> track(String transactionHash) {
+        if (StringUtil.isNullOrEmpty(transactionHash)) throw new IllegalArgumentException("transactionHash must not be null or empty");
+
+        return track(transactionHash, null);
+    }
+
+    /**
+     * Starts tracking the receipt of the given transaction. <br>
+     * The given nonce manager is resynchronized if the receipt has not been received after the configured number of polling attempts,
+     * as the nonce of a dropped transaction would block all subsequent transactions of the account.
+     *
+     * @param transactionHash hash of the submitted transaction
+     * @param nonceManager    nonce manager which handed out the nonce of the transaction, may be null
+     * @return future completed with the transaction's receipt once it has been mined
+     */
+    public CompletableFuture<TransactionReceipt> track(String transactionHash, NonceManager nonceManager) {
+        if (StringUtil.isNullOrEmpty(transactionHash)) throw new IllegalArgumentException("transactionHash must not be null or empty");
+
+        return trackedTransactions.computeIfAbsent(transactionHash, hash -> new TrackedTransaction(hash, nonceManager)).receipt;
+    }
+
+    /**
+     * Returns the number of transactions whose receipts have not been received yet.
+     *
+     * @return number of pending transactions
+     */
+    public int getPendingTransactionCount() {
+        return trackedTransactions.size();
+    }
+
+    /**
+     * Stops tracking receipts, pending transactions fail with a {@link TransactionException}.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        for (var trackedTransaction : trackedTransactions.values()) {
+            fail(trackedTransaction, new TransactionException(
+                    String.format("Stopped tracking receipt of transaction '%s'", trackedTransaction.transactionHash)));
+        }
+    }
+
+    private void pollReceipts() {
+        for (var trackedTransaction : trackedTransactions.values()) {
+            try {
+                var response = web3j.ethGetTransactionReceipt(trackedTransaction.transactionHash).send();
+                if (response.hasError()) {
+                    fail(trackedTransaction, new TransactionException("Error processing request: " + response.getError().getMessage()));
+                    continue;
+                }
+
+                var receipt = response.getTransactionReceipt();
+                if (receipt.isPresent()) {
+                    trackedTransactions.remove(trackedTransaction.transactionHash);
+                    trackedTransaction.receipt.complete(receipt.get());
+                    continue;
+                }
+            } catch (IOException e) {
+                LOGGER.debug("Failed to query receipt of transaction '{}'", trackedTransaction.transactionHash, e);
+            } catch (RuntimeException e) {
+                fail(trackedTransaction, e);
+                continue;
+            }
+
+            if (++trackedTransaction.attempts >= attempts) {
+                if (trackedTransaction.nonceManager != null) {
+                    trackedTransaction.nonceManager.resynchronize();
+                }
+                fail(trackedTransaction, new TransactionException(
+                        String.format("Transaction receipt was not generated after %d seconds for transaction: %s",
+                                pollingIntervalMillis * attempts / 1000, trackedTransaction.transactionHash)));
+            }
+        }
+    }
+
+    private void fail(TrackedTransaction trackedTransaction, Throwable exception) {
+        trackedTransactions.remove(trackedTransaction.transactionHash);
+        trackedTransaction.receipt.completeExceptionally(exception);
+    }
+
+    private static final class TrackedTransaction {
+        private final String transactionHash;
+        private final NonceManager nonceManager;
+        private final CompletableFuture<TransactionReceipt> receipt = new CompletableFuture<>();
+        private int attempts;
+
+        private TrackedTransaction(String transactionHash, NonceManager nonceManager) {
+            this.transactionHash = transactionHash;
+            this.nonceManager = nonceManager;
+        }
+    }
+}
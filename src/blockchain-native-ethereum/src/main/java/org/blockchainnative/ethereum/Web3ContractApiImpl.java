@@ -4,7 +4,9 @@ import io.reactivex.Observable;
 import org.blockchainnative.ethereum.metadata.EthereumContractInfo;
 import org.blockchainnative.exceptions.ContractCallException;
 import org.blockchainnative.metadata.Event;
+import org.blockchainnative.metadata.PendingResult;
 import org.blockchainnative.metadata.Result;
+import org.blockchainnative.util.CallCoalescer;
 import org.blockchainnative.util.StringUtil;
 import org.web3j.abi.*;
 
@@ -13,8 +15,11 @@ import org.web3j.abi.datatypes.Type;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.methods.request.EthFilter;
 import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.protocol.core.methods.response.Log;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
 import org.web3j.tx.Contract;
@@ -24,6 +29,8 @@ import org.web3j.tx.TransactionManager;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * @since 1.0
@@ -33,25 +40,42 @@ public class Web3ContractApiImpl implements Web3ContractApi {
 
     private final Web3j web3j;
     private final TransactionManager transactionManager;
+    private final NonceManager nonceManager;
+    private final CallCoalescer<String, String> readOnlyCalls = new CallCoalescer<>();
+    private TransactionReceiptTracker receiptTracker;
     private EthereumContractInfo<?> contractInfo;
 
 
     public Web3ContractApiImpl(Web3j web3j, TransactionManager transactionManager, EthereumContractInfo<?> contractInfo) {
+        this(web3j, transactionManager, contractInfo, null);
+    }
+
+    /**
+     * Creates a new {@code Web3ContractApiImpl}.
+     *
+     * @param web3j              client used to communicate with the Ethereum node
+     * @param transactionManager transaction manager used to sign and submit transactions
+     * @param contractInfo       contract info of the wrapped contract
+     * @param receiptTracker     tracker of the receipts of transactions submitted by {@link #submitEncodedFunctionCallTransaction(String, BigInteger, BigInteger, BigInteger, boolean)},
+     *                           may be shared by multiple instances; if null, a tracker is created on first use
+     * @since 1.1
+     */
+    public Web3ContractApiImpl(Web3j web3j, TransactionManager transactionManager, EthereumContractInfo<?> contractInfo, TransactionReceiptTracker receiptTracker) {
         this.web3j = web3j;
         this.transactionManager = transactionManager;
         this.contractInfo = contractInfo;
+        this.receiptTracker = receiptTracker;
+        // locally managed nonces need to be resynchronized if a submitted transaction is dropped
+        this.nonceManager = transactionManager instanceof LocalNonceTransactionManager
+                ? ((LocalNonceTransactionManager) transactionManager).getNonceManager()
+                : null;
     }
 
     @Override
     public Observable<Event<EventValues>> getEventObservable(String eventName, List<TypeReference<?>> eventTypes, DefaultBlockParameter fromBlock, DefaultBlockParameter toBlock) {
         var event = new org.web3j.abi.datatypes.Event(eventName, eventTypes);
 
-        var address = getContractAddress();
-
-        var filter = new EthFilter(fromBlock, toBlock, address);
-        filter.addSingleTopic(EventEncoder.encode(event));
-
-        return this.web3j.ethLogFlowable(filter).map(log -> {
+        return this.web3j.ethLogFlowable(createEventFilter(event, fromBlock, toBlock)).map(log -> {
             var eventValues = Contract.staticExtractEventParameters(event, log);
             var eventValuesWithBlockData = new Event<>(
                     eventValues, log.getBlockHash(), log.getTransactionHash());
@@ -60,24 +84,76 @@ public class Web3ContractApiImpl implements Web3ContractApi {
         }).toObservable();
     }
 
+    @Override
+    public Observable<Log> getLogObservable(String eventName, List<TypeReference<?>> eventTypes, DefaultBlockParameter fromBlock, DefaultBlockParameter toBlock) {
+        var event = new org.web3j.abi.datatypes.Event(eventName, eventTypes);
+
+        return this.web3j.ethLogFlowable(createEventFilter(event, fromBlock, toBlock)).toObservable();
+    }
+
+    private EthFilter createEventFilter(org.web3j.abi.datatypes.Event event, DefaultBlockParameter fromBlock, DefaultBlockParameter toBlock) {
+        var address = getContractAddress();
+
+        var filter = new EthFilter(fromBlock, toBlock, address);
+        filter.addSingleTopic(EventEncoder.encode(event));
+        return filter;
+    }
+
     @Override
     public Result<List<Type>> executeFunctionCall(Function function) throws IOException {
-        var encodedFunction = FunctionEncoder.encode(function);
-        var encodedResult = executeFunctionCall(encodedFunction);
-        var output = FunctionReturnDecoder.decode(encodedResult, function.getOutputParameters());
+        var encodedResult = executeEncodedFunctionCall(FunctionEncoder.encode(function));
+
+        return decodeResult(encodedResult, function);
+    }
+
+    @Override
+    public Result<List<Type>> executeFunctionCallTransaction(Function function, BigInteger gasPrice, BigInteger gasLimit, BigInteger value, boolean simulateResult) throws IOException, TransactionException {
+        var encodedResult = executeEncodedFunctionCallTransaction(FunctionEncoder.encode(function), gasPrice, gasLimit, value, simulateResult);
+
+        return decodeResult(encodedResult, function);
+    }
+
+    @Override
+    public Result<String> executeEncodedFunctionCall(String encodedFunction) throws IOException {
+        // concurrent identical calls share a single eth_call
+        var encodedResult = readOnlyCalls.execute(getContractAddress() + encodedFunction, () -> executeFunctionCall(encodedFunction));
 
-        return new Result<>(output, null, null);
+        return new Result<>(encodedResult, null, null);
     }
 
     @Override
-    public Result<List<Type>> executeFunctionCallTransaction(Function function, BigInteger gasPrice, BigInteger gasLimit, BigInteger value) throws IOException, TransactionException {
-        var encodedFunction = FunctionEncoder.encode(function);
-        var encodedResult = executeFunctionCall(encodedFunction);
-        var output = FunctionReturnDecoder.decode(encodedResult, function.getOutputParameters());
+    public Result<String> executeEncodedFunctionCallTransaction(String encodedFunction, BigInteger gasPrice, BigInteger gasLimit, BigInteger value, boolean simulateResult) throws IOException, TransactionException {
+        var simulation = simulateResult ? simulateFunctionCall(encodedFunction) : null;
 
         var transactionReceipt = executeTransaction(getContractAddress(), gasPrice, gasLimit, encodedFunction, value);
 
-        return new Result<>(output, transactionReceipt.getBlockHash(), transactionReceipt.getTransactionHash());
+        var encodedResult = simulation != null ? awaitSimulation(simulation, transactionReceipt.getTransactionHash()) : null;
+
+        return new Result<>(encodedResult, transactionReceipt.getBlockHash(), transactionReceipt.getTransactionHash());
+    }
+
+    @Override
+    public PendingResult<List<Type>> submitFunctionCallTransaction(Function function, BigInteger gasPrice, BigInteger gasLimit, BigInteger value, boolean simulateResult) throws IOException, TransactionException {
+        var pendingResult = submitEncodedFunctionCallTransaction(FunctionEncoder.encode(function), gasPrice, gasLimit, value, simulateResult);
+
+        return new PendingResult<>(
+                decodeResult(pendingResult, function).getData(),
+                pendingResult.getTransactionHash(),
+                pendingResult.getConfirmation().thenApply(result -> decodeResult(result, function)));
+    }
+
+    @Override
+    public PendingResult<String> submitEncodedFunctionCallTransaction(String encodedFunction, BigInteger gasPrice, BigInteger gasLimit, BigInteger value, boolean simulateResult) throws IOException, TransactionException {
+        var simulation = simulateResult ? simulateFunctionCall(encodedFunction) : null;
+
+        var transactionHash = submitTransaction(getContractAddress(), gasPrice, gasLimit, encodedFunction, value);
+
+        var encodedResult = simulation != null ? awaitSimulation(simulation, transactionHash) : null;
+
+        var confirmation = awaitTransactionReceipt(transactionHash)
+                .thenApply(transactionReceipt -> new Result<>(encodedResult, transactionReceipt.getBlockHash(), transactionReceipt.getTransactionHash()));
+
+        return new PendingResult<>(encodedResult, transactionHash, confirmation);
     }
 
     @Override
@@ -88,11 +164,48 @@ public class Web3ContractApiImpl implements Web3ContractApi {
         return new Result<>(transactionReceipt.getContractAddress(), transactionReceipt.getBlockHash(), transactionReceipt.getTransactionHash());
     }
 
+    private static Result<List<Type>> decodeResult(Result<String> encodedResult, Function function) {
+        var output = encodedResult.getData() != null ? FunctionReturnDecoder.decode(encodedResult.getData(), function.getOutputParameters()) : null;
+
+        return new Result<>(output, encodedResult.getBlockHash(), encodedResult.getTransactionHash());
+    }
+
     private String executeFunctionCall(String encodedFunction) throws IOException {
+        return createFunctionCall(encodedFunction, DefaultBlockParameterName.LATEST).send().getValue();
+    }
+
+    private CompletableFuture<EthCall> simulateFunctionCall(String encodedFunction) throws IOException {
+        // the call is pinned to the block preceding the transaction, on instant-mining chains 'latest' may already include it
+        var blockNumber = this.web3j.ethBlockNumber().send();
+        if (blockNumber.hasError()) {
+            throw new IOException("Failed to query block number: " + blockNumber.getError().getMessage());
+        }
+
+        // the call runs while the transaction is signed and submitted
+        return createFunctionCall(encodedFunction, DefaultBlockParameter.valueOf(blockNumber.getBlockNumber())).sendAsync();
+    }
+
+    private static String awaitSimulation(CompletableFuture<EthCall> simulation, String transactionHash) throws IOException {
+        EthCall response;
+        try {
+            response = simulation.join();
+        } catch (CompletionException e) {
+            throw new IOException(String.format("Failed to simulate result of transaction '%s'", transactionHash), e.getCause());
+        }
+
+        if (response.hasError()) {
+            throw new ContractCallException(
+                    String.format(
+                            "Failed to simulate result of transaction '%s': %s", transactionHash, response.getError().getMessage()));
+        }
+
+        return response.getValue();
+    }
+
+    private Request<?, EthCall> createFunctionCall(String encodedFunction, DefaultBlockParameter block) {
         return this.web3j.ethCall(
                 Transaction.createEthCallTransaction(
-                        transactionManager.getFromAddress(), getContractAddress(), encodedFunction), DefaultBlockParameterName.LATEST)
-                .send().getValue();
+                        transactionManager.getFromAddress(), getContractAddress(), encodedFunction), block);
     }
 
     private TransactionReceipt executeTransaction(String to, BigInteger gasPrice, BigInteger gasLimit, String data, BigInteger value) throws IOException, TransactionException {
@@ -108,6 +221,35 @@ public class Web3ContractApiImpl implements Web3ContractApi {
         return transactionReceipt;
     }
 
+    private String submitTransaction(String to, BigInteger gasPrice, BigInteger gasLimit, String data, BigInteger value) throws IOException, TransactionException {
+        var response = transactionManager.sendTransaction(ensureNotNull(gasPrice), ensureNotNull(gasLimit), to, data, ensureNotNull(value));
+
+        if (response.hasError()) {
+            throw new TransactionException("Error processing transaction request: " + response.getError().getMessage());
+        }
+
+        return response.getTransactionHash();
+    }
+
+    private CompletableFuture<TransactionReceipt> awaitTransactionReceipt(String transactionHash) {
+        return getReceiptTracker().track(transactionHash, nonceManager).thenApply(transactionReceipt -> {
+            if (!transactionReceipt.isStatusOK()) {
+                throw new ContractCallException(
+                        String.format(
+                                "Failed to execute transaction, status: '%s'.", transactionReceipt.getStatus()));
+            }
+
+            return transactionReceipt;
+        });
+    }
+
+    private synchronized TransactionReceiptTracker getReceiptTracker() {
+        if (receiptTracker == null) {
+            receiptTracker = new TransactionReceiptTracker(web3j);
+        }
+        return receiptTracker;
+    }
+
     private String getContractAddress() {
         if (this.contractInfo == null) {
             throw new IllegalStateException("ContractInfo is not set");
@@ -138,6 +280,11 @@ public class Web3ContractApiImpl implements Web3ContractApi {
         return binary;
     }
 
+    @Override
+    public String getFromAddress() {
+        return transactionManager.getFromAddress();
+    }
+
     @Override
     public void setContractInfo(EthereumContractInfo<?> contractInfo) {
         this.contractInfo = contractInfo;
@@ -368,7 +368,7 @@ public class EthereumContractInfoBuilder<TContractType> extends ContractInfoBuil
                 return builder.getParameterInfo();
             }).collect(Collectors.toList());
 
-            return new EthereumMethodInfo(method, contractMethodName, isReadOnly, isSpecialMethod, parameterInfos, abi, resultTypeConverterClass);
+            return new EthereumMethodInfo(method, contractMethodName, isReadOnly, isSpecialMethod, parameterInfos, abi, resultTypeConverterClass, isCacheable, simulateResult);
         }
     }
 
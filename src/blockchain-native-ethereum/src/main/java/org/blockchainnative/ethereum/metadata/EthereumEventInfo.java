@@ -1,13 +1,22 @@
 package org.blockchainnative.ethereum.metadata;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.blockchainnative.ethereum.util.AbiEventDecoder;
+import org.blockchainnative.ethereum.util.TypeReferenceCache;
+import org.blockchainnative.metadata.EventFieldInfo;
 import org.blockchainnative.metadata.EventInfo;
+import org.web3j.abi.TypeReference;
 import org.web3j.protocol.core.methods.response.AbiDefinition;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Holds additional information about a smart contract event. <br>
@@ -21,6 +30,8 @@ import java.util.Collection;
  */
 public class EthereumEventInfo extends EventInfo<EthereumEventFieldInfo, EthereumEventParameterInfo> {
     private final AbiDefinition abiDefinition;
+    private volatile Optional<AbiEventDecoder> eventDecoder;
+    private volatile List<TypeReference<?>> inputTypeReferences;
 
     /**
      * Constructs a new {@code EthereumEventInfo}
@@ -45,6 +56,50 @@ public class EthereumEventInfo extends EventInfo<EthereumEventFieldInfo, Ethereu
         return abiDefinition;
     }
 
+    /**
+     * Returns the decoder for logs of the corresponding smart contract event into the fields of the event type. <br>
+     * The decoder is created on first use and reused afterwards.
+     *
+     * @return decoder or an empty {@code Optional} in case the event's fields cannot be decoded directly
+     * @throws NoSuchMethodException  in case the event type does not provide a default constructor
+     * @throws IllegalAccessException in case the default constructor or one of the fields of the event type cannot be accessed
+     * @see AbiEventDecoder
+     * @since 1.1
+     */
+    @JsonIgnore
+    public Optional<AbiEventDecoder> getEventDecoder() throws NoSuchMethodException, IllegalAccessException {
+        var decoder = eventDecoder;
+        if (decoder == null) {
+            if (abiDefinition == null) {
+                throw new IllegalStateException(String.format("ABI of event '%s' is not set", getEventName()));
+            }
+            var fields = eventFieldInfos.stream().map(EventFieldInfo::getField).collect(Collectors.toList());
+            var fieldTypes = eventFieldInfos.stream().map(EthereumEventFieldInfo::getSolidityType).collect(Collectors.toList());
+            decoder = AbiEventDecoder.of(abiDefinition, fields, fieldTypes, getEventObjectFactory());
+            eventDecoder = decoder;
+        }
+        return decoder;
+    }
+
+    /**
+     * Returns the web3j type references of the event's parameters. <br>
+     * The type references are resolved on first use and reused afterwards.
+     *
+     * @return type references of the event parameters in declaration order
+     * @since 1.1
+     */
+    @JsonIgnore
+    public List<TypeReference<?>> getInputTypeReferences() {
+        var typeReferences = inputTypeReferences;
+        if (typeReferences == null) {
+            typeReferences = abiDefinition != null && abiDefinition.getInputs() != null
+                    ? Collections.unmodifiableList(TypeReferenceCache.getDefault().getTypeReferences(abiDefinition.getInputs()))
+                    : Collections.emptyList();
+            inputTypeReferences = typeReferences;
+        }
+        return typeReferences;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
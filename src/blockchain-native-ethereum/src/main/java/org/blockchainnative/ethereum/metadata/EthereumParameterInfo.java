@@ -1,9 +1,12 @@
 package org.blockchainnative.ethereum.metadata;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.blockchainnative.convert.TypeConverter;
+import org.blockchainnative.ethereum.util.SolidityTypeDescriptor;
+import org.blockchainnative.exceptions.TypeConvertException;
 import org.blockchainnative.metadata.ParameterInfo;
 
 import java.lang.reflect.Parameter;
@@ -20,6 +23,7 @@ import java.lang.reflect.Parameter;
  */
 public class EthereumParameterInfo extends ParameterInfo {
     private final String solidityType;
+    private final SolidityTypeDescriptor solidityTypeDescriptor;
 
     /**
      * Constructs a new {@code EthereumParameterInfo}
@@ -47,6 +51,7 @@ public class EthereumParameterInfo extends ParameterInfo {
     public EthereumParameterInfo(Parameter parameter, int parameterIndex, String solidityType, Class<? extends TypeConverter<?, ?>> typeConverterClass, Class<?> passParameterAsType, String specialArgumentName) {
         super(parameter, parameterIndex, typeConverterClass, passParameterAsType, specialArgumentName);
         this.solidityType = solidityType;
+        this.solidityTypeDescriptor = parseSolidityType(solidityType);
     }
 
     /**
@@ -58,6 +63,32 @@ public class EthereumParameterInfo extends ParameterInfo {
         return solidityType;
     }
 
+    /**
+     * Returns the parsed representation of the parameter's solidity type
+     *
+     * @return descriptor of the parameter's solidity type or {@code null} if no solidity type is defined
+     */
+    @JsonIgnore
+    public SolidityTypeDescriptor getSolidityTypeDescriptor() {
+        if (solidityTypeDescriptor == null && solidityType != null) {
+            // unsupported type, fails with a descriptive exception
+            return SolidityTypeDescriptor.of(solidityType);
+        }
+        return solidityTypeDescriptor;
+    }
+
+
+    private static SolidityTypeDescriptor parseSolidityType(String solidityType) {
+        if (solidityType == null) {
+            return null;
+        }
+        try {
+            return SolidityTypeDescriptor.of(solidityType);
+        } catch (TypeConvertException e) {
+            // unsupported types are only reported once the parameter is actually converted
+            return null;
+        }
+    }
 
     @Override
     public boolean equals(Object o) {
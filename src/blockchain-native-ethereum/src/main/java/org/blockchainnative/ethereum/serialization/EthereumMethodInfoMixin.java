@@ -25,6 +25,8 @@ public abstract class EthereumMethodInfoMixin {
                                    @JsonProperty("specialMethod") boolean specialMethod,
                                    @JsonProperty("parameterInfos") List<EthereumParameterInfo> parameters,
                                    @JsonProperty("abi") AbiDefinition abi,
-                                   @JsonProperty("resultTypeConverterClass") Class<? extends TypeConverter<?, ?>> resultTypeConverterClass) {
+                                   @JsonProperty("resultTypeConverterClass") Class<? extends TypeConverter<?, ?>> resultTypeConverterClass,
+                                   @JsonProperty("cacheable") boolean cacheable,
+                                   @JsonProperty("simulateResult") boolean simulateResult) {
     }
 }
@@ -1,5 +1,6 @@
 package org.blockchainnative.ethereum.transactions;
 
+import org.blockchainnative.ethereum.TransactionReceiptTracker;
 import org.blockchainnative.transactions.TransactionBuilder;
 import org.web3j.protocol.Web3j;
 import org.web3j.tx.TransactionManager;
@@ -19,6 +20,18 @@ public class EthereumTransactionBuilder implements TransactionBuilder<EthereumTr
     private EthereumTransactionRequest transaction;
 
     public EthereumTransactionBuilder(Web3j web3j, TransactionManager transactionManager) {
+        this(web3j, transactionManager, null);
+    }
+
+    /**
+     * Creates a new {@code EthereumTransactionBuilder} whose transactions are tracked by the given {@link TransactionReceiptTracker}
+     * when sent asynchronously, see {@link EthereumTransactionRequest#sendAsync()}.
+     *
+     * @param web3j              client used to submit the transaction
+     * @param transactionManager transaction manager signing the transaction
+     * @param receiptTracker     tracker of the transaction's receipt (can be null)
+     */
+    public EthereumTransactionBuilder(Web3j web3j, TransactionManager transactionManager, TransactionReceiptTracker receiptTracker) {
         if(web3j == null)
             throw new IllegalArgumentException("Web3j client must not be null!");
 
@@ -26,7 +39,7 @@ public class EthereumTransactionBuilder implements TransactionBuilder<EthereumTr
             throw new IllegalArgumentException("TransactionManager must not be null!");
         }
 
-        transaction = new EthereumTransactionRequest(web3j, transactionManager);
+        transaction = new EthereumTransactionRequest(web3j, transactionManager, receiptTracker);
     }
 
     /**
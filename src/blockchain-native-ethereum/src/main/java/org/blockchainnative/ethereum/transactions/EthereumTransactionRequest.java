@@ -1,14 +1,18 @@
 package org.blockchainnative.ethereum.transactions;
 
+import org.blockchainnative.ethereum.LocalNonceTransactionManager;
+import org.blockchainnative.ethereum.TransactionReceiptTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
 import org.web3j.tx.TransactionManager;
 import org.web3j.tx.gas.DefaultGasProvider;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Matthias Veit
@@ -17,10 +21,16 @@ import java.math.BigInteger;
 public class EthereumTransactionRequest extends EthereumBaseTransactionRequest {
     private static final Logger LOGGER = LoggerFactory.getLogger(EthereumTransactionRequest.class);
 
+    private final TransactionReceiptTracker receiptTracker;
     private BigInteger gasPrice;
 
     protected EthereumTransactionRequest(Web3j web3j, TransactionManager transactionManager) {
+        this(web3j, transactionManager, null);
+    }
+
+    protected EthereumTransactionRequest(Web3j web3j, TransactionManager transactionManager, TransactionReceiptTracker receiptTracker) {
         super(web3j, transactionManager);
+        this.receiptTracker = receiptTracker;
     }
 
     public BigInteger getGasPrice() {
@@ -43,6 +53,58 @@ public class EthereumTransactionRequest extends EthereumBaseTransactionRequest {
         }
     }
 
+    /**
+     * Executes the transaction asynchronously. <br>
+     * If the request has been created with a {@link TransactionReceiptTracker}, the method returns as soon as the transaction
+     * has been submitted and the returned future completes once the transaction has been mined.
+     * The future fails if the transaction has been mined unsuccessfully or its receipt has not been received in time.
+     * Hence, multiple transactions can be submitted back-to-back, given the transaction manager hands out nonces locally,
+     * see {@link org.blockchainnative.ethereum.LocalNonceTransactionManager}.
+     *
+     * @return hash value of transaction
+     */
+    @Override
+    public CompletableFuture<String> sendAsync() {
+        if (receiptTracker == null) {
+            return super.sendAsync();
+        }
+
+        // validate the transaction before submitting it
+        validate();
+
+        var transactionHash = submit();
+
+        var nonceManager = transactionManager instanceof LocalNonceTransactionManager
+                ? ((LocalNonceTransactionManager) transactionManager).getNonceManager()
+                : null;
+
+        return receiptTracker.track(transactionHash, nonceManager).thenApply(this::checkStatus);
+    }
+
+    private String checkStatus(TransactionReceipt transactionReceipt) {
+        if (!transactionReceipt.isStatusOK()) {
+            throw new org.blockchainnative.transactions.exceptions.TransactionException(
+                    String.format("Failed to execute transaction with recipient '%s', status: '%s'", recipient, transactionReceipt.getStatus()));
+        }
+
+        return transactionReceipt.getTransactionHash();
+    }
+
+    private String submit() {
+        try {
+            var response = transactionManager.sendTransaction(gasPrice, gasLimit, recipient, encodeData(data), value);
+            if (response.hasError()) {
+                throw new org.blockchainnative.transactions.exceptions.TransactionException(
+                        String.format("Failed to submit transaction with recipient '%s': %s", recipient, response.getError().getMessage()));
+            }
+
+            return response.getTransactionHash();
+        } catch (IOException e) {
+            throw new org.blockchainnative.transactions.exceptions.TransactionException(
+                    String.format("Failed to submit transaction with recipient '%s'", recipient), e);
+        }
+    }
+
     @Override
     protected void validateProperties() {
         validateRecipient();
@@ -0,0 +1,372 @@
+package org.blockchainnative.ethereum.util;
+
+import org.blockchainnative.exceptions.TypeConvertException;
+import org.blockchainnative.util.EventObjectFactory;
+import org.web3j.protocol.core.methods.response.AbiDefinition;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decodes smart contract event logs directly into the fields of an existing event object. <br>
+ * <br>
+ * The position of each field within the log's topics and data as well as the way it is converted is determined once when
+ * the decoder is created. Decoding a log then reads the hex encoded topics and data in place, without creating web3j types
+ * or intermediate byte arrays. Fields declared as {@code long}, {@code int}, {@code short}, {@code byte} or {@code boolean}
+ * are set without boxing their values, hence, decoding an event consisting only of such fields does not allocate any objects. <br>
+ * <br>
+ * The following field types are supported:
+ * <ul>
+ * <li>{@code int}, {@code uint}: {@code long}, {@code int}, {@code short} and {@code byte} (and their wrapper types),
+ * {@code BigInteger}, {@code Number} and {@code Object}. Values which do not fit into the declared type are rejected.</li>
+ * <li>{@code bool}: {@code boolean}</li>
+ * <li>{@code address}: {@code String}</li>
+ * <li>{@code bytes1} - {@code bytes32}: {@code byte[]}</li>
+ * <li>non-indexed {@code string} and {@code bytes}: {@code String} and {@code byte[]} respectively</li>
+ * </ul>
+ * Arrays are not supported, neither are indexed dynamic types as only their hash is contained in the log's topics.
+ * <p>
+ * Instances are immutable and can safely be used by multiple threads at once, as long as each thread decodes into its own event object.
+ * </p>
+ *
+ * @author Matthias Veit
+ * @see EventObjectFactory
+ * @since 1.1
+ */
+public final class AbiEventDecoder {
+
+    private static final int WORD_LENGTH = 64;
+    private static final int LONG_LENGTH = Long.BYTES * 2;
+    private static final int INT_LENGTH = Integer.BYTES * 2;
+    private static final int ADDRESS_LENGTH = 40;
+
+    private final EventObjectFactory eventObjectFactory;
+    private final FieldReader[] readers;
+
+    private AbiEventDecoder(EventObjectFactory eventObjectFactory, FieldReader[] readers) {
+        this.eventObjectFactory = eventObjectFactory;
+        this.readers = readers;
+    }
+
+    /**
+     * Creates a decoder for the given event.
+     *
+     * @param eventAbi           ABI definition of the event
+     * @param fields             fields of the event type in the order they are addressed by {@code eventObjectFactory}
+     * @param fieldTypes         Solidity types of the fields, the fields are mapped to the event's indexed and non-indexed
+     *                           inputs in the order they are declared
+     * @param eventObjectFactory factory used to set the fields of the event object
+     * @return decoder or an empty {@code Optional} in case one of the fields cannot be decoded directly
+     */
+    public static Optional<AbiEventDecoder> of(AbiDefinition eventAbi, List<Field> fields, List<AbiDefinition.NamedType> fieldTypes, EventObjectFactory eventObjectFactory) {
+        if (eventAbi == null) throw new IllegalArgumentException("eventAbi must not be null");
+        if (fields == null) throw new IllegalArgumentException("fields must not be null");
+        if (fieldTypes == null) throw new IllegalArgumentException("fieldTypes must not be null");
+        if (eventObjectFactory == null) throw new IllegalArgumentException("eventObjectFactory must not be null");
+        if (fields.size() != fieldTypes.size())
+            throw new IllegalArgumentException("Each field needs a corresponding field type");
+
+        // topic 0 holds the event signature, non-indexed values are encoded as tuple in the log's data
+        var topicCount = 1;
+        var dataOffsets = new ArrayList<Integer>();
+        var dataOffset = 0;
+        for (var input : eventAbi.getInputs()) {
+            if (input.isIndexed()) {
+                topicCount++;
+            } else {
+                dataOffsets.add(dataOffset);
+                dataOffset += SolidityTypeDescriptor.of(input.getType()).getHeadSize();
+            }
+        }
+
+        var readers = new FieldReader[fields.size()];
+        var topic = 1;
+        var nonIndexedCount = 0;
+        for (var i = 0; i < readers.length; i++) {
+            var fieldType = fieldTypes.get(i);
+            var type = SolidityTypeDescriptor.of(fieldType.getType());
+
+            Location location;
+            if (fieldType.isIndexed()) {
+                if (type.isDynamic()) {
+                    return Optional.empty();
+                }
+                location = topic < topicCount ? new Location(topic, -1) : null;
+                topic++;
+            } else {
+                location = nonIndexedCount < dataOffsets.size() ? new Location(0, dataOffsets.get(nonIndexedCount)) : null;
+                nonIndexedCount++;
+            }
+
+            // fields without a corresponding input are not set
+            if (location != null) {
+                readers[i] = createReader(type, fields.get(i).getType(), eventObjectFactory, i, location);
+                if (readers[i] == null) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.of(new AbiEventDecoder(eventObjectFactory, readers));
+    }
+
+    /**
+     * Decodes the given log into the given event object.
+     *
+     * @param log      log emitted by the smart contract event
+     * @param instance event object whose fields are set
+     * @return the given event object
+     * @throws TypeConvertException in case the log is malformed or a value does not fit into the declared type of its field
+     */
+    public Object decode(Log log, Object instance) {
+        if (log == null) throw new IllegalArgumentException("log must not be null");
+        if (instance == null) throw new IllegalArgumentException("instance must not be null");
+
+        try {
+            for (var reader : readers) {
+                if (reader != null) {
+                    reader.read(log, instance);
+                }
+            }
+        } catch (InvocationTargetException e) {
+            throw new TypeConvertException(String.format("Failed to set properties of event type '%s'", eventObjectFactory.getEventType().getName()), e);
+        }
+        return instance;
+    }
+
+    private static FieldReader createReader(SolidityTypeDescriptor type, Class<?> fieldClass, EventObjectFactory factory, int fieldIndex, Location location) {
+        switch (type.getKind()) {
+            case INT:
+            case UINT:
+                return createIntegerReader(type, fieldClass, factory, fieldIndex, location);
+            case BOOL:
+                if (fieldClass == boolean.class) {
+                    return (log, instance) -> factory.setBooleanField(instance, fieldIndex, readBoolean(log, location));
+                } else if (fieldClass == Boolean.class || fieldClass == Object.class) {
+                    return (log, instance) -> factory.setField(instance, fieldIndex, readBoolean(log, location));
+                }
+                return null;
+            case ADDRESS:
+                return fieldClass == String.class || fieldClass == Object.class
+                        ? (log, instance) -> factory.setField(instance, fieldIndex, readAddress(log, location))
+                        : null;
+            case FIXED_BYTES:
+                var size = type.getSize();
+                return fieldClass == byte[].class || fieldClass == Object.class
+                        ? (log, instance) -> factory.setField(instance, fieldIndex, readBytes(log, location, size))
+                        : null;
+            case STRING:
+                return fieldClass == String.class || fieldClass == Object.class
+                        ? (log, instance) -> factory.setField(instance, fieldIndex, new String(readDynamicBytes(log, location), StandardCharsets.UTF_8))
+                        : null;
+            case BYTES:
+                return fieldClass == byte[].class || fieldClass == Object.class
+                        ? (log, instance) -> factory.setField(instance, fieldIndex, readDynamicBytes(log, location))
+                        : null;
+            default:
+                return null;
+        }
+    }
+
+    private static FieldReader createIntegerReader(SolidityTypeDescriptor type, Class<?> fieldClass, EventObjectFactory factory, int fieldIndex, Location location) {
+        var signed = type.getKind() == SolidityTypeDescriptor.Kind.INT;
+
+        if (fieldClass == BigInteger.class || fieldClass == Number.class || fieldClass == Object.class) {
+            return (log, instance) -> factory.setField(instance, fieldIndex, readInteger(log, location, signed));
+        } else if (fieldClass == long.class || fieldClass == int.class || fieldClass == short.class || fieldClass == byte.class) {
+            return (log, instance) -> factory.setLongField(instance, fieldIndex, readLong(log, location, signed, type, fieldClass));
+        } else if (fieldClass == Long.class) {
+            return (log, instance) -> factory.setField(instance, fieldIndex, readLong(log, location, signed, type, long.class));
+        } else if (fieldClass == Integer.class) {
+            return (log, instance) -> factory.setField(instance, fieldIndex, (int) readLong(log, location, signed, type, int.class));
+        } else if (fieldClass == Short.class) {
+            return (log, instance) -> factory.setField(instance, fieldIndex, (short) readLong(log, location, signed, type, short.class));
+        } else if (fieldClass == Byte.class) {
+            return (log, instance) -> factory.setField(instance, fieldIndex, (byte) readLong(log, location, signed, type, byte.class));
+        }
+        return null;
+    }
+
+    // reads integers without creating a BigInteger unless the value does not fit into the target type
+    private static long readLong(Log log, Location location, boolean signed, SolidityTypeDescriptor type, Class<?> targetClass) {
+        var hex = location.hex(log);
+        var position = location.position(hex);
+        if (fitsInLong(hex, position, signed)) {
+            var value = readLowLong(hex, position);
+            if (targetClass == long.class
+                    || (targetClass == int.class && value == (int) value)
+                    || (targetClass == short.class && value == (short) value)
+                    || (targetClass == byte.class && value == (byte) value)) {
+                return value;
+            }
+        }
+        throw new TypeConvertException(String.format("Value '%s' of type '%s' does not fit into '%s'.", readInteger(hex, position, signed), type.getTypeName(), targetClass.getName()));
+    }
+
+    private static void check(String hex, int position, int length) {
+        if (position < 0 || position + length > hex.length()) {
+            throw new TypeConvertException(String.format("Failed to decode event, expected at least %s hex digits but got %s.", position + length, hex.length()));
+        }
+    }
+
+    private static int digit(String hex, int position) {
+        var digit = Character.digit(hex.charAt(position), 16);
+        if (digit < 0) {
+            throw new TypeConvertException(String.format("Failed to decode event, invalid hex digit '%s'.", hex.charAt(position)));
+        }
+        return digit;
+    }
+
+    // checks whether the upper digits of the word are a sign extension of the lower sixteen digits
+    private static boolean fitsInLong(String hex, int position, boolean signed) {
+        check(hex, position, WORD_LENGTH);
+        var lowStart = position + WORD_LENGTH - LONG_LENGTH;
+        var negative = digit(hex, lowStart) >= 8;
+        if (negative && !signed) {
+            return false;
+        }
+        var extension = negative ? 0xf : 0;
+        for (var i = position; i < lowStart; i++) {
+            if (digit(hex, i) != extension) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long readLowLong(String hex, int position) {
+        var value = 0L;
+        for (var i = position + WORD_LENGTH - LONG_LENGTH; i < position + WORD_LENGTH; i++) {
+            value = (value << 4) | digit(hex, i);
+        }
+        return value;
+    }
+
+    private static BigInteger readInteger(String hex, int position, boolean signed) {
+        check(hex, position, WORD_LENGTH);
+        var value = new BigInteger(hex.substring(position, position + WORD_LENGTH), 16);
+        return signed && value.testBit(255) ? value.subtract(BigInteger.ONE.shiftLeft(256)) : value;
+    }
+
+    // reads offsets and lengths
+    private static int readInt(String hex, int position) {
+        check(hex, position, WORD_LENGTH);
+        var end = position + WORD_LENGTH;
+        for (var i = position; i < end - INT_LENGTH; i++) {
+            if (digit(hex, i) != 0) {
+                throw new TypeConvertException("Failed to decode event, offset or length exceeds the size of the data.");
+            }
+        }
+        var value = 0;
+        for (var i = end - INT_LENGTH; i < end; i++) {
+            value = (value << 4) | digit(hex, i);
+        }
+        if (value < 0 || value > hex.length() / 2) {
+            throw new TypeConvertException("Failed to decode event, offset or length exceeds the size of the data.");
+        }
+        return value;
+    }
+
+    private static BigInteger readInteger(Log log, Location location, boolean signed) {
+        var hex = location.hex(log);
+        return readInteger(hex, location.position(hex), signed);
+    }
+
+    private static boolean readBoolean(Log log, Location location) {
+        var hex = location.hex(log);
+        return readBoolean(hex, location.position(hex));
+    }
+
+    private static String readAddress(Log log, Location location) {
+        var hex = location.hex(log);
+        return readAddress(hex, location.position(hex));
+    }
+
+    private static byte[] readBytes(Log log, Location location, int length) {
+        var hex = location.hex(log);
+        return readBytes(hex, location.position(hex), length);
+    }
+
+    private static boolean readBoolean(String hex, int position) {
+        check(hex, position, WORD_LENGTH);
+        for (var i = position; i < position + WORD_LENGTH; i++) {
+            if (digit(hex, i) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String readAddress(String hex, int position) {
+        check(hex, position, WORD_LENGTH);
+        var start = position + WORD_LENGTH - ADDRESS_LENGTH;
+        for (var i = start; i < position + WORD_LENGTH; i++) {
+            digit(hex, i);
+        }
+        return "0x" + hex.substring(start, position + WORD_LENGTH).toLowerCase();
+    }
+
+    private static byte[] readBytes(String hex, int position, int length) {
+        check(hex, position, length * 2);
+        var bytes = new byte[length];
+        for (var i = 0; i < length; i++) {
+            bytes[i] = (byte) ((digit(hex, position + i * 2) << 4) | digit(hex, position + i * 2 + 1));
+        }
+        return bytes;
+    }
+
+    private static byte[] readDynamicBytes(Log log, Location location) {
+        var hex = location.hex(log);
+        var offset = readInt(hex, location.position(hex));
+        var lengthPosition = getDataStart(hex) + offset * 2;
+        var length = readInt(hex, lengthPosition);
+        return readBytes(hex, lengthPosition + WORD_LENGTH, length);
+    }
+
+    private static int getDataStart(String hex) {
+        return hex.startsWith("0x") || hex.startsWith("0X") ? 2 : 0;
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+        void read(Log log, Object instance) throws InvocationTargetException;
+    }
+
+    /**
+     * Position of a value within the topics or the data of a log
+     */
+    private static final class Location {
+        private final int topic;
+        private final int dataOffset;
+
+        private Location(int topic, int dataOffset) {
+            this.topic = topic;
+            this.dataOffset = dataOffset;
+        }
+
+        private String hex(Log log) {
+            if (topic > 0) {
+                var topics = log.getTopics();
+                if (topics == null || topics.size() <= topic) {
+                    throw new TypeConvertException(String.format("Failed to decode event, expected at least %s topics.", topic + 1));
+                }
+                return topics.get(topic);
+            }
+            var data = log.getData();
+            if (data == null) {
+                throw new TypeConvertException("Failed to decode event, the log does not contain any data.");
+            }
+            return data;
+        }
+
+        private int position(String hex) {
+            var start = getDataStart(hex);
+            return topic > 0 ? start : start + dataOffset * 2;
+        }
+    }
+}
@@ -0,0 +1,505 @@
+package org.blockchainnative.ethereum.util;
+
+import org.blockchainnative.exceptions.TypeConvertException;
+import org.blockchainnative.util.NumberUtil;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.core.methods.response.AbiDefinition;
+
+import java.lang.reflect.Array;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Encodes the input of a smart contract function directly into ABI encoded call data. <br>
+ * <br>
+ * Unlike web3j's {@code FunctionEncoder}, values do not need to be wrapped into web3j types first. The head and tail
+ * parts of the encoding are written into a byte buffer which is reused by subsequent calls of the same thread and
+ * converted to a hex string once. The function selector is computed when the encoder is created. <br>
+ * <br>
+ * Depending on the Solidity type, the following values are accepted:
+ * <ul>
+ * <li>{@code int}, {@code uint}: any {@code Number}, integral values are encoded without loss of precision</li>
+ * <li>{@code bool}: {@code Boolean}</li>
+ * <li>{@code address}: hex {@code String}</li>
+ * <li>{@code bytes}, {@code bytes1} - {@code bytes32}: {@code byte[]}</li>
+ * <li>{@code string}: {@code String}</li>
+ * <li>arrays: Java arrays, including primitive arrays, and {@code Collection}</li>
+ * <li>tuples: {@code List} or Java arrays holding the component values in declaration order</li>
+ * </ul>
+ * web3j types are accepted as well, their values are encoded.
+ * <p>
+ * Instances are immutable and can safely be used by multiple threads at once.
+ * </p>
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public final class AbiFunctionEncoder {
+
+    private static final int WORD_SIZE = 32;
+    private static final int SELECTOR_SIZE = 4;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final char[] HEX_CHARACTERS = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+
+    private final String signature;
+    private final byte[] selector;
+    private final List<SolidityTypeDescriptor> inputTypes;
+
+    /**
+     * Creates a new {@code AbiFunctionEncoder}
+     *
+     * @param functionName name of the smart contract function
+     * @param inputTypes   types of the function's input parameters in declaration order
+     */
+    public AbiFunctionEncoder(String functionName, List<SolidityTypeDescriptor> inputTypes) {
+        if (functionName == null) throw new IllegalArgumentException("functionName must not be null");
+        if (inputTypes == null) throw new IllegalArgumentException("inputTypes must not be null");
+
+        this.inputTypes = Collections.unmodifiableList(new ArrayList<>(inputTypes));
+
+        var signatureBuilder = new StringBuilder(functionName).append('(');
+        for (var i = 0; i < inputTypes.size(); i++) {
+            if (i > 0) {
+                signatureBuilder.append(',');
+            }
+            signatureBuilder.append(inputTypes.get(i).getCanonicalTypeName());
+        }
+        this.signature = signatureBuilder.append(')').toString();
+        this.selector = Arrays.copyOf(Hash.sha3(signature.getBytes(StandardCharsets.UTF_8)), SELECTOR_SIZE);
+    }
+
+    /**
+     * Creates a new {@code AbiFunctionEncoder} for the given function ABI
+     *
+     * @param functionAbi ABI definition of the smart contract function
+     * @return encoder for the function's input parameters
+     */
+    public static AbiFunctionEncoder of(AbiDefinition functionAbi) {
+        if (functionAbi == null) throw new IllegalArgumentException("functionAbi must not be null");
+
+        var inputTypes = new ArrayList<SolidityTypeDescriptor>(functionAbi.getInputs().size());
+        for (var input : functionAbi.getInputs()) {
+            inputTypes.add(SolidityTypeDescriptor.of(input.getType()));
+        }
+        return new AbiFunctionEncoder(functionAbi.getName(), inputTypes);
+    }
+
+    /**
+     * Returns the canonical signature of the function, e.g. {@code transfer(address,uint256)}
+     *
+     * @return canonical function signature
+     */
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * Returns the function selector, i.e. the first four bytes of the Keccak-256 hash of the function signature
+     *
+     * @return copy of the function selector
+     */
+    public byte[] getSelector() {
+        return selector.clone();
+    }
+
+    /**
+     * Returns the types of the function's input parameters
+     *
+     * @return types of the input parameters in declaration order
+     */
+    public List<SolidityTypeDescriptor> getInputTypes() {
+        return inputTypes;
+    }
+
+    /**
+     * Encodes a call of the function with the given arguments.
+     *
+     * @param arguments function arguments in declaration order
+     * @return hex encoded call data including the function selector and the prefix '0x'
+     * @throws TypeConvertException in case an argument cannot be encoded as the corresponding Solidity type
+     */
+    public String encode(List<?> arguments) {
+        var buffer = encodeToBuffer(arguments);
+        return buffer.toHexString();
+    }
+
+    /**
+     * Encodes a call of the function with the given arguments.
+     *
+     * @param arguments function arguments in declaration order
+     * @return call data including the function selector
+     * @throws TypeConvertException in case an argument cannot be encoded as the corresponding Solidity type
+     */
+    public byte[] encodeToBytes(List<?> arguments) {
+        var buffer = encodeToBuffer(arguments);
+        return Arrays.copyOf(buffer.bytes, buffer.size);
+    }
+
+    private Buffer encodeToBuffer(List<?> arguments) {
+        if (arguments == null) throw new IllegalArgumentException("arguments must not be null");
+        if (arguments.size() != inputTypes.size()) {
+            throw new IllegalArgumentException(String.format("Function '%s' expects %s arguments, given number of arguments: '%s'", signature, inputTypes.size(), arguments.size()));
+        }
+
+        var buffer = buffers.get();
+        buffer.reset();
+        buffer.write(selector);
+        encodeTuple(buffer, inputTypes, arguments);
+        return buffer;
+    }
+
+    private static void encodeTuple(Buffer buffer, List<SolidityTypeDescriptor> types, List<?> values) {
+        var tupleStart = buffer.size;
+
+        var headSize = 0;
+        for (var type : types) {
+            headSize += type.getHeadSize();
+        }
+
+        // reserve the head part, dynamic values are appended as tail and referenced by their offset
+        buffer.reserve(headSize);
+        var headPosition = tupleStart;
+        for (var i = 0; i < types.size(); i++) {
+            var type = types.get(i);
+            var value = values.get(i);
+            if (type.isDynamic()) {
+                buffer.writeWordAt(headPosition, buffer.size - tupleStart);
+                encodeValue(buffer, type, value, buffer.size);
+            } else {
+                encodeValue(buffer, type, value, headPosition);
+            }
+            headPosition += type.getHeadSize();
+        }
+    }
+
+    // writes static values at the given position, dynamic values are expected to be written at the end of the buffer
+    private static void encodeValue(Buffer buffer, SolidityTypeDescriptor type, Object value, int position) {
+        value = unwrap(value, type);
+
+        switch (type.getKind()) {
+            case UINT:
+            case INT:
+                encodeInteger(buffer, type, value, position);
+                break;
+            case BOOL:
+                buffer.writeWordAt(position, (Boolean) expect(value, Boolean.class, type) ? 1 : 0);
+                break;
+            case ADDRESS:
+                encodeAddress(buffer, type, (String) expect(value, String.class, type), position);
+                break;
+            case FIXED_BYTES:
+                var fixedBytes = (byte[]) expect(value, byte[].class, type);
+                if (fixedBytes.length != type.getSize()) {
+                    throw new TypeConvertException(String.format("Cannot encode value as '%s', expected %s bytes but got %s.", type.getTypeName(), type.getSize(), fixedBytes.length));
+                }
+                buffer.writeAt(position, fixedBytes);
+                break;
+            case BYTES:
+                encodeDynamicBytes(buffer, (byte[]) expect(value, byte[].class, type));
+                break;
+            case STRING:
+                encodeDynamicBytes(buffer, ((String) expect(value, String.class, type)).getBytes(StandardCharsets.UTF_8));
+                break;
+            case ARRAY:
+                encodeArray(buffer, type, value, position);
+                break;
+            case TUPLE:
+                encodeTupleValue(buffer, type, value, position);
+                break;
+            default:
+                throw new TypeConvertException(String.format("Encoding values of type '%s' is not supported.", type.getTypeName()));
+        }
+    }
+
+    private static void encodeInteger(Buffer buffer, SolidityTypeDescriptor type, Object value, int position) {
+        var number = (Number) expect(value, Number.class, type);
+
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            // values fitting into a long are encoded without creating a BigInteger
+            var longValue = number.longValue();
+            if (!isInRange(longValue, type)) {
+                throw new TypeConvertException(String.format("Value '%s' exceeds the range of type '%s'.", longValue, type.getTypeName()));
+            }
+            buffer.writeWordAt(position, longValue);
+        } else {
+            var bigInteger = NumberUtil.toBigInteger(number);
+            checkRange(bigInteger, type);
+            buffer.writeWordAt(position, bigInteger);
+        }
+    }
+
+    private static boolean isInRange(long value, SolidityTypeDescriptor type) {
+        var size = type.getSize();
+        if (type.getKind() == SolidityTypeDescriptor.Kind.UINT) {
+            return value >= 0 && (size >= Long.SIZE || (value >>> size) == 0);
+        }
+        if (size >= Long.SIZE) {
+            return true;
+        }
+        var bound = 1L << (size - 1);
+        return value >= -bound && value < bound;
+    }
+
+    private static void checkRange(BigInteger value, SolidityTypeDescriptor type) {
+        var valid = type.getKind() == SolidityTypeDescriptor.Kind.UINT
+                ? value.signum() >= 0 && value.bitLength() <= type.getSize()
+                : value.bitLength() < type.getSize();
+        if (!valid) {
+            throw new TypeConvertException(String.format("Value '%s' exceeds the range of type '%s'.", value, type.getTypeName()));
+        }
+    }
+
+    private static void encodeAddress(Buffer buffer, SolidityTypeDescriptor type, String address, int position) {
+        var hex = address.startsWith("0x") || address.startsWith("0X") ? address.substring(2) : address;
+        if (hex.length() > 40) {
+            throw new TypeConvertException(String.format("Cannot encode '%s' as '%s', value is too long.", address, type.getTypeName()));
+        }
+        // addresses are right aligned
+        var end = position + WORD_SIZE;
+        var nibble = 0;
+        for (var i = hex.length() - 1; i >= 0; i--, nibble++) {
+            var digit = Character.digit(hex.charAt(i), 16);
+            if (digit < 0) {
+                throw new TypeConvertException(String.format("Cannot encode '%s' as '%s', value is not a hex string.", address, type.getTypeName()));
+            }
+            var index = end - 1 - nibble / 2;
+            buffer.bytes[index] |= (nibble % 2 == 0) ? digit : digit << 4;
+        }
+    }
+
+    private static void encodeDynamicBytes(Buffer buffer, byte[] value) {
+        var position = buffer.size;
+        buffer.reserve(WORD_SIZE + paddedLength(value.length));
+        buffer.writeWordAt(position, value.length);
+        buffer.writeAt(position + WORD_SIZE, value);
+    }
+
+    private static void encodeArray(Buffer buffer, SolidityTypeDescriptor type, Object value, int position) {
+        var componentType = type.getComponentType();
+        if (isPrimitiveArray(value, componentType)) {
+            encodePrimitiveArray(buffer, type, value, position);
+            return;
+        }
+
+        var values = asList(value, type);
+
+        if (type.isStaticArray() && values.size() != type.getLength()) {
+            throw new TypeConvertException(String.format("Cannot encode value as '%s', expected %s elements but got %s.", type.getTypeName(), type.getLength(), values.size()));
+        }
+
+        if (!type.isDynamic()) {
+            // static arrays of static types are encoded in place
+            var elementPosition = position;
+            for (var element : values) {
+                encodeValue(buffer, componentType, element, elementPosition);
+                elementPosition += componentType.getHeadSize();
+            }
+            return;
+        }
+
+        if (!type.isStaticArray()) {
+            var lengthPosition = buffer.size;
+            buffer.reserve(WORD_SIZE);
+            buffer.writeWordAt(lengthPosition, values.size());
+        }
+        encodeTuple(buffer, Collections.nCopies(values.size(), componentType), values);
+    }
+
+    private static void encodeTupleValue(Buffer buffer, SolidityTypeDescriptor type, Object value, int position) {
+        var componentTypes = type.getComponentTypes();
+        var values = asList(value, type);
+
+        if (values.size() != componentTypes.size()) {
+            throw new TypeConvertException(String.format("Cannot encode value as '%s', expected %s components but got %s.", type.getTypeName(), componentTypes.size(), values.size()));
+        }
+
+        if (!type.isDynamic()) {
+            // static tuples are encoded in place
+            var componentPosition = position;
+            for (var i = 0; i < values.size(); i++) {
+                encodeValue(buffer, componentTypes.get(i), values.get(i), componentPosition);
+                componentPosition += componentTypes.get(i).getHeadSize();
+            }
+            return;
+        }
+
+        encodeTuple(buffer, componentTypes, values);
+    }
+
+    private static boolean isPrimitiveArray(Object value, SolidityTypeDescriptor componentType) {
+        switch (componentType.getKind()) {
+            case INT:
+            case UINT:
+                return value instanceof long[] || value instanceof int[] || value instanceof short[];
+            case BOOL:
+                return value instanceof boolean[];
+            default:
+                return false;
+        }
+    }
+
+    // encodes primitive arrays element by element without boxing, the component type is always static
+    private static void encodePrimitiveArray(Buffer buffer, SolidityTypeDescriptor type, Object value, int position) {
+        var componentType = type.getComponentType();
+        var length = Array.getLength(value);
+        if (type.isStaticArray() && length != type.getLength()) {
+            throw new TypeConvertException(String.format("Cannot encode value as '%s', expected %s elements but got %s.", type.getTypeName(), type.getLength(), length));
+        }
+
+        var elementPosition = position;
+        if (!type.isStaticArray()) {
+            elementPosition = buffer.size;
+            buffer.reserve(WORD_SIZE + length * WORD_SIZE);
+            buffer.writeWordAt(elementPosition, length);
+            elementPosition += WORD_SIZE;
+        }
+
+        for (var i = 0; i < length; i++, elementPosition += WORD_SIZE) {
+            long element;
+            if (value instanceof long[]) {
+                element = ((long[]) value)[i];
+            } else if (value instanceof int[]) {
+                element = ((int[]) value)[i];
+            } else if (value instanceof short[]) {
+                element = ((short[]) value)[i];
+            } else {
+                element = ((boolean[]) value)[i] ? 1 : 0;
+            }
+            if (componentType.getKind() != SolidityTypeDescriptor.Kind.BOOL && !isInRange(element, componentType)) {
+                throw new TypeConvertException(String.format("Value '%s' exceeds the range of type '%s'.", element, componentType.getTypeName()));
+            }
+            buffer.writeWordAt(elementPosition, element);
+        }
+    }
+
+    private static List<?> asList(Object value, SolidityTypeDescriptor type) {
+        if (value instanceof List) {
+            return (List<?>) value;
+        } else if (value instanceof Collection) {
+            return new ArrayList<>((Collection<?>) value);
+        } else if (value instanceof Object[]) {
+            return Arrays.asList((Object[]) value);
+        } else if (value != null && value.getClass().isArray()) {
+            return new PrimitiveArrayList(value);
+        }
+        throw new TypeConvertException(String.format("Cannot encode value '%s' as '%s', value is neither an array nor a collection.", value, type.getTypeName()));
+    }
+
+    private static Object unwrap(Object value, SolidityTypeDescriptor type) {
+        if (value instanceof org.web3j.abi.datatypes.Type) {
+            return ((org.web3j.abi.datatypes.Type<?>) value).getValue();
+        }
+        if (value == null) {
+            throw new TypeConvertException(String.format("Cannot encode null as '%s'.", type.getTypeName()));
+        }
+        return value;
+    }
+
+    private static Object expect(Object value, Class<?> expectedType, SolidityTypeDescriptor type) {
+        if (!expectedType.isInstance(value)) {
+            throw new TypeConvertException(String.format("Cannot encode value '%s' as '%s', expected value of type '%s'.", value, type.getTypeName(), expectedType.getName()));
+        }
+        return value;
+    }
+
+    private static int paddedLength(int length) {
+        return (length + WORD_SIZE - 1) / WORD_SIZE * WORD_SIZE;
+    }
+
+    /**
+     * Read-only list view of a primitive array, elements are boxed on access only
+     */
+    private static final class PrimitiveArrayList extends java.util.AbstractList<Object> {
+        private final Object array;
+        private final int length;
+
+        private PrimitiveArrayList(Object array) {
+            this.array = array;
+            this.length = Array.getLength(array);
+        }
+
+        @Override
+        public Object get(int index) {
+            return Array.get(array, index);
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+    }
+
+    /**
+     * Growable byte buffer, reused per thread
+     */
+    private static final class Buffer {
+        private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+        private int size;
+
+        private void reset() {
+            Arrays.fill(bytes, 0, size, (byte) 0);
+            size = 0;
+        }
+
+        // appends the given number of zero bytes
+        private void reserve(int length) {
+            ensureCapacity(size + length);
+            size += length;
+        }
+
+        private void write(byte[] value) {
+            var position = size;
+            reserve(value.length);
+            writeAt(position, value);
+        }
+
+        private void writeAt(int position, byte[] value) {
+            System.arraycopy(value, 0, bytes, position, value.length);
+        }
+
+        private void writeWordAt(int position, long value) {
+            var end = position + WORD_SIZE;
+            for (var i = 1; i <= Long.BYTES; i++) {
+                bytes[end - i] = (byte) (value >>> (8 * (i - 1)));
+            }
+            if (value < 0) {
+                // sign extension
+                Arrays.fill(bytes, position, end - Long.BYTES, (byte) 0xff);
+            }
+        }
+
+        private void writeWordAt(int position, BigInteger value) {
+            var valueBytes = value.toByteArray();
+            // toByteArray may contain an additional sign byte
+            var length = Math.min(valueBytes.length, WORD_SIZE);
+            System.arraycopy(valueBytes, valueBytes.length - length, bytes, position + WORD_SIZE - length, length);
+            if (value.signum() < 0) {
+                Arrays.fill(bytes, position, position + WORD_SIZE - length, (byte) 0xff);
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+            }
+        }
+
+        private String toHexString() {
+            var chars = new char[2 + size * 2];
+            chars[0] = '0';
+            chars[1] = 'x';
+            for (var i = 0; i < size; i++) {
+                var b = bytes[i] & 0xff;
+                chars[2 + i * 2] = HEX_CHARACTERS[b >>> 4];
+                chars[3 + i * 2] = HEX_CHARACTERS[b & 0x0f];
+            }
+            return new String(chars);
+        }
+    }
+}
@@ -0,0 +1,576 @@
+package org.blockchainnative.ethereum.util;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.blockchainnative.exceptions.TypeConvertException;
+import org.blockchainnative.util.LongList;
+import org.web3j.utils.Numeric;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Decodes the ABI encoded output of a smart contract function directly into the declared Java result type. <br>
+ * <br>
+ * The way each output value is read and converted is determined once when the decoder is created, decoding a result
+ * then walks the encoded bytes a single time without creating intermediate web3j types. <br>
+ * <br>
+ * The following result types are supported:
+ * <ul>
+ * <li>{@code int}, {@code uint}: {@code BigInteger}, {@code Number}, {@code long}, {@code int}, {@code short} and {@code byte}
+ * (and their wrapper types), values which do not fit into the declared type are rejected. Primitive types are read
+ * directly from the encoded bytes.</li>
+ * <li>{@code bool}: {@code boolean}</li>
+ * <li>{@code address}, {@code string}: {@code String}</li>
+ * <li>{@code bytes}, {@code bytes1} - {@code bytes32}: {@code byte[]}</li>
+ * <li>arrays: {@code Collection}, {@code List}, {@code Set} and Java arrays of any supported element type</li>
+ * <li>{@code int} and {@code uint} arrays: {@code long[]}, {@code int[]} and {@link LongList}, the elements are decoded
+ * without creating a {@code BigInteger} for each of them</li>
+ * <li>tuples: {@code List<Object>} holding the natural representations of the components or a class providing exactly
+ * one public constructor whose parameters match the components in declaration order</li>
+ * <li>{@code Object}, in which case the natural representation of the Solidity type is returned, i.e. the same value
+ * web3j would return for the type, with arrays being represented as {@code List}</li>
+ * </ul>
+ * Functions with multiple outputs can be decoded into a {@code List<Object>} holding the natural representations of the outputs
+ * or into a class providing exactly one public constructor whose parameters match the outputs in declaration order.
+ * <p>
+ * Instances are immutable and can safely be used by multiple threads at once.
+ * </p>
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public final class AbiResultDecoder {
+
+    private static final int WORD_SIZE = 32;
+    private static final int ADDRESS_SIZE = 20;
+    private static final char[] HEX_CHARACTERS = "0123456789abcdef".toCharArray();
+    private static final Type LIST_OF_OBJECTS = TypeUtils.parameterize(List.class, Object.class);
+
+    private final List<SolidityTypeDescriptor> outputTypes;
+    private final Type resultType;
+    private final ValueReader reader;
+
+    private AbiResultDecoder(List<SolidityTypeDescriptor> outputTypes, Type resultType, ValueReader reader) {
+        this.outputTypes = outputTypes;
+        this.resultType = resultType;
+        this.reader = reader;
+    }
+
+    /**
+     * Creates a decoder for the given function outputs and result type.
+     *
+     * @param outputTypes types of the function's outputs in declaration order
+     * @param resultType  declared Java type the outputs are decoded into
+     * @return decoder or an empty {@code Optional} in case the outputs cannot be decoded directly into the given type
+     */
+    public static Optional<AbiResultDecoder> of(List<SolidityTypeDescriptor> outputTypes, Type resultType) {
+        if (outputTypes == null) throw new IllegalArgumentException("outputTypes must not be null");
+        if (resultType == null) throw new IllegalArgumentException("resultType must not be null");
+
+        var types = Collections.unmodifiableList(new ArrayList<>(outputTypes));
+
+        ValueReader reader = null;
+        if (types.size() == 1) {
+            var valueReader = createReader(types.get(0), resultType);
+            if (valueReader != null) {
+                reader = createTupleReader(types, new ValueReader[]{valueReader}, values -> values[0]);
+            }
+        } else if (types.size() > 1) {
+            reader = createMultiValueReader(types, resultType);
+        }
+
+        return reader != null
+                ? Optional.of(new AbiResultDecoder(types, resultType, reader))
+                : Optional.empty();
+    }
+
+    /**
+     * Returns the types of the function's outputs
+     *
+     * @return types of the outputs in declaration order
+     */
+    public List<SolidityTypeDescriptor> getOutputTypes() {
+        return outputTypes;
+    }
+
+    /**
+     * Returns the declared Java type the outputs are decoded into
+     *
+     * @return result type
+     */
+    public Type getResultType() {
+        return resultType;
+    }
+
+    /**
+     * Decodes the given function output.
+     *
+     * @param encodedResult hex encoded function output as returned by {@code eth_call}
+     * @return decoded result
+     * @throws TypeConvertException in case the output is malformed or a value does not fit into the declared type
+     */
+    public Object decode(String encodedResult) {
+        if (encodedResult == null) throw new IllegalArgumentException("encodedResult must not be null");
+
+        return decode(Numeric.hexStringToByteArray(encodedResult));
+    }
+
+    /**
+     * Decodes the given function output.
+     *
+     * @param encodedResult function output
+     * @return decoded result
+     * @throws TypeConvertException in case the output is malformed or a value does not fit into the declared type
+     */
+    public Object decode(byte[] encodedResult) {
+        if (encodedResult == null) throw new IllegalArgumentException("encodedResult must not be null");
+
+        return reader.read(new Input(encodedResult), 0);
+    }
+
+    private static ValueReader createMultiValueReader(List<SolidityTypeDescriptor> types, Type resultType) {
+        if (TypeUtils.isAssignable(LIST_OF_OBJECTS, resultType)) {
+            var objectTypes = new Type[types.size()];
+            Arrays.fill(objectTypes, Object.class);
+            var readers = createReaders(types, objectTypes);
+            if (readers == null) {
+                return null;
+            }
+            return createTupleReader(types, readers, values -> {
+                var list = new ArrayList<>(values.length);
+                Collections.addAll(list, values);
+                return list;
+            });
+        }
+
+        if (!(resultType instanceof Class<?>)) {
+            return null;
+        }
+        var resultClass = (Class<?>) resultType;
+        if (resultClass.isPrimitive() || resultClass.isArray() || resultClass.isInterface() || resultClass.isEnum()
+                || Modifier.isAbstract(resultClass.getModifiers()) || resultClass.getName().startsWith("java.")) {
+            return null;
+        }
+
+        Constructor<?> matchingConstructor = null;
+        ValueReader[] matchingReaders = null;
+        for (var constructor : resultClass.getConstructors()) {
+            var readers = createReaders(types, constructor.getGenericParameterTypes());
+            if (readers == null) {
+                continue;
+            }
+            if (matchingConstructor != null) {
+                // ambiguous constructors, let the caller fall back to other means of conversion
+                return null;
+            }
+            matchingConstructor = constructor;
+            matchingReaders = readers;
+        }
+        if (matchingConstructor == null) {
+            return null;
+        }
+
+        MethodHandle constructorHandle;
+        try {
+            constructorHandle = MethodHandles.publicLookup().unreflectConstructor(matchingConstructor)
+                    .asSpreader(Object[].class, types.size())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+
+        return createTupleReader(types, matchingReaders, values -> {
+            try {
+                return constructorHandle.invokeExact(values);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new TypeConvertException(String.format("Failed to create instance of result type '%s'", resultClass.getName()), e);
+            }
+        });
+    }
+
+    private static ValueReader[] createReaders(List<SolidityTypeDescriptor> types, Type[] targetTypes) {
+        if (types.size() != targetTypes.length) {
+            return null;
+        }
+        var readers = new ValueReader[targetTypes.length];
+        for (var i = 0; i < readers.length; i++) {
+            readers[i] = createReader(types.get(i), targetTypes[i]);
+            if (readers[i] == null) {
+                return null;
+            }
+        }
+        return readers;
+    }
+
+    private static ValueReader createReader(SolidityTypeDescriptor type, Type targetType) {
+        if (targetType instanceof WildcardType) {
+            var upperBounds = ((WildcardType) targetType).getUpperBounds();
+            targetType = upperBounds.length == 1 ? upperBounds[0] : Object.class;
+        }
+
+        if (type.isArray()) {
+            return createArrayReader(type, targetType);
+        }
+
+        if (type.getKind() == SolidityTypeDescriptor.Kind.TUPLE) {
+            return createMultiValueReader(type.getComponentTypes(), targetType);
+        }
+
+        if (!(targetType instanceof Class<?>)) {
+            return null;
+        }
+        var targetClass = ClassUtils.primitiveToWrapper((Class<?>) targetType);
+
+        switch (type.getKind()) {
+            case INT:
+            case UINT:
+                return createIntegerReader(type, targetClass);
+            case BOOL:
+                return targetClass == Boolean.class || targetClass == Object.class
+                        ? (input, position) -> input.readBoolean(position)
+                        : null;
+            case ADDRESS:
+                return targetClass == String.class || targetClass == Object.class
+                        ? (input, position) -> input.readAddress(position)
+                        : null;
+            case STRING:
+                return targetClass == String.class || targetClass == Object.class
+                        ? (input, position) -> new String(input.readDynamicBytes(position), StandardCharsets.UTF_8)
+                        : null;
+            case BYTES:
+                return targetClass == byte[].class || targetClass == Object.class
+                        ? (input, position) -> input.readDynamicBytes(position)
+                        : null;
+            case FIXED_BYTES:
+                var size = type.getSize();
+                return targetClass == byte[].class || targetClass == Object.class
+                        ? (input, position) -> input.readBytes(position, size)
+                        : null;
+            default:
+                return null;
+        }
+    }
+
+    private static ValueReader createIntegerReader(SolidityTypeDescriptor type, Class<?> targetClass) {
+        var signed = type.getKind() == SolidityTypeDescriptor.Kind.INT;
+
+        if (targetClass == BigInteger.class || targetClass == Number.class || targetClass == Object.class) {
+            return (input, position) -> input.readInteger(position, signed);
+        } else if (targetClass == Long.class) {
+            return (input, position) -> readLong(input, position, signed, type, long.class);
+        } else if (targetClass == Integer.class) {
+            return (input, position) -> readInt(input, position, signed, type);
+        } else if (targetClass == Short.class) {
+            return (input, position) -> {
+                var value = readLong(input, position, signed, type, short.class);
+                if (value != (short) value) {
+                    throw overflow(value, type, short.class);
+                }
+                return (short) value;
+            };
+        } else if (targetClass == Byte.class) {
+            return (input, position) -> {
+                var value = readLong(input, position, signed, type, byte.class);
+                if (value != (byte) value) {
+                    throw overflow(value, type, byte.class);
+                }
+                return (byte) value;
+            };
+        }
+        return null;
+    }
+
+    // reads integers without creating a BigInteger unless the value does not fit
+    private static long readLong(Input input, int position, boolean signed, SolidityTypeDescriptor type, Class<?> targetClass) {
+        if (!input.fitsInLong(position, signed)) {
+            throw overflow(input.readInteger(position, signed), type, targetClass);
+        }
+        return input.readLowLong(position);
+    }
+
+    private static int readInt(Input input, int position, boolean signed, SolidityTypeDescriptor type) {
+        var value = readLong(input, position, signed, type, int.class);
+        if (value != (int) value) {
+            throw overflow(value, type, int.class);
+        }
+        return (int) value;
+    }
+
+    private static TypeConvertException overflow(Object value, SolidityTypeDescriptor type, Class<?> targetClass) {
+        return new TypeConvertException(String.format("Value '%s' of type '%s' does not fit into '%s'.", value, type.getTypeName(), targetClass.getName()));
+    }
+
+    private static ValueReader createPrimitiveArrayReader(SolidityTypeDescriptor type, Class<?> targetClass) {
+        var componentType = type.getComponentType();
+        if (componentType.getKind() != SolidityTypeDescriptor.Kind.INT && componentType.getKind() != SolidityTypeDescriptor.Kind.UINT) {
+            return null;
+        }
+        var signed = componentType.getKind() == SolidityTypeDescriptor.Kind.INT;
+        var staticLength = type.isStaticArray() ? type.getLength() : SolidityTypeDescriptor.DYNAMIC_LENGTH;
+
+        if (targetClass == long[].class || targetClass == LongList.class) {
+            var wrap = targetClass == LongList.class;
+            return (input, position) -> {
+                var length = readArrayLength(input, position, staticLength);
+                var start = getArrayStart(position, staticLength);
+                var values = new long[length];
+                for (var i = 0; i < length; i++) {
+                    values[i] = readLong(input, start + i * WORD_SIZE, signed, componentType, long.class);
+                }
+                return wrap ? LongList.wrap(values) : values;
+            };
+        } else if (targetClass == int[].class) {
+            return (input, position) -> {
+                var length = readArrayLength(input, position, staticLength);
+                var start = getArrayStart(position, staticLength);
+                var values = new int[length];
+                for (var i = 0; i < length; i++) {
+                    values[i] = readInt(input, start + i * WORD_SIZE, signed, componentType);
+                }
+                return values;
+            };
+        }
+        return null;
+    }
+
+    private static int readArrayLength(Input input, int position, int staticLength) {
+        var length = staticLength != SolidityTypeDescriptor.DYNAMIC_LENGTH ? staticLength : input.readInt(position);
+        // the elements need at least a word each
+        input.check(getArrayStart(position, staticLength), length * (long) WORD_SIZE);
+        return length;
+    }
+
+    private static int getArrayStart(int position, int staticLength) {
+        return staticLength != SolidityTypeDescriptor.DYNAMIC_LENGTH ? position : position + WORD_SIZE;
+    }
+
+    private static ValueReader createArrayReader(SolidityTypeDescriptor type, Type targetType) {
+        var componentType = type.getComponentType();
+
+        if (targetType == Object.class) {
+            var elementReader = createReader(componentType, Object.class);
+            return createArrayReader(type, elementReader, length -> new ArrayList<>(length));
+        }
+
+        if (targetType == LongList.class) {
+            return createPrimitiveArrayReader(type, LongList.class);
+        }
+
+        if (targetType instanceof Class<?> && ((Class<?>) targetType).isArray()) {
+            var targetComponentType = ((Class<?>) targetType).getComponentType();
+            if (targetComponentType.isPrimitive()) {
+                return createPrimitiveArrayReader(type, (Class<?>) targetType);
+            }
+            var elementReader = createReader(componentType, targetComponentType);
+            if (elementReader == null) {
+                return null;
+            }
+            var listReader = createArrayReader(type, elementReader, length -> new ArrayList<>(length));
+            return (input, position) -> {
+                var elements = (List<?>) listReader.read(input, position);
+                return elements.toArray((Object[]) Array.newInstance(targetComponentType, elements.size()));
+            };
+        }
+
+        Class<?> rawType;
+        Type elementType;
+        if (targetType instanceof ParameterizedType) {
+            rawType = (Class<?>) ((ParameterizedType) targetType).getRawType();
+            elementType = ((ParameterizedType) targetType).getActualTypeArguments()[0];
+        } else if (targetType instanceof Class<?>) {
+            rawType = (Class<?>) targetType;
+            elementType = Object.class;
+        } else {
+            return null;
+        }
+
+        var elementReader = createReader(componentType, elementType);
+        if (elementReader == null) {
+            return null;
+        }
+        if (rawType == Collection.class || rawType == List.class) {
+            return createArrayReader(type, elementReader, length -> new ArrayList<>(length));
+        } else if (rawType == Set.class) {
+            return createArrayReader(type, elementReader, length -> new HashSet<>());
+        }
+        return null;
+    }
+
+    private static ValueReader createArrayReader(SolidityTypeDescriptor type, ValueReader elementReader, CollectionFactory collectionFactory) {
+        var componentType = type.getComponentType();
+        var elementSize = componentType.getHeadSize();
+        var dynamicElements = componentType.isDynamic();
+        var staticLength = type.isStaticArray() ? type.getLength() : SolidityTypeDescriptor.DYNAMIC_LENGTH;
+
+        return (input, position) -> {
+            var length = readArrayLength(input, position, staticLength);
+            var start = getArrayStart(position, staticLength);
+
+            var collection = collectionFactory.create(length);
+            for (var i = 0; i < length; i++) {
+                var head = start + i * elementSize;
+                var elementPosition = dynamicElements ? start + input.readInt(head) : head;
+                collection.add(elementReader.read(input, elementPosition));
+            }
+            return collection;
+        };
+    }
+
+    private static ValueReader createTupleReader(List<SolidityTypeDescriptor> types, ValueReader[] readers, TupleFactory tupleFactory) {
+        var count = types.size();
+        var headOffsets = new int[count];
+        var dynamic = new boolean[count];
+        var offset = 0;
+        for (var i = 0; i < count; i++) {
+            headOffsets[i] = offset;
+            dynamic[i] = types.get(i).isDynamic();
+            offset += types.get(i).getHeadSize();
+        }
+
+        return (input, position) -> {
+            var values = new Object[count];
+            for (var i = 0; i < count; i++) {
+                var head = position + headOffsets[i];
+                var valuePosition = dynamic[i] ? position + input.readInt(head) : head;
+                values[i] = readers[i].read(input, valuePosition);
+            }
+            return tupleFactory.create(values);
+        };
+    }
+
+    @FunctionalInterface
+    private interface ValueReader {
+        Object read(Input input, int position);
+    }
+
+    @FunctionalInterface
+    private interface CollectionFactory {
+        Collection<Object> create(int length);
+    }
+
+    @FunctionalInterface
+    private interface TupleFactory {
+        Object create(Object[] values);
+    }
+
+    private static final class Input {
+        private final byte[] data;
+
+        private Input(byte[] data) {
+            this.data = data;
+        }
+
+        private void check(long position, long length) {
+            if (position < 0 || position + length > data.length) {
+                throw new TypeConvertException(String.format("Failed to decode result, expected at least %s bytes but got %s.", position + length, data.length));
+            }
+        }
+
+        private BigInteger readInteger(int position, boolean signed) {
+            check(position, WORD_SIZE);
+            return signed
+                    ? new BigInteger(data, position, WORD_SIZE)
+                    : new BigInteger(1, data, position, WORD_SIZE);
+        }
+
+        // checks whether the upper bytes of the word are a sign extension of the lower eight bytes
+        private boolean fitsInLong(int position, boolean signed) {
+            check(position, WORD_SIZE);
+            var lowStart = position + WORD_SIZE - Long.BYTES;
+            var negative = signed && data[lowStart] < 0;
+            if (!signed && data[lowStart] < 0) {
+                return false;
+            }
+            var extension = negative ? (byte) 0xff : 0;
+            for (var i = position; i < lowStart; i++) {
+                if (data[i] != extension) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long readLowLong(int position) {
+            var value = 0L;
+            for (var i = position + WORD_SIZE - Long.BYTES; i < position + WORD_SIZE; i++) {
+                value = (value << 8) | (data[i] & 0xff);
+            }
+            return value;
+        }
+
+        // reads offsets and lengths
+        private int readInt(int position) {
+            check(position, WORD_SIZE);
+            var end = position + WORD_SIZE;
+            for (var i = position; i < end - Integer.BYTES; i++) {
+                if (data[i] != 0) {
+                    throw new TypeConvertException("Failed to decode result, offset or length exceeds the size of the result.");
+                }
+            }
+            var value = 0;
+            for (var i = end - Integer.BYTES; i < end; i++) {
+                value = (value << 8) | (data[i] & 0xff);
+            }
+            if (value < 0) {
+                throw new TypeConvertException("Failed to decode result, offset or length exceeds the size of the result.");
+            }
+            return value;
+        }
+
+        private boolean readBoolean(int position) {
+            check(position, WORD_SIZE);
+            for (var i = position; i < position + WORD_SIZE; i++) {
+                if (data[i] != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private String readAddress(int position) {
+            check(position, WORD_SIZE);
+            var chars = new char[2 + ADDRESS_SIZE * 2];
+            chars[0] = '0';
+            chars[1] = 'x';
+            var start = position + WORD_SIZE - ADDRESS_SIZE;
+            for (var i = 0; i < ADDRESS_SIZE; i++) {
+                var b = data[start + i] & 0xff;
+                chars[2 + i * 2] = HEX_CHARACTERS[b >>> 4];
+                chars[3 + i * 2] = HEX_CHARACTERS[b & 0x0f];
+            }
+            return new String(chars);
+        }
+
+        private byte[] readBytes(int position, int length) {
+            check(position, length);
+            var bytes = new byte[length];
+            System.arraycopy(data, position, bytes, 0, length);
+            return bytes;
+        }
+
+        private byte[] readDynamicBytes(int position) {
+            var length = readInt(position);
+            return readBytes(position + WORD_SIZE, length);
+        }
+    }
+}
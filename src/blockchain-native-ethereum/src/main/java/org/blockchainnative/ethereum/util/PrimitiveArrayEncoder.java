@@ -0,0 +1,126 @@
+package org.blockchainnative.ethereum.util;
+
+import org.blockchainnative.exceptions.TypeConvertException;
+import org.web3j.abi.datatypes.Array;
+import org.web3j.abi.datatypes.Type;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+
+/**
+ * Provides static methods for encoding Java arrays of numbers, booleans and byte arrays into web3j arrays. <br>
+ * <br>
+ * The elements are passed directly to the value factory of the array's component type, see
+ * {@link SolidityTypeDescriptor#newValue(Object)}, without copying them into an intermediate collection of boxed values
+ * or converting them one by one through the generic argument conversion. <br>
+ * <br>
+ * The class is not intended to be instantiated as it only provides static methods.
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public final class PrimitiveArrayEncoder {
+
+    private PrimitiveArrayEncoder() {
+    }
+
+    /**
+     * Encodes the given array if it is one of {@code short[]}, {@code int[]}, {@code long[]}, {@code BigInteger[]}, {@code boolean[]} or
+     * {@code byte[][]} and its elements match the component type of the given Solidity array type.
+     *
+     * @param argument  array to be encoded
+     * @param arrayType descriptor of the Solidity array type
+     * @return encoded web3j array or {@code null} if the given array cannot be encoded directly
+     */
+    public static Array<?> encode(Object argument, SolidityTypeDescriptor arrayType) {
+        if (argument == null) throw new IllegalArgumentException("argument must not be null");
+        if (arrayType == null || !arrayType.isArray()) throw new IllegalArgumentException("arrayType must be an array type");
+
+        var componentType = arrayType.getComponentType();
+        var valueType = componentType.getValueType();
+        if (valueType == null) {
+            return null;
+        }
+
+        if (BigInteger.class.equals(valueType)) {
+            if (argument instanceof short[]) {
+                return encode((short[]) argument, arrayType, componentType);
+            } else if (argument instanceof int[]) {
+                return encode((int[]) argument, arrayType, componentType);
+            } else if (argument instanceof long[]) {
+                return encode((long[]) argument, arrayType, componentType);
+            } else if (argument instanceof BigInteger[]) {
+                return encodeValues((BigInteger[]) argument, arrayType, componentType);
+            }
+        } else if (Boolean.class.equals(valueType) && argument instanceof boolean[]) {
+            return encode((boolean[]) argument, arrayType, componentType);
+        } else if (byte[].class.equals(valueType) && argument instanceof byte[][]) {
+            return encodeValues((byte[][]) argument, arrayType, componentType);
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the given array is one of the primitive or value arrays supported by {@link #encode(Object, SolidityTypeDescriptor)}
+     * for the given component type.
+     *
+     * @param argument      array to be checked
+     * @param componentType descriptor of the Solidity array's component type
+     * @return true if the array can be encoded directly
+     */
+    public static boolean isSupported(Object argument, SolidityTypeDescriptor componentType) {
+        if (argument == null) throw new IllegalArgumentException("argument must not be null");
+        if (componentType == null) throw new IllegalArgumentException("componentType must not be null");
+
+        var valueType = componentType.getValueType();
+        if (BigInteger.class.equals(valueType)) {
+            return argument instanceof short[] || argument instanceof int[] || argument instanceof long[];
+        } else if (Boolean.class.equals(valueType)) {
+            return argument instanceof boolean[];
+        }
+        return false;
+    }
+
+    private static Array<?> encode(short[] values, SolidityTypeDescriptor arrayType, SolidityTypeDescriptor componentType) {
+        var items = new ArrayList<Type<?>>(values.length);
+        for (var value : values) {
+            items.add(componentType.newValue(BigInteger.valueOf(value)));
+        }
+        return arrayType.newArray(items);
+    }
+
+    private static Array<?> encode(int[] values, SolidityTypeDescriptor arrayType, SolidityTypeDescriptor componentType) {
+        var items = new ArrayList<Type<?>>(values.length);
+        for (var value : values) {
+            items.add(componentType.newValue(BigInteger.valueOf(value)));
+        }
+        return arrayType.newArray(items);
+    }
+
+    private static Array<?> encode(long[] values, SolidityTypeDescriptor arrayType, SolidityTypeDescriptor componentType) {
+        var items = new ArrayList<Type<?>>(values.length);
+        for (var value : values) {
+            items.add(componentType.newValue(BigInteger.valueOf(value)));
+        }
+        return arrayType.newArray(items);
+    }
+
+    private static Array<?> encode(boolean[] values, SolidityTypeDescriptor arrayType, SolidityTypeDescriptor componentType) {
+        var items = new ArrayList<Type<?>>(values.length);
+        for (var value : values) {
+            items.add(componentType.newValue(Boolean.valueOf(value)));
+        }
+        return arrayType.newArray(items);
+    }
+
+    private static Array<?> encodeValues(Object[] values, SolidityTypeDescriptor arrayType, SolidityTypeDescriptor componentType) {
+        var items = new ArrayList<Type<?>>(values.length);
+        for (var value : values) {
+            if (value == null) {
+                throw new TypeConvertException(String.format("Cannot convert argument to type '%s', array contains null elements.", arrayType.getTypeName()));
+            }
+            items.add(componentType.newValue(value));
+        }
+        return arrayType.newArray(items);
+    }
+}
@@ -0,0 +1,558 @@
+package org.blockchainnative.ethereum.util;
+
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.blockchainnative.exceptions.TypeConvertException;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.Bytes;
+import org.web3j.abi.datatypes.BytesType;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.Int;
+import org.web3j.abi.datatypes.IntType;
+import org.web3j.abi.datatypes.StaticArray;
+import org.web3j.abi.datatypes.Uint;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.AbiTypes;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable, parsed representation of a Solidity type as it is declared in a contract ABI. <br>
+ * <br>
+ * Array types such as {@code uint256[2][]} are represented as a tree of descriptors, each array descriptor referencing
+ * the descriptor of its component type. Every descriptor holds the resolved web3j class as well as the corresponding
+ * Java type, hence converting values does not require to parse the type name again. Non-array descriptors additionally
+ * hold a factory creating web3j values without reflection, see {@link SolidityTypeDescriptor#newValue(Object)}. <br>
+ * <br>
+ * Tuples are supported in their canonical notation, e.g. {@code (address,bytes)[]}, for encoding and decoding values
+ * with {@link AbiFunctionEncoder} and {@link AbiResultDecoder}. As web3j does not support tuples, tuple descriptors
+ * have no web3j type. <br>
+ * <br>
+ * Descriptors are interned per type name, {@link SolidityTypeDescriptor#of(String)} returns the same instance for
+ * equal type names.
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public final class SolidityTypeDescriptor {
+
+    /**
+     * Length of dynamic arrays and non-array types
+     */
+    public static final int DYNAMIC_LENGTH = -1;
+
+    /**
+     * Categories of Solidity types relevant for encoding and decoding
+     */
+    public enum Kind {
+        /**
+         * Signed integer types, {@code int8} - {@code int256}
+         */
+        INT,
+        /**
+         * Unsigned integer types, {@code uint8} - {@code uint256}
+         */
+        UINT,
+        /**
+         * {@code bool}
+         */
+        BOOL,
+        /**
+         * {@code address}
+         */
+        ADDRESS,
+        /**
+         * Fixed size byte arrays, {@code bytes1} - {@code bytes32}
+         */
+        FIXED_BYTES,
+        /**
+         * Dynamic byte array {@code bytes}
+         */
+        BYTES,
+        /**
+         * {@code string}
+         */
+        STRING,
+        /**
+         * Static and dynamic arrays
+         */
+        ARRAY,
+        /**
+         * Tuples, e.g. {@code (address,bytes)}
+         */
+        TUPLE,
+        /**
+         * Any other type supported by web3j
+         */
+        OTHER
+    }
+
+    private static final int WORD_SIZE = 32;
+
+    private static final ConcurrentMap<String, SolidityTypeDescriptor> descriptors = new ConcurrentHashMap<>();
+    private static final TypeVariable<?> web3jTypeVariable = org.web3j.abi.datatypes.Type.class.getTypeParameters()[0];
+    private static final String STATIC_ARRAY_CLASS_PREFIX = "org.web3j.abi.datatypes.generated.StaticArray";
+
+    private final String typeName;
+    private final String canonicalTypeName;
+    private final Kind kind;
+    private final int size;
+    private final boolean dynamic;
+    private final int headSize;
+    private final SolidityTypeDescriptor componentType;
+    private final List<SolidityTypeDescriptor> componentTypes;
+    private final int length;
+    private final Class<?> web3jType;
+    private final Type web3jParameterizedType;
+    private final Type nativeType;
+    private final MethodHandle arrayConstructor;
+    private final Class<?> valueType;
+    private final MethodHandle valueFactory;
+
+    private SolidityTypeDescriptor(String typeName) {
+        this.typeName = typeName;
+
+        var arrayStart = typeName.endsWith("]") ? typeName.lastIndexOf('[') : -1;
+        if (arrayStart > 0) {
+            // solidity arrays are defined in a weird way, string[3][2] corresponds to a java array of String[2][3]
+            // thus the outermost array is described by the last pair of brackets
+            var lengthDefinition = typeName.substring(arrayStart + 1, typeName.length() - 1);
+
+            this.componentType = of(typeName.substring(0, arrayStart));
+            this.componentTypes = Collections.emptyList();
+            this.length = lengthDefinition.isEmpty() ? DYNAMIC_LENGTH : parseLength(typeName, lengthDefinition);
+            this.web3jType = this.length == DYNAMIC_LENGTH ? DynamicArray.class : getStaticArrayType(this.length);
+            this.web3jParameterizedType = this.componentType.web3jParameterizedType != null
+                    ? TypeUtils.parameterize(this.web3jType, this.componentType.web3jParameterizedType)
+                    : null;
+            // Both static and dynamic arrays are converted to Lists
+            this.nativeType = TypeUtils.parameterize(List.class, this.componentType.nativeType);
+            this.arrayConstructor = getArrayConstructor(this.web3jType);
+            this.valueType = null;
+            this.valueFactory = null;
+            this.canonicalTypeName = this.componentType.canonicalTypeName + typeName.substring(arrayStart);
+            this.kind = Kind.ARRAY;
+            this.size = 0;
+            this.dynamic = this.length == DYNAMIC_LENGTH || this.componentType.dynamic;
+            this.headSize = this.dynamic ? WORD_SIZE : this.length * this.componentType.headSize;
+        } else if (typeName.startsWith("(") && typeName.endsWith(")")) {
+            this.componentType = null;
+            this.componentTypes = parseTupleComponents(typeName);
+            this.length = DYNAMIC_LENGTH;
+            this.web3jType = null;
+            this.web3jParameterizedType = null;
+            this.nativeType = TypeUtils.parameterize(List.class, Object.class);
+            this.arrayConstructor = null;
+            this.valueType = null;
+            this.valueFactory = null;
+            this.kind = Kind.TUPLE;
+            this.size = 0;
+
+            var canonicalTypeNameBuilder = new StringBuilder("(");
+            var dynamicComponents = false;
+            var componentsHeadSize = 0;
+            for (var i = 0; i < this.componentTypes.size(); i++) {
+                var component = this.componentTypes.get(i);
+                if (i > 0) {
+                    canonicalTypeNameBuilder.append(',');
+                }
+                canonicalTypeNameBuilder.append(component.canonicalTypeName);
+                dynamicComponents |= component.dynamic;
+                componentsHeadSize += component.headSize;
+            }
+            this.canonicalTypeName = canonicalTypeNameBuilder.append(')').toString();
+            this.dynamic = dynamicComponents;
+            this.headSize = this.dynamic ? WORD_SIZE : componentsHeadSize;
+        } else {
+            this.componentType = null;
+            this.componentTypes = Collections.emptyList();
+            this.length = DYNAMIC_LENGTH;
+            this.web3jType = AbiTypes.getType(typeName);
+            this.web3jParameterizedType = this.web3jType;
+            this.nativeType = getNativeTypeForSimpleType(this.web3jType);
+            this.arrayConstructor = null;
+            this.valueType = getValueType(this.web3jType);
+            this.valueFactory = getValueFactory(this.web3jType, this.valueType);
+            this.kind = getKind(this.web3jType);
+            this.size = getSize(this.kind, typeName);
+            this.canonicalTypeName = (this.kind == Kind.INT || this.kind == Kind.UINT) && !typeName.endsWith(Integer.toString(this.size))
+                    ? typeName + this.size
+                    : typeName;
+            this.dynamic = this.kind == Kind.BYTES || this.kind == Kind.STRING;
+            this.headSize = WORD_SIZE;
+        }
+    }
+
+    /**
+     * Returns the descriptor of the given Solidity type.
+     *
+     * @param typeName Solidity type name as defined in the ABI, possibly including a location suffix
+     * @return descriptor of the given type
+     * @throws TypeConvertException in case the given type is not supported
+     */
+    public static SolidityTypeDescriptor of(String typeName) {
+        if (typeName == null) throw new IllegalArgumentException("typeName must not be null");
+
+        var descriptor = descriptors.get(typeName);
+        if (descriptor == null) {
+            // component types are parsed recursively, thus computeIfAbsent cannot be used here
+            var strippedTypeName = AbiUtil.stripLocationFromType(typeName);
+            descriptor = descriptors.get(strippedTypeName);
+            if (descriptor == null) {
+                descriptor = parse(strippedTypeName);
+                var existing = descriptors.putIfAbsent(strippedTypeName, descriptor);
+                if (existing != null) {
+                    descriptor = existing;
+                }
+            }
+            descriptors.putIfAbsent(typeName, descriptor);
+        }
+        return descriptor;
+    }
+
+    /**
+     * Returns the Solidity type name without location suffix
+     *
+     * @return Solidity type name
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Returns the canonical Solidity type name as used for computing function selectors, e.g. {@code uint256[]} for {@code uint[]}
+     *
+     * @return canonical Solidity type name
+     */
+    public String getCanonicalTypeName() {
+        return canonicalTypeName;
+    }
+
+    /**
+     * Returns the category of this type
+     *
+     * @return category of this type
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the size of integer and fixed size byte array types
+     *
+     * @return number of bits of integer types, number of bytes of fixed size byte arrays, otherwise {@code 0}
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns whether or not the type is dynamic in terms of the ABI encoding, i.e. whether its encoded size depends on the value
+     *
+     * @return {@code true} if the type is dynamic, otherwise {@code false}
+     */
+    public boolean isDynamic() {
+        return dynamic;
+    }
+
+    /**
+     * Returns the number of bytes the type occupies in the head part of an ABI encoded tuple.
+     *
+     * @return 32 for dynamic types and elementary types, the accumulated size of the elements for static arrays of static types
+     */
+    public int getHeadSize() {
+        return headSize;
+    }
+
+    /**
+     * Returns whether or not this descriptor represents an array type
+     *
+     * @return {@code true} if the type is a static or dynamic array, otherwise {@code false}
+     */
+    public boolean isArray() {
+        return componentType != null;
+    }
+
+    /**
+     * Returns whether or not this descriptor represents a static array type, i.e. an array of fixed length
+     *
+     * @return {@code true} if the type is a static array, otherwise {@code false}
+     */
+    public boolean isStaticArray() {
+        return isArray() && length != DYNAMIC_LENGTH;
+    }
+
+    /**
+     * Returns the length of a static array type
+     *
+     * @return length of the static array or {@link SolidityTypeDescriptor#DYNAMIC_LENGTH}
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the descriptor of the array component type
+     *
+     * @return descriptor of the array component type or {@code null} if this descriptor does not represent an array
+     */
+    public SolidityTypeDescriptor getComponentType() {
+        return componentType;
+    }
+
+    /**
+     * Returns the descriptors of the tuple components
+     *
+     * @return descriptors of the tuple components in declaration order, an empty list if this descriptor does not represent a tuple
+     */
+    public List<SolidityTypeDescriptor> getComponentTypes() {
+        return componentTypes;
+    }
+
+    /**
+     * Returns the web3j class representing this type, e.g. {@code Uint256} or {@code StaticArray2}
+     *
+     * @return web3j class representing this type, {@code null} for tuples
+     */
+    public Class<?> getWeb3jType() {
+        return web3jType;
+    }
+
+    /**
+     * Returns the parameterized web3j type representing this type, e.g. {@code DynamicArray<Uint256>}
+     *
+     * @return parameterized web3j type, {@code null} for tuples and arrays of tuples
+     */
+    public Type getWeb3jParameterizedType() {
+        return web3jParameterizedType;
+    }
+
+    /**
+     * Returns the Java type web3j uses for values of this type, e.g. {@code BigInteger} or {@code List<String>}
+     *
+     * @return Java type of the values of this type
+     */
+    public Type getNativeType() {
+        return nativeType;
+    }
+
+    /**
+     * Creates a web3j array of this type
+     *
+     * @param items converted array items
+     * @return web3j array containing the given items
+     * @throws IllegalStateException if this descriptor does not represent an array type
+     */
+    @SuppressWarnings("unchecked")
+    public org.web3j.abi.datatypes.Array<?> newArray(List<? extends org.web3j.abi.datatypes.Type> items) {
+        if (!isArray()) throw new IllegalStateException(String.format("Type '%s' is not an array type", typeName));
+
+        if (length == DYNAMIC_LENGTH) {
+            return new DynamicArray<>((List<org.web3j.abi.datatypes.Type>) items);
+        }
+        if (arrayConstructor == null) {
+            return new StaticArray<>(length, (List<org.web3j.abi.datatypes.Type>) items);
+        }
+        try {
+            return (org.web3j.abi.datatypes.Array<?>) arrayConstructor.invoke(items);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new TypeConvertException(String.format("Failed to create array of type '%s'", typeName), e);
+        }
+    }
+
+    /**
+     * Returns the type of the values accepted by {@link SolidityTypeDescriptor#newValue(Object)}. <br>
+     * <br>
+     * Integer types accept {@code BigInteger}, {@code bool} accepts {@code Boolean}, {@code address} and {@code string} accept
+     * {@code String} and all bytes types accept {@code byte[]}.
+     *
+     * @return accepted value type or {@code null} if this descriptor represents an array or a type which cannot be created from a value
+     */
+    public Class<?> getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Creates a web3j value of this type
+     *
+     * @param value value of type {@link SolidityTypeDescriptor#getValueType()}
+     * @return web3j value
+     * @throws TypeConvertException in case the value is not accepted by this type, e.g. if a number exceeds the bit size of the type
+     * @throws IllegalStateException if this descriptor does not represent a type which can be created from a value
+     */
+    public org.web3j.abi.datatypes.Type<?> newValue(Object value) {
+        if (valueFactory == null) throw new IllegalStateException(String.format("Values of type '%s' cannot be created directly", typeName));
+        if (!valueType.isInstance(value)) {
+            throw new TypeConvertException(String.format("Cannot convert argument '%s' to type '%s', expected value of type '%s'.", value, typeName, valueType.getName()));
+        }
+
+        try {
+            return (org.web3j.abi.datatypes.Type<?>) valueFactory.invokeExact(value);
+        } catch (UnsupportedOperationException e) {
+            // web3j rejects values exceeding the size of the type
+            throw new TypeConvertException(String.format("Value '%s' is not valid for type '%s'", value, typeName), e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new TypeConvertException(String.format("Failed to create value of type '%s'", typeName), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return typeName;
+    }
+
+    private static SolidityTypeDescriptor parse(String typeName) {
+        try {
+            return new SolidityTypeDescriptor(typeName);
+        } catch (UnsupportedOperationException e) {
+            // thrown by AbiTypes in case of unknown types
+            throw new TypeConvertException(String.format("Unsupported solidity type '%s'", typeName), e);
+        }
+    }
+
+    private static List<SolidityTypeDescriptor> parseTupleComponents(String typeName) {
+        var components = new ArrayList<SolidityTypeDescriptor>();
+        var depth = 0;
+        var componentStart = 1;
+        for (var i = 1; i < typeName.length() - 1; i++) {
+            var character = typeName.charAt(i);
+            if (character == '(') {
+                depth++;
+            } else if (character == ')') {
+                depth--;
+            } else if (character == ',' && depth == 0) {
+                components.add(of(typeName.substring(componentStart, i)));
+                componentStart = i + 1;
+            }
+        }
+        if (depth != 0) {
+            throw new TypeConvertException(String.format("Unbalanced parentheses in solidity type '%s'", typeName));
+        }
+        if (componentStart < typeName.length() - 1) {
+            components.add(of(typeName.substring(componentStart, typeName.length() - 1)));
+        }
+        return Collections.unmodifiableList(components);
+    }
+
+    private static int parseLength(String typeName, String lengthDefinition) {
+        try {
+            return Integer.parseInt(lengthDefinition);
+        } catch (NumberFormatException e) {
+            throw new TypeConvertException(String.format("Invalid array length in solidity type '%s'", typeName), e);
+        }
+    }
+
+    private static Class<?> getStaticArrayType(int length) {
+        try {
+            return Class.forName(STATIC_ARRAY_CLASS_PREFIX + length);
+        } catch (ClassNotFoundException e) {
+            return StaticArray.class;
+        }
+    }
+
+    private static MethodHandle getArrayConstructor(Class<?> arrayType) {
+        if (arrayType.equals(StaticArray.class) || arrayType.equals(DynamicArray.class)) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup()
+                    .findConstructor(arrayType, MethodType.methodType(void.class, List.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Class<?> getValueType(Class<?> web3jType) {
+        if (IntType.class.isAssignableFrom(web3jType)) {
+            return BigInteger.class;
+        } else if (Bool.class.isAssignableFrom(web3jType)) {
+            return Boolean.class;
+        } else if (Address.class.isAssignableFrom(web3jType) || Utf8String.class.isAssignableFrom(web3jType)) {
+            return String.class;
+        } else if (BytesType.class.isAssignableFrom(web3jType)) {
+            return byte[].class;
+        }
+        return null;
+    }
+
+    private static Kind getKind(Class<?> web3jType) {
+        if (Uint.class.isAssignableFrom(web3jType)) {
+            return Kind.UINT;
+        } else if (Int.class.isAssignableFrom(web3jType)) {
+            return Kind.INT;
+        } else if (Bool.class.isAssignableFrom(web3jType)) {
+            return Kind.BOOL;
+        } else if (Address.class.isAssignableFrom(web3jType)) {
+            return Kind.ADDRESS;
+        } else if (Bytes.class.isAssignableFrom(web3jType)) {
+            return Kind.FIXED_BYTES;
+        } else if (DynamicBytes.class.isAssignableFrom(web3jType)) {
+            return Kind.BYTES;
+        } else if (Utf8String.class.isAssignableFrom(web3jType)) {
+            return Kind.STRING;
+        }
+        return Kind.OTHER;
+    }
+
+    private static int getSize(Kind kind, String typeName) {
+        switch (kind) {
+            case INT:
+            case UINT:
+                var bits = typeName.substring(kind == Kind.INT ? 3 : 4);
+                return bits.isEmpty() ? 256 : Integer.parseInt(bits);
+            case FIXED_BYTES:
+                return Integer.parseInt(typeName.substring(5));
+            default:
+                return 0;
+        }
+    }
+
+    private static MethodHandle getValueFactory(Class<?> web3jType, Class<?> valueType) {
+        if (valueType == null) {
+            return null;
+        }
+        try {
+            // adapt the constructor to (Object)Type, so that it can be invoked exactly without further adaption
+            return MethodHandles.publicLookup()
+                    .findConstructor(web3jType, MethodType.methodType(void.class, valueType))
+                    .asType(MethodType.methodType(org.web3j.abi.datatypes.Type.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Class<?> getNativeTypeForSimpleType(Class<?> web3jType) {
+        var actualTypeArguments = TypeUtils.getTypeArguments(web3jType, org.web3j.abi.datatypes.Type.class);
+
+        if (actualTypeArguments.size() != 1) {
+            throw new TypeConvertException(String.format("Unexpected Number of type arguments of type '%s'", web3jType));
+        }
+
+        var typeArgument = actualTypeArguments.get(web3jTypeVariable);
+
+        if (typeArgument instanceof Class<?>) {
+            return (Class<?>) typeArgument;
+        } else if (TypeUtils.isArrayType(typeArgument)) {
+            var componentType = TypeUtils.getRawType(TypeUtils.getArrayComponentType(typeArgument), null);
+            return Array.newInstance(componentType, 0).getClass();
+        }
+
+        throw new TypeConvertException(String.format("Unexpected type argument '%s'", typeArgument.getTypeName()));
+    }
+}
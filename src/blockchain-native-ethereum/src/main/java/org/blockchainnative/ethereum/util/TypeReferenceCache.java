@@ -0,0 +1,165 @@
+package org.blockchainnative.ethereum.util;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import org.blockchainnative.exceptions.TypeConvertException;
+import org.web3j.abi.TypeReference;
+import org.web3j.protocol.core.methods.response.AbiDefinition;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded cache of canonical web3j {@link TypeReference} instances.
+ * <p>
+ * web3j determines the type of a value to be decoded through the generic super class of a {@code TypeReference},
+ * therefore a dedicated subclass has to be generated for every Solidity type. Generating such a class is expensive and
+ * every generated class occupies Metaspace, hence each type reference is created only once per Solidity type and
+ * shared afterwards. Type references are immutable and can safely be used by multiple threads at once.
+ * </p>
+ * <p>
+ * Entries are keyed by the normalized Solidity type name (without location suffixes) and the indexed flag.
+ * If the configured maximum size is exceeded, the least recently used entry is evicted.
+ * </p>
+ *
+ * @author Matthias Veit
+ * @since 1.1
+ */
+public final class TypeReferenceCache {
+
+    /**
+     * Default maximum number of type references held by a {@code TypeReferenceCache}
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 512;
+
+    private static final TypeReferenceCache DEFAULT_INSTANCE = new TypeReferenceCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final Map<Key, TypeReference<?>> typeReferences;
+
+    /**
+     * Creates a new {@code TypeReferenceCache}
+     *
+     * @param maximumSize maximum number of type references to be cached
+     */
+    public TypeReferenceCache(int maximumSize) {
+        if (maximumSize < 1)
+            throw new IllegalArgumentException("maximumSize must be greater than zero!");
+
+        this.typeReferences = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, TypeReference<?>> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the {@code TypeReferenceCache} shared by the argument converters.
+     *
+     * @return shared {@code TypeReferenceCache}
+     */
+    public static TypeReferenceCache getDefault() {
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Returns the type references for the given ABI parameters in declaration order.
+     *
+     * @param types input or output parameters of an ABI entry
+     * @return list of type references
+     */
+    public List<TypeReference<?>> getTypeReferences(List<AbiDefinition.NamedType> types) {
+        var result = new ArrayList<TypeReference<?>>(types.size());
+        for (var type : types) {
+            result.add(getTypeReference(type));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the type reference for the given ABI parameter.
+     *
+     * @param type input or output parameter of an ABI entry
+     * @return canonical type reference
+     */
+    public TypeReference<?> getTypeReference(AbiDefinition.NamedType type) {
+        return getTypeReference(type.getType(), type.isIndexed());
+    }
+
+    /**
+     * Returns the type reference for the given Solidity type.
+     *
+     * @param solidityType Solidity type name, possibly including a location suffix
+     * @param indexed      whether the type reference describes an indexed event parameter
+     * @return canonical type reference
+     */
+    public TypeReference<?> getTypeReference(String solidityType, boolean indexed) {
+        var key = new Key(AbiUtil.stripLocationFromType(solidityType), indexed);
+
+        synchronized (typeReferences) {
+            var typeReference = typeReferences.get(key);
+            if (typeReference == null) {
+                typeReference = createTypeReference(key);
+                typeReferences.put(key, typeReference);
+            }
+            return typeReference;
+        }
+    }
+
+    /**
+     * Returns the number of currently cached type references.
+     *
+     * @return number of cached type references
+     */
+    public int size() {
+        synchronized (typeReferences) {
+            return typeReferences.size();
+        }
+    }
+
+    private static TypeReference<?> createTypeReference(Key key) {
+        var typeParameter = SolidityTypeDescriptor.of(key.type).getWeb3jParameterizedType();
+        if (typeParameter == null) {
+            throw new TypeConvertException(String.format("Unsupported solidity type '%s'", key.type));
+        }
+        try {
+            return new ByteBuddy()
+                    .subclass(TypeDescription.Generic.Builder.parameterizedType(TypeReference.class, typeParameter).build(), ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING)
+                    .make()
+                    .load(TypeReferenceCache.class.getClassLoader())
+                    .getLoaded()
+                    .asSubclass(TypeReference.class)
+                    .getDeclaredConstructor(Boolean.TYPE).newInstance(key.indexed);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new TypeConvertException(String.format("Failed to create type reference for type '%s'.", key.type), e);
+        }
+    }
+
+    private static final class Key {
+        private final String type;
+        private final boolean indexed;
+
+        private Key(String type, boolean indexed) {
+            this.type = type;
+            this.indexed = indexed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            var key = (Key) o;
+            return indexed == key.indexed && type.equals(key.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, indexed);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.blockchainnative.ethereum.test;
+
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Consumer;
+import org.apache.commons.lang3.StringUtils;
+import org.blockchainnative.convert.TypeConverters;
+import org.blockchainnative.ethereum.EthereumArgumentConverterImpl;
+import org.blockchainnative.ethereum.metadata.EthereumEventFieldInfo;
+import org.blockchainnative.ethereum.metadata.EthereumEventInfo;
+import org.blockchainnative.ethereum.util.AbiEventDecoder;
+import org.blockchainnative.exceptions.TypeConvertException;
+import org.blockchainnative.util.ReflectionUtil;
+import org.junit.Test;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.core.methods.response.AbiDefinition;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.tx.Contract;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Matthias Veit
+ */
+public class AbiEventDecoderTest {
+
+    private static final String ADDRESS = "0x00000000000000000000000000000000000000ff";
+
+    private static final List<AbiDefinition.NamedType> INPUTS = List.of(
+            new AbiDefinition.NamedType("from", "address", true),
+            new AbiDefinition.NamedType("value", "uint256", false),
+            new AbiDefinition.NamedType("memo", "string", false),
+            new AbiDefinition.NamedType("accepted", "bool", false));
+
+    @Test
+    public void decodesLogIntoEventObject() throws Exception {
+        var eventInfo = eventInfo();
+
+        var event = (TransferEvent) eventInfo.getEventDecoder().orElseThrow().decode(log(42, "Hello World", true), new TransferEvent());
+
+        assertEquals(ADDRESS, event.from);
+        assertEquals(42L, event.value);
+        assertEquals("Hello World", event.memo);
+        assertTrue(event.accepted);
+    }
+
+    @Test
+    public void reusesEventObject() throws Exception {
+        var decoder = eventInfo().getEventDecoder().orElseThrow();
+        var event = new TransferEvent();
+
+        decoder.decode(log(1, "a", true), event);
+        decoder.decode(log(2, "b", false), event);
+
+        assertEquals(2L, event.value);
+        assertEquals("b", event.memo);
+        assertFalse(event.accepted);
+    }
+
+    @Test
+    public void decodesLikeWeb3jBasedConversion() throws Exception {
+        var eventInfo = eventInfo();
+        var converter = new EthereumArgumentConverterImpl(new TypeConverters());
+        var log = log(Long.MAX_VALUE, "Hello World", true);
+
+        var direct = (TransferEvent) converter.decodeEventObject(eventInfo, log, new TransferEvent());
+        var event = new org.web3j.abi.datatypes.Event("Transfer", converter.getInputParameterTypesReferences(eventInfo.getAbiDefinition()));
+        var converted = (TransferEvent) converter.populateEventObject(eventInfo, Contract.staticExtractEventParameters(event, log), new TransferEvent());
+
+        assertEquals(converted.from, direct.from);
+        assertEquals(converted.value, direct.value);
+        assertEquals(converted.memo, direct.memo);
+        assertEquals(converted.accepted, direct.accepted);
+    }
+
+    @Test(expected = TypeConvertException.class)
+    public void rejectsValuesExceedingFieldType() throws Exception {
+        eventInfo().getEventDecoder().orElseThrow().decode(log(BigInteger.ONE.shiftLeft(63), "a", true), new TransferEvent());
+    }
+
+    @Test
+    public void rejectsUnsupportedFieldTypes() throws Exception {
+        var eventAbi = new AbiDefinition(false, List.of(new AbiDefinition.NamedType("memo", "string", true)), "Memo", Collections.emptyList(), "event", false);
+        var fields = List.of(TransferEvent.class.getDeclaredField("memo"));
+
+        assertFalse(AbiEventDecoder.of(eventAbi, fields, eventAbi.getInputs(), eventInfo().getEventObjectFactory()).isPresent());
+    }
+
+    @Test
+    public void detectsEventConsumerMethods() throws Exception {
+        var method = TransferContract.class.getMethod("onTransfer", TransferEvent.class, Consumer.class);
+
+        assertTrue(ReflectionUtil.isEventConsumerMethod(method));
+        assertEquals(TransferEvent.class, ReflectionUtil.getEventType(method));
+    }
+
+    private static EthereumEventInfo eventInfo() throws NoSuchFieldException, NoSuchMethodException {
+        var fieldInfos = new ArrayList<EthereumEventFieldInfo>();
+        for (var input : INPUTS) {
+            var field = TransferEvent.class.getDeclaredField(input.getName());
+            fieldInfos.add(new EthereumEventFieldInfo(field, input.getName(), Optional.empty(), Optional.empty(), input));
+        }
+        var method = TransferContract.class.getMethod("onTransfer", TransferEvent.class, Consumer.class);
+        var eventAbi = new AbiDefinition(false, INPUTS, "Transfer", Collections.emptyList(), "event", false);
+        return new EthereumEventInfo("Transfer", method, Collections.emptyList(), fieldInfos, eventAbi);
+    }
+
+    private static Log log(long value, String memo, boolean accepted) {
+        return log(BigInteger.valueOf(value), memo, accepted);
+    }
+
+    private static Log log(BigInteger value, String memo, boolean accepted) {
+        var log = new Log();
+        log.setTopics(List.of(Hash.sha3String("Transfer(address,uint256,string,bool)"), "0x" + StringUtils.leftPad(ADDRESS.substring(2), 64, '0')));
+        log.setData("0x" + FunctionEncoder.encodeConstructor(List.of(new Uint256(value), new Utf8String(memo), new Bool(accepted))));
+        return log;
+    }
+
+    public interface TransferContract {
+        Disposable onTransfer(TransferEvent holder, Consumer<TransferEvent> consumer);
+    }
+
+    public static class TransferEvent {
+        public String from;
+        public long value;
+        public String memo;
+        public boolean accepted;
+    }
+}
@@ -0,0 +1,122 @@
+package org.blockchainnative.ethereum.test;
+
+import org.apache.commons.lang3.StringUtils;
+import org.blockchainnative.ethereum.util.AbiFunctionEncoder;
+import org.blockchainnative.ethereum.util.SolidityTypeDescriptor;
+import org.blockchainnative.exceptions.TypeConvertException;
+import org.junit.Test;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Bytes4;
+import org.web3j.abi.datatypes.generated.Int256;
+import org.web3j.abi.datatypes.generated.StaticArray2;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.abi.datatypes.generated.Uint8;
+import org.web3j.crypto.Hash;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Matthias Veit
+ */
+public class AbiFunctionEncoderTest {
+
+    private static final String ADDRESS = "0x00000000000000000000000000000000000000ff";
+
+    @Test
+    public void encodesStaticTypesLikeWeb3j() {
+        var encoder = encoder("transfer", "address", "uint256", "int256", "bool", "bytes4");
+
+        var encoded = encoder.encode(List.of(ADDRESS, 42, -7L, true, new byte[]{1, 2, 3, 4}));
+
+        assertEquals("transfer(address,uint256,int256,bool,bytes4)", encoder.getSignature());
+        assertEquals(FunctionEncoder.encode(function("transfer",
+                new Address(ADDRESS), new Uint256(42), new Int256(-7), new Bool(true), new Bytes4(new byte[]{1, 2, 3, 4}))), encoded);
+    }
+
+    @Test
+    public void encodesDynamicTypesLikeWeb3j() {
+        var encoder = encoder("store", "string", "uint256[]", "bytes", "uint8[2]");
+
+        var encoded = encoder.encode(List.of("Hello World", new long[]{1, 2, 3}, new byte[40], List.of(7, 8)));
+
+        assertEquals(FunctionEncoder.encode(function("store",
+                new Utf8String("Hello World"),
+                new DynamicArray<>(new Uint256(1), new Uint256(2), new Uint256(3)),
+                new DynamicBytes(new byte[40]),
+                new StaticArray2<>(new Uint8(7), new Uint8(8)))), encoded);
+    }
+
+    @Test
+    public void encodesOffsetsOfDynamicArrayElements() {
+        var encoder = encoder("names", "string[]");
+
+        var encoded = encoder.encode(Collections.singletonList(new String[]{"a", "bc"}));
+
+        // web3j 4.0.3 omits the offsets of the elements of arrays with dynamic component types
+        assertEquals(Hash.sha3String("names(string[])").substring(0, 10)
+                + word("20") + word("2") + word("40") + word("80")
+                + word("1") + StringUtils.rightPad("61", 64, '0')
+                + word("2") + StringUtils.rightPad("6263", 64, '0'), encoded);
+    }
+
+    @Test
+    public void acceptsWeb3jValues() {
+        var encoder = encoder("set", "uint256");
+
+        assertEquals(encoder.encode(List.of(BigInteger.TEN)), encoder.encode(List.of(new Uint256(10))));
+    }
+
+    @Test
+    public void encodesTuples() {
+        var staticTuple = encoder("set", "(uint256,bool)");
+        assertEquals("set((uint256,bool))", staticTuple.getSignature());
+        // static tuples are encoded in place
+        assertEquals(encoder("set", "uint256", "bool").encode(List.of(1, true)).substring(10),
+                staticTuple.encode(List.of(List.of(1, true))).substring(10));
+
+        var dynamicTuple = encoder("set", "(string,uint256)");
+        // dynamic tuples are referenced by their offset
+        assertEquals(word("20") + encoder("set", "string", "uint256").encode(List.of("abc", 5)).substring(10),
+                dynamicTuple.encode(Collections.singletonList(new Object[]{"abc", 5})).substring(10));
+    }
+
+    @Test(expected = TypeConvertException.class)
+    public void rejectsTuplesWithWrongNumberOfComponents() {
+        encoder("set", "(uint256,bool)").encode(List.of(List.of(1)));
+    }
+
+    @Test(expected = TypeConvertException.class)
+    public void rejectsValuesExceedingBitSize() {
+        encoder("set", "uint8").encode(List.of(256));
+    }
+
+    @Test(expected = TypeConvertException.class)
+    public void rejectsNegativeUnsignedValues() {
+        encoder("set", "uint256[]").encode(List.of(new int[]{1, -1}));
+    }
+
+    private static AbiFunctionEncoder encoder(String name, String... types) {
+        return new AbiFunctionEncoder(name, Arrays.stream(types).map(SolidityTypeDescriptor::of).collect(Collectors.toList()));
+    }
+
+    private static String word(String hexValue) {
+        return StringUtils.leftPad(hexValue, 64, '0');
+    }
+
+    private static Function function(String name, Type... arguments) {
+        return new Function(name, Arrays.asList(arguments), Collections.emptyList());
+    }
+}
@@ -0,0 +1,140 @@
+package org.blockchainnative.ethereum.test;
+
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.blockchainnative.ethereum.util.AbiResultDecoder;
+import org.blockchainnative.ethereum.util.SolidityTypeDescriptor;
+import org.blockchainnative.exceptions.TypeConvertException;
+import org.blockchainnative.util.LongList;
+import org.junit.Test;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Int256;
+import org.web3j.abi.datatypes.generated.StaticArray2;
+import org.web3j.abi.datatypes.generated.Uint256;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Matthias Veit
+ */
+public class AbiResultDecoderTest {
+
+    private static final String ADDRESS = "0x00000000000000000000000000000000000000ff";
+
+    @Test
+    public void decodesScalarsIntoDeclaredTypes() {
+        assertEquals(BigInteger.TWO.pow(255).negate(), decode(BigInteger.class, List.of("int256"), new Int256(BigInteger.TWO.pow(255).negate())));
+        assertEquals(42L, decode(long.class, List.of("uint256"), new Uint256(42)));
+        assertEquals(-7, decode(Integer.class, List.of("int256"), new Int256(-7)));
+        assertEquals(true, decode(boolean.class, List.of("bool"), new Bool(true)));
+        assertEquals(ADDRESS, decode(String.class, List.of("address"), new Address(ADDRESS)));
+        assertEquals("Hello World", decode(String.class, List.of("string"), new Utf8String("Hello World")));
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) decode(byte[].class, List.of("bytes"), new DynamicBytes(new byte[]{1, 2, 3})));
+    }
+
+    @Test
+    public void decodesArraysIntoCollections() {
+        var listType = TypeUtils.parameterize(List.class, BigInteger.class);
+        assertEquals(List.of(BigInteger.ONE, BigInteger.TWO), decode(listType, List.of("uint256[]"), new DynamicArray<>(new Uint256(1), new Uint256(2))));
+
+        var setType = TypeUtils.parameterize(Set.class, Long.class);
+        assertEquals(Set.of(1L, 2L), decode(setType, List.of("uint256[2]"), new StaticArray2<>(new Uint256(1), new Uint256(2))));
+
+        assertArrayEquals(new String[]{ADDRESS}, (String[]) decode(String[].class, List.of("address[]"), new DynamicArray<>(new Address(ADDRESS))));
+    }
+
+    @Test
+    public void decodesIntegerArraysIntoPrimitiveArrays() {
+        var values = new DynamicArray<>(new Int256(-1), new Int256(Long.MAX_VALUE), new Int256(Long.MIN_VALUE));
+
+        assertArrayEquals(new long[]{-1, Long.MAX_VALUE, Long.MIN_VALUE}, (long[]) decode(long[].class, List.of("int256[]"), values));
+        assertEquals(LongList.of(-1, Long.MAX_VALUE, Long.MIN_VALUE), decode(LongList.class, List.of("int256[]"), values));
+        assertArrayEquals(new int[]{1, 2}, (int[]) decode(int[].class, List.of("uint256[2]"), new StaticArray2<>(new Uint256(1), new Uint256(2))));
+    }
+
+    @Test(expected = TypeConvertException.class)
+    public void rejectsArrayElementsExceedingDeclaredType() {
+        decode(long[].class, List.of("uint256[]"), new DynamicArray<>(new Uint256(BigInteger.ONE.shiftLeft(63))));
+    }
+
+    @Test
+    public void decodesMultipleOutputsIntoList() {
+        var result = decode(TypeUtils.parameterize(List.class, Object.class), List.of("uint256", "string", "bool[]"),
+                new Uint256(1), new Utf8String("a"), new DynamicArray<>(new Bool(true), new Bool(false)));
+
+        assertEquals(List.of(BigInteger.ONE, "a", List.of(true, false)), result);
+    }
+
+    @Test
+    public void decodesMultipleOutputsIntoConstructor() {
+        var result = (Balance) decode(Balance.class, List.of("address", "uint256"), new Address(ADDRESS), new Uint256(100));
+
+        assertEquals(ADDRESS, result.owner);
+        assertEquals(100L, result.amount);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void decodesTupleArrays() {
+        // static tuples are encoded in place, hence the encoding equals the one of the flattened values
+        var encoded = FunctionEncoder.encodeConstructor(List.of(new Uint256(32), new Uint256(2),
+                new Address(ADDRESS), new Uint256(100), new Address(ADDRESS), new Uint256(200)));
+
+        var balances = (List<Balance>) AbiResultDecoder.of(descriptors(List.of("(address,uint256)[]")), TypeUtils.parameterize(List.class, Balance.class))
+                .orElseThrow()
+                .decode(encoded);
+        assertEquals(2, balances.size());
+        assertEquals(ADDRESS, balances.get(1).owner);
+        assertEquals(200L, balances.get(1).amount);
+
+        var values = AbiResultDecoder.of(descriptors(List.of("(address,uint256)[]")), Object.class).orElseThrow().decode(encoded);
+        assertEquals(List.of(List.of(ADDRESS, BigInteger.valueOf(100)), List.of(ADDRESS, BigInteger.valueOf(200))), values);
+    }
+
+    @Test
+    public void rejectsUnsupportedResultTypes() {
+        assertFalse(AbiResultDecoder.of(descriptors(List.of("uint256")), String.class).isPresent());
+        assertFalse(AbiResultDecoder.of(descriptors(List.of("uint256", "bool")), Balance.class).isPresent());
+    }
+
+    @Test(expected = TypeConvertException.class)
+    public void rejectsValuesExceedingDeclaredType() {
+        decode(int.class, List.of("uint256"), new Uint256(BigInteger.valueOf(Integer.MAX_VALUE).add(BigInteger.ONE)));
+    }
+
+    @Test(expected = TypeConvertException.class)
+    public void rejectsTruncatedResults() {
+        var decoder = AbiResultDecoder.of(descriptors(List.of("string")), String.class).orElseThrow();
+        decoder.decode("0x0000000000000000000000000000000000000000000000000000000000000020");
+    }
+
+    private static Object decode(java.lang.reflect.Type resultType, List<String> outputTypes, Type... values) {
+        var decoder = AbiResultDecoder.of(descriptors(outputTypes), resultType).orElseThrow();
+        return decoder.decode(FunctionEncoder.encodeConstructor(Arrays.asList(values)));
+    }
+
+    private static List<SolidityTypeDescriptor> descriptors(List<String> types) {
+        return types.stream().map(SolidityTypeDescriptor::of).collect(Collectors.toList());
+    }
+
+    public static class Balance {
+        private final String owner;
+        private final long amount;
+
+        public Balance(String owner, long amount) {
+            this.owner = owner;
+            this.amount = amount;
+        }
+    }
+}
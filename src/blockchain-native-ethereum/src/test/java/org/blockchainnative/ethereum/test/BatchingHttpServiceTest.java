@@ -0,0 +1,149 @@
+package org.blockchainnative.ethereum.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.blockchainnative.ethereum.BatchingHttpService;
+import org.junit.Test;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthCall;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Matthias Veit
+ */
+public class BatchingHttpServiceTest {
+
+    @Test
+    public void sendsCallsAsSingleBatch() throws Exception {
+        var service = new FakeBatchingHttpService(1000, 3, true);
+
+        var first = call(service, "0x01").sendAsync();
+        var second = call(service, "fail").sendAsync();
+        var third = call(service, "0x03").sendAsync();
+
+        assertEquals("0x01", first.get(5, TimeUnit.SECONDS).getValue());
+        assertEquals("0x03", third.get(5, TimeUnit.SECONDS).getValue());
+        var failed = second.get(5, TimeUnit.SECONDS);
+        assertTrue(failed.hasError());
+        assertEquals("execution reverted", failed.getError().getMessage());
+        assertEquals(1, service.payloads.size());
+        assertTrue(service.payloads.get(0).startsWith("["));
+    }
+
+    @Test
+    public void sendsBatchAfterWindow() throws Exception {
+        var service = new FakeBatchingHttpService(10, 50, true);
+
+        var first = call(service, "0x01").sendAsync();
+        var second = call(service, "0x02").send();
+
+        assertEquals("0x02", second.getValue());
+        assertEquals("0x01", first.get(5, TimeUnit.SECONDS).getValue());
+        assertEquals(1, service.payloads.size());
+    }
+
+    @Test
+    public void fallsBackToIndividualCalls() throws Exception {
+        var service = new FakeBatchingHttpService(1000, 2, false);
+
+        var first = call(service, "0x01").sendAsync();
+        var second = call(service, "0x02").sendAsync();
+
+        assertEquals("0x01", first.get(5, TimeUnit.SECONDS).getValue());
+        assertEquals("0x02", second.get(5, TimeUnit.SECONDS).getValue());
+        assertEquals(3, service.payloads.size());
+    }
+
+    @Test
+    public void failsIndividualCallsSeparately() throws Exception {
+        var service = new FakeBatchingHttpService(1000, 2, false);
+
+        var first = call(service, "crash").sendAsync();
+        var second = call(service, "0x02").sendAsync();
+
+        try {
+            first.get(5, TimeUnit.SECONDS);
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals("0x02", second.get(5, TimeUnit.SECONDS).getValue());
+    }
+
+    @Test
+    public void sendsOtherRequestsImmediately() throws Exception {
+        var service = new FakeBatchingHttpService(60_000, 50, true);
+
+        var blockNumber = new Request<>("eth_blockNumber", List.of(), service, EthBlockNumber.class).send();
+
+        assertEquals(16, blockNumber.getBlockNumber().intValue());
+        assertEquals(1, service.payloads.size());
+        assertFalse(service.payloads.get(0).startsWith("["));
+    }
+
+    private static Request<String, EthCall> call(BatchingHttpService service, String value) {
+        return new Request<>("eth_call", List.of(value), service, EthCall.class);
+    }
+
+    private static class FakeBatchingHttpService extends BatchingHttpService {
+        private final ObjectMapper mapper = new ObjectMapper();
+        private final List<String> payloads = new ArrayList<>();
+        private final boolean supportsBatches;
+
+        private FakeBatchingHttpService(long batchWindowMillis, int maxBatchSize, boolean supportsBatches) {
+            super("http://localhost:8545/", batchWindowMillis, maxBatchSize);
+            this.supportsBatches = supportsBatches;
+        }
+
+        @Override
+        protected synchronized InputStream performIO(String payload) throws IOException {
+            payloads.add(payload);
+
+            var request = mapper.readTree(payload);
+            String response;
+            if (!request.isArray() && "crash".equals(request.path("params").path(0).asText())) {
+                throw new IllegalStateException("connection reset");
+            } else if (!request.isArray()) {
+                response = mapper.writeValueAsString(respond(request));
+            } else if (!supportsBatches) {
+                response = "{\"jsonrpc\":\"2.0\",\"id\":null,\"error\":{\"code\":-32600,\"message\":\"batch requests not supported\"}}";
+            } else {
+                var responses = mapper.createArrayNode();
+                for (var i = request.size() - 1; i >= 0; i--) {
+                    responses.add(respond(request.get(i)));
+                }
+                response = mapper.writeValueAsString(responses);
+            }
+            return new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private ObjectNode respond(JsonNode request) {
+            var response = mapper.createObjectNode();
+            response.put("jsonrpc", "2.0");
+            response.set("id", request.get("id"));
+
+            var params = (ArrayNode) request.get("params");
+            if (params.size() == 0) {
+                response.put("result", "0x10");
+            } else if ("fail".equals(params.get(0).asText())) {
+                response.putObject("error").put("code", 3).put("message", "execution reverted");
+            } else {
+                response.put("result", params.get(0).asText());
+            }
+            return response;
+        }
+    }
+}
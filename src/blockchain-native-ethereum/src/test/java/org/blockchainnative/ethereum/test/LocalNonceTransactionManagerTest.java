@@ -0,0 +1,142 @@
+package org.blockchainnative.ethereum.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.blockchainnative.ethereum.LocalNonceTransactionManager;
+import org.blockchainnative.ethereum.NonceManager;
+import org.junit.Test;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.TransactionDecoder;
+import org.web3j.protocol.Service;
+import org.web3j.protocol.Web3j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Matthias Veit
+ */
+public class LocalNonceTransactionManagerTest {
+    private static final Credentials CREDENTIALS = Credentials.create("0x8f2a55949038a9610f50fb23b5883af3b4ecb3c3bb792cbcefbd1542c692be63");
+    private static final String RECIPIENT = "0x627306090abab3a6e1400e9345bc60c78a8bef57";
+
+    @Test
+    public void handsOutNoncesLocally() throws Exception {
+        var node = new FakeNode(5);
+        var transactionManager = new LocalNonceTransactionManager(Web3j.build(node), CREDENTIALS, new NonceManager(CREDENTIALS.getAddress()));
+
+        for (var i = 0; i < 3; i++) {
+            var response = transactionManager.sendTransaction(BigInteger.ONE, BigInteger.valueOf(21000), RECIPIENT, "0x", BigInteger.ZERO);
+            assertFalse(response.hasError());
+        }
+
+        assertEquals(List.of(BigInteger.valueOf(5), BigInteger.valueOf(6), BigInteger.valueOf(7)), node.sentNonces);
+        assertEquals(1, node.transactionCountQueries);
+    }
+
+    @Test
+    public void sharesNoncesBetweenTransactionManagers() throws Exception {
+        var node = new FakeNode(0);
+        var web3j = Web3j.build(node);
+        var nonceManager = new NonceManager(CREDENTIALS.getAddress());
+        var first = new LocalNonceTransactionManager(web3j, CREDENTIALS, nonceManager);
+        var second = new LocalNonceTransactionManager(web3j, CREDENTIALS, nonceManager);
+
+        first.sendTransaction(BigInteger.ONE, BigInteger.valueOf(21000), RECIPIENT, "0x", BigInteger.ZERO);
+        second.sendTransaction(BigInteger.ONE, BigInteger.valueOf(21000), RECIPIENT, "0x", BigInteger.ZERO);
+
+        assertEquals(List.of(BigInteger.ZERO, BigInteger.ONE), node.sentNonces);
+    }
+
+    @Test
+    public void resynchronizesAfterRejectedTransaction() throws Exception {
+        var node = new FakeNode(3);
+        var transactionManager = new LocalNonceTransactionManager(Web3j.build(node), CREDENTIALS, new NonceManager(CREDENTIALS.getAddress()));
+
+        node.rejectNext = "insufficient funds for gas * price + value";
+        var rejected = transactionManager.sendTransaction(BigInteger.ONE, BigInteger.valueOf(21000), RECIPIENT, "0x", BigInteger.ZERO);
+        var accepted = transactionManager.sendTransaction(BigInteger.ONE, BigInteger.valueOf(21000), RECIPIENT, "0x", BigInteger.ZERO);
+
+        assertTrue(rejected.hasError());
+        assertFalse(accepted.hasError());
+        // the nonce of the rejected transaction is reused instead of leaving a gap
+        assertEquals(List.of(BigInteger.valueOf(3), BigInteger.valueOf(3)), node.sentNonces);
+        assertEquals(2, node.transactionCountQueries);
+    }
+
+    @Test
+    public void retriesTransactionWithOutdatedNonce() throws Exception {
+        var node = new FakeNode(0);
+        var transactionManager = new LocalNonceTransactionManager(Web3j.build(node), CREDENTIALS, new NonceManager(CREDENTIALS.getAddress()));
+        transactionManager.sendTransaction(BigInteger.ONE, BigInteger.valueOf(21000), RECIPIENT, "0x", BigInteger.ZERO);
+
+        // another client sent a transaction of the same account
+        node.transactionCount = 10;
+        node.rejectNext = "nonce too low";
+        var response = transactionManager.sendTransaction(BigInteger.ONE, BigInteger.valueOf(21000), RECIPIENT, "0x", BigInteger.ZERO);
+
+        assertFalse(response.hasError());
+        assertEquals(List.of(BigInteger.ZERO, BigInteger.ONE, BigInteger.TEN), node.sentNonces);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonceManagerOfOtherAccount() {
+        new LocalNonceTransactionManager(Web3j.build(new FakeNode(0)), CREDENTIALS, new NonceManager(RECIPIENT));
+    }
+
+    /**
+     * Answers {@code eth_getTransactionCount} with the configured transaction count and accepts raw transactions
+     * unless {@link #rejectNext} is set.
+     */
+    private static class FakeNode extends Service {
+        private final ObjectMapper mapper = new ObjectMapper();
+        private final List<BigInteger> sentNonces = new ArrayList<>();
+        private long transactionCount;
+        private int transactionCountQueries;
+        private String rejectNext;
+
+        private FakeNode(long transactionCount) {
+            super(false);
+            this.transactionCount = transactionCount;
+        }
+
+        @Override
+        protected synchronized InputStream performIO(String payload) throws IOException {
+            var request = mapper.readTree(payload);
+            var response = mapper.createObjectNode();
+            response.put("jsonrpc", "2.0");
+            response.set("id", request.get("id"));
+
+            switch (request.path("method").asText()) {
+                case "eth_getTransactionCount":
+                    transactionCountQueries++;
+                    response.put("result", "0x" + Long.toHexString(transactionCount));
+                    break;
+                case "eth_sendRawTransaction":
+                    var signedTransaction = request.path("params").path(0).asText();
+                    sentNonces.add(TransactionDecoder.decode(signedTransaction).getNonce());
+                    if (rejectNext != null) {
+                        response.putObject("error").put("code", -32000).put("message", rejectNext);
+                        rejectNext = null;
+                    } else {
+                        transactionCount++;
+                        response.put("result", Hash.sha3(signedTransaction));
+                    }
+                    break;
+                default:
+                    fail("Unexpected request " + request);
+            }
+            return new ByteArrayInputStream(mapper.writeValueAsBytes(response));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.blockchainnative.ethereum.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.blockchainnative.ethereum.MulticallAggregator;
+import org.blockchainnative.exceptions.ContractCallException;
+import org.junit.Test;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.Service;
+import org.web3j.protocol.Web3j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Matthias Veit
+ */
+public class MulticallAggregatorTest {
+    private static final String MULTICALL = "0xcA11bde05977b3631167028862bE2a173976CA11";
+    private static final String FIRST_CONTRACT = "0x8f0483125fcb9aaaefa9209d8e9d7b9c8b9fb90f";
+    private static final String SECOND_CONTRACT = "0x627306090abab3a6e1400e9345bc60c78a8bef57";
+    private static final String GET_VALUE = "0x20965255";
+    private static final String REVERTING = "0xdeadbeef";
+
+    @Test
+    public void aggregatesCallsToDifferentContracts() throws Exception {
+        var node = new FakeMulticallNode();
+        var aggregator = new MulticallAggregator(Web3j.build(node), MULTICALL, 1000, 2);
+
+        try {
+            var first = call(aggregator, FIRST_CONTRACT, GET_VALUE);
+            var second = call(aggregator, SECOND_CONTRACT, GET_VALUE);
+
+            assertEquals(word(0x0f), first.get(5, TimeUnit.SECONDS));
+            assertEquals(word(0x57), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, node.requests.size());
+            assertEquals(MULTICALL, node.requests.get(0).path("params").path(0).path("to").asText());
+        } finally {
+            aggregator.close();
+        }
+    }
+
+    @Test
+    public void isolatesRevertedCalls() throws Exception {
+        var node = new FakeMulticallNode();
+        var aggregator = new MulticallAggregator(Web3j.build(node), MULTICALL, 1000, 2);
+
+        try {
+            var reverted = call(aggregator, FIRST_CONTRACT, REVERTING);
+            var succeeded = call(aggregator, SECOND_CONTRACT, GET_VALUE);
+
+            assertEquals(word(0x57), succeeded.get(5, TimeUnit.SECONDS));
+            try {
+                reverted.join();
+                fail("Expected the reverted call to fail");
+            } catch (CompletionException e) {
+                assertTrue(e.getCause() instanceof ContractCallException);
+            }
+            assertEquals(1, node.requests.size());
+        } finally {
+            aggregator.close();
+        }
+    }
+
+    @Test
+    public void failsPendingCallsOnClose() throws Exception {
+        var node = new FakeMulticallNode();
+        var aggregator = new MulticallAggregator(Web3j.build(node), MULTICALL, 60_000, 10);
+
+        var pending = call(aggregator, FIRST_CONTRACT, GET_VALUE);
+        // wait until the call has been submitted to the batch
+        Thread.sleep(200);
+        aggregator.close();
+
+        try {
+            pending.get(5, TimeUnit.SECONDS);
+            fail("Expected the pending call to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertTrue(node.requests.isEmpty());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsCallsAfterClose() throws Exception {
+        var aggregator = new MulticallAggregator(Web3j.build(new FakeMulticallNode()), MULTICALL);
+        aggregator.close();
+
+        aggregator.call(FIRST_CONTRACT, GET_VALUE);
+    }
+
+    private static CompletableFuture<String> call(MulticallAggregator aggregator, String contractAddress, String encodedFunction) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return aggregator.call(contractAddress, encodedFunction);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static String word(long value) {
+        return "0x" + hexWord(value);
+    }
+
+    private static String hexWord(long value) {
+        return String.format("%064x", value);
+    }
+
+    /**
+     * Answers {@code tryAggregate(bool,(address,bytes)[])} calls, each contract returns the last byte of its address
+     * unless the function {@link #REVERTING} is called.
+     */
+    private static class FakeMulticallNode extends Service {
+        private final ObjectMapper mapper = new ObjectMapper();
+        private final List<JsonNode> requests = new ArrayList<>();
+
+        private FakeMulticallNode() {
+            super(false);
+        }
+
+        @Override
+        protected synchronized InputStream performIO(String payload) throws IOException {
+            var request = mapper.readTree(payload);
+            requests.add(request);
+
+            var data = request.path("params").path(0).path("data").asText();
+            assertTrue(data.startsWith(Hash.sha3String("tryAggregate(bool,(address,bytes)[])").substring(0, 10)));
+            data = data.substring(10);
+
+            var arrayOffset = readWord(data, 32);
+            var length = readWord(data, arrayOffset);
+            var elementsOffset = arrayOffset + 32;
+            var elements = new ArrayList<String>();
+            for (var i = 0; i < length; i++) {
+                var tupleOffset = elementsOffset + readWord(data, elementsOffset + i * 32);
+                var address = data.substring(tupleOffset * 2 + 24, tupleOffset * 2 + 64);
+                var callDataOffset = tupleOffset + readWord(data, tupleOffset + 32);
+                var callDataLength = readWord(data, callDataOffset);
+                var callData = "0x" + data.substring((callDataOffset + 32) * 2, (callDataOffset + 32 + callDataLength) * 2);
+
+                if (REVERTING.equals(callData)) {
+                    elements.add(hexWord(0) + hexWord(64) + hexWord(0));
+                } else {
+                    elements.add(hexWord(1) + hexWord(64) + hexWord(32) + hexWord(Long.parseLong(address.substring(38), 16)));
+                }
+            }
+
+            var result = new StringBuilder("0x").append(hexWord(32)).append(hexWord(length));
+            var offset = length * 32L;
+            for (var element : elements) {
+                result.append(hexWord(offset));
+                offset += element.length() / 2;
+            }
+            elements.forEach(result::append);
+
+            var response = mapper.createObjectNode();
+            response.put("jsonrpc", "2.0");
+            response.set("id", request.get("id"));
+            response.put("result", result.toString());
+            return new ByteArrayInputStream(mapper.writeValueAsBytes(response));
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private static int readWord(String data, int byteOffset) {
+            return new BigInteger(data.substring(byteOffset * 2, byteOffset * 2 + 64), 16).intValueExact();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.blockchainnative.ethereum.test;
+
+import org.blockchainnative.annotations.ContractMethod;
+import org.blockchainnative.annotations.SmartContract;
+import org.blockchainnative.convert.TypeConverters;
+import org.blockchainnative.ethereum.EthereumArgumentConverterImpl;
+import org.blockchainnative.ethereum.EthereumContractWrapper;
+import org.blockchainnative.ethereum.Web3ContractApiImpl;
+import org.blockchainnative.ethereum.builder.EthereumContractInfoBuilder;
+import org.blockchainnative.metadata.PendingResult;
+import org.blockchainnative.metadata.Result;
+import org.junit.Test;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.tx.gas.DefaultGasProvider;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Matthias Veit
+ */
+public class PendingResultTest {
+
+    @Test
+    public void returnsSimulatedResultBeforeConfirmation() throws Exception {
+        // arrange
+        var contractInfo = new EthereumContractInfoBuilder<>(PendingHelloContract.class)
+                .withAbi(new File(this.getClass().getClassLoader().getResource("contracts/compiled/HelloWorld.abi").getFile()))
+                .build();
+
+        List<Type> output = List.of(new Utf8String("Hello Test!"));
+        var confirmation = new CompletableFuture<Result<List<Type>>>();
+
+        var contractConnector = mock(Web3ContractApiImpl.class);
+        when(contractConnector.submitFunctionCallTransaction(any(), any(), any(), any(), anyBoolean())).thenReturn(new PendingResult<>(output, "0x01", confirmation));
+
+        var contractWrapper = new EthereumContractWrapper(contractInfo, contractConnector, new DefaultGasProvider(), new EthereumArgumentConverterImpl(new TypeConverters()));
+
+        // act
+        var result = (PendingResult<?>) contractWrapper.intercept(PendingHelloContract.class.getDeclaredMethod("hello", String.class), new Object[]{"Test"});
+
+        // assert
+        verify(contractConnector).submitFunctionCallTransaction(any(), any(), any(), any(), eq(true));
+        verify(contractConnector, never()).executeFunctionCallTransaction(any(), any(), any(), any(), anyBoolean());
+
+        assertEquals("Hello Test!", result.getData());
+        assertEquals("0x01", result.getTransactionHash());
+        assertNull(result.getBlockHash());
+        assertFalse(result.getConfirmation().isDone());
+
+        confirmation.complete(new Result<>(output, "0xb1", "0x01"));
+
+        var confirmedResult = result.getConfirmation().get(5, TimeUnit.SECONDS);
+        assertEquals("Hello Test!", confirmedResult.getData());
+        assertEquals("0xb1", confirmedResult.getBlockHash());
+        assertEquals("0x01", confirmedResult.getTransactionHash());
+    }
+
+    @SmartContract
+    public interface PendingHelloContract {
+
+        @ContractMethod(value = "hello", simulateResult = true)
+        PendingResult<String> hello(String name);
+    }
+}
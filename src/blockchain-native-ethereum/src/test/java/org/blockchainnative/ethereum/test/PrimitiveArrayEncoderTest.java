@@ -0,0 +1,51 @@
+package org.blockchainnative.ethereum.test;
+
+import org.blockchainnative.ethereum.util.PrimitiveArrayEncoder;
+import org.blockchainnative.ethereum.util.SolidityTypeDescriptor;
+import org.junit.Test;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.generated.StaticArray3;
+import org.web3j.abi.datatypes.generated.Uint256;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Matthias Veit
+ */
+public class PrimitiveArrayEncoderTest {
+
+    @Test
+    public void encodesNumberArrays() {
+        var expected = List.of(new Uint256(1), new Uint256(2), new Uint256(3));
+
+        var fromInts = PrimitiveArrayEncoder.encode(new int[]{1, 2, 3}, SolidityTypeDescriptor.of("uint256[]"));
+        var fromLongs = PrimitiveArrayEncoder.encode(new long[]{1, 2, 3}, SolidityTypeDescriptor.of("uint256[3]"));
+        var fromBigIntegers = PrimitiveArrayEncoder.encode(new BigInteger[]{BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3)}, SolidityTypeDescriptor.of("uint256[]"));
+
+        assertEquals(DynamicArray.class, fromInts.getClass());
+        assertEquals(expected, fromInts.getValue());
+        assertEquals(StaticArray3.class, fromLongs.getClass());
+        assertEquals(expected, fromLongs.getValue());
+        assertEquals(expected, fromBigIntegers.getValue());
+    }
+
+    @Test
+    public void encodesBooleanAndByteArrays() {
+        var booleans = PrimitiveArrayEncoder.encode(new boolean[]{true, false}, SolidityTypeDescriptor.of("bool[]"));
+        var bytes = PrimitiveArrayEncoder.encode(new byte[][]{{1}, {2, 3}}, SolidityTypeDescriptor.of("bytes[]"));
+
+        assertEquals(List.of(new Bool(true), new Bool(false)), booleans.getValue());
+        assertEquals(List.of(new DynamicBytes(new byte[]{1}), new DynamicBytes(new byte[]{2, 3})), bytes.getValue());
+    }
+
+    @Test
+    public void skipsNonMatchingArrays() {
+        assertNull(PrimitiveArrayEncoder.encode(new int[]{1}, SolidityTypeDescriptor.of("string[]")));
+        assertNull(PrimitiveArrayEncoder.encode(new String[]{"1"}, SolidityTypeDescriptor.of("uint256[]")));
+    }
+}
@@ -195,6 +195,7 @@ public class SerializationTest {
                 "        ],\n" +
                 "        \"readOnly\": false,\n" +
                 "        \"resultTypeConverterClass\": null,\n" +
+                "        \"simulateResult\": true,\n" +
                 "        \"specialMethod\": false\n" +
                 "      },\n" +
                 "      \"org.blockchainnative.ethereum.test.contracts.EthereumHelloContract.deploy(java.math.BigInteger,java.math.BigInteger,java.lang.String)\": {\n" +
@@ -319,6 +320,7 @@ public class SerializationTest {
                 "        ],\n" +
                 "        \"readOnly\": false,\n" +
                 "        \"resultTypeConverterClass\": null,\n" +
+                "        \"simulateResult\": true,\n" +
                 "        \"specialMethod\": false\n" +
                 "      }\n" +
                 "    }\n" +
@@ -408,6 +410,7 @@ public class SerializationTest {
                 "        ],\n" +
                 "        \"readOnly\": false,\n" +
                 "        \"resultTypeConverterClass\": null,\n" +
+                "        \"simulateResult\": true,\n" +
                 "        \"specialMethod\": false\n" +
                 "      },\n" +
                 "      \"org.blockchainnative.ethereum.test.contracts.EthereumHelloContract.deploy(java.math.BigInteger,java.math.BigInteger,java.lang.String)\": {\n" +
@@ -532,6 +535,7 @@ public class SerializationTest {
                 "        ],\n" +
                 "        \"readOnly\": false,\n" +
                 "        \"resultTypeConverterClass\": null,\n" +
+                "        \"simulateResult\": true,\n" +
                 "        \"specialMethod\": false\n" +
                 "      }\n" +
                 "    }\n" +
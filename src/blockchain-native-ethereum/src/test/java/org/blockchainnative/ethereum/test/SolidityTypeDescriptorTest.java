@@ -0,0 +1,94 @@
+package org.blockchainnative.ethereum.test;
+
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.blockchainnative.ethereum.metadata.EthereumMethodInfo;
+import org.blockchainnative.ethereum.util.SolidityTypeDescriptor;
+import org.blockchainnative.exceptions.TypeConvertException;
+import org.junit.Test;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.generated.StaticArray2;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.AbiDefinition;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Matthias Veit
+ */
+public class SolidityTypeDescriptorTest {
+
+    @Test
+    public void parsesNestedArrays() {
+        var descriptor = SolidityTypeDescriptor.of("uint256[2][] memory");
+
+        assertEquals("uint256[2][]", descriptor.getTypeName());
+        assertTrue(descriptor.isArray());
+        assertFalse(descriptor.isStaticArray());
+        assertEquals(DynamicArray.class, descriptor.getWeb3jType());
+
+        var componentType = descriptor.getComponentType();
+        assertTrue(componentType.isStaticArray());
+        assertEquals(2, componentType.getLength());
+        assertEquals(StaticArray2.class, componentType.getWeb3jType());
+        assertSame(SolidityTypeDescriptor.of("uint256"), componentType.getComponentType());
+
+        assertEquals(TypeUtils.parameterize(List.class, TypeUtils.parameterize(List.class, BigInteger.class)), descriptor.getNativeType());
+        assertEquals(TypeUtils.parameterize(DynamicArray.class, TypeUtils.parameterize(StaticArray2.class, Uint256.class)), descriptor.getWeb3jParameterizedType());
+    }
+
+    @Test
+    public void internsDescriptors() {
+        assertSame(SolidityTypeDescriptor.of("string"), SolidityTypeDescriptor.of("string memory"));
+    }
+
+    @Test
+    public void createsStaticArrays() {
+        var array = SolidityTypeDescriptor.of("uint256[2]").newArray(List.of(new Uint256(1), new Uint256(2)));
+
+        assertEquals(StaticArray2.class, array.getClass());
+        assertEquals("uint256[2]", array.getTypeAsString());
+    }
+
+    @Test
+    public void createsValuesWithFullPrecision() {
+        var value = BigInteger.TWO.pow(200);
+
+        var uint = SolidityTypeDescriptor.of("uint256").newValue(value);
+
+        assertEquals(Uint256.class, uint.getClass());
+        assertEquals(value, uint.getValue());
+        assertEquals(new Address("0x0000000000000000000000000000000000000001"), SolidityTypeDescriptor.of("address").newValue("0x0000000000000000000000000000000000000001"));
+    }
+
+    @Test(expected = TypeConvertException.class)
+    public void rejectsValuesExceedingBitSize() {
+        SolidityTypeDescriptor.of("uint8").newValue(BigInteger.valueOf(256));
+    }
+
+    @Test(expected = TypeConvertException.class)
+    public void rejectsUnsupportedTypes() {
+        SolidityTypeDescriptor.of("tuple");
+    }
+
+    @Test
+    public void defersUnsupportedOutputTypesOfMethods() throws Exception {
+        var abi = new AbiDefinition();
+        abi.setName("value");
+        abi.setType("function");
+        abi.setOutputs(List.of(new AbiDefinition.NamedType("", "fixed128x18")));
+
+        // building the method info succeeds, the type is only rejected once the result is converted
+        var methodInfo = new EthereumMethodInfo(Object.class.getMethod("toString"), "value", true, false, List.of(), abi);
+
+        try {
+            methodInfo.getOutputTypeDescriptors();
+            fail("Expected TypeConvertException");
+        } catch (TypeConvertException e) {
+            // expected
+        }
+    }
+}
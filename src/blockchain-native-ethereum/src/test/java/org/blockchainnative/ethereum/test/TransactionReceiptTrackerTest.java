@@ -0,0 +1,142 @@
+package org.blockchainnative.ethereum.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.blockchainnative.ethereum.NonceManager;
+import org.blockchainnative.ethereum.TransactionReceiptTracker;
+import org.blockchainnative.ethereum.transactions.EthereumTransactionBuilder;
+import org.junit.Test;
+import org.web3j.protocol.Service;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.tx.TransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Matthias Veit
+ */
+public class TransactionReceiptTrackerTest {
+    private static final String TRANSACTION_HASH = "0xb903239f8543d04b5dc1ba6579132b143087c68db1b2168786408fcbce568238";
+    private static final String ACCOUNT = "0x627306090abab3a6e1400e9345bc60c78a8bef57";
+
+    @Test
+    public void completesOnceReceiptIsAvailable() throws Exception {
+        var node = new FakeNode(3);
+
+        try (var tracker = new TransactionReceiptTracker(Web3j.build(node), 10, 10)) {
+            var receipt = tracker.track(TRANSACTION_HASH).get(5, TimeUnit.SECONDS);
+
+            assertEquals(TRANSACTION_HASH, receipt.getTransactionHash());
+            assertEquals(0, tracker.getPendingTransactionCount());
+        }
+    }
+
+    @Test
+    public void failsAfterPollingAttempts() throws Exception {
+        var node = new FakeNode(Integer.MAX_VALUE);
+
+        try (var tracker = new TransactionReceiptTracker(Web3j.build(node), 10, 3)) {
+            tracker.track(TRANSACTION_HASH).get(5, TimeUnit.SECONDS);
+            fail("Expected the transaction to time out");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TransactionException);
+        }
+    }
+
+    @Test
+    public void resynchronizesNonceManagerAfterPollingAttempts() throws Exception {
+        var node = new FakeNode(Integer.MAX_VALUE);
+        var web3j = Web3j.build(node);
+        var nonceManager = new NonceManager(ACCOUNT);
+        nonceManager.acquireNonce(web3j);
+
+        try (var tracker = new TransactionReceiptTracker(web3j, 10, 3)) {
+            tracker.track(TRANSACTION_HASH, nonceManager).get(5, TimeUnit.SECONDS);
+            fail("Expected the transaction to time out");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TransactionException);
+        }
+
+        // the dropped transaction's nonce is handed out again
+        assertEquals(BigInteger.valueOf(7), nonceManager.acquireNonce(web3j));
+        assertEquals(2, node.transactionCountQueries);
+    }
+
+    @Test
+    public void failsTransactionRequestWithUnsuccessfulStatus() throws Exception {
+        var node = new FakeNode(1);
+        node.status = "0x0";
+        var response = new EthSendTransaction();
+        response.setResult(TRANSACTION_HASH);
+        var transactionManager = mock(TransactionManager.class);
+        when(transactionManager.sendTransaction(any(), any(), any(), any(), any())).thenReturn(response);
+
+        try (var tracker = new TransactionReceiptTracker(Web3j.build(node), 10, 10)) {
+            var transaction = new EthereumTransactionBuilder(Web3j.build(node), transactionManager, tracker)
+                    .withRecipient(ACCOUNT)
+                    .withValue(BigInteger.ONE)
+                    .build();
+
+            transaction.sendAsync().get(5, TimeUnit.SECONDS);
+            fail("Expected the transaction to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof org.blockchainnative.transactions.exceptions.TransactionException);
+        }
+    }
+
+    /**
+     * Answers {@code eth_getTransactionReceipt} with a receipt once it has been queried the configured number of times
+     * and {@code eth_getTransactionCount} with a fixed transaction count.
+     */
+    private static class FakeNode extends Service {
+        private final ObjectMapper mapper = new ObjectMapper();
+        private final int queriesUntilMined;
+        private int queries;
+        private int transactionCountQueries;
+        private String status = "0x1";
+
+        private FakeNode(int queriesUntilMined) {
+            super(false);
+            this.queriesUntilMined = queriesUntilMined;
+        }
+
+        @Override
+        protected synchronized InputStream performIO(String payload) throws IOException {
+            var request = mapper.readTree(payload);
+            var response = mapper.createObjectNode();
+            response.put("jsonrpc", "2.0");
+            response.set("id", request.get("id"));
+
+            if ("eth_getTransactionCount".equals(request.path("method").asText())) {
+                transactionCountQueries++;
+                response.put("result", "0x7");
+                return new ByteArrayInputStream(mapper.writeValueAsBytes(response));
+            }
+
+            assertEquals("eth_getTransactionReceipt", request.path("method").asText());
+            if (++queries >= queriesUntilMined) {
+                response.putObject("result")
+                        .put("transactionHash", request.path("params").path(0).asText())
+                        .put("blockHash", "0x01")
+                        .put("blockNumber", "0x1")
+                        .put("status", status);
+            } else {
+                response.putNull("result");
+            }
+            return new ByteArrayInputStream(mapper.writeValueAsBytes(response));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.blockchainnative.ethereum.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.blockchainnative.ethereum.TransactionReceiptTracker;
+import org.blockchainnative.ethereum.Web3ContractApiImpl;
+import org.blockchainnative.ethereum.builder.EthereumContractInfoBuilder;
+import org.blockchainnative.exceptions.ContractCallException;
+import org.blockchainnative.test.contracts.HelloContract;
+import org.junit.After;
+import org.junit.Test;
+import org.web3j.protocol.Service;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.tx.TransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Matthias Veit
+ */
+public class TransactionSimulationTest {
+    private static final String CONTRACT_ADDRESS = "0x627306090abab3a6e1400e9345bc60c78a8bef57";
+    private static final String ENCODED_FUNCTION = "0xa777d0dc";
+    private static final String ENCODED_RESULT = "0x0000000000000000000000000000000000000000000000000000000000000001";
+
+    private TransactionReceiptTracker receiptTracker;
+
+    @After
+    public void closeReceiptTracker() {
+        if (receiptTracker != null) {
+            receiptTracker.close();
+        }
+    }
+
+    @Test
+    public void simulatesResultAtBlockPrecedingTransaction() throws Exception {
+        // arrange
+        var node = new FakeNode(16);
+        var transactionManager = mockTransactionManager();
+        var contractApi = createContractApi(node, transactionManager);
+
+        // act
+        var result = contractApi.submitEncodedFunctionCallTransaction(ENCODED_FUNCTION, BigInteger.ONE, BigInteger.ONE, BigInteger.ZERO, true);
+
+        // assert
+        assertEquals(ENCODED_RESULT, result.getData());
+        assertEquals("0x01", result.getTransactionHash());
+        assertEquals(List.of("0x10"), node.callBlocks);
+        verify(transactionManager).sendTransaction(any(), any(), eq(CONTRACT_ADDRESS), eq(ENCODED_FUNCTION), any());
+
+        var confirmedResult = result.getConfirmation().get(5, TimeUnit.SECONDS);
+        assertEquals(ENCODED_RESULT, confirmedResult.getData());
+        assertEquals("0x01", confirmedResult.getBlockHash());
+    }
+
+    @Test
+    public void failingSimulationDoesNotPreventSubmission() throws Exception {
+        // arrange
+        var node = new FakeNode(16);
+        node.callError = "execution reverted";
+        var transactionManager = mockTransactionManager();
+        var contractApi = createContractApi(node, transactionManager);
+
+        // act
+        try {
+            contractApi.submitEncodedFunctionCallTransaction(ENCODED_FUNCTION, BigInteger.ONE, BigInteger.ONE, BigInteger.ZERO, true);
+            fail("Expected ContractCallException");
+        } catch (ContractCallException e) {
+            assertTrue(e.getMessage().contains("execution reverted"));
+        }
+
+        // assert
+        verify(transactionManager).sendTransaction(any(), any(), eq(CONTRACT_ADDRESS), eq(ENCODED_FUNCTION), any());
+    }
+
+    @Test
+    public void skipsSimulationIfNotRequested() throws Exception {
+        // arrange
+        var node = new FakeNode(16);
+        var transactionManager = mockTransactionManager();
+        var contractApi = createContractApi(node, transactionManager);
+
+        // act
+        var result = contractApi.submitEncodedFunctionCallTransaction(ENCODED_FUNCTION, BigInteger.ONE, BigInteger.ONE, BigInteger.ZERO, false);
+
+        // assert
+        assertNull(result.getData());
+        assertEquals(0, node.simulationRequests);
+    }
+
+    private Web3ContractApiImpl createContractApi(FakeNode node, TransactionManager transactionManager) throws Exception {
+        var contractInfo = new EthereumContractInfoBuilder<>(HelloContract.class)
+                .withAbi(new File(this.getClass().getClassLoader().getResource("contracts/compiled/HelloWorld.abi").getFile()))
+                .atAddress(CONTRACT_ADDRESS)
+                .build();
+
+        receiptTracker = new TransactionReceiptTracker(Web3j.build(node), 10, 10);
+
+        return new Web3ContractApiImpl(Web3j.build(node), transactionManager, contractInfo, receiptTracker);
+    }
+
+    private static TransactionManager mockTransactionManager() throws IOException {
+        var response = new EthSendTransaction();
+        response.setResult("0x01");
+
+        var transactionManager = mock(TransactionManager.class);
+        when(transactionManager.getFromAddress()).thenReturn(CONTRACT_ADDRESS);
+        when(transactionManager.sendTransaction(any(), any(), any(), any(), any())).thenReturn(response);
+        return transactionManager;
+    }
+
+    /**
+     * Answers {@code eth_blockNumber} with the configured block number, {@code eth_call} with a fixed result
+     * unless {@link #callError} is set and {@code eth_getTransactionReceipt} with a successful receipt.
+     */
+    private static class FakeNode extends Service {
+        private final ObjectMapper mapper = new ObjectMapper();
+        private final List<String> callBlocks = new ArrayList<>();
+        private final long blockNumber;
+        private String callError;
+        private int simulationRequests;
+
+        private FakeNode(long blockNumber) {
+            super(false);
+            this.blockNumber = blockNumber;
+        }
+
+        @Override
+        protected synchronized InputStream performIO(String payload) throws IOException {
+            var request = mapper.readTree(payload);
+            var response = mapper.createObjectNode();
+            response.put("jsonrpc", "2.0");
+            response.set("id", request.get("id"));
+
+            switch (request.path("method").asText()) {
+                case "eth_blockNumber":
+                    simulationRequests++;
+                    response.put("result", "0x" + Long.toHexString(blockNumber));
+                    break;
+                case "eth_call":
+                    simulationRequests++;
+                    callBlocks.add(request.path("params").path(1).asText());
+                    if (callError != null) {
+                        response.putObject("error").put("code", -32000).put("message", callError);
+                    } else {
+                        response.put("result", ENCODED_RESULT);
+                    }
+                    break;
+                case "eth_getTransactionReceipt":
+                    response.putObject("result")
+                            .put("transactionHash", request.path("params").path(0).asText())
+                            .put("blockHash", "0x01")
+                            .put("blockNumber", "0x11")
+                            .put("status", "0x1");
+                    break;
+                default:
+                    fail("Unexpected request " + request);
+            }
+            return new ByteArrayInputStream(mapper.writeValueAsBytes(response));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -10,7 +10,9 @@ import org.blockchainnative.ethereum.test.contracts.TypeConverterTestContract;
 import org.blockchainnative.metadata.Result;
 import org.blockchainnative.test.contracts.HelloContract;
 import org.junit.Test;
+import org.web3j.abi.FunctionEncoder;
 import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.Function;
 import org.web3j.abi.datatypes.Utf8String;
 import org.web3j.abi.datatypes.generated.Bytes16;
 import org.web3j.abi.datatypes.generated.StaticArray5;
@@ -166,6 +168,50 @@ public class TypeConverterTests {
         assertEquals((byte) 2, result);
     }
 
+    @Test
+    public void simulatedLongReturnTypeIsDecodedDirectly() throws Exception {
+        // arrange
+        var contractInfo = new EthereumContractInfoBuilder<>(TypeConverterTestContract.class)
+                .withAbi(new File(this.getClass().getClassLoader().getResource("contracts/compiled/TypeConverterTestContract.abi").getFile()))
+                .build();
+
+        var contractConnector = mock(Web3ContractApiImpl.class);
+        when(contractConnector.executeEncodedFunctionCallTransaction(any(), any(), any(), any(), eq(true))).thenReturn(new Result<>(FunctionEncoder.encodeConstructor(List.of(new Uint8(2))), null, null));
+
+        var contractWrapper = new EthereumContractWrapper(contractInfo, contractConnector, new DefaultGasProvider(), new EthereumArgumentConverterImpl(getTypeConverters()));
+
+        // act
+        var result = invokeMethod(contractWrapper, TypeConverterTestContract.class.getDeclaredMethod("longReturnType"));
+
+        // assert
+        verify(contractConnector, times(1)).executeEncodedFunctionCallTransaction(eq(FunctionEncoder.encode(new Function("byteReturnType", List.of(), List.of()))), any(), any(), any(), eq(true));
+        verify(contractConnector, never()).executeFunctionCallTransaction(any(), any(), any(), any());
+
+        assertEquals(2L, result);
+    }
+
+    @Test
+    public void readOnlyByteReturnTypeIsDecodedDirectly() throws Exception {
+        // arrange
+        var contractInfo = new EthereumContractInfoBuilder<>(TypeConverterTestContract.class)
+                .withAbi(new File(this.getClass().getClassLoader().getResource("contracts/compiled/TypeConverterTestContract.abi").getFile()))
+                .build();
+
+        var contractConnector = mock(Web3ContractApiImpl.class);
+        when(contractConnector.executeEncodedFunctionCall(any())).thenReturn(new Result<>(FunctionEncoder.encodeConstructor(List.of(new Uint8(2))), null, null));
+
+        var contractWrapper = new EthereumContractWrapper(contractInfo, contractConnector, new DefaultGasProvider(), new EthereumArgumentConverterImpl(getTypeConverters()));
+
+        // act
+        var result = invokeMethod(contractWrapper, TypeConverterTestContract.class.getDeclaredMethod("byteReturnTypeReadOnly"));
+
+        // assert
+        verify(contractConnector, times(1)).executeEncodedFunctionCall(FunctionEncoder.encode(new Function("byteReturnType", List.of(), List.of())));
+        verify(contractConnector, never()).executeFunctionCall(any());
+
+        assertEquals((byte) 2, result);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void listParameter() throws Exception {
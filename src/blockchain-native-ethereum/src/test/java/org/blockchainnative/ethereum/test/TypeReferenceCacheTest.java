@@ -0,0 +1,85 @@
+package org.blockchainnative.ethereum.test;
+
+import org.blockchainnative.ethereum.metadata.EthereumMethodInfo;
+import org.blockchainnative.ethereum.util.TypeReferenceCache;
+import org.junit.Test;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.StaticArray2;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.AbiDefinition;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Matthias Veit
+ */
+public class TypeReferenceCacheTest {
+
+    @Test
+    public void returnsCanonicalInstance() {
+        var cache = new TypeReferenceCache(TypeReferenceCache.DEFAULT_MAXIMUM_SIZE);
+
+        var first = cache.getTypeReference("string", false);
+        var second = cache.getTypeReference("string memory", false);
+
+        assertSame(first, second);
+        assertEquals(Utf8String.class, first.getType());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void distinguishesIndexedFlag() {
+        var cache = new TypeReferenceCache(TypeReferenceCache.DEFAULT_MAXIMUM_SIZE);
+
+        var indexed = cache.getTypeReference("uint256", true);
+        var notIndexed = cache.getTypeReference("uint256", false);
+
+        assertNotSame(indexed, notIndexed);
+        assertTrue(indexed.isIndexed());
+        assertFalse(notIndexed.isIndexed());
+        assertEquals(Uint256.class, indexed.getType());
+    }
+
+    @Test
+    public void resolvesArrayTypes() {
+        var cache = new TypeReferenceCache(TypeReferenceCache.DEFAULT_MAXIMUM_SIZE);
+
+        var type = (ParameterizedType) cache.getTypeReference("uint256[2][]", false).getType();
+
+        assertEquals(DynamicArray.class, type.getRawType());
+        var inner = (ParameterizedType) type.getActualTypeArguments()[0];
+        assertEquals(StaticArray2.class, inner.getRawType());
+        assertEquals(Uint256.class, inner.getActualTypeArguments()[0]);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedEntries() {
+        var cache = new TypeReferenceCache(2);
+
+        var uint = cache.getTypeReference("uint256", false);
+        cache.getTypeReference("string", false);
+        cache.getTypeReference("uint256", false);
+        cache.getTypeReference("bool", false);
+
+        assertEquals(2, cache.size());
+        assertSame(uint, cache.getTypeReference("uint256", false));
+    }
+
+    @Test
+    public void methodInfoResolvesTypeReferencesOnce() throws Exception {
+        var abi = new AbiDefinition(true, List.of(new AbiDefinition.NamedType("value", "uint256")), "echo",
+                List.of(new AbiDefinition.NamedType("", "string")), "function", false);
+        var methodInfo = new EthereumMethodInfo(Object.class.getMethod("toString"), "echo", true, false, Collections.emptyList(), abi);
+
+        var outputTypeReferences = methodInfo.getOutputTypeReferences();
+
+        assertSame(outputTypeReferences, methodInfo.getOutputTypeReferences());
+        assertEquals(Utf8String.class, outputTypeReferences.get(0).getType());
+        assertEquals(Uint256.class, methodInfo.getInputTypeReferences().get(0).getType());
+    }
+}
@@ -11,19 +11,25 @@ public interface TypeConverterTestContract {
     @ContractMethod
     void uuidParameter(UUID uuid);
 
-    @ContractMethod()
+    @ContractMethod(simulateResult = true)
     UUID uuidReturnType();
 
     @ContractMethod("uuidParameter")
     void uuidParameterPassAsType(@ContractParameter(asType = String.class) UUID uuid);
 
-    @ContractMethod
+    @ContractMethod(simulateResult = true)
     byte byteReturnType();
 
+    @ContractMethod(value = "byteReturnType", simulateResult = true)
+    long longReturnType();
+
+    @ContractMethod(value = "byteReturnType", isReadOnly = true)
+    byte byteReturnTypeReadOnly();
+
     @ContractMethod
     void listParameter(List<UUID> uuids);
 
-    @ContractMethod
+    @ContractMethod(simulateResult = true)
     List<UUID> uuidListReturnType();
 
     @ContractMethod
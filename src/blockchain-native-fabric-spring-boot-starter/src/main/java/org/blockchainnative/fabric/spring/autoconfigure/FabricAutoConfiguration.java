@@ -1,11 +1,13 @@
 package org.blockchainnative.fabric.spring.autoconfigure;
 
 import org.blockchainnative.ContractWrapperGenerator;
+import org.blockchainnative.InvocationScheduler;
 import org.blockchainnative.convert.TypeConverters;
 import org.blockchainnative.fabric.FabricContractWrapper;
 import org.blockchainnative.fabric.FabricContractWrapperGenerator;
 import org.blockchainnative.fabric.FabricUser;
 import org.blockchainnative.fabric.typeconverters.FabricDefaultTypeConverters;
+import org.blockchainnative.spring.autoconfigure.ContractExecutorMode;
 import org.blockchainnative.spring.autoconfigure.CoreAutoConfiguration;
 import org.blockchainnative.util.StringUtil;
 import org.hyperledger.fabric.sdk.Channel;
@@ -21,6 +23,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
@@ -35,10 +38,13 @@ import org.springframework.core.io.ClassPathResource;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static org.blockchainnative.spring.autoconfigure.ContractExecutorMode.CONTRACT_EXECUTOR_BEAN_NAME;
+
 /**
  * Registers beans required for using blockchain-native applications with Hyperledger Fabric.
  *
@@ -73,9 +79,15 @@ public class FabricAutoConfiguration {
     public ContractWrapperGenerator fabricContractWrapperGenerator(
             @Autowired Supplier<HFClient> fabricClientFactory,
             @Autowired Function<HFClient, Channel> channelFactory,
-            @Autowired TypeConverters typeConverters) {
+            @Autowired TypeConverters typeConverters,
+            @Autowired(required = false) @Qualifier(CONTRACT_EXECUTOR_BEAN_NAME) Executor contractExecutor,
+            @Autowired(required = false) InvocationScheduler invocationScheduler) {
+
+        var generator = new FabricContractWrapperGenerator(fabricClientFactory, channelFactory, typeConverters);
+        generator.setExecutor(ContractExecutorMode.resolveExecutor(contractExecutor, properties.getExecutor()));
+        generator.setInvocationScheduler(invocationScheduler);
 
-        return new FabricContractWrapperGenerator(fabricClientFactory, channelFactory, typeConverters);
+        return generator;
     }
 
     /**
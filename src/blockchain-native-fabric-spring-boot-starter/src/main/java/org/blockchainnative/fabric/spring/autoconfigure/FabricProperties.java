@@ -1,6 +1,7 @@
 package org.blockchainnative.fabric.spring.autoconfigure;
 
 import org.blockchainnative.spring.autoconfigure.Constants;
+import org.blockchainnative.spring.autoconfigure.ContractExecutorMode;
 import org.hyperledger.fabric.sdk.Enrollment;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -17,6 +18,7 @@ public class FabricProperties {
 
     private String networkConfigFile;
     private String channel;
+    private ContractExecutorMode executor = ContractExecutorMode.COMMON_POOL;
 
     private User user;
 
@@ -44,6 +46,14 @@ public class FabricProperties {
         this.channel = channel;
     }
 
+    public ContractExecutorMode getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(ContractExecutorMode executor) {
+        this.executor = executor;
+    }
+
     public static class User {
         private String name;
         private Set<String> roles;
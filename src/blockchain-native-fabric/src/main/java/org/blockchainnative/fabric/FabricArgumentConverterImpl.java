@@ -1,7 +1,5 @@
 package org.blockchainnative.fabric;
 
-import org.apache.commons.beanutils.PropertyUtils;
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.commons.lang3.reflect.TypeUtils;
 import org.blockchainnative.convert.TypeConverter;
 import org.blockchainnative.convert.TypeConverters;
@@ -55,16 +53,10 @@ public class FabricArgumentConverterImpl implements FabricArgumentConverter {
         var eventFieldInfo = eventInfo.getEventFieldInfos().get(0);
         var value = convertEventField(eventFieldInfo, eventData);
         try {
-            var type = eventInfo.getEventType();
-            var instance = type.getDeclaredConstructor().newInstance();
+            var factory = eventInfo.getEventObjectFactory();
+            var instance = factory.newInstance();
 
-            var field = eventFieldInfo.getField();
-
-            if (PropertyUtils.isWriteable(instance, field.getName())) {
-                PropertyUtils.setProperty(instance, field.getName(), value);
-            } else {
-                FieldUtils.writeField(field, instance, value, true);
-            }
+            factory.setField(instance, 0, value);
 
             return instance;
 
@@ -72,7 +64,7 @@ public class FabricArgumentConverterImpl implements FabricArgumentConverter {
             var message = String.format("Failed to instantiate event type '%s', no default constructor found", eventInfo.getEventType().getName());
             LOGGER.error(message, e);
             throw new TypeConvertException(message, e);
-        } catch (InstantiationException | InvocationTargetException | IllegalAccessException e) {
+        } catch (InvocationTargetException | IllegalAccessException e) {
             var message = String.format("Failed to set properties of event type '%s'", eventInfo.getEventType().getName());
             LOGGER.error(message, e);
             throw new TypeConvertException(message, e);
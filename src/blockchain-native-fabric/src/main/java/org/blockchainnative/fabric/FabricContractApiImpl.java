@@ -7,6 +7,7 @@ import org.blockchainnative.fabric.metadata.ChaincodeLanguage;
 import org.blockchainnative.fabric.metadata.FabricContractInfo;
 import org.blockchainnative.metadata.Event;
 import org.blockchainnative.metadata.Result;
+import org.blockchainnative.util.CallCoalescer;
 import org.blockchainnative.util.StringUtil;
 import org.hyperledger.fabric.sdk.*;
 import org.hyperledger.fabric.sdk.exception.InvalidArgumentException;
@@ -20,8 +21,10 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.regex.Pattern;
@@ -38,6 +41,7 @@ public class FabricContractApiImpl implements FabricContractApi {
 
     private final HFClient client;
     private final Channel channel;
+    private final CallCoalescer<List<Object>, Result<String>> queries = new CallCoalescer<>();
 
     private FabricContractInfo<?> contractInfo;
 
@@ -231,6 +235,18 @@ public class FabricContractApiImpl implements FabricContractApi {
 
     @Override
     public Result<String> queryChaincode(String functionName, String[] arguments, Collection<String> targetPeerNames, User user) {
+        // concurrent identical queries share a single query proposal
+        var query = Arrays.asList(
+                getContractInfo().getChaincodeID(),
+                functionName,
+                arguments != null ? Arrays.asList(arguments) : null,
+                targetPeerNames != null ? new HashSet<>(targetPeerNames) : null,
+                user != null ? user.getMspId() + "/" + user.getName() : null);
+
+        return queries.execute(query, () -> executeQuery(functionName, arguments, targetPeerNames, user));
+    }
+
+    private Result<String> executeQuery(String functionName, String[] arguments, Collection<String> targetPeerNames, User user) {
         User previousUser = null;
         try {
             if (user != null) {
@@ -1,13 +1,18 @@
 package org.blockchainnative.fabric;
 
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import org.blockchainnative.AbstractContractWrapper;
+import org.blockchainnative.EventInvocationPlan;
+import org.blockchainnative.InvocationLane;
+import org.blockchainnative.MethodInvocationPlan;
+import org.blockchainnative.SpecialArgument;
 import org.blockchainnative.SpecialMethodDelegate;
 import org.blockchainnative.convert.TypeConverters;
 import org.blockchainnative.fabric.metadata.*;
 import org.blockchainnative.metadata.Event;
+import org.blockchainnative.metadata.PendingResult;
 import org.blockchainnative.metadata.Result;
-import org.blockchainnative.util.ReflectionUtil;
 import org.hyperledger.fabric.sdk.Channel;
 import org.hyperledger.fabric.sdk.HFClient;
 import org.hyperledger.fabric.sdk.User;
@@ -31,6 +36,8 @@ import java.util.stream.Collectors;
 public class FabricContractWrapper extends AbstractContractWrapper<FabricContractInfo<?>, FabricMethodInfo, FabricParameterInfo, FabricEventInfo, FabricEventFieldInfo, FabricEventParameterInfo> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FabricContractWrapper.class);
+    private static final SpecialArgument TARGET_PEERS = SpecialArgument.of(Constants.TARGET_PEERS_ARGUMENT);
+    private static final SpecialArgument USER = SpecialArgument.of(Constants.USER_ARGUMENT);
 
     private final FabricContractApi contractApi;
     private final FabricArgumentConverter argumentConverter;
@@ -50,95 +57,119 @@ public class FabricContractWrapper extends AbstractContractWrapper<FabricContrac
 
     /**
      * Returns a mapping of special method names to their actions. <br> {@code FabricContractWrapper} registers two
-     * mappings, {@link Constants#INSTALL_METHOD} to {@link FabricContractWrapper#install(FabricMethodInfo, Object[])}
-     * and {@link Constants#INSTANTIATE_METHOD} to {@link FabricContractWrapper#instantiate(FabricMethodInfo,
+     * mappings, {@link Constants#INSTALL_METHOD} to {@link FabricContractWrapper#install(MethodInvocationPlan, Object[])}
+     * and {@link Constants#INSTANTIATE_METHOD} to {@link FabricContractWrapper#instantiate(MethodInvocationPlan,
      * Object[])}
      *
      * @return mapping of special method names to their actions.
      */
     @Override
-    protected Map<String, SpecialMethodDelegate<FabricMethodInfo>> getSpecialMethods() {
+    protected Map<String, SpecialMethodDelegate<FabricMethodInfo, FabricParameterInfo>> getSpecialMethods() {
         return new HashMap<>() {{
-            put(Constants.INSTALL_METHOD, ((methodInfo, args) -> install(methodInfo, args)));
-            put(Constants.INSTANTIATE_METHOD, ((methodInfo, args) -> instantiate(methodInfo, args)));
+            put(Constants.INSTALL_METHOD, ((invocationPlan, args) -> install(invocationPlan, args)));
+            put(Constants.INSTANTIATE_METHOD, ((invocationPlan, args) -> instantiate(invocationPlan, args)));
         }};
     }
 
     /**
      * Creates an event observable for the given event method
      *
-     * @param eventInfo {@code FabricEventInfo} describing the corresponding chaincode event.
-     * @param arguments arguments of the smart contract interface method
+     * @param invocationPlan {@code EventInvocationPlan} describing the corresponding chaincode event.
+     * @param arguments      arguments of the smart contract interface method
      * @return observable containing the events emitted by the chaincode converted to the expected type
      */
     @Override
-    protected Observable<Object> createEventObservable(FabricEventInfo eventInfo, Object[] arguments) {
+    protected Observable<Object> createEventObservable(EventInvocationPlan<FabricEventInfo> invocationPlan, Object[] arguments) {
+        var eventInfo = invocationPlan.getEventInfo();
         LOGGER.info("Preparing event observable '{}'", eventInfo.getEventName());
 
         var chaincodeEventObservable = contractApi.createChaincodeEventObservable(eventInfo.getEventName());
 
-        return chaincodeEventObservable.map(event -> {
+        return observeOnEventLane(chaincodeEventObservable).map(event -> convertEvent(invocationPlan, event));
+    }
 
-            var payload = event.getData();
-            var instance = this.argumentConverter.createEventObject(eventInfo, payload);
+    /**
+     * Creates an event flowable for the given event method. <br>
+     * <br>
+     * The chaincode events are buffered according to the backpressure settings passed to the event method
+     * and only converted to the expected type once requested by the subscriber.
+     *
+     * @param invocationPlan {@code EventInvocationPlan} describing the corresponding chaincode event.
+     * @param arguments      arguments of the smart contract interface method
+     * @return flowable containing the events emitted by the chaincode converted to the expected type
+     */
+    @Override
+    protected Flowable<Object> createEventFlowable(EventInvocationPlan<FabricEventInfo> invocationPlan, Object[] arguments) {
+        var eventInfo = invocationPlan.getEventInfo();
+        var backpressure = invocationPlan.getEventBackpressure(arguments);
+        LOGGER.info("Preparing event flowable '{}' using {}", eventInfo.getEventName(), backpressure);
 
-            if (ReflectionUtil.usesEventWrapper(eventInfo.getMethod())) {
-                return new Event<>(instance, event.getBlockHash(), event.getTransactionHash());
-            } else {
-                return instance;
-            }
-        });
+        var chaincodeEventObservable = contractApi.createChaincodeEventObservable(eventInfo.getEventName());
+
+        return observeOnEventLane(backpressure.apply(chaincodeEventObservable)).map(event -> convertEvent(invocationPlan, event));
+    }
+
+    private Object convertEvent(EventInvocationPlan<FabricEventInfo> invocationPlan, Event<String> event) {
+        var payload = event.getData();
+        var instance = this.argumentConverter.createEventObject(invocationPlan.getEventInfo(), payload);
+
+        if (invocationPlan.usesEventWrapper()) {
+            return new Event<>(instance, event.getBlockHash(), event.getTransactionHash());
+        } else {
+            return instance;
+        }
     }
 
-    private Future<Void> install(FabricMethodInfo methodInfo, Object[] arguments) {
+    private Future<Void> install(MethodInvocationPlan<FabricMethodInfo, FabricParameterInfo> invocationPlan, Object[] arguments) {
         return CompletableFuture.supplyAsync(() -> {
             LOGGER.info("Preparing to install chaincode '{}'", this.contractInfo.getChaincodeID());
 
-            var targetPeerNames = getTargetPeerNames(methodInfo, arguments);
-            var user = extractUser(methodInfo, arguments);
+            var targetPeerNames = getTargetPeerNames(invocationPlan, arguments);
+            var user = extractUser(invocationPlan, arguments);
 
             contractApi.installChaincode(targetPeerNames, user);
 
             return null;
-        });
+        }, getExecutor(InvocationLane.DEPLOYMENT));
     }
 
-    private Future<Void> instantiate(FabricMethodInfo methodInfo, Object[] arguments) {
+    private Future<Void> instantiate(MethodInvocationPlan<FabricMethodInfo, FabricParameterInfo> invocationPlan, Object[] arguments) {
         return CompletableFuture.supplyAsync(() -> {
             LOGGER.info("Preparing to instantiate chaincode '{}'", this.contractInfo.getChaincodeID());
 
-            var targetPeers = getTargetPeerNames(methodInfo, arguments);
-            var user = extractUser(methodInfo, arguments);
+            var targetPeers = getTargetPeerNames(invocationPlan, arguments);
+            var user = extractUser(invocationPlan, arguments);
 
-            var deploymentArguments = extractContractMethodParameters(methodInfo, arguments);
-            var parameterInfos = extractContractMethodParameterInfos(methodInfo);
+            var deploymentArguments = invocationPlan.getContractArguments(arguments);
+            var parameterInfos = invocationPlan.getContractParameterInfos();
             var convertedArguments = this.argumentConverter.convertArguments(parameterInfos, deploymentArguments).toArray(new String[0]);
 
             contractApi.instantiateChaincode(convertedArguments, targetPeers, user);
 
             return null;
-        });
+        }, getExecutor(InvocationLane.DEPLOYMENT));
     }
 
     /**
      * Invokes the given smart contract method while submitting a transaction to the Hyperledger Fabric blockchain.
      *
-     * @param methodInfo {@code FabricMethodInfo} describing the corresponding smart contract method.
-     * @param arguments  arguments of the smart contract interface method
+     * @param invocationPlan {@code MethodInvocationPlan} describing the corresponding smart contract method.
+     * @param arguments      arguments of the smart contract interface method
      * @return actual smart contract method result converted to the expected type and wrapped as {@link
      *         java.util.concurrent.Future}
      */
-    protected Future<Object> invokeReadOnlyMethod(FabricMethodInfo methodInfo, Object[] arguments) {
+    protected Future<Object> invokeReadOnlyMethod(MethodInvocationPlan<FabricMethodInfo, FabricParameterInfo> invocationPlan, Object[] arguments) {
+        var methodInfo = invocationPlan.getMethodInfo();
         return CompletableFuture.supplyAsync(() -> {
             LOGGER.info("Preparing readonly function call '{}.{}()'", this.contractInfo.getChaincodeID().getName(), methodInfo.getContractMethodName());
 
-            var targetPeers = getTargetPeerNames(methodInfo, arguments);
-            var user = extractUser(methodInfo, arguments);
+            var targetPeers = getTargetPeerNames(invocationPlan, arguments);
+            var user = extractUser(invocationPlan, arguments);
 
             LOGGER.debug("Converting arguments...");
 
-            var methodArguments = extractContractMethodParameters(methodInfo, arguments);
-            var parameterInfos = extractContractMethodParameterInfos(methodInfo);
+            var methodArguments = invocationPlan.getContractArguments(arguments);
+            var parameterInfos = invocationPlan.getContractParameterInfos();
             var convertedArgs = this.argumentConverter.convertArguments(parameterInfos, methodArguments);
 
             LOGGER.debug("Arguments: {}", convertedArgs.stream().map(x -> String.format("'%s'", x)).collect(Collectors.joining(", ")));
@@ -149,33 +180,36 @@ public class FabricContractWrapper extends AbstractContractWrapper<FabricContrac
 
             var convertedResult = this.argumentConverter.convertMethodResult(methodInfo, stringResult.getData());
 
-            if (ReflectionUtil.usesResultWrapper(methodInfo.getMethod())) {
+            if (invocationPlan.usesPendingResultWrapper()) {
+                return PendingResult.completed(new Result<>(convertedResult, null, null));
+            } else if (invocationPlan.usesResultWrapper()) {
                 return new Result<>(convertedResult, null, null);
             } else {
                 return convertedResult;
             }
-        });
+        }, getExecutor(InvocationLane.READ_ONLY));
     }
 
     /**
      * Invokes the given smart contract method without creating a transaction on the Hyperledger Fabric blockchain.
      *
-     * @param methodInfo {@code FabricMethodInfo} describing the corresponding smart contract method.
-     * @param arguments  arguments of the smart contract interface method
+     * @param invocationPlan {@code MethodInvocationPlan} describing the corresponding smart contract method.
+     * @param arguments      arguments of the smart contract interface method
      * @return actual smart contract method result converted to the expected type and wrapped as {@link
      *         java.util.concurrent.Future}
      */
-    protected Future<Object> invokeMethod(FabricMethodInfo methodInfo, Object[] arguments) {
+    protected Future<Object> invokeMethod(MethodInvocationPlan<FabricMethodInfo, FabricParameterInfo> invocationPlan, Object[] arguments) {
+        var methodInfo = invocationPlan.getMethodInfo();
         return CompletableFuture.supplyAsync(() -> {
             LOGGER.info("Preparing function call '{}.{}()'", this.contractInfo.getChaincodeID().getName(), methodInfo.getContractMethodName());
 
-            var targetPeers = getTargetPeerNames(methodInfo, arguments);
-            var user = extractUser(methodInfo, arguments);
+            var targetPeers = getTargetPeerNames(invocationPlan, arguments);
+            var user = extractUser(invocationPlan, arguments);
 
             LOGGER.debug("Converting arguments...");
 
-            var methodArguments = extractContractMethodParameters(methodInfo, arguments);
-            var parameterInfos = extractContractMethodParameterInfos(methodInfo);
+            var methodArguments = invocationPlan.getContractArguments(arguments);
+            var parameterInfos = invocationPlan.getContractParameterInfos();
             var convertedArgs = this.argumentConverter.convertArguments(parameterInfos, methodArguments);
 
             LOGGER.debug("Arguments: {}", convertedArgs.stream().map(x -> String.format("'%s'", x)).collect(Collectors.joining(", ")));
@@ -186,16 +220,18 @@ public class FabricContractWrapper extends AbstractContractWrapper<FabricContrac
 
             var convertedResult = this.argumentConverter.convertMethodResult(methodInfo, stringResult.getData());
 
-            if (ReflectionUtil.usesResultWrapper(methodInfo.getMethod())) {
+            if (invocationPlan.usesPendingResultWrapper()) {
+                return PendingResult.completed(new Result<>(convertedResult, stringResult.getBlockHash(), stringResult.getTransactionHash()));
+            } else if (invocationPlan.usesResultWrapper()) {
                 return new Result<>(convertedResult, stringResult.getBlockHash(), stringResult.getTransactionHash());
             } else {
                 return convertedResult;
             }
-        });
+        }, getExecutor(InvocationLane.STATE_CHANGING));
     }
 
-    private Collection<String> extractTargetPeers(FabricMethodInfo methodInfo, Object[] arguments) {
-        var targetPeers = extractSpecialArgument(methodInfo, Constants.TARGET_PEERS_ARGUMENT, arguments);
+    private Collection<String> extractTargetPeers(MethodInvocationPlan<FabricMethodInfo, FabricParameterInfo> invocationPlan, Object[] arguments) {
+        var targetPeers = invocationPlan.getSpecialArgument(TARGET_PEERS, arguments);
         if (targetPeers == null) {
             return null;
         }
@@ -209,8 +245,8 @@ public class FabricContractWrapper extends AbstractContractWrapper<FabricContrac
         }
     }
 
-    private User extractUser(FabricMethodInfo methodInfo, Object[] arguments) {
-        var user = extractSpecialArgument(methodInfo, Constants.USER_ARGUMENT, arguments);
+    private User extractUser(MethodInvocationPlan<FabricMethodInfo, FabricParameterInfo> invocationPlan, Object[] arguments) {
+        var user = invocationPlan.getSpecialArgument(USER, arguments);
         if (user == null) {
             return null;
         }
@@ -223,8 +259,8 @@ public class FabricContractWrapper extends AbstractContractWrapper<FabricContrac
         }
     }
 
-    private Collection<String> getTargetPeerNames(FabricMethodInfo methodInfo, Object[] arguments) {
-        var methodTargetPeerNames = extractTargetPeers(methodInfo, arguments);
+    private Collection<String> getTargetPeerNames(MethodInvocationPlan<FabricMethodInfo, FabricParameterInfo> invocationPlan, Object[] arguments) {
+        var methodTargetPeerNames = extractTargetPeers(invocationPlan, arguments);
         if (methodTargetPeerNames == null || methodTargetPeerNames.isEmpty()) {
             LOGGER.debug("No target peer addresses defined in method field");
             var contractInfoTargetPeerNames = this.contractInfo.getTargetPeerNames();
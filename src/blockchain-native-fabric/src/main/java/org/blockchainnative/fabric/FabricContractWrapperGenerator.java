@@ -1,28 +1,21 @@
 package org.blockchainnative.fabric;
 
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.description.method.MethodDescription;
-import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
-import net.bytebuddy.implementation.ExceptionMethod;
-import net.bytebuddy.implementation.MethodDelegation;
-import net.bytebuddy.matcher.ElementMatcher;
-import net.bytebuddy.matcher.ElementMatchers;
+import org.blockchainnative.ContractWrapperClassCache;
 import org.blockchainnative.ContractWrapperGenerator;
-import org.blockchainnative.SmartContract;
+import org.blockchainnative.InvocationScheduler;
 import org.blockchainnative.convert.TypeConverters;
 import org.blockchainnative.exceptions.ContractWrapperCreationException;
 import org.blockchainnative.fabric.metadata.FabricContractInfo;
 import org.blockchainnative.fabric.typeconverters.FabricDefaultTypeConverters;
 import org.blockchainnative.metadata.ContractInfo;
+import org.blockchainnative.util.ExecutorUtil;
 import org.hyperledger.fabric.sdk.Channel;
 import org.hyperledger.fabric.sdk.HFClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -92,6 +85,9 @@ public class FabricContractWrapperGenerator implements ContractWrapperGenerator
     private final Supplier<HFClient> clientFactory;
     private final Function<HFClient, Channel> channelFactory;
     private final TypeConverters typeConverters;
+    private final ContractWrapperClassCache wrapperClassCache = new ContractWrapperClassCache();
+    private Executor executor = ExecutorUtil.defaultExecutor();
+    private InvocationScheduler invocationScheduler;
 
     /** Initializes a new {@code FabricContractWrapperGenerator}.
      * <p>
@@ -113,6 +109,49 @@ public class FabricContractWrapperGenerator implements ContractWrapperGenerator
         this.typeConverters = typeConverters == null ? new TypeConverters() : typeConverters;
     }
 
+    /**
+     * Returns the executor running the blocking calls of the generated wrappers, see {@link #setExecutor(Executor)}
+     *
+     * @return executor running the blocking calls of the generated wrappers
+     * @since 1.1
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Specifies the executor running the blocking calls of the generated wrappers, see {@link FabricContractWrapper#setExecutor(Executor)}. <br>
+     * Defaults to the common {@code ForkJoinPool}, {@link ExecutorUtil#newVirtualThreadPerTaskExecutor()} runs each call on its own virtual thread.
+     *
+     * @param executor executor running the blocking calls of the generated wrappers
+     * @since 1.1
+     */
+    public void setExecutor(Executor executor) {
+        if (executor == null) throw new IllegalArgumentException("executor must not be null");
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the scheduler assigning the calls of the generated wrappers to lanes, see {@link #setInvocationScheduler(InvocationScheduler)}
+     *
+     * @return scheduler of the generated wrappers or null if none is used
+     * @since 1.1
+     */
+    public InvocationScheduler getInvocationScheduler() {
+        return invocationScheduler;
+    }
+
+    /**
+     * Specifies the scheduler assigning the calls of the generated wrappers to lanes, see {@link FabricContractWrapper#setInvocationScheduler(InvocationScheduler)}. <br>
+     * All generated wrappers share the given scheduler. By default, no scheduler is used.
+     *
+     * @param invocationScheduler scheduler of the generated wrappers, may be null
+     * @since 1.1
+     */
+    public void setInvocationScheduler(InvocationScheduler invocationScheduler) {
+        this.invocationScheduler = invocationScheduler;
+    }
+
     /**
      * Generates a new wrapper for the smart contract described by {@code contractInfo}. <br>
      * Although defined otherwise by the interface, {@code contractInfo} needs to be of type {@link FabricContractInfo}.
@@ -142,69 +181,15 @@ public class FabricContractWrapperGenerator implements ContractWrapperGenerator
         var channel = channelFactory.apply(client);
 
         var base = new FabricContractWrapper(fabricContractInfo, client, channel, typeConverters);
+        base.setExecutor(executor);
+        base.setInvocationScheduler(invocationScheduler);
 
-        var methodsByNameMatcher = getMethodElementMatcher(fabricContractInfo);
-        var eventsByNameMatcher = getEventsElementMatcher(fabricContractInfo);
-        var remainingMethodsMatcher = getRemainingMethodsElementMatcher(fabricContractInfo);
-
-        TContractType wrapper;
         try {
-            var interceptionMethodName = FabricContractWrapper.class.getMethod("intercept", Method.class, Object[].class).getName();
-
-            wrapper = new ByteBuddy()
-                    .subclass(contractClass, ConstructorStrategy.Default.DEFAULT_CONSTRUCTOR)
-                    .name(getWrapperName(contractInfo))
-                    .method(methodsByNameMatcher)
-                    .intercept(MethodDelegation.to(base, FabricContractWrapper.class, interceptionMethodName))
-                    .method(eventsByNameMatcher)
-                    .intercept(MethodDelegation.to(base, FabricContractWrapper.class, interceptionMethodName))
-                    .method(remainingMethodsMatcher)
-                    .intercept(ExceptionMethod.throwing(UnsupportedOperationException.class))
-                    .make()
-                    .load(getClass().getClassLoader())
-                    .getLoaded()
-                    .asSubclass(contractClass)
-                    .getDeclaredConstructor().newInstance();
-
-            return wrapper;
-
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            return wrapperClassCache.newInstance(contractClass, base, getWrapperName(contractInfo), getClass().getClassLoader());
+        } catch (ContractWrapperCreationException e) {
             var message = String.format("Failed to create smart contract wrapper for contract '%s' (%s): %s", contractInfo.getIdentifier(), contractClass.getName(), e.getMessage());
+            LOGGER.error(message, e);
             throw new ContractWrapperCreationException(message, e);
         }
     }
-
-    private ElementMatcher.Junction<? super MethodDescription> getMethodElementMatcher(FabricContractInfo<?> contractInfo) {
-        ElementMatcher.Junction<? super MethodDescription> methodsByNameMatcher = ElementMatchers.none();
-        for (var methodInfo : contractInfo.getMethodInfos().values()) {
-            methodsByNameMatcher = methodsByNameMatcher.or(ElementMatchers.named(methodInfo.getMethod().getName()));
-        }
-
-        if(Arrays.stream(contractInfo.getContractClass().getMethods())
-                .anyMatch(method -> SmartContract.GET_CONTRACT_INFO_METHOD_NAME.equals(method.getName()))) {
-            methodsByNameMatcher = methodsByNameMatcher.or(ElementMatchers.named(SmartContract.GET_CONTRACT_INFO_METHOD_NAME));
-        }
-
-        return methodsByNameMatcher;
-    }
-
-    private ElementMatcher.Junction<? super MethodDescription> getEventsElementMatcher(FabricContractInfo<?> contractInfo) {
-        ElementMatcher.Junction<? super MethodDescription> eventsByNameMatcher = ElementMatchers.none();
-        for (var eventInfo : contractInfo.getEventInfos().values()) {
-            eventsByNameMatcher = eventsByNameMatcher.or(ElementMatchers.named(eventInfo.getMethod().getName()));
-        }
-        return eventsByNameMatcher;
-    }
-
-    private ElementMatcher.Junction<? super MethodDescription> getRemainingMethodsElementMatcher(FabricContractInfo<?> contractInfo) {
-        ElementMatcher.Junction<? super MethodDescription> allInterfaceMethods = ElementMatchers.none();
-        for (var method : contractInfo.getContractClass().getDeclaredMethods()) {
-            allInterfaceMethods = allInterfaceMethods.or(ElementMatchers.is(method));
-        }
-
-        return allInterfaceMethods.and(
-                ElementMatchers.not(
-                        getMethodElementMatcher(contractInfo)
-                                .or(getEventsElementMatcher(contractInfo))));
-    }
-}
\ No newline at end of file
+}
@@ -291,7 +291,7 @@ public class FabricContractInfoBuilder<TContractType> extends ContractInfoBuilde
                     builder.build();
                 return builder.getParameterInfo();
             }).collect(Collectors.toList());
-            return new FabricMethodInfo(method, contractMethodName, isReadOnly, isSpecialMethod, parameterInfos, resultTypeConverterClass);
+            return new FabricMethodInfo(method, contractMethodName, isReadOnly, isSpecialMethod, parameterInfos, resultTypeConverterClass, isCacheable);
         }
     }
 
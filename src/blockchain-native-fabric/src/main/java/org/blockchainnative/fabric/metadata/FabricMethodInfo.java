@@ -47,6 +47,24 @@ public class FabricMethodInfo extends MethodInfo<FabricParameterInfo> {
         super(method, contractMethodName, readOnly, specialMethod, parameters, resultTypeConverterClass);
     }
 
+    /**
+     * Constructs a new {@code FabricMethodInfo}
+     *
+     * @param method                   method on the contract interface representing the smart contract method.
+     * @param contractMethodName       name of the corresponding smart contract method.
+     * @param readOnly                 specifies whether the method is marked as readonly
+     * @param specialMethod            specifies whether the method is marked as special method
+     * @param parameters               {@code FabricParameterInfo} objects
+     * @param resultTypeConverterClass type converter used to convert the smart contract method result value to the
+     *                                 declared type of the wrapper method
+     * @param cacheable                specifies whether the results of readonly calls may be cached, not supported by
+     *                                 {@link org.blockchainnative.fabric.FabricContractWrapper}
+     * @since 1.1
+     */
+    public FabricMethodInfo(Method method, String contractMethodName, boolean readOnly, boolean specialMethod, List<FabricParameterInfo> parameters, Class<? extends TypeConverter<?, ?>> resultTypeConverterClass, boolean cacheable) {
+        super(method, contractMethodName, readOnly, specialMethod, parameters, resultTypeConverterClass, cacheable);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -23,6 +23,7 @@ public abstract class FabricMethodInfoMixin {
                                    @JsonProperty("readOnly") boolean readOnly,
                                    @JsonProperty("specialMethod") boolean specialMethod,
                                    @JsonProperty("parameterInfos") List<FabricParameterInfo> parameters,
-                                   @JsonProperty("resultTypeConverterClass") Class<? extends TypeConverter<?, ?>> resultTypeConverterClass) {
+                                   @JsonProperty("resultTypeConverterClass") Class<? extends TypeConverter<?, ?>> resultTypeConverterClass,
+                                   @JsonProperty("cacheable") boolean cacheable) {
     }
 }
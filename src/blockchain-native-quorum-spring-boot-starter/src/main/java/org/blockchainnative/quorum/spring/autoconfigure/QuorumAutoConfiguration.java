@@ -3,16 +3,23 @@ package org.blockchainnative.quorum.spring.autoconfigure;
 import okhttp3.OkHttpClient;
 import okhttp3.logging.HttpLoggingInterceptor;
 import org.blockchainnative.ContractWrapperGenerator;
+import org.blockchainnative.InvocationScheduler;
+import org.blockchainnative.ReadOnlyCallCache;
 import org.blockchainnative.convert.TypeConverters;
+import org.blockchainnative.ethereum.BatchingHttpService;
+import org.blockchainnative.ethereum.MulticallAggregator;
 import org.blockchainnative.quorum.QuorumContractWrapper;
 import org.blockchainnative.quorum.QuorumContractWrapperGenerator;
+import org.blockchainnative.spring.autoconfigure.ContractExecutorMode;
 import org.blockchainnative.spring.autoconfigure.CoreAutoConfiguration;
 import org.blockchainnative.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,13 +33,17 @@ import org.web3j.quorum.JsonRpc2_0Quorum;
 import org.web3j.quorum.Quorum;
 import org.web3j.quorum.tx.ClientTransactionManager;
 import org.web3j.tx.TransactionManager;
+import org.web3j.utils.Async;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static org.blockchainnative.spring.autoconfigure.ContractExecutorMode.CONTRACT_EXECUTOR_BEAN_NAME;
+
 /**
  * @author Matthias Veit
  */
@@ -60,7 +71,7 @@ public class QuorumAutoConfiguration {
             throw new IllegalStateException(message);
         }
         LOGGER.debug("Building quorum instance for endpoint address '{}", properties.getEndpointAddress());
-        return new JsonRpc2_0Quorum(buildWeb3jService());
+        return new JsonRpc2_0Quorum(buildWeb3jService(), properties.getPollingInterval(), Async.defaultExecutorService());
     }
 
     @Bean
@@ -86,23 +97,43 @@ public class QuorumAutoConfiguration {
         return getTransactionManagerFactoryFromClientAddress();
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = QuorumProperties.CONTRACT_REGISTRY_PREFIX_FULL + ".multicall", name = "address")
+    public MulticallAggregator multicallAggregator(@Autowired Quorum quorum) {
+        var multicall = properties.getMulticall();
+        LOGGER.info("Registering multicall aggregator using contract '{}'", multicall.getAddress());
+        return new MulticallAggregator(quorum, multicall.getAddress(), multicall.getWindow(), multicall.getMaxSize());
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public ContractWrapperGenerator ethereumContractWrapperGenerator(
             @Autowired Supplier<Quorum> quorumClientFactory,
             @Autowired Function<Quorum, TransactionManager> transactionManagerFactory,
-            @Autowired TypeConverters typeConverters) {
-
-        return new QuorumContractWrapperGenerator(quorumClientFactory, transactionManagerFactory, typeConverters);
+            @Autowired TypeConverters typeConverters,
+            @Autowired(required = false) @Qualifier(CONTRACT_EXECUTOR_BEAN_NAME) Executor contractExecutor,
+            @Autowired(required = false) InvocationScheduler invocationScheduler,
+            @Autowired(required = false) ReadOnlyCallCache readOnlyCallCache,
+            @Autowired(required = false) MulticallAggregator multicallAggregator) {
+
+        var generator = new QuorumContractWrapperGenerator(quorumClientFactory, transactionManagerFactory, typeConverters);
+        generator.setDirectAbiEncoding(properties.isDirectAbiEncoding());
+        generator.setExecutor(ContractExecutorMode.resolveExecutor(contractExecutor, properties.getExecutor()));
+        generator.setInvocationScheduler(invocationScheduler);
+        generator.setReadOnlyCallCache(readOnlyCallCache);
+        generator.setMulticallAggregator(multicallAggregator);
+
+        return generator;
     }
 
     private Web3jService buildWeb3jService(){
         var endpointAddress = properties.getEndpointAddress();
 
         if (StringUtil.isNullOrEmpty(endpointAddress)) {
-            return new HttpService(buildHttpClient());
+            return buildHttpService(HttpService.DEFAULT_URL);
         } else if (endpointAddress.startsWith("http")) {
-            return new HttpService(endpointAddress, buildHttpClient(), false);
+            return buildHttpService(endpointAddress);
         } else if (System.getProperty("os.name").toLowerCase().startsWith("win")) {
             return new WindowsIpcService(endpointAddress);
         } else {
@@ -110,6 +141,15 @@ public class QuorumAutoConfiguration {
         }
     }
 
+    private HttpService buildHttpService(String endpointAddress) {
+        var batching = properties.getBatching();
+        if (batching != null && batching.isEnabled()) {
+            LOGGER.info("Batching readonly calls within {} ms, at most {} calls per batch", batching.getWindow(), batching.getMaxSize());
+            return new BatchingHttpService(endpointAddress, buildHttpClient(), batching.getWindow(), batching.getMaxSize());
+        }
+        return new HttpService(endpointAddress, buildHttpClient(), false);
+    }
+
     private OkHttpClient buildHttpClient(){
         var builder = new OkHttpClient.Builder();
 
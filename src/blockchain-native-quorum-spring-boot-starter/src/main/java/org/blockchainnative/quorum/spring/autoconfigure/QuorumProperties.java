@@ -1,6 +1,9 @@
 package org.blockchainnative.quorum.spring.autoconfigure;
 
+import org.blockchainnative.ethereum.BatchingHttpService;
+import org.blockchainnative.ethereum.MulticallAggregator;
 import org.blockchainnative.spring.autoconfigure.Constants;
+import org.blockchainnative.spring.autoconfigure.ContractExecutorMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.List;
@@ -12,9 +15,16 @@ import java.util.List;
 public class QuorumProperties {
     public static final String QUORUM_PREFIX = "quorum";
     public static final String CONTRACT_REGISTRY_PREFIX_FULL = Constants.CONFIGURATION_PREFIX + "." + QUORUM_PREFIX;
+    public static final long DEFAULT_POLLING_INTERVAL = 1000;
 
     private String endpointAddress;
     private Long httpTimeout;
+    // milliseconds between two polls of new blocks and filters, shorter than web3j's default so that cached results expire promptly
+    private long pollingInterval = DEFAULT_POLLING_INTERVAL;
+    private boolean directAbiEncoding;
+    private ContractExecutorMode executor = ContractExecutorMode.COMMON_POOL;
+    private Batching batching = new Batching();
+    private Multicall multicall = new Multicall();
 
     private Client client;
 
@@ -34,6 +44,14 @@ public class QuorumProperties {
         this.endpointAddress = endpointAddress;
     }
 
+    public long getPollingInterval() {
+        return pollingInterval;
+    }
+
+    public void setPollingInterval(long pollingInterval) {
+        this.pollingInterval = pollingInterval;
+    }
+
     public Long getHttpTimeout() {
         return httpTimeout;
     }
@@ -42,6 +60,38 @@ public class QuorumProperties {
         this.httpTimeout = httpTimeout;
     }
 
+    public boolean isDirectAbiEncoding() {
+        return directAbiEncoding;
+    }
+
+    public void setDirectAbiEncoding(boolean directAbiEncoding) {
+        this.directAbiEncoding = directAbiEncoding;
+    }
+
+    public ContractExecutorMode getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(ContractExecutorMode executor) {
+        this.executor = executor;
+    }
+
+    public Batching getBatching() {
+        return batching;
+    }
+
+    public void setBatching(Batching batching) {
+        this.batching = batching;
+    }
+
+    public Multicall getMulticall() {
+        return multicall;
+    }
+
+    public void setMulticall(Multicall multicall) {
+        this.multicall = multicall;
+    }
+
     public static class Client {
         private String address;
         private String privateFrom;
@@ -71,4 +121,64 @@ public class QuorumProperties {
             this.privateFor = privateFor;
         }
     }
+
+    public static class Batching {
+        private boolean enabled;
+        private long window = BatchingHttpService.DEFAULT_BATCH_WINDOW_MILLIS;
+        private int maxSize = BatchingHttpService.DEFAULT_MAX_BATCH_SIZE;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getWindow() {
+            return window;
+        }
+
+        public void setWindow(long window) {
+            this.window = window;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+
+    public static class Multicall {
+        private String address;
+        private long window = MulticallAggregator.DEFAULT_BATCH_WINDOW_MILLIS;
+        private int maxSize = MulticallAggregator.DEFAULT_MAX_BATCH_SIZE;
+
+        public String getAddress() {
+            return address;
+        }
+
+        public void setAddress(String address) {
+            this.address = address;
+        }
+
+        public long getWindow() {
+            return window;
+        }
+
+        public void setWindow(long window) {
+            this.window = window;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
 }
@@ -7,6 +7,7 @@ import org.web3j.abi.EventValues;
 import org.web3j.abi.TypeReference;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.protocol.core.methods.response.AbiDefinition;
+import org.web3j.protocol.core.methods.response.Log;
 
 import java.util.List;
 
@@ -27,6 +28,36 @@ public interface QuorumArgumentConverter {
      */
     Object createEventObject(QuorumEventInfo eventInfo, EventValues eventValues);
 
+    /**
+     * Creates an instance of the event type without setting any of its fields.
+     *
+     * @param eventInfo event info
+     * @return new event object
+     */
+    Object createEventObject(QuorumEventInfo eventInfo);
+
+    /**
+     * Sets the fields of the given event object from the Web3j {@code EventValues}.
+     *
+     * @param eventInfo   event info
+     * @param eventValues web3j event values
+     * @param instance    event object whose fields are set
+     * @return the given event object
+     */
+    Object populateEventObject(QuorumEventInfo eventInfo, EventValues eventValues, Object instance);
+
+    /**
+     * Decodes the given log into the given event object. <br>
+     * The log is decoded directly into the object's fields if possible, otherwise it is decoded into web3j types first
+     * and passed to {@link QuorumArgumentConverter#populateEventObject(QuorumEventInfo, EventValues, Object)}.
+     *
+     * @param eventInfo event info
+     * @param log       log emitted by the smart contract event
+     * @param instance  event object whose fields are set
+     * @return the given event object
+     */
+    Object decodeEventObject(QuorumEventInfo eventInfo, Log log, Object instance);
+
     /**
      * Converts the parameters of a method call to the corresponding types expected by Web3j.
      *
@@ -36,6 +67,17 @@ public interface QuorumArgumentConverter {
      */
     List<Type> convertArguments(List<QuorumParameterInfo> parameterInfos, Object[] arguments);
 
+    /**
+     * Converts the parameters of a method call and encodes them together with the function selector into ABI encoded call data. <br>
+     * Arguments matching the declared Solidity types are encoded directly without being converted to the types expected by Web3j first.
+     *
+     * @param methodInfo     method info
+     * @param parameterInfos parameter infos
+     * @param arguments      parameter values
+     * @return hex encoded call data
+     */
+    String encodeFunctionCall(QuorumMethodInfo methodInfo, List<QuorumParameterInfo> parameterInfos, Object[] arguments);
+
     /**
      * Converts the results of a method call from the Web3j types to the declared result type
      *
@@ -46,6 +88,17 @@ public interface QuorumArgumentConverter {
     Object convertMethodResult(QuorumMethodInfo methodInfo, List<Type> results);
 
 
+    /**
+     * Decodes the ABI encoded output of a method call into the declared result type. <br>
+     * Results are decoded directly from the encoded output if possible, otherwise they are decoded into Web3j types and
+     * converted as described in {@link #convertMethodResult(QuorumMethodInfo, List)}.
+     *
+     * @param methodInfo    method info
+     * @param encodedResult hex encoded method output
+     * @return converted method result
+     */
+    Object decodeMethodResult(QuorumMethodInfo methodInfo, String encodedResult);
+
     /**
      * Dynamically creates {@code TypeReference} objects for the input parameters of a {@code AbiDefinition}.
      *
@@ -1,29 +1,35 @@
 package org.blockchainnative.quorum;
 
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
-import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.commons.lang3.ClassUtils;
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.commons.lang3.reflect.TypeUtils;
 import org.blockchainnative.convert.TypeConverter;
 import org.blockchainnative.convert.TypeConverters;
 import org.blockchainnative.convert.TypedObjectHolder;
-import org.blockchainnative.ethereum.util.AbiUtil;
+import org.blockchainnative.ethereum.util.AbiEventDecoder;
+import org.blockchainnative.ethereum.util.AbiResultDecoder;
+import org.blockchainnative.ethereum.util.PrimitiveArrayEncoder;
+import org.blockchainnative.ethereum.util.SolidityTypeDescriptor;
+import org.blockchainnative.ethereum.util.TypeReferenceCache;
 import org.blockchainnative.exceptions.ContractCallException;
 import org.blockchainnative.exceptions.TypeConvertException;
 import org.blockchainnative.quorum.metadata.QuorumEventFieldInfo;
 import org.blockchainnative.quorum.metadata.QuorumEventInfo;
 import org.blockchainnative.quorum.metadata.QuorumMethodInfo;
 import org.blockchainnative.quorum.metadata.QuorumParameterInfo;
+import org.blockchainnative.util.LongList;
+import org.blockchainnative.util.NumberUtil;
 import org.blockchainnative.util.ReflectionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.web3j.abi.EventValues;
+import org.web3j.abi.FunctionReturnDecoder;
 import org.web3j.abi.TypeReference;
+import org.web3j.abi.Utils;
 import org.web3j.abi.datatypes.*;
-import org.web3j.abi.datatypes.generated.AbiTypes;
 import org.web3j.protocol.core.methods.response.AbiDefinition;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.tx.Contract;
+import org.web3j.utils.Numeric;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
@@ -31,7 +37,6 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.TypeVariable;
 import java.math.BigInteger;
 import java.util.*;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -44,12 +49,14 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
 
     private static final TypeVariable<?> collectionTypeVariable = Collection.class.getTypeParameters()[0];
     private static final TypeVariable<?> listTypeVariable = List.class.getTypeParameters()[0];
+    private static final java.lang.reflect.Type LIST_OF_OBJECTS = TypeUtils.parameterize(List.class, Object.class);
 
     // Events
     private static final TypeVariable<?> setTypeVariable = Set.class.getTypeParameters()[0];
 
     // Arguments
     private final TypeConverters typeConverters;
+    private final TypeReferenceCache typeReferenceCache = TypeReferenceCache.getDefault();
 
     /**
      * Creates a new {@code QuorumArgumentConverterImpl}
@@ -62,14 +69,29 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
 
     @Override
     public Object createEventObject(QuorumEventInfo eventInfo, EventValues eventValues) {
+        return populateEventObject(eventInfo, eventValues, createEventObject(eventInfo));
+    }
 
+    @Override
+    public Object createEventObject(QuorumEventInfo eventInfo) {
         try {
-            var type = eventInfo.getEventType();
-            var instance = type.getDeclaredConstructor().newInstance();
+            return eventInfo.getEventObjectFactory().newInstance();
+        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+            throw eventObjectException(eventInfo, e);
+        }
+    }
+
+    @Override
+    public Object populateEventObject(QuorumEventInfo eventInfo, EventValues eventValues, Object instance) {
 
+        try {
+            var factory = eventInfo.getEventObjectFactory();
+
+            var eventFieldInfos = eventInfo.getEventFieldInfos();
             var indexedParameterCount = 0;
             var nonIndexedParameterCount = 0;
-            for (var eventFieldInfo : eventInfo.getEventFieldInfos()) {
+            for (var i = 0; i < eventFieldInfos.size(); i++) {
+                var eventFieldInfo = eventFieldInfos.get(i);
                 org.web3j.abi.datatypes.Type eventValue = null;
                 if (eventFieldInfo.getSolidityType().isIndexed()) {
                     if (indexedParameterCount > (eventValues.getIndexedValues().size() - 1)) {
@@ -89,27 +111,58 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
                 if (eventValue != null) {
                     Object value = this.convertEventField(eventFieldInfo, eventValue);
 
-                    var field = eventFieldInfo.getField();
-
-                    if (PropertyUtils.isWriteable(instance, field.getName())) {
-                        PropertyUtils.setProperty(instance, field.getName(), value);
-                    } else {
-                        FieldUtils.writeField(field, instance, value, true);
-                    }
+                    factory.setField(instance, i, value);
                 }
             }
             return instance;
-        } catch (NoSuchMethodException e) {
-            var message = String.format("Failed to instantiate event type '%s', no default constructor found", eventInfo.getEventType().getName());
-            LOGGER.error(message, e);
-            throw new TypeConvertException(message, e);
-        } catch (InstantiationException | InvocationTargetException | IllegalAccessException e) {
-            var message = String.format("Failed to set properties of event type '%s'", eventInfo.getEventType().getName());
-            LOGGER.error(message, e);
-            throw new TypeConvertException(message, e);
+        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+            throw eventObjectException(eventInfo, e);
         }
     }
 
+    @Override
+    public Object decodeEventObject(QuorumEventInfo eventInfo, Log log, Object instance) {
+        var eventDecoder = getEventDecoder(eventInfo);
+        if (eventDecoder.isPresent()) {
+            return eventDecoder.get().decode(log, instance);
+        }
+
+        var event = new Event(eventInfo.getEventName(), eventInfo.getInputTypeReferences());
+        return populateEventObject(eventInfo, Contract.staticExtractEventParameters(event, log), instance);
+    }
+
+    // the direct decoder must not bypass type converters which would be applied otherwise
+    private Optional<AbiEventDecoder> getEventDecoder(QuorumEventInfo eventInfo) {
+        for (var eventFieldInfo : eventInfo.getEventFieldInfos()) {
+            if (eventFieldInfo.getTypeConverterClass().isPresent()) {
+                return Optional.empty();
+            }
+
+            var fieldType = eventFieldInfo.getField().getGenericType();
+            var nativeType = SolidityTypeDescriptor.of(eventFieldInfo.getSolidityType().getType()).getNativeType();
+            if (!TypeUtils.isAssignable(nativeType, fieldType) && this.typeConverters.getConversionFunction(nativeType, fieldType).isPresent()) {
+                return Optional.empty();
+            }
+        }
+
+        try {
+            return eventInfo.getEventDecoder();
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw eventObjectException(eventInfo, e);
+        }
+    }
+
+    private TypeConvertException eventObjectException(QuorumEventInfo eventInfo, ReflectiveOperationException e) {
+        String message;
+        if (e instanceof NoSuchMethodException) {
+            message = String.format("Failed to instantiate event type '%s', no default constructor found", eventInfo.getEventType().getName());
+        } else {
+            message = String.format("Failed to set properties of event type '%s'", eventInfo.getEventType().getName());
+        }
+        LOGGER.error(message, e);
+        return new TypeConvertException(message, e);
+    }
+
     @Override
     public List<Type> convertArguments(List<QuorumParameterInfo> parameterInfos, Object[] arguments) {
         if (parameterInfos == null) throw new IllegalArgumentException("parameterInfos must not be null");
@@ -132,6 +185,26 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
         return convertedArgs;
     }
 
+    @Override
+    public String encodeFunctionCall(QuorumMethodInfo methodInfo, List<QuorumParameterInfo> parameterInfos, Object[] arguments) {
+        if (methodInfo == null) throw new IllegalArgumentException("methodInfo must not be null");
+        if (parameterInfos == null) throw new IllegalArgumentException("parameterInfos must not be null");
+        if (arguments == null) throw new IllegalArgumentException("arguments must not be null");
+        if (parameterInfos.size() != arguments.length)
+            throw new IllegalArgumentException(String.format("Each argument needs a corresponding parameterInfo, given number of arguments: '%s', given number of parameterInfos: '%s'", arguments.length, parameterInfos.size()));
+
+        var preparedArgs = new ArrayList<>(arguments.length);
+
+        for (var i = 0; i < arguments.length; i++) {
+            var argument = arguments[i];
+            if (argument == null) {
+                throw new TypeConvertException(String.format("Cannot encode argument %s of function '%s', argument is null.", i, methodInfo.getContractMethodName()));
+            }
+            preparedArgs.add(prepareArgument(parameterInfos.get(i), argument));
+        }
+        return methodInfo.getFunctionEncoder().encode(preparedArgs);
+    }
+
     @Override
     public Object convertMethodResult(QuorumMethodInfo methodInfo, List<org.web3j.abi.datatypes.Type> results) {
         if (methodInfo.isVoidReturnType()) {
@@ -142,39 +215,67 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
             throw new ContractCallException(String.format("Contract method '%s' did not yield any results but the its wrapper return type is declared as '%s'", methodInfo.getContractMethodName(), methodInfo.getMethod().getGenericReturnType().getTypeName()));
         }
 
-        return convertResult(ReflectionUtil.getActualReturnType(methodInfo.getMethod()), methodInfo.getResultTypeConverterClass(), results);
+        return convertResult(ReflectionUtil.getActualReturnType(methodInfo.getMethod()), methodInfo.getResultTypeConverterClass(), results, methodInfo.getOutputTypeDescriptors());
     }
 
 
+    @Override
+    public Object decodeMethodResult(QuorumMethodInfo methodInfo, String encodedResult) {
+        if (methodInfo.isVoidReturnType()) {
+            return Void.TYPE;
+        }
+
+        if (encodedResult == null || Numeric.cleanHexPrefix(encodedResult).isEmpty()) {
+            throw new ContractCallException(String.format("Contract method '%s' did not yield any results but the its wrapper return type is declared as '%s'", methodInfo.getContractMethodName(), methodInfo.getMethod().getGenericReturnType().getTypeName()));
+        }
+
+        var resultDecoder = getResultDecoder(methodInfo);
+        if (resultDecoder.isPresent()) {
+            return resultDecoder.get().decode(encodedResult);
+        }
+
+        var results = FunctionReturnDecoder.decode(encodedResult, Utils.convert(methodInfo.getOutputTypeReferences()));
+        return convertMethodResult(methodInfo, results);
+    }
+
+    // the direct decoder must not bypass type converters which would be applied otherwise
+    private Optional<AbiResultDecoder> getResultDecoder(QuorumMethodInfo methodInfo) {
+        if (methodInfo.getResultTypeConverterClass().isPresent()) {
+            return Optional.empty();
+        }
+
+        var resultDecoder = methodInfo.getResultDecoder();
+        if (resultDecoder.isPresent()) {
+            var resultType = resultDecoder.get().getResultType();
+            if (this.typeConverters.getConversionFunction(LIST_OF_OBJECTS, resultType).isPresent()) {
+                return Optional.empty();
+            }
+
+            var outputTypes = resultDecoder.get().getOutputTypes();
+            if (outputTypes.size() == 1) {
+                var outputType = outputTypes.get(0).getNativeType();
+                if (!TypeUtils.isAssignable(outputType, resultType) && this.typeConverters.getConversionFunction(outputType, resultType).isPresent()) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return resultDecoder;
+    }
+
     private Object convertEventField(QuorumEventFieldInfo eventFieldInfo, org.web3j.abi.datatypes.Type result) {
         return convertResult(eventFieldInfo.getField().getGenericType(), eventFieldInfo.getTypeConverterClass(), new ArrayList<>() {{
             add(result);
-        }});
+        }}, Collections.singletonList(SolidityTypeDescriptor.of(eventFieldInfo.getSolidityType().getType())));
     }
 
     @Override
     public List<TypeReference<?>> getInputParameterTypesReferences(AbiDefinition methodAbi) {
-        return getTypeReferences(methodAbi.getInputs());
+        return typeReferenceCache.getTypeReferences(methodAbi.getInputs());
     }
 
     @Override
     public List<TypeReference<?>> getOutputParameterTypeReferences(AbiDefinition methodAbi) {
-        return getTypeReferences(methodAbi.getOutputs());
-    }
-
-    private static TypeReference<?> getTypeReferenceFromString(AbiDefinition.NamedType type) {
-        var typeParameter = getWeb3jParameterizedTypeFromString(AbiUtil.stripLocationFromType(type.getType()));
-        try {
-            return new ByteBuddy()
-                    .subclass(net.bytebuddy.description.type.TypeDescription.Generic.Builder.parameterizedType(TypeReference.class, typeParameter).build(), ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING)
-                    .make()
-                    .load(QuorumContractWrapper.class.getClassLoader())
-                    .getLoaded()
-                    .asSubclass(TypeReference.class)
-                    .getDeclaredConstructor(Boolean.TYPE).newInstance(type.isIndexed());
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new TypeConvertException(String.format("Failed to create return type reference for type '%s'.", type.getName()), e);
-        }
+        return typeReferenceCache.getTypeReferences(methodAbi.getOutputs());
     }
 
     // We cannot directly use Arrays.asList((Object[]) argument)
@@ -191,34 +292,6 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
         return Arrays.asList((Object[]) argument);
     }
 
-    @SuppressWarnings("unchecked")
-    private static org.web3j.abi.datatypes.Array constructArray(Optional<Integer> dimension, List<Object> items) {
-        if (dimension.isPresent()) {
-            return constructStaticArray(dimension.get(), items);
-        } else {
-            return new org.web3j.abi.datatypes.DynamicArray(items);
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private static org.web3j.abi.datatypes.StaticArray constructStaticArray(int dimension, List<Object> items) {
-        try {
-            var arrayType = (Class<? extends org.web3j.abi.datatypes.StaticArray>) Class.forName("org.web3j.abi.datatypes.generated.StaticArray" + dimension);
-            return arrayType.getConstructor(List.class).newInstance(items);
-        } catch (ClassNotFoundException | IllegalAccessException | InstantiationException | NoSuchMethodException | InvocationTargetException e) {
-            return new org.web3j.abi.datatypes.StaticArray(dimension, items);
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private static Class<? extends org.web3j.abi.datatypes.StaticArray> getStaticArrayType(int dimension) {
-        try {
-            return (Class<? extends org.web3j.abi.datatypes.StaticArray>) Class.forName("org.web3j.abi.datatypes.generated.StaticArray" + dimension);
-        } catch (ClassNotFoundException e) {
-            return org.web3j.abi.datatypes.StaticArray.class;
-        }
-    }
-
     private static Object checkResult(Object result, java.lang.reflect.Type declaredReturnType) {
         if (TypeUtils.isInstance(result, declaredReturnType)) {
             return result;
@@ -227,61 +300,11 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
         }
     }
 
-    private static List<TypeReference<?>> getTypeReferences(List<AbiDefinition.NamedType> types) {
-        return types.stream()
-                .map(type -> getTypeReferenceFromString(type))
-                .collect(Collectors.toList());
-    }
-
-    private static java.lang.reflect.Type getNativeParameterizedType(Type type) {
-        return getNativeParameterizedTypeFromString(AbiUtil.stripLocationFromType(type.getTypeAsString()));
-    }
-
-    private static java.lang.reflect.Type getNativeParameterizedTypeFromString(String typeName) {
-        var arrayPattern = Pattern.compile("(.*)\\[(\\d*)]$");
-        var matcher = arrayPattern.matcher(typeName);
-
-        if (matcher.matches()) {
-            var dimensionGroup = matcher.group(2);
-            var remainder = typeName.substring(0, typeName.length() - 2 - dimensionGroup.length());
-
-            var inner = getNativeParameterizedTypeFromString(remainder);
-            // Both static and dynamic arrays are converted to Lists
-            var outer = List.class;
-
-            return TypeUtils.parameterize(outer, inner);
+    private static java.lang.reflect.Type getNativeParameterizedType(Type result, List<SolidityTypeDescriptor> resultTypes) {
+        if (resultTypes.size() == 1) {
+            return resultTypes.get(0).getNativeType();
         }
-
-        return getNativeTypeForSoliditySimpleType(typeName);
-    }
-
-    private static java.lang.reflect.Type getWeb3jParameterizedTypeFromString(String typeName) {
-        var arrayPattern = Pattern.compile("(.*)\\[(\\d*)]$");
-        var matcher = arrayPattern.matcher(typeName);
-
-        if (matcher.matches()) {
-            var dimensionGroup = matcher.group(2);
-            Optional<Integer> dimension;
-            if (!"".equals(dimensionGroup)) {
-                dimension = Optional.of(Integer.parseInt(dimensionGroup));
-            } else {
-                dimension = Optional.empty();
-            }
-            var remainder = typeName.substring(0, typeName.length() - 2 - dimensionGroup.length());
-
-            var inner = getWeb3jParameterizedTypeFromString(remainder);
-
-            Class<?> outer;
-            if (dimension.isPresent()) {
-                outer = getStaticArrayType(dimension.get());
-            } else {
-                outer = org.web3j.abi.datatypes.DynamicArray.class;
-            }
-
-            return TypeUtils.parameterize(outer, inner);
-        }
-
-        return org.web3j.abi.datatypes.generated.AbiTypes.getType(typeName);
+        return SolidityTypeDescriptor.of(result.getTypeAsString()).getNativeType();
     }
 
     private static boolean isSupportedCollectionType(java.lang.reflect.Type declaredType) {
@@ -333,29 +356,6 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
         }
     }
 
-    private static Class<?> getNativeTypeForSoliditySimpleType(String typeName) {
-        var web3jTypeTypeArgument = Type.class.getTypeParameters()[0];
-
-        var web3jType = AbiTypes.getType(typeName);
-        var actualTypeArguments = TypeUtils.getTypeArguments(web3jType, Type.class);
-
-        if (actualTypeArguments.size() != 1) {
-            throw new RuntimeException(String.format("Unexpected Number of type arguments of type '%s'", web3jType));
-        }
-
-        var typeArgument = actualTypeArguments.get(web3jTypeTypeArgument);
-
-        if (typeArgument instanceof Class<?>) {
-            return (Class<?>) typeArgument;
-        } else if (TypeUtils.isArrayType(typeArgument)) {
-            var x = TypeUtils.getRawType(TypeUtils.getArrayComponentType(typeArgument), null);
-            return Array.newInstance(x, 0).getClass();
-        }
-
-        throw new RuntimeException(String.format("Unexpected type argument '%s'", typeArgument.getTypeName()));
-
-    }
-
     private static List<Object> extractNativeTypes(List<org.web3j.abi.datatypes.Type> typeList) {
         return typeList.stream()
                 .map(type -> extractNativeType(type))
@@ -372,10 +372,48 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
         return object;
     }
 
-    private org.web3j.abi.datatypes.Type convertArgument(QuorumParameterInfo parameterInfo, Object argument) {
-        if (parameterInfo == null) throw new IllegalArgumentException("eventFieldInfo must not be null");
-        if (argument == null) throw new IllegalArgumentException("argument must not be null");
+    private static boolean isDirectlyEncodable(Object argument, SolidityTypeDescriptor solidityType) {
+        if (argument instanceof Type) {
+            return true;
+        }
+
+        if (solidityType.isArray()) {
+            var componentType = solidityType.getComponentType();
+            Iterable<?> elements;
+            if (argument instanceof Object[]) {
+                elements = Arrays.asList((Object[]) argument);
+            } else if (argument instanceof Collection) {
+                elements = (Collection<?>) argument;
+            } else {
+                return PrimitiveArrayEncoder.isSupported(argument, componentType);
+            }
+            for (var element : elements) {
+                if (element == null || !isDirectlyEncodable(element, componentType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        var valueType = solidityType.getValueType();
+        if (BigInteger.class.equals(valueType)) {
+            return argument instanceof Number;
+        }
+        return valueType != null && valueType.isInstance(argument);
+    }
+
+    // applies the declared type converter and converts the argument to a web3j type only if the encoder cannot handle it as is
+    private Object prepareArgument(QuorumParameterInfo parameterInfo, Object argument) {
+        var convertedArgument = applyTypeConverter(parameterInfo, argument);
+        var solidityType = parameterInfo.getSolidityTypeDescriptor();
 
+        if (isDirectlyEncodable(convertedArgument, solidityType)) {
+            return convertedArgument;
+        }
+        return convertToSolidityType(convertedArgument, solidityType);
+    }
+
+    private Object applyTypeConverter(QuorumParameterInfo parameterInfo, Object argument) {
         var passAsType = parameterInfo.getPassParameterAsType();
         var typeConverterClass = parameterInfo.getTypeConverterClass();
 
@@ -383,16 +421,22 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
             LOGGER.warn("Both, passAsType and useTypeConverterClass are specified for field '{}'. passAsType is going to be ignored", parameterInfo.getParameterIndex());
         }
 
-        Object convertedArgument;
         var typedArgument = new TypedObjectHolder(parameterInfo.getParameter().getParameterizedType(), argument);
         // use type converter if present
         if (typeConverterClass.isPresent()) {
-            convertedArgument = this.typeConverters.convertObjectUsingTypeConverterClass(typedArgument, typeConverterClass.get());
+            return this.typeConverters.convertObjectUsingTypeConverterClass(typedArgument, typeConverterClass.get());
         } else if (passAsType.isPresent()) {
-            convertedArgument = this.typeConverters.convertObjectUsingMatchingTypeConverter(typedArgument, passAsType.get());
+            return this.typeConverters.convertObjectUsingMatchingTypeConverter(typedArgument, passAsType.get());
         } else {
-            convertedArgument = argument;
+            return argument;
         }
+    }
+
+    private org.web3j.abi.datatypes.Type convertArgument(QuorumParameterInfo parameterInfo, Object argument) {
+        if (parameterInfo == null) throw new IllegalArgumentException("eventFieldInfo must not be null");
+        if (argument == null) throw new IllegalArgumentException("argument must not be null");
+
+        var convertedArgument = applyTypeConverter(parameterInfo, argument);
 
         if (convertedArgument instanceof org.web3j.abi.datatypes.Type<?>) {
             // no conversion should be necessary
@@ -403,78 +447,54 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
             return (org.web3j.abi.datatypes.Type) convertedArgument;
         } else {
             // if the field is not yet of the required type, try conversion
-            return convertToSolidityType(convertedArgument, parameterInfo.getSolidityType());
+            return convertToSolidityType(convertedArgument, parameterInfo.getSolidityTypeDescriptor());
         }
     }
 
-    private org.web3j.abi.datatypes.Type convertToSolidityType(Object argument, String typeName) {
-        // solidity arrays are defined in a weird way, string[3][2] corresponds to a java array of String[2][3]
-        var arrayPattern = Pattern.compile("(.*)\\[(\\d*)]$");
-        var matcher = arrayPattern.matcher(typeName);
-
-        if (matcher.matches()) {
-            var dimensionGroup = matcher.group(2);
-            Optional<Integer> dimension;
-            if (!"".equals(dimensionGroup)) {
-                dimension = Optional.of(Integer.parseInt(dimensionGroup));
-            } else {
-                dimension = Optional.empty();
-            }
-            var remainder = typeName.substring(0, typeName.length() - 2 - dimensionGroup.length());
-
+    private org.web3j.abi.datatypes.Type convertToSolidityType(Object argument, SolidityTypeDescriptor solidityType) {
+        if (solidityType.isArray()) {
             if (argument.getClass().isArray()) {
+                // encode arrays of numbers, booleans and byte arrays directly without boxing every element
+                var encodedArray = PrimitiveArrayEncoder.encode(argument, solidityType);
+                if (encodedArray != null) {
+                    return encodedArray;
+                }
                 argument = arrayAsIterable(argument);
             }
 
             if (!(argument instanceof Iterable)) {
-                throw new TypeConvertException(String.format("Cannot convert argument '%s' to type '%s', argument is not Iterable.", argument, typeName));
+                throw new TypeConvertException(String.format("Cannot convert argument '%s' to type '%s', argument is not Iterable.", argument, solidityType.getTypeName()));
             }
 
-            List<Object> inner = StreamSupport.stream(((Iterable<?>) argument).spliterator(), false)
-                    .map(x -> convertToSolidityType(x, remainder))
+            var componentType = solidityType.getComponentType();
+            List<Type> inner = StreamSupport.stream(((Iterable<?>) argument).spliterator(), false)
+                    .map(x -> convertToSolidityType(x, componentType))
                     .collect(Collectors.toList());
 
-            return constructArray(dimension, inner);
+            return solidityType.newArray(inner);
         }
 
-        try {
-            return convertSimpleType(argument, typeName);
-        } catch (NoSuchMethodException | InstantiationException | InvocationTargetException | IllegalAccessException e) {
-            throw new TypeConvertException(String.format("Failed to convert field to type '%s'", typeName), e);
-        }
+        return convertSimpleType(argument, solidityType);
     }
 
-    private Type<?> convertSimpleType(Object argument, String typeName) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
-        @SuppressWarnings("unchecked")
-        var type = (Class<? extends Type>) AbiTypes.getType(typeName);
-        if (Int.class.isAssignableFrom(type) || Uint.class.isAssignableFrom(type)) {
-            if (!(argument instanceof Number)) {
-                argument = this.typeConverters.convertObjectUsingMatchingTypeConverter(new TypedObjectHolder(argument.getClass(), argument), BigInteger.class);
-            }
-            return type.getConstructor(Long.TYPE).newInstance(((Number) argument).longValue());
-        } else if (Bool.class.isAssignableFrom(type)) {
-            if (!(argument instanceof Boolean)) {
-                argument = this.typeConverters.convertObjectUsingMatchingTypeConverter(new TypedObjectHolder(argument.getClass(), argument), Boolean.class);
-            }
-            return type.getConstructor(Boolean.class).newInstance((Boolean) argument);
-        } else if (Address.class.isAssignableFrom(type) || Utf8String.class.isAssignableFrom(type)) {
-            if (!(argument instanceof String)) {
-                argument = this.typeConverters.convertObjectUsingMatchingTypeConverter(new TypedObjectHolder(argument.getClass(), argument), String.class);
-            }
-            return type.getConstructor(String.class).newInstance((String) argument);
-        } else if (BytesType.class.isAssignableFrom(type)) {
-            if (!(argument instanceof byte[])) {
-                argument = this.typeConverters.convertObjectUsingMatchingTypeConverter(new TypedObjectHolder(argument.getClass(), argument), byte[].class);
+    private Type<?> convertSimpleType(Object argument, SolidityTypeDescriptor solidityType) {
+        var valueType = solidityType.getValueType();
+        if (valueType == null) {
+            throw new TypeConvertException(String.format("Cannot convert argument '%s' to unexpected type '%s'.", argument, solidityType.getWeb3jType()));
+        }
+
+        if (BigInteger.class.equals(valueType) && argument instanceof Number) {
+            argument = NumberUtil.toBigInteger((Number) argument);
+        } else if (!valueType.isInstance(argument)) {
+            argument = this.typeConverters.convertObjectUsingMatchingTypeConverter(new TypedObjectHolder(argument.getClass(), argument), valueType);
+            if (BigInteger.class.equals(valueType) && argument instanceof Number) {
+                argument = NumberUtil.toBigInteger((Number) argument);
             }
-            // it is intended to call the constructor with a single argument
-            // noinspection PrimitiveArrayArgumentToVarargsMethod
-            return type.getConstructor(byte[].class).newInstance((byte[]) argument);
-        } else {
-            throw new TypeConvertException(String.format("Cannot convert argument '%s' to unexpected type '%s'.", argument, type));
         }
+        return solidityType.newValue(argument);
     }
 
-    private Object convertResult(java.lang.reflect.Type declaredReturnType, Optional<Class<? extends TypeConverter<?, ?>>> resultTypeConverterClass, List<org.web3j.abi.datatypes.Type> results) {
+    private Object convertResult(java.lang.reflect.Type declaredReturnType, Optional<Class<? extends TypeConverter<?, ?>>> resultTypeConverterClass, List<org.web3j.abi.datatypes.Type> results, List<SolidityTypeDescriptor> resultTypes) {
         if (results == null) {
             return null;
         }
@@ -503,7 +523,7 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
             } else if (results.size() == 1) {
                 // Otherwise, if its a single result, scrap outer List and try again
                 var singleNativeResult = nativeResults.get(0);
-                var outputType = getNativeParameterizedType(results.get(0));
+                var outputType = getNativeParameterizedType(results.get(0), resultTypes);
                 objectHolder = new TypedObjectHolder(outputType, singleNativeResult);
 
                 return checkResult(convertResultInternal(declaredReturnType, resultTypeConverterClass, objectHolder), declaredReturnType);
@@ -553,7 +573,15 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
             result = convertToSupportedCollectionType(intermediateResultList, declaredReturnType);
         }
 
-        // 4.   Try to match the method return type in case we only have a single result
+        // 4.   If the declared return type is a primitive integer array or a LongList
+        //      convert the list of numbers without boxing the elements again
+        if (result == null
+                && isPrimitiveListType(declaredReturnType)
+                && objectHolder.getObject() instanceof List) {
+            result = toPrimitiveList((List<?>) objectHolder.getObject(), (Class<?>) declaredReturnType);
+        }
+
+        // 5.   Try to match the method return type in case we only have a single result
         //      and the method specifies a primitive number as return type
         //      This way we can specify int as return type whereas web3j returns BigIntegers
         if (result == null
@@ -574,21 +602,51 @@ public class QuorumArgumentConverterImpl implements QuorumArgumentConverter {
         }
     }
 
-    private Object numberToPrimitive(Number number, Class<?> type) {
-        if (Byte.class.equals(type)) {
-            return number.byteValue();
-        } else if (Short.class.equals(type)) {
-            return number.shortValue();
-        } else if (Integer.class.equals(type)) {
-            return number.intValue();
-        } else if (java.lang.Long.class.equals(type)) {
-            return number.longValue();
-        } else if (Float.class.equals(type)) {
-            return number.floatValue();
-        } else if (Double.class.equals(type)) {
-            return number.doubleValue();
-        } else {
-            throw new IllegalArgumentException(String.format("Cannot convert type '%s' to primitive number type!", type.getName()));
+    private static boolean isPrimitiveListType(java.lang.reflect.Type type) {
+        return type == long[].class || type == int[].class || type == LongList.class;
+    }
+
+    private static Object toPrimitiveList(List<?> numbers, Class<?> type) {
+        for (var number : numbers) {
+            if (!(number instanceof Number)) {
+                return null;
+            }
+        }
+
+        if (type == int[].class) {
+            var values = new int[numbers.size()];
+            for (var i = 0; i < values.length; i++) {
+                values[i] = (int) numberToPrimitive((Number) numbers.get(i), Integer.class);
+            }
+            return values;
+        }
+
+        var values = new long[numbers.size()];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = (long) numberToPrimitive((Number) numbers.get(i), java.lang.Long.class);
+        }
+        return type == LongList.class ? LongList.wrap(values) : values;
+    }
+
+    private static Object numberToPrimitive(Number number, Class<?> type) {
+        try {
+            if (Byte.class.equals(type)) {
+                return NumberUtil.toByteExact(number);
+            } else if (Short.class.equals(type)) {
+                return NumberUtil.toShortExact(number);
+            } else if (Integer.class.equals(type)) {
+                return NumberUtil.toIntExact(number);
+            } else if (java.lang.Long.class.equals(type)) {
+                return NumberUtil.toLongExact(number);
+            } else if (Float.class.equals(type)) {
+                return number.floatValue();
+            } else if (Double.class.equals(type)) {
+                return number.doubleValue();
+            } else {
+                throw new IllegalArgumentException(String.format("Cannot convert type '%s' to primitive number type!", type.getName()));
+            }
+        } catch (ArithmeticException e) {
+            throw new TypeConvertException(String.format("Value '%s' does not fit into '%s'", number, type.getName()), e);
         }
     }
 }
@@ -1,19 +1,31 @@
 package org.blockchainnative.quorum;
 
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
 import org.blockchainnative.AbstractContractWrapper;
+import org.blockchainnative.EventInvocationPlan;
+import org.blockchainnative.InvocationLane;
+import org.blockchainnative.MethodInvocationPlan;
+import org.blockchainnative.ReadOnlyCallCache;
+import org.blockchainnative.SpecialArgument;
 import org.blockchainnative.SpecialMethodDelegate;
 import org.blockchainnative.convert.TypeConverters;
 
+import org.blockchainnative.ethereum.MulticallAggregator;
 import org.blockchainnative.exceptions.ContractCallException;
 import org.blockchainnative.exceptions.ContractDeploymentException;
 import org.blockchainnative.metadata.Event;
+import org.blockchainnative.metadata.PendingResult;
 import org.blockchainnative.metadata.Result;
 import org.blockchainnative.quorum.metadata.*;
+import org.blockchainnative.util.LongList;
 import org.blockchainnative.util.ReflectionUtil;
 import org.blockchainnative.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.web3j.abi.EventValues;
+import org.web3j.abi.FunctionEncoder;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.exceptions.TransactionException;
@@ -22,6 +34,7 @@ import org.web3j.tx.gas.ContractGasProvider;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,10 +52,17 @@ import java.util.stream.Collectors;
  */
 public class QuorumContractWrapper extends AbstractContractWrapper<QuorumContractInfo<?>, QuorumMethodInfo, QuorumParameterInfo, QuorumEventInfo, QuorumEventFieldInfo, QuorumEventParameterInfo> {
     private static final Logger LOGGER = LoggerFactory.getLogger(QuorumContractWrapper.class);
+    private static final SpecialArgument FROM_BLOCK = SpecialArgument.of(Constants.FROM_BLOCK_ARGUMENT);
+    private static final SpecialArgument TO_BLOCK = SpecialArgument.of(Constants.TO_BLOCK_ARGUMENT);
+    private static final SpecialArgument PRIVATE_FOR = SpecialArgument.of(Constants.PRIVATE_FOR_ARGUMENT);
+    private static final SpecialArgument GAS_LIMIT = SpecialArgument.of(Constants.GAS_LIMIT_ARGUMENT);
+    private static final SpecialArgument WEI_VALUE = SpecialArgument.of(Constants.WEI_VALUE_ARGUMENT);
 
     private final Web3jQuorumContractApi contractApi;
     private final QuorumArgumentConverter argumentConverter;
     private final ContractGasProvider contractGasProvider;
+    private volatile boolean directAbiEncoding;
+    private volatile MulticallAggregator multicallAggregator;
 
     public QuorumContractWrapper(QuorumContractInfo<?> contractInfo, Web3jQuorumContractApi contractApi, ContractGasProvider contractGasProvider, TypeConverters typeConverters) {
         super(contractInfo);
@@ -59,122 +79,241 @@ public class QuorumContractWrapper extends AbstractContractWrapper<QuorumContrac
         this.argumentConverter = argumentConverter;
     }
 
+    /**
+     * Returns whether function calls are ABI encoded directly from the method arguments, see {@link #setDirectAbiEncoding(boolean)}
+     *
+     * @return true if function calls are encoded directly
+     */
+    public boolean isDirectAbiEncoding() {
+        return directAbiEncoding;
+    }
+
+    /**
+     * Specifies whether function calls are ABI encoded directly from the method arguments
+     * using {@link QuorumArgumentConverter#encodeFunctionCall(QuorumMethodInfo, List, Object[])}
+     * instead of converting the arguments to web3j types and encoding them with web3j's {@code FunctionEncoder}. <br>
+     * The function output is then decoded using {@link QuorumArgumentConverter#decodeMethodResult(QuorumMethodInfo, String)}. <br>
+     * Disabled by default.
+     *
+     * @param directAbiEncoding true to encode function calls directly
+     */
+    public void setDirectAbiEncoding(boolean directAbiEncoding) {
+        this.directAbiEncoding = directAbiEncoding;
+    }
+
+    /**
+     * Returns the aggregator readonly calls are sent through, see {@link #setMulticallAggregator(MulticallAggregator)}
+     *
+     * @return aggregator of readonly calls or null if readonly calls are sent directly
+     */
+    public MulticallAggregator getMulticallAggregator() {
+        return multicallAggregator;
+    }
+
+    /**
+     * Specifies an aggregator collecting the readonly calls of this and other wrappers into a single call
+     * of a Multicall contract. <br>
+     * Disabled by default, i.e. each readonly call is sent to the node directly.
+     * Private contracts must not be called through a Multicall contract.
+     *
+     * @param multicallAggregator aggregator of readonly calls, may be null
+     */
+    public void setMulticallAggregator(MulticallAggregator multicallAggregator) {
+        this.multicallAggregator = multicallAggregator;
+    }
+
     /**
      * Returns a mapping of special method names to their actions. <br>
-     * {@code QuorumContractWrapper} registers a single mapping, {@link Constants#DEPLOYMENT_METHOD} to {@link QuorumContractWrapper#deploy(QuorumMethodInfo, Object[])}
+     * {@code QuorumContractWrapper} registers a single mapping, {@link Constants#DEPLOYMENT_METHOD} to {@link QuorumContractWrapper#deploy(MethodInvocationPlan, Object[])}
      *
      * @return mapping of special method names to their actions.
      */
     @Override
-    protected Map<String, SpecialMethodDelegate<QuorumMethodInfo>> getSpecialMethods() {
+    protected Map<String, SpecialMethodDelegate<QuorumMethodInfo, QuorumParameterInfo>> getSpecialMethods() {
         return new HashMap<>() {{
-            put(Constants.DEPLOYMENT_METHOD, (methodInfo, args) -> deploy(methodInfo, args));
+            put(Constants.DEPLOYMENT_METHOD, (invocationPlan, args) -> deploy(invocationPlan, args));
         }};
     }
 
     /**
      * Creates an event observable for the given event method
      *
-     * @param eventInfo {@code QuorumEventInfo} describing the corresponding smart contract event.
-     * @param arguments arguments of the smart contract interface method
+     * @param invocationPlan {@code EventInvocationPlan} describing the corresponding smart contract event.
+     * @param arguments      arguments of the smart contract interface method
      * @return observable containing the events emitted by the smart contract converted to the expected type
      */
     @Override
-    protected Observable<Object> createEventObservable(QuorumEventInfo eventInfo, Object[] arguments) {
-        LOGGER.info("Preparing event observable '{}'", eventInfo.getEventName());
+    protected Observable<Object> createEventObservable(EventInvocationPlan<QuorumEventInfo> invocationPlan, Object[] arguments) {
+        LOGGER.info("Preparing event observable '{}'", invocationPlan.getEventInfo().getEventName());
 
-        var from = extractBlockParameterFrom(eventInfo, arguments);
-        var to = extractBlockParameterTo(eventInfo, arguments);
+        return observeOnEventLane(createRawEventObservable(invocationPlan, arguments)).map(rawEvent -> convertEvent(invocationPlan, rawEvent));
+    }
+
+    /**
+     * Creates an event flowable for the given event method. <br>
+     * <br>
+     * The raw events are buffered according to the backpressure settings passed to the event method
+     * and only converted to the expected type once requested by the subscriber.
+     *
+     * @param invocationPlan {@code EventInvocationPlan} describing the corresponding smart contract event.
+     * @param arguments      arguments of the smart contract interface method
+     * @return flowable containing the events emitted by the smart contract converted to the expected type
+     */
+    @Override
+    protected Flowable<Object> createEventFlowable(EventInvocationPlan<QuorumEventInfo> invocationPlan, Object[] arguments) {
+        var backpressure = invocationPlan.getEventBackpressure(arguments);
+        LOGGER.info("Preparing event flowable '{}' using {}", invocationPlan.getEventInfo().getEventName(), backpressure);
 
-        var observable = this.contractApi.getEventObservable(
-                eventInfo.getEventName(), argumentConverter.getInputParameterTypesReferences(eventInfo.getAbiDefinition()), from, to);
+        return observeOnEventLane(backpressure.apply(createRawEventObservable(invocationPlan, arguments))).map(rawEvent -> convertEvent(invocationPlan, rawEvent));
+    }
 
-        return observable.map(rawEvent -> {
-            var eventData = this.argumentConverter.createEventObject(eventInfo, rawEvent.getData());
+    private Observable<Event<EventValues>> createRawEventObservable(EventInvocationPlan<QuorumEventInfo> invocationPlan, Object[] arguments) {
+        var eventInfo = invocationPlan.getEventInfo();
+        var from = extractBlockParameterFrom(invocationPlan, arguments);
+        var to = extractBlockParameterTo(invocationPlan, arguments);
 
-            if (ReflectionUtil.usesEventWrapper(eventInfo.getMethod())) {
-                return new Event<>(eventData, rawEvent.getBlockHash(), rawEvent.getTransactionHash());
-            } else {
-                return eventData;
-            }
-        });
+        return this.contractApi.getEventObservable(
+                eventInfo.getEventName(), eventInfo.getInputTypeReferences(), from, to);
+    }
+
+    private Object convertEvent(EventInvocationPlan<QuorumEventInfo> invocationPlan, Event<EventValues> rawEvent) {
+        var eventData = this.argumentConverter.createEventObject(invocationPlan.getEventInfo(), rawEvent.getData());
+
+        if (invocationPlan.usesEventWrapper()) {
+            return new Event<>(eventData, rawEvent.getBlockHash(), rawEvent.getTransactionHash());
+        } else {
+            return eventData;
+        }
+    }
+
+    /**
+     * Subscribes the consumer of the given event consumer method to the corresponding smart contract event. <br>
+     * <br>
+     * All events are decoded into the same event object, i.e. the one passed to the event method or a new one created
+     * for the subscription. The logs are decoded directly into the object's fields whenever possible,
+     * see {@link org.blockchainnative.ethereum.util.AbiEventDecoder}.
+     *
+     * @param invocationPlan {@code EventInvocationPlan} describing the corresponding smart contract event.
+     * @param arguments      arguments of the smart contract interface method
+     * @return subscription of the consumer
+     */
+    @Override
+    protected Disposable subscribeEventConsumer(EventInvocationPlan<QuorumEventInfo> invocationPlan, Object[] arguments) {
+        var eventInfo = invocationPlan.getEventInfo();
+        LOGGER.info("Subscribing event consumer '{}'", eventInfo.getEventName());
+
+        var from = extractBlockParameterFrom(invocationPlan, arguments);
+        var to = extractBlockParameterTo(invocationPlan, arguments);
+        var consumer = invocationPlan.getEventConsumer(arguments);
+        var holder = invocationPlan.getEventHolder(arguments);
+        var eventObject = holder != null ? holder : this.argumentConverter.createEventObject(eventInfo);
+
+        return observeOnEventLane(this.contractApi.getLogObservable(
+                eventInfo.getEventName(), eventInfo.getInputTypeReferences(), from, to))
+                .subscribe(log -> consumer.accept(this.argumentConverter.decodeEventObject(eventInfo, log, eventObject)));
     }
 
     /**
      * Invokes the given smart contract method while submitting a transaction to the Ethereum blockchain.
      *
-     * @param methodInfo {@code QuorumMethodInfo} describing the corresponding smart contract method.
-     * @param arguments  arguments of the smart contract interface method
+     * @param invocationPlan {@code MethodInvocationPlan} describing the corresponding smart contract method.
+     * @param arguments      arguments of the smart contract interface method
      * @return actual smart contract method result converted to the expected type and wrapped as {@link Future}
      */
     @Override
-    protected Future<Object> invokeMethod(QuorumMethodInfo methodInfo, Object[] arguments) {
+    protected Future<Object> invokeMethod(MethodInvocationPlan<QuorumMethodInfo, QuorumParameterInfo> invocationPlan, Object[] arguments) {
+        var methodInfo = invocationPlan.getMethodInfo();
         return CompletableFuture.supplyAsync(() -> {
             LOGGER.info("Preparing function call '{}()'", methodInfo.getContractMethodName());
 
-            var methodArguments = extractContractMethodParameters(methodInfo, arguments);
-            var parameterInfos = extractContractMethodParameterInfos(methodInfo);
-
-            LOGGER.debug("Converting arguments...");
-            var convertedArgs = argumentConverter.convertArguments(parameterInfos, methodArguments);
-            LOGGER.debug("Arguments: {}", convertedArgs.stream().map(x -> String.format("'%s'", x)).collect(Collectors.joining(", ")));
-
-            var outputParameterTypes = argumentConverter.getOutputParameterTypeReferences(methodInfo.getAbi());
+            var methodArguments = invocationPlan.getContractArguments(arguments);
+            var parameterInfos = invocationPlan.getContractParameterInfos();
 
-            var function = new org.web3j.abi.datatypes.Function(methodInfo.getContractMethodName(), convertedArgs, outputParameterTypes);
+            // void methods have no result to simulate, other methods opt in to the simulation
+            var pendingResult = invocationPlan.usesPendingResultWrapper();
+            var simulateResult = !methodInfo.isVoidReturnType() && methodInfo.isSimulateResult();
+            if (!simulateResult && !methodInfo.isVoidReturnType()) {
+                requireNullableResult(methodInfo);
+            }
 
-            Result<List<org.web3j.abi.datatypes.Type>> functionCallResult;
+            Result<?> functionCallResult;
             try {
-                var gasLimit = extractGasLimit(methodInfo, arguments);
-                var value = extractEtherValue(methodInfo, arguments);
-                var privateFor = getPrivateFor(methodInfo, arguments);
-
-                functionCallResult = this.contractApi.executeFunctionCallTransaction(function, gasLimit, value, privateFor);
-
+                var gasLimit = extractGasLimit(invocationPlan, arguments);
+                var value = extractEtherValue(invocationPlan, arguments);
+                var privateFor = getPrivateFor(invocationPlan, arguments);
+
+                if (directAbiEncoding || simulateResult && hasPrimitiveResult(methodInfo)) {
+                    // primitive results are decoded from the raw output even if the arguments are encoded by web3j
+                    var encodedFunction = directAbiEncoding
+                            ? encodeFunctionCall(methodInfo, parameterInfos, methodArguments)
+                            : FunctionEncoder.encode(new org.web3j.abi.datatypes.Function(methodInfo.getContractMethodName(), convertArguments(parameterInfos, methodArguments), Collections.emptyList()));
+                    functionCallResult = pendingResult
+                            ? this.contractApi.submitEncodedFunctionCallTransaction(encodedFunction, gasLimit, value, privateFor, simulateResult)
+                            : this.contractApi.executeEncodedFunctionCallTransaction(encodedFunction, gasLimit, value, privateFor, simulateResult);
+                } else {
+                    var outputParameterTypes = methodInfo.getOutputTypeReferences();
+                    var function = new org.web3j.abi.datatypes.Function(methodInfo.getContractMethodName(), convertArguments(parameterInfos, methodArguments), outputParameterTypes);
+                    if (pendingResult) {
+                        functionCallResult = this.contractApi.submitFunctionCallTransaction(function, gasLimit, value, privateFor, simulateResult);
+                    } else if (simulateResult || methodInfo.isVoidReturnType()) {
+                        // simulates the result unless the function has no outputs
+                        functionCallResult = this.contractApi.executeFunctionCallTransaction(function, gasLimit, value, privateFor);
+                    } else {
+                        functionCallResult = this.contractApi.executeFunctionCallTransaction(function, gasLimit, value, privateFor, false);
+                    }
+                }
             } catch (IOException | TransactionException e) {
                 var message = String.format("Failed to invoke function '%s' of contract '%s'!", methodInfo.getContractMethodName(), contractInfo.getContractClass().getName());
                 LOGGER.error(message, e);
                 throw new ContractCallException(message, e);
             }
 
+            if (!pendingResult) {
+                // the transaction has been included in a block, cached results may not reflect its effects
+                invalidateReadOnlyCallCache();
+            }
+
             LOGGER.debug("Converting result to target type...");
 
-            var convertedResult = argumentConverter.convertMethodResult(methodInfo, functionCallResult.getData());
+            var convertedResult = simulateResult || methodInfo.isVoidReturnType() ? convertMethodResult(methodInfo, functionCallResult) : null;
 
-            if (ReflectionUtil.usesResultWrapper(methodInfo.getMethod())) {
+            if (pendingResult) {
+                // the confirmed result carries the simulated result as well, the transaction's actual output is not available
+                var confirmation = ((PendingResult<?>) functionCallResult).getConfirmation()
+                        .whenComplete((confirmedResult, e) -> invalidateReadOnlyCallCache())
+                        .thenApply(confirmedResult -> new Result<>(convertedResult, confirmedResult.getBlockHash(), confirmedResult.getTransactionHash()));
+                return new PendingResult<>(convertedResult, functionCallResult.getTransactionHash(), confirmation);
+            } else if (invocationPlan.usesResultWrapper()) {
                 return new Result<>(convertedResult, functionCallResult.getBlockHash(), functionCallResult.getTransactionHash());
             } else {
                 return convertedResult;
             }
-        });
+        }, getExecutor(InvocationLane.STATE_CHANGING));
     }
 
     /**
      * Invokes the given smart contract method without creating a transaction on the Ethereum blockchain.
      *
-     * @param methodInfo {@code QuorumMethodInfo} describing the corresponding smart contract method.
-     * @param arguments  arguments of the smart contract interface method
+     * @param invocationPlan {@code MethodInvocationPlan} describing the corresponding smart contract method.
+     * @param arguments      arguments of the smart contract interface method
      * @return actual smart contract method result converted to the expected type and wrapped as {@link Future}
      */
     @Override
-    protected Future<Object> invokeReadOnlyMethod(QuorumMethodInfo methodInfo, Object[] arguments) {
+    protected Future<Object> invokeReadOnlyMethod(MethodInvocationPlan<QuorumMethodInfo, QuorumParameterInfo> invocationPlan, Object[] arguments) {
+        var methodInfo = invocationPlan.getMethodInfo();
         return CompletableFuture.supplyAsync(() -> {
             LOGGER.info("Preparing readonly function call '{}()'", methodInfo.getContractMethodName());
 
-            var methodArguments = extractContractMethodParameters(methodInfo, arguments);
-            var parameterInfos = extractContractMethodParameterInfos(methodInfo);
+            var methodArguments = invocationPlan.getContractArguments(arguments);
+            var parameterInfos = invocationPlan.getContractParameterInfos();
 
-            LOGGER.debug("Converting arguments...");
-            var convertedArgs = argumentConverter.convertArguments(parameterInfos, methodArguments);
-            LOGGER.debug("Arguments: {}", convertedArgs.stream().map(x -> String.format("'%s'", x)).collect(Collectors.joining(", ")));
-
-            var outputParameterTypes = argumentConverter.getOutputParameterTypeReferences(methodInfo.getAbi());
-
-            Result<List<org.web3j.abi.datatypes.Type>> functionCallResult;
+            Result<String> functionCallResult;
             try {
-
-                functionCallResult = this.contractApi.executeFunctionCall(
-                        new org.web3j.abi.datatypes.Function(methodInfo.getContractMethodName(), convertedArgs, outputParameterTypes));
+                var encodedFunction = directAbiEncoding
+                        ? encodeFunctionCall(methodInfo, parameterInfos, methodArguments)
+                        : FunctionEncoder.encode(new org.web3j.abi.datatypes.Function(methodInfo.getContractMethodName(), convertArguments(parameterInfos, methodArguments), Collections.emptyList()));
+                // the raw output is handed to the direct result decoder regardless of how the arguments were encoded
+                functionCallResult = executeReadOnlyCall(methodInfo, encodedFunction);
             } catch (IOException e) {
                 var message = String.format("Failed to invoke readonly function '%s' of contract '%s'!", methodInfo.getContractMethodName(), contractInfo.getContractClass().getName());
                 LOGGER.error(message, e);
@@ -182,17 +321,61 @@ public class QuorumContractWrapper extends AbstractContractWrapper<QuorumContrac
             }
 
             LOGGER.debug("Converting result to target type...");
-            var convertedResult = argumentConverter.convertMethodResult(methodInfo, functionCallResult.getData());
+            var convertedResult = convertMethodResult(methodInfo, functionCallResult);
 
-            if (ReflectionUtil.usesResultWrapper(methodInfo.getMethod())) {
+            if (invocationPlan.usesPendingResultWrapper()) {
+                return PendingResult.completed(new Result<>(convertedResult));
+            } else if (invocationPlan.usesResultWrapper()) {
                 return new Result<>(convertedResult);
             } else {
                 return convertedResult;
             }
-        });
+        }, getExecutor(InvocationLane.READ_ONLY));
     }
 
-    private Future<Object> deploy(QuorumMethodInfo methodInfo, Object[] arguments) {
+    /**
+     * Executes the given readonly call or returns its result from the {@link ReadOnlyCallCache} if the method is marked as cacheable.
+     *
+     * @param methodInfo      method info of the called method
+     * @param encodedFunction encoded function selector and arguments, also serving as cache key
+     * @return encoded function result
+     * @throws IOException in case of errors during the communication with the Ethereum node
+     */
+    @SuppressWarnings("unchecked")
+    private Result<String> executeReadOnlyCall(QuorumMethodInfo methodInfo, String encodedFunction) throws IOException {
+        var cache = getReadOnlyCallCache();
+        var contractAddress = contractInfo.getContractAddress();
+        if (cache == null || !methodInfo.isCacheable() || StringUtil.isNullOrEmpty(contractAddress)) {
+            return executeEncodedReadOnlyCall(encodedFunction);
+        }
+
+        var chain = getReadOnlyCallCacheChain();
+        var fromAddress = this.contractApi.getFromAddress();
+        var cachedResult = cache.get(chain, contractAddress, fromAddress, encodedFunction);
+        if (cachedResult != null) {
+            LOGGER.debug("Using cached result of readonly function call '{}()'", methodInfo.getContractMethodName());
+            return (Result<String>) cachedResult;
+        }
+
+        // results received after the next block arrived are not cached
+        var generation = cache.getGeneration();
+        var result = executeEncodedReadOnlyCall(encodedFunction);
+        var data = result.getData();
+        if (data != null) {
+            cache.put(chain, contractAddress, fromAddress, encodedFunction, result, 2L * data.length(), generation);
+        }
+        return result;
+    }
+
+    private Result<String> executeEncodedReadOnlyCall(String encodedFunction) throws IOException {
+        var aggregator = multicallAggregator;
+        if (aggregator == null) {
+            return this.contractApi.executeEncodedFunctionCall(encodedFunction);
+        }
+        return new Result<>(aggregator.call(contractInfo.getContractAddress(), encodedFunction), null, null);
+    }
+
+    private Future<Object> deploy(MethodInvocationPlan<QuorumMethodInfo, QuorumParameterInfo> invocationPlan, Object[] arguments) {
         return CompletableFuture.supplyAsync(() -> {
             LOGGER.info("Preparing to deploy contract '{}' ({})", this.contractInfo.getIdentifier(), this.contractInfo.getContractClass().getName());
 
@@ -208,12 +391,12 @@ public class QuorumContractWrapper extends AbstractContractWrapper<QuorumContrac
                 throw new ContractDeploymentException(message);
             }
 
-            var deploymentArguments = extractContractMethodParameters(methodInfo, arguments);
-            var parameterInfos = extractContractMethodParameterInfos(methodInfo);
+            var deploymentArguments = invocationPlan.getContractArguments(arguments);
+            var parameterInfos = invocationPlan.getContractParameterInfos();
 
-            var gasLimit = extractGasLimit(methodInfo, arguments);
-            var value = extractEtherValue(methodInfo, arguments);
-            var privateFor = getPrivateFor(methodInfo, arguments);
+            var gasLimit = extractGasLimit(invocationPlan, arguments);
+            var value = extractEtherValue(invocationPlan, arguments);
+            var privateFor = getPrivateFor(invocationPlan, arguments);
 
             try {
                 var deploymentResult = this.contractApi.executeDeployTransaction(argumentConverter.convertArguments(parameterInfos, deploymentArguments), gasLimit, value, privateFor);
@@ -221,7 +404,9 @@ public class QuorumContractWrapper extends AbstractContractWrapper<QuorumContrac
 
                 this.contractInfo.setContractAddress(address);
 
-                if (ReflectionUtil.usesResultWrapper(methodInfo.getMethod())) {
+                if (invocationPlan.usesPendingResultWrapper()) {
+                    return PendingResult.completed(new Result<>(address, deploymentResult.getBlockHash(), deploymentResult.getTransactionHash()));
+                } else if (invocationPlan.usesResultWrapper()) {
                     return new Result<>(address, deploymentResult.getBlockHash(), deploymentResult.getTransactionHash());
                 } else {
                     return address;
@@ -230,28 +415,69 @@ public class QuorumContractWrapper extends AbstractContractWrapper<QuorumContrac
             } catch (IOException | TransactionException e) {
                 throw new ContractDeploymentException(String.format("Failed to deploy contract '%s'", contractInfo.getContractClass().getName()), e);
             }
-        });
+        }, getExecutor(InvocationLane.DEPLOYMENT));
     }
 
 
-    private DefaultBlockParameter extractBlockParameterFrom(QuorumEventInfo eventInfo, Object[] arguments) {
-        var fromBlock = extractSpecialArgument(eventInfo, Constants.FROM_BLOCK_ARGUMENT, arguments);
+    private List<org.web3j.abi.datatypes.Type> convertArguments(List<QuorumParameterInfo> parameterInfos, Object[] methodArguments) {
+        LOGGER.debug("Converting arguments...");
+        var convertedArgs = argumentConverter.convertArguments(parameterInfos, methodArguments);
+        LOGGER.debug("Arguments: {}", convertedArgs.stream().map(x -> String.format("'%s'", x)).collect(Collectors.joining(", ")));
+        return convertedArgs;
+    }
+
+    private String encodeFunctionCall(QuorumMethodInfo methodInfo, List<QuorumParameterInfo> parameterInfos, Object[] methodArguments) {
+        LOGGER.debug("Encoding arguments...");
+        var encodedFunction = argumentConverter.encodeFunctionCall(methodInfo, parameterInfos, methodArguments);
+        LOGGER.debug("Encoded function call: {}", encodedFunction);
+        return encodedFunction;
+    }
+
+    private void requireNullableResult(QuorumMethodInfo methodInfo) {
+        var returnType = ReflectionUtil.getActualReturnType(methodInfo.getMethod());
+        if (returnType instanceof Class && ((Class<?>) returnType).isPrimitive()) {
+            throw new ContractCallException(String.format("Method '%s' of contract '%s' returns a primitive type which requires the transaction result to be simulated, see ContractMethod#simulateResult()",
+                    methodInfo.getContractMethodName(), contractInfo.getContractClass().getName()));
+        }
+    }
+
+    // the result decoder reads these types without creating a BigInteger per value
+    private static boolean hasPrimitiveResult(QuorumMethodInfo methodInfo) {
+        if (methodInfo.getResultTypeConverterClass().isPresent()) {
+            return false;
+        }
+        var returnType = ReflectionUtil.getActualReturnType(methodInfo.getMethod());
+        return returnType == long.class || returnType == long[].class || returnType == int[].class || returnType == LongList.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object convertMethodResult(QuorumMethodInfo methodInfo, Result<?> functionCallResult) {
+        var data = functionCallResult.getData();
+        if (data instanceof String) {
+            // encoded output of a readonly call or a directly encoded transaction, decoded directly where possible
+            return argumentConverter.decodeMethodResult(methodInfo, (String) data);
+        }
+        return argumentConverter.convertMethodResult(methodInfo, (List<org.web3j.abi.datatypes.Type>) data);
+    }
+
+    private DefaultBlockParameter extractBlockParameterFrom(EventInvocationPlan<QuorumEventInfo> invocationPlan, Object[] arguments) {
+        var fromBlock = invocationPlan.getSpecialArgument(FROM_BLOCK, arguments);
         if (fromBlock instanceof DefaultBlockParameter) {
             return (DefaultBlockParameter) fromBlock;
         }
         return DefaultBlockParameterName.LATEST;
     }
 
-    private DefaultBlockParameter extractBlockParameterTo(QuorumEventInfo eventInfo, Object[] arguments) {
-        var toBlock = extractSpecialArgument(eventInfo, Constants.TO_BLOCK_ARGUMENT, arguments);
+    private DefaultBlockParameter extractBlockParameterTo(EventInvocationPlan<QuorumEventInfo> invocationPlan, Object[] arguments) {
+        var toBlock = invocationPlan.getSpecialArgument(TO_BLOCK, arguments);
         if (toBlock instanceof DefaultBlockParameter) {
             return (DefaultBlockParameter) toBlock;
         }
         return DefaultBlockParameterName.LATEST;
     }
 
-    private List<String> extractPrivateFor(QuorumMethodInfo eventInfo, Object[] arguments) {
-        var privateFor = extractSpecialArgument(eventInfo, Constants.PRIVATE_FOR_ARGUMENT, arguments);
+    private List<String> extractPrivateFor(MethodInvocationPlan<QuorumMethodInfo, QuorumParameterInfo> invocationPlan, Object[] arguments) {
+        var privateFor = invocationPlan.getSpecialArgument(PRIVATE_FOR, arguments);
         if (privateFor == null){
             return null;
         }
@@ -265,16 +491,16 @@ public class QuorumContractWrapper extends AbstractContractWrapper<QuorumContrac
         }
     }
 
-    private BigInteger extractGasLimit(QuorumMethodInfo methodInfo, Object[] arguments) {
-        return extractBigInteger(methodInfo, Constants.GAS_LIMIT_ARGUMENT, contractGasProvider.getGasLimit(methodInfo.getContractMethodName()), arguments);
+    private BigInteger extractGasLimit(MethodInvocationPlan<QuorumMethodInfo, QuorumParameterInfo> invocationPlan, Object[] arguments) {
+        return extractBigInteger(invocationPlan, GAS_LIMIT, contractGasProvider.getGasLimit(invocationPlan.getContractMethodName()), arguments);
     }
 
-    private BigInteger extractEtherValue(QuorumMethodInfo methodInfo, Object[] arguments) {
-        return extractBigInteger(methodInfo, Constants.WEI_VALUE_ARGUMENT, null, arguments);
+    private BigInteger extractEtherValue(MethodInvocationPlan<QuorumMethodInfo, QuorumParameterInfo> invocationPlan, Object[] arguments) {
+        return extractBigInteger(invocationPlan, WEI_VALUE, null, arguments);
     }
 
-    private BigInteger extractBigInteger(QuorumMethodInfo methodInfo, String parameterName, BigInteger defaultValue, Object[] arguments) {
-        var gasPrice = extractSpecialArgument(methodInfo, parameterName, arguments);
+    private BigInteger extractBigInteger(MethodInvocationPlan<QuorumMethodInfo, QuorumParameterInfo> invocationPlan, SpecialArgument specialArgument, BigInteger defaultValue, Object[] arguments) {
+        var gasPrice = invocationPlan.getSpecialArgument(specialArgument, arguments);
         if (gasPrice instanceof BigInteger) {
             return (BigInteger) gasPrice;
         } else if (gasPrice instanceof Number) {
@@ -284,8 +510,8 @@ public class QuorumContractWrapper extends AbstractContractWrapper<QuorumContrac
         }
     }
 
-    private List<String> getPrivateFor(QuorumMethodInfo methodInfo, Object[] arguments) {
-        var methodPrivateFor = extractPrivateFor(methodInfo, arguments);
+    private List<String> getPrivateFor(MethodInvocationPlan<QuorumMethodInfo, QuorumParameterInfo> invocationPlan, Object[] arguments) {
+        var methodPrivateFor = extractPrivateFor(invocationPlan, arguments);
         if (methodPrivateFor == null || methodPrivateFor.isEmpty()) {
             LOGGER.debug("No private transaction targets defined in method arguments");
             var contractPrivateFor = this.contractInfo.getPrivateFor();
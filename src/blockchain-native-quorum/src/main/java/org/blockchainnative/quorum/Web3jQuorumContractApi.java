@@ -3,12 +3,14 @@ package org.blockchainnative.quorum;
 import io.reactivex.Observable;
 import org.blockchainnative.quorum.metadata.QuorumContractInfo;
 import org.blockchainnative.metadata.Event;
+import org.blockchainnative.metadata.PendingResult;
 import org.blockchainnative.metadata.Result;
 import org.web3j.abi.EventValues;
 import org.web3j.abi.TypeReference;
 import org.web3j.abi.datatypes.Function;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.methods.response.Log;
 import org.web3j.protocol.exceptions.TransactionException;
 
 import java.io.IOException;
@@ -34,6 +36,17 @@ public interface Web3jQuorumContractApi {
      */
     Observable<Event<EventValues>> getEventObservable(String eventName, List<TypeReference<?>> eventTypes, DefaultBlockParameter fromBlock, DefaultBlockParameter toBlock);
 
+    /**
+     * Creates an observable for the raw logs of a given event.
+     *
+     * @param eventName  name of the Quorum smart contract event
+     * @param eventTypes {@code TypeReference} objects representing the event's input types
+     * @param fromBlock  defines the starting block from which events want to be received
+     * @param toBlock    defines the end block until which events want to be received
+     * @return observable of the logs emitted by the event
+     */
+    Observable<Log> getLogObservable(String eventName, List<TypeReference<?>> eventTypes, DefaultBlockParameter fromBlock, DefaultBlockParameter toBlock);
+
     /**
      * Executes a smart contract Function without submitting a transaction.
      *
@@ -44,7 +57,8 @@ public interface Web3jQuorumContractApi {
     Result<List<Type>> executeFunctionCall(Function function) throws IOException;
 
     /**
-     * Executes a smart contract Function in a transaction.
+     * Executes a smart contract Function in a transaction. <br>
+     * The function's result is simulated unless the function declares no output parameters.
      *
      * @param function   Web3j smart contract Function
      * @param gasLimit   gas limit
@@ -55,7 +69,106 @@ public interface Web3jQuorumContractApi {
      * @throws IOException          in case of errors during the communication with the Quorum node
      * @throws TransactionException in case the transaction failed to complete in a timely manner
      */
-    Result<List<Type>> executeFunctionCallTransaction(Function function, BigInteger gasLimit, BigInteger value, List<String> privateFor) throws IOException, TransactionException;
+    default Result<List<Type>> executeFunctionCallTransaction(Function function, BigInteger gasLimit, BigInteger value, List<String> privateFor) throws IOException, TransactionException {
+        return executeFunctionCallTransaction(function, gasLimit, value, privateFor, !function.getOutputParameters().isEmpty());
+    }
+
+    /**
+     * Executes a smart contract Function in a transaction. <br>
+     * If requested, the function's result is simulated by calling the function without submitting a transaction,
+     * against the block preceding the transaction and concurrently with its submission. A failing simulation does not prevent the submission.
+     * Otherwise, the returned {@code Result} contains no data.
+     *
+     * @param function       Web3j smart contract Function
+     * @param gasLimit       gas limit
+     * @param value          amount of Ether (in Wei) to be transferred
+     * @param privateFor     list of base64 encoded public keys of the nodes which should be able to read the transaction
+     *                       (can be null)
+     * @param simulateResult whether the function result should be simulated
+     * @return raw function result
+     * @throws IOException          in case of errors during the communication with the Quorum node
+     * @throws TransactionException in case the transaction failed to complete in a timely manner
+     */
+    Result<List<Type>> executeFunctionCallTransaction(Function function, BigInteger gasLimit, BigInteger value, List<String> privateFor, boolean simulateResult) throws IOException, TransactionException;
+
+    /**
+     * Executes an already ABI encoded smart contract function call without submitting a transaction.
+     *
+     * @param encodedFunction hex encoded function selector and arguments
+     * @return {@code Result} containing the hex encoded function output
+     * @throws IOException in case of errors during the communication with the Quorum node
+     */
+    Result<String> executeEncodedFunctionCall(String encodedFunction) throws IOException;
+
+    /**
+     * Executes an already ABI encoded smart contract function call in a transaction.
+     *
+     * @param encodedFunction hex encoded function selector and arguments
+     * @param gasLimit        gas limit
+     * @param value           amount of Ether (in Wei) to be transferred
+     * @param privateFor      list of base64 encoded public keys of the nodes which should be able to read the transaction
+     *                        (can be null)
+     * @return {@code Result} containing the hex encoded function output
+     * @throws IOException          in case of errors during the communication with the Quorum node
+     * @throws TransactionException in case the transaction failed to complete in a timely manner
+     */
+    default Result<String> executeEncodedFunctionCallTransaction(String encodedFunction, BigInteger gasLimit, BigInteger value, List<String> privateFor) throws IOException, TransactionException {
+        return executeEncodedFunctionCallTransaction(encodedFunction, gasLimit, value, privateFor, true);
+    }
+
+    /**
+     * Executes an already ABI encoded smart contract function call in a transaction. <br>
+     * If requested, the function's output is simulated by calling the function without submitting a transaction,
+     * against the block preceding the transaction and concurrently with its submission. A failing simulation does not prevent the submission.
+     * Otherwise, the returned {@code Result} contains no data.
+     *
+     * @param encodedFunction hex encoded function selector and arguments
+     * @param gasLimit        gas limit
+     * @param value           amount of Ether (in Wei) to be transferred
+     * @param privateFor      list of base64 encoded public keys of the nodes which should be able to read the transaction
+     *                        (can be null)
+     * @param simulateResult  whether the function output should be simulated
+     * @return {@code Result} containing the hex encoded function output
+     * @throws IOException          in case of errors during the communication with the Quorum node
+     * @throws TransactionException in case the transaction failed to complete in a timely manner
+     */
+    Result<String> executeEncodedFunctionCallTransaction(String encodedFunction, BigInteger gasLimit, BigInteger value, List<String> privateFor, boolean simulateResult) throws IOException, TransactionException;
+
+    /**
+     * Submits a smart contract Function in a transaction without waiting for the transaction to be mined. <br>
+     * If requested, the function's result is simulated by calling the function without submitting a transaction,
+     * against the block preceding the transaction and concurrently with its submission. A failing simulation does not prevent the submission.
+     * Otherwise, the returned {@code PendingResult} contains no data.
+     *
+     * @param function       Web3j smart contract Function
+     * @param gasLimit       gas limit
+     * @param value          amount of Ether (in Wei) to be transferred
+     * @param privateFor     list of base64 encoded public keys of the nodes which should be able to read the transaction
+     *                       (can be null)
+     * @param simulateResult whether the function result should be simulated
+     * @return {@code PendingResult} containing the simulated function result and the hash of the submitted transaction
+     * @throws IOException          in case of errors during the communication with the Quorum node
+     * @throws TransactionException in case the transaction has been rejected by the Quorum node
+     */
+    PendingResult<List<Type>> submitFunctionCallTransaction(Function function, BigInteger gasLimit, BigInteger value, List<String> privateFor, boolean simulateResult) throws IOException, TransactionException;
+
+    /**
+     * Submits an already ABI encoded smart contract function call in a transaction without waiting for the transaction to be mined. <br>
+     * If requested, the function's output is simulated by calling the function without submitting a transaction,
+     * against the block preceding the transaction and concurrently with its submission. A failing simulation does not prevent the submission.
+     * Otherwise, the returned {@code PendingResult} contains no data.
+     *
+     * @param encodedFunction hex encoded function selector and arguments
+     * @param gasLimit        gas limit
+     * @param value           amount of Ether (in Wei) to be transferred
+     * @param privateFor      list of base64 encoded public keys of the nodes which should be able to read the transaction
+     *                        (can be null)
+     * @param simulateResult  whether the function output should be simulated
+     * @return {@code PendingResult} containing the simulated hex encoded function output and the hash of the submitted transaction
+     * @throws IOException          in case of errors during the communication with the Quorum node
+     * @throws TransactionException in case the transaction has been rejected by the Quorum node
+     */
+    PendingResult<String> submitEncodedFunctionCallTransaction(String encodedFunction, BigInteger gasLimit, BigInteger value, List<String> privateFor, boolean simulateResult) throws IOException, TransactionException;
 
     /**
      * Deploys the Quorum smart contract.
@@ -71,6 +184,13 @@ public interface Web3jQuorumContractApi {
      */
     Result<String> executeDeployTransaction(List<Type> constructorArguments, BigInteger gasLimit, BigInteger value, List<String> privateFor) throws IOException, TransactionException;
 
+    /**
+     * Returns the address used as sender of calls and transactions.
+     *
+     * @return address of the sender
+     */
+    String getFromAddress();
+
     /**
      * Sets the {@code QuorumContractInfo} the {@code Web3jQuorumContractApi} operates on
      *
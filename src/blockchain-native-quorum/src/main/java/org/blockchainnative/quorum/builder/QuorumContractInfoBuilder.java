@@ -393,7 +393,7 @@ public class QuorumContractInfoBuilder<TContractType> extends ContractInfoBuilde
                 return builder.getParameterInfo();
             }).collect(Collectors.toList());
 
-            return new QuorumMethodInfo(method, contractMethodName, isReadOnly, isSpecialMethod, parameterInfos, abi, resultTypeConverterClass);
+            return new QuorumMethodInfo(method, contractMethodName, isReadOnly, isSpecialMethod, parameterInfos, abi, resultTypeConverterClass, isCacheable, simulateResult);
         }
     }
 
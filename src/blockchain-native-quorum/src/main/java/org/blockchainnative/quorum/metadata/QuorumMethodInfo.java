@@ -1,14 +1,24 @@
 package org.blockchainnative.quorum.metadata;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.blockchainnative.convert.TypeConverter;
+import org.blockchainnative.ethereum.util.AbiFunctionEncoder;
+import org.blockchainnative.ethereum.util.AbiResultDecoder;
+import org.blockchainnative.ethereum.util.SolidityTypeDescriptor;
+import org.blockchainnative.ethereum.util.TypeReferenceCache;
 import org.blockchainnative.metadata.MethodInfo;
+import org.blockchainnative.util.ReflectionUtil;
+import org.web3j.abi.TypeReference;
 import org.web3j.protocol.core.methods.response.AbiDefinition;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Holds additional information about a smart contract method. <br>
@@ -22,6 +32,11 @@ import java.util.List;
  */
 public class QuorumMethodInfo extends MethodInfo<QuorumParameterInfo> {
     private AbiDefinition abi;
+    private volatile List<SolidityTypeDescriptor> outputTypeDescriptors;
+    private volatile AbiFunctionEncoder functionEncoder;
+    private volatile Optional<AbiResultDecoder> resultDecoder;
+    private volatile List<TypeReference<?>> inputTypeReferences;
+    private volatile List<TypeReference<?>> outputTypeReferences;
 
     /**
      * Constructs a new {@code QuorumMethodInfo}
@@ -50,7 +65,42 @@ public class QuorumMethodInfo extends MethodInfo<QuorumParameterInfo> {
      *                                 declared type of the wrapper method
      */
     public QuorumMethodInfo(Method method, String contractMethodName, boolean readOnly, boolean specialMethod, List<QuorumParameterInfo> parameters, AbiDefinition abi, Class<? extends TypeConverter<?, ?>> resultTypeConverterClass) {
-        super(method, contractMethodName, readOnly, specialMethod, parameters, resultTypeConverterClass);
+        this(method, contractMethodName, readOnly, specialMethod, parameters, abi, resultTypeConverterClass, false);
+    }
+
+    /**
+     * Constructs a new {@code QuorumMethodInfo}
+     *
+     * @param method                   method on the contract interface representing the smart contract method.
+     * @param contractMethodName       name of the corresponding smart contract method as defined in the ABI.
+     * @param readOnly                 specifies whether the method is marked as readonly
+     * @param specialMethod            specifies whether the method is marked as special method
+     * @param parameters               {@code QuorumParameterInfo} objects
+     * @param abi                      ABI definition of the corresponding smart contract method
+     * @param resultTypeConverterClass type converter used to convert the smart contract method result value to the
+     *                                 declared type of the wrapper method
+     * @param cacheable                specifies whether the results of readonly calls may be cached until the next block
+     */
+    public QuorumMethodInfo(Method method, String contractMethodName, boolean readOnly, boolean specialMethod, List<QuorumParameterInfo> parameters, AbiDefinition abi, Class<? extends TypeConverter<?, ?>> resultTypeConverterClass, boolean cacheable) {
+        this(method, contractMethodName, readOnly, specialMethod, parameters, abi, resultTypeConverterClass, cacheable, false);
+    }
+
+    /**
+     * Constructs a new {@code QuorumMethodInfo}
+     *
+     * @param method                   method on the contract interface representing the smart contract method.
+     * @param contractMethodName       name of the corresponding smart contract method as defined in the ABI.
+     * @param readOnly                 specifies whether the method is marked as readonly
+     * @param specialMethod            specifies whether the method is marked as special method
+     * @param parameters               {@code QuorumParameterInfo} objects
+     * @param abi                      ABI definition of the corresponding smart contract method
+     * @param resultTypeConverterClass type converter used to convert the smart contract method result value to the
+     *                                 declared type of the wrapper method
+     * @param cacheable                specifies whether the results of readonly calls may be cached until the next block
+     * @param simulateResult           specifies whether the method result is simulated when invoked in a transaction
+     */
+    public QuorumMethodInfo(Method method, String contractMethodName, boolean readOnly, boolean specialMethod, List<QuorumParameterInfo> parameters, AbiDefinition abi, Class<? extends TypeConverter<?, ?>> resultTypeConverterClass, boolean cacheable, boolean simulateResult) {
+        super(method, contractMethodName, readOnly, specialMethod, parameters, resultTypeConverterClass, cacheable, simulateResult);
         this.abi = abi;
     }
 
@@ -63,6 +113,96 @@ public class QuorumMethodInfo extends MethodInfo<QuorumParameterInfo> {
         return abi;
     }
 
+    /**
+     * Returns the parsed representation of the solidity types of the method's outputs. <br>
+     * The outputs are parsed on first use, unsupported types are only reported once the method's result is actually converted.
+     *
+     * @return descriptors of the output types in declaration order
+     */
+    @JsonIgnore
+    public List<SolidityTypeDescriptor> getOutputTypeDescriptors() {
+        var descriptors = outputTypeDescriptors;
+        if (descriptors == null) {
+            descriptors = abi != null && abi.getOutputs() != null
+                    ? Collections.unmodifiableList(abi.getOutputs().stream()
+                    .map(output -> SolidityTypeDescriptor.of(output.getType()))
+                    .collect(Collectors.toList()))
+                    : Collections.emptyList();
+            outputTypeDescriptors = descriptors;
+        }
+        return descriptors;
+    }
+
+    /**
+     * Returns the encoder for calls of the corresponding smart contract method. <br>
+     * The encoder is created on first use and reused afterwards.
+     *
+     * @return encoder for the method's input parameters
+     */
+    @JsonIgnore
+    public AbiFunctionEncoder getFunctionEncoder() {
+        var encoder = functionEncoder;
+        if (encoder == null) {
+            if (abi == null) {
+                throw new IllegalStateException(String.format("ABI of method '%s' is not set", getContractMethodName()));
+            }
+            encoder = AbiFunctionEncoder.of(abi);
+            functionEncoder = encoder;
+        }
+        return encoder;
+    }
+
+    /**
+     * Returns the decoder for the output of the corresponding smart contract method into the declared result type of the method. <br>
+     * The decoder is created on first use and reused afterwards.
+     *
+     * @return decoder or an empty {@code Optional} in case the method does not return a value or its outputs cannot
+     * be decoded directly into the declared result type
+     */
+    @JsonIgnore
+    public Optional<AbiResultDecoder> getResultDecoder() {
+        var decoder = resultDecoder;
+        if (decoder == null) {
+            decoder = isVoidReturnType()
+                    ? Optional.empty()
+                    : AbiResultDecoder.of(getOutputTypeDescriptors(), ReflectionUtil.getActualReturnType(getMethod()));
+            resultDecoder = decoder;
+        }
+        return decoder;
+    }
+
+    /**
+     * Returns the web3j type references of the method's input parameters. <br>
+     * The type references are resolved on first use and reused afterwards.
+     *
+     * @return type references of the input parameters in declaration order
+     */
+    @JsonIgnore
+    public List<TypeReference<?>> getInputTypeReferences() {
+        var typeReferences = inputTypeReferences;
+        if (typeReferences == null) {
+            typeReferences = resolveTypeReferences(abi != null ? abi.getInputs() : null);
+            inputTypeReferences = typeReferences;
+        }
+        return typeReferences;
+    }
+
+    /**
+     * Returns the web3j type references of the method's outputs. <br>
+     * The type references are resolved on first use and reused afterwards.
+     *
+     * @return type references of the outputs in declaration order
+     */
+    @JsonIgnore
+    public List<TypeReference<?>> getOutputTypeReferences() {
+        var typeReferences = outputTypeReferences;
+        if (typeReferences == null) {
+            typeReferences = resolveTypeReferences(abi != null ? abi.getOutputs() : null);
+            outputTypeReferences = typeReferences;
+        }
+        return typeReferences;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -91,4 +231,10 @@ public class QuorumMethodInfo extends MethodInfo<QuorumParameterInfo> {
                 .appendSuper(super.toString())
                 .toString();
     }
+
+    private static List<TypeReference<?>> resolveTypeReferences(List<AbiDefinition.NamedType> types) {
+        return types != null
+                ? Collections.unmodifiableList(TypeReferenceCache.getDefault().getTypeReferences(types))
+                : Collections.emptyList();
+    }
 }
@@ -25,6 +25,8 @@ public abstract class QuorumMethodInfoMixin {
                                  @JsonProperty("specialMethod") boolean specialMethod,
                                  @JsonProperty("parameterInfos") List<QuorumParameterInfo> parameters,
                                  @JsonProperty("abi") AbiDefinition abi,
-                                 @JsonProperty("resultTypeConverterClass") Class<? extends TypeConverter<?, ?>> resultTypeConverterClass) {
+                                 @JsonProperty("resultTypeConverterClass") Class<? extends TypeConverter<?, ?>> resultTypeConverterClass,
+                                 @JsonProperty("cacheable") boolean cacheable,
+                                 @JsonProperty("simulateResult") boolean simulateResult) {
     }
 }